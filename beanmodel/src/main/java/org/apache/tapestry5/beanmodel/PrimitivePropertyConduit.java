@@ -0,0 +1,81 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.beanmodel;
+
+/**
+ * Extension to {@link PropertyConduit} that reads the property as a primitive value, without boxing it. The
+ * conduits created by the {@link org.apache.tapestry5.beanmodel.services.PropertyConduitSource} implement this
+ * interface; when the type of the property is int, long, double or boolean, the matching method reads the value
+ * directly, and the other methods read the property with {@link #get(Object)} and coerce the value to the desired type.
+ * The default implementations read the property with {@link #get(Object)} and unwrap the Number or Boolean value.
+ *
+ * When the expression evaluates to null (as is possible with the safe-dereference operator, "?."), these
+ * methods return 0 or false; callers that must tell a null apart from a zero should check {@link #isNullable()}
+ * first.
+ *
+ * @since 5.8.0
+ */
+public interface PrimitivePropertyConduit extends PropertyConduit
+{
+    /**
+     * Returns true if {@link #get(Object)} may return null, even when the property type is primitive; this is the
+     * case when the expression navigates using the safe-dereference operator. The default implementation returns
+     * true.
+     */
+    default boolean isNullable()
+    {
+        return true;
+    }
+
+    /**
+     * Reads the property from the instance as an int.
+     */
+    default int getInt(Object instance)
+    {
+        Object value = get(instance);
+
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    /**
+     * Reads the property from the instance as a long.
+     */
+    default long getLong(Object instance)
+    {
+        Object value = get(instance);
+
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    /**
+     * Reads the property from the instance as a double.
+     */
+    default double getDouble(Object instance)
+    {
+        Object value = get(instance);
+
+        return value == null ? 0d : ((Number) value).doubleValue();
+    }
+
+    /**
+     * Reads the property from the instance as a boolean.
+     */
+    default boolean getBoolean(Object instance)
+    {
+        Object value = get(instance);
+
+        return value != null && (Boolean) value;
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.apache.tapestry5.beanmodel.internal;
 
+import org.apache.tapestry5.beanmodel.PrimitivePropertyConduit;
 import org.apache.tapestry5.beanmodel.PropertyConduit2;
 
 
@@ -23,7 +24,7 @@ import org.apache.tapestry5.beanmodel.PropertyConduit2;
  * @since 5.2.0
  *
  */
-public interface InternalPropertyConduit extends PropertyConduit2
+public interface InternalPropertyConduit extends PropertyConduit2, PrimitivePropertyConduit
 {
     /**
      * Returns the name of the property read or updated by the conduit or null. 
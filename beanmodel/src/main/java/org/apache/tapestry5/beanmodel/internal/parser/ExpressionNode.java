@@ -0,0 +1,97 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.beanmodel.internal.parser;
+
+/**
+ * A node of the tree produced by the {@link PropertyExpressionParser}. Leaf nodes are identifiers, keywords and
+ * constants; other nodes (property dereferences, method invocations, ranges, lists, maps and the not operator)
+ * have children.
+ *
+ * @since 5.8.0
+ */
+public final class ExpressionNode
+{
+    private static final ExpressionNode[] NO_CHILDREN = new ExpressionNode[0];
+
+    private final int type;
+
+    private final String text;
+
+    private final ExpressionNode[] children;
+
+    ExpressionNode(int type, String text)
+    {
+        this(type, text, NO_CHILDREN);
+    }
+
+    ExpressionNode(int type, String text, ExpressionNode... children)
+    {
+        this.type = type;
+        this.text = text;
+        this.children = children;
+    }
+
+    /**
+     * Returns the type of node, one of the constants defined by {@link PropertyExpressionParser}.
+     */
+    public int getType()
+    {
+        return type;
+    }
+
+    /**
+     * Returns the text of the node: the name of an identifier, the value of a constant (without the quotes of a
+     * string, or the leading '+' of a number), the operator of a dereference or range, or the type name of other
+     * nodes.
+     */
+    public String getText()
+    {
+        return text;
+    }
+
+    public int getChildCount()
+    {
+        return children.length;
+    }
+
+    public ExpressionNode getChild(int index)
+    {
+        return children[index];
+    }
+
+    /**
+     * Returns the node and its children in a Lisp-like format, i.e., "(. user (INVOKE getAddress 1))".
+     */
+    public String toStringTree()
+    {
+        if (children.length == 0)
+            return text;
+
+        StringBuilder builder = new StringBuilder("(").append(text);
+
+        for (ExpressionNode child : children)
+        {
+            builder.append(' ').append(child.toStringTree());
+        }
+
+        return builder.append(')').toString();
+    }
+
+    @Override
+    public String toString()
+    {
+        return text;
+    }
+}
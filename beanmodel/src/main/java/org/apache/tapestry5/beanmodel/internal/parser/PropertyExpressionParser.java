@@ -0,0 +1,725 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.beanmodel.internal.parser;
+
+import org.apache.tapestry5.commons.util.CollectionFactory;
+
+import java.util.List;
+
+/**
+ * Recursive-descent parser for property expressions, producing a tree of {@link ExpressionNode}s. The grammar:
+ *
+ * <pre>
+ * expression     : keyword | rangeOp | constant | propertyChain | list | notOp | map ;
+ * keyword        : NULL | TRUE | FALSE | THIS ;
+ * constant       : INTEGER | DECIMAL | STRING ;
+ * propertyChain  : term ((DEREF | SAFEDEREF) propertyChain)? ;
+ * term           : IDENTIFIER | IDENTIFIER LPAREN expressionList? RPAREN ;
+ * expressionList : expression (COMMA expression)* ;
+ * rangeOp        : (INTEGER | propertyChain) RANGEOP (INTEGER | propertyChain) ;
+ * list           : LBRACKET expressionList? RBRACKET ;
+ * notOp          : BANG expression ;
+ * map            : LBRACE (mapEntry (COMMA mapEntry)*)? RBRACE ;
+ * mapEntry       : (keyword | constant | propertyChain) COLON expression ;
+ * </pre>
+ *
+ * Keywords are case insensitive. Strings are enclosed in single quotes. Integers and decimals may have a leading sign
+ * (a leading '+' is dropped from the node's text); a decimal may omit the digits before or after the point.
+ *
+ * The expression is scanned in place, one token at a time, without creating token objects; the only objects created
+ * are the nodes of the resulting tree, and the text of its leaves. A tree is produced for a dereference chain as
+ * {@code (DEREF term (DEREF term term))}, for a method invocation as {@code (INVOKE name parameters...)}, for a
+ * range as {@code (RANGEOP from to)}, for a list as {@code (LIST elements...)}, for a map as
+ * {@code (MAP key value key value...)} and for the not operator as {@code (NOT expression)}.
+ *
+ * @since 5.8.0
+ */
+public final class PropertyExpressionParser
+{
+    public static final int EOF = 0;
+
+    public static final int IDENTIFIER = 1;
+
+    public static final int INTEGER = 2;
+
+    public static final int DECIMAL = 3;
+
+    public static final int STRING = 4;
+
+    public static final int NULL = 5;
+
+    public static final int TRUE = 6;
+
+    public static final int FALSE = 7;
+
+    public static final int THIS = 8;
+
+    public static final int DEREF = 9;
+
+    public static final int SAFEDEREF = 10;
+
+    public static final int RANGEOP = 11;
+
+    public static final int LPAREN = 12;
+
+    public static final int RPAREN = 13;
+
+    public static final int LBRACKET = 14;
+
+    public static final int RBRACKET = 15;
+
+    public static final int LBRACE = 16;
+
+    public static final int RBRACE = 17;
+
+    public static final int COMMA = 18;
+
+    public static final int BANG = 19;
+
+    public static final int COLON = 20;
+
+    /**
+     * Method invocation; the first child is the method name (an IDENTIFIER), the rest are the parameters.
+     */
+    public static final int INVOKE = 21;
+
+    public static final int LIST = 22;
+
+    /**
+     * A map; the children are alternating keys and values.
+     */
+    public static final int MAP = 23;
+
+    public static final int NOT = 24;
+
+    private static final String[] TOKEN_NAMES = {"EOF", "IDENTIFIER", "INTEGER", "DECIMAL", "STRING", "NULL", "TRUE",
+            "FALSE", "THIS", "DEREF", "SAFEDEREF", "RANGEOP", "LPAREN", "RPAREN", "LBRACKET", "RBRACKET", "LBRACE",
+            "RBRACE", "COMMA", "BANG", "COLON", "INVOKE", "LIST", "MAP", "NOT"};
+
+    private final String input;
+
+    private final int length;
+
+    // Position of the next character to scan.
+
+    private int position;
+
+    // The current token: its type, and the range of characters it occupies.
+
+    private int type, start, end;
+
+    // Start of the innermost open parenthesis, bracket or brace, or -1 if none is open. Used when reporting
+    // an unexpected end of input.
+
+    private int openGroup = -1;
+
+    private PropertyExpressionParser(String input)
+    {
+        this.input = input;
+        this.length = input.length();
+    }
+
+    /**
+     * Returns the name of the node type.
+     */
+    public static String getTypeName(int type)
+    {
+        return TOKEN_NAMES[type];
+    }
+
+    /**
+     * Parses the expression.
+     *
+     * @param expression
+     *         property expression to parse
+     * @return the root node of the expression
+     * @throws RuntimeException
+     *         if the expression is not valid, identifying the position of the error
+     */
+    public static ExpressionNode parse(String expression)
+    {
+        assert expression != null;
+
+        PropertyExpressionParser parser = new PropertyExpressionParser(expression);
+
+        parser.advance();
+
+        ExpressionNode result = parser.expression();
+
+        parser.match(EOF);
+
+        return result;
+    }
+
+    private ExpressionNode expression()
+    {
+        switch (type)
+        {
+            case NULL:
+            case TRUE:
+            case FALSE:
+            case THIS:
+            case DECIMAL:
+            case STRING:
+
+                return leaf();
+
+            case INTEGER:
+
+                return rangeOpOrOperand(leaf());
+
+            case IDENTIFIER:
+
+                return rangeOpOrOperand(propertyChain());
+
+            case LBRACKET:
+
+                return list();
+
+            case BANG:
+
+                advance();
+
+                return new ExpressionNode(NOT, "NOT", expression());
+
+            case LBRACE:
+
+                return map();
+
+            default:
+
+                throw noViableAlternative();
+        }
+    }
+
+    private ExpressionNode rangeOpOrOperand(ExpressionNode from)
+    {
+        if (type != RANGEOP)
+            return from;
+
+        advance();
+
+        ExpressionNode to;
+
+        switch (type)
+        {
+            case INTEGER:
+                to = leaf();
+                break;
+
+            case IDENTIFIER:
+                to = propertyChain();
+                break;
+
+            default:
+                throw noViableAlternative();
+        }
+
+        return new ExpressionNode(RANGEOP, "..", from, to);
+    }
+
+    private ExpressionNode propertyChain()
+    {
+        ExpressionNode term = term();
+
+        if (type != DEREF && type != SAFEDEREF)
+            return term;
+
+        int derefType = type;
+
+        advance();
+
+        return new ExpressionNode(derefType, derefType == DEREF ? "." : "?.", term, propertyChain());
+    }
+
+    private ExpressionNode term()
+    {
+        if (type != IDENTIFIER)
+            throw noViableAlternative();
+
+        ExpressionNode identifier = leaf();
+
+        if (type != LPAREN)
+            return identifier;
+
+        List<ExpressionNode> children = CollectionFactory.newList();
+
+        children.add(identifier);
+
+        int outerGroup = openGroup;
+
+        openGroup = start;
+
+        advance();
+
+        if (type != RPAREN)
+            expressionList(children);
+
+        match(RPAREN);
+
+        openGroup = outerGroup;
+
+        return new ExpressionNode(INVOKE, "INVOKE", toArray(children));
+    }
+
+    private void expressionList(List<ExpressionNode> children)
+    {
+        children.add(expression());
+
+        while (type == COMMA)
+        {
+            advance();
+
+            children.add(expression());
+        }
+    }
+
+    private ExpressionNode list()
+    {
+        List<ExpressionNode> children = CollectionFactory.newList();
+
+        int outerGroup = openGroup;
+
+        openGroup = start;
+
+        advance();
+
+        if (type != RBRACKET)
+            expressionList(children);
+
+        match(RBRACKET);
+
+        openGroup = outerGroup;
+
+        return new ExpressionNode(LIST, "LIST", toArray(children));
+    }
+
+    private ExpressionNode map()
+    {
+        List<ExpressionNode> children = CollectionFactory.newList();
+
+        int outerGroup = openGroup;
+
+        openGroup = start;
+
+        advance();
+
+        if (type != RBRACE)
+        {
+            while (true)
+            {
+                children.add(mapKey());
+
+                match(COLON);
+
+                children.add(expression());
+
+                if (type != COMMA)
+                    break;
+
+                advance();
+            }
+        }
+
+        match(RBRACE);
+
+        openGroup = outerGroup;
+
+        return new ExpressionNode(MAP, "MAP", toArray(children));
+    }
+
+    private ExpressionNode mapKey()
+    {
+        switch (type)
+        {
+            case NULL:
+            case TRUE:
+            case FALSE:
+            case THIS:
+            case INTEGER:
+            case DECIMAL:
+            case STRING:
+
+                return leaf();
+
+            case IDENTIFIER:
+
+                return propertyChain();
+
+            default:
+
+                throw noViableAlternative();
+        }
+    }
+
+    private static ExpressionNode[] toArray(List<ExpressionNode> nodes)
+    {
+        return nodes.toArray(new ExpressionNode[nodes.size()]);
+    }
+
+    /**
+     * Creates a leaf node for the current token, then advances to the next token.
+     */
+    private ExpressionNode leaf()
+    {
+        ExpressionNode result = new ExpressionNode(type, tokenText());
+
+        advance();
+
+        return result;
+    }
+
+    private String tokenText()
+    {
+        switch (type)
+        {
+            case STRING:
+                return input.substring(start + 1, end - 1);
+
+            case INTEGER:
+            case DECIMAL:
+                // For compatibility with Tapestry 5.0, a sign of '+' is allowed, but Long.parseLong()
+                // doesn't accept it.
+                return input.substring(input.charAt(start) == '+' ? start + 1 : start, end);
+
+            default:
+                return input.substring(start, end);
+        }
+    }
+
+    private void match(int expectedType)
+    {
+        if (type != expectedType)
+        {
+            throw syntaxError(start, String.format("mismatched input %s expecting %s", describeToken(),
+                    TOKEN_NAMES[expectedType]));
+        }
+
+        advance();
+    }
+
+    private RuntimeException noViableAlternative()
+    {
+        // At the end of the input, the real problem is the construct that was never closed.
+
+        if (type == EOF && openGroup >= 0)
+        {
+            return syntaxError(openGroup, String.format("no viable alternative at input '%s'",
+                    input.charAt(openGroup)));
+        }
+
+        return syntaxError(start, "no viable alternative at input " + describeToken());
+    }
+
+    private String describeToken()
+    {
+        return type == EOF ? "'<EOF>'" : "'" + input.substring(start, end) + "'";
+    }
+
+    private RuntimeException syntaxError(int offset, String message)
+    {
+        int lineStart = input.lastIndexOf('\n', offset - 1) + 1;
+        int line = 1;
+
+        for (int i = 0; i < lineStart; i++)
+        {
+            if (input.charAt(i) == '\n')
+                line++;
+        }
+
+        return new RuntimeException(String.format("line %d:%d %s", line, offset - lineStart, message));
+    }
+
+    private RuntimeException lexerError(int offset)
+    {
+        int lineStart = input.lastIndexOf('\n', offset - 1) + 1;
+
+        return new RuntimeException(String.format("Unable to parse input at character position %d",
+                offset - lineStart + 1));
+    }
+
+    /**
+     * Scans the next token, setting its type, start and end.
+     */
+    private void advance()
+    {
+        while (position < length && isWhitespace(input.charAt(position)))
+        {
+            position++;
+        }
+
+        start = position;
+
+        if (position == length)
+        {
+            type = EOF;
+            end = position;
+            return;
+        }
+
+        char ch = input.charAt(position);
+
+        switch (ch)
+        {
+            case '(':
+                single(LPAREN);
+                break;
+
+            case ')':
+                single(RPAREN);
+                break;
+
+            case '[':
+                single(LBRACKET);
+                break;
+
+            case ']':
+                single(RBRACKET);
+                break;
+
+            case '{':
+                single(LBRACE);
+                break;
+
+            case '}':
+                single(RBRACE);
+                break;
+
+            case ',':
+                single(COMMA);
+                break;
+
+            case '!':
+                single(BANG);
+                break;
+
+            case ':':
+                single(COLON);
+                break;
+
+            case '\'':
+                scanString();
+                break;
+
+            case '?':
+
+                if (charAt(position + 1) != '.')
+                    throw lexerError(position + 1);
+
+                position += 2;
+                type = SAFEDEREF;
+                break;
+
+            case '.':
+
+                if (isDigit(charAt(position + 1)))
+                {
+                    position++;
+                    scanDigits();
+                    type = DECIMAL;
+                    break;
+                }
+
+                if (charAt(position + 1) == '.')
+                {
+                    position += 2;
+                    type = RANGEOP;
+                    break;
+                }
+
+                position++;
+                type = DEREF;
+                break;
+
+            case '+':
+            case '-':
+
+                scanSignedNumber();
+                break;
+
+            default:
+
+                if (isDigit(ch))
+                {
+                    scanNumber();
+                    break;
+                }
+
+                if (isIdentifierStart(ch))
+                {
+                    scanIdentifier();
+                    break;
+                }
+
+                throw lexerError(position);
+        }
+
+        end = position;
+    }
+
+    private void single(int tokenType)
+    {
+        position++;
+        type = tokenType;
+    }
+
+    private void scanString()
+    {
+        int close = input.indexOf('\'', position + 1);
+
+        if (close < 0)
+            throw lexerError(length);
+
+        position = close + 1;
+        type = STRING;
+    }
+
+    private void scanSignedNumber()
+    {
+        char next = charAt(position + 1);
+
+        if (isDigit(next))
+        {
+            position++;
+            scanNumber();
+            return;
+        }
+
+        if (next != '.')
+            throw lexerError(position + 1);
+
+        if (!isDigit(charAt(position + 2)))
+            throw lexerError(position + 2);
+
+        position += 2;
+        scanDigits();
+        type = DECIMAL;
+    }
+
+    /**
+     * Scans an integer or decimal, starting at a digit. A '.' followed by another '.' is a range operator, not a
+     * decimal point.
+     */
+    private void scanNumber()
+    {
+        scanDigits();
+
+        if (charAt(position) == '.' && charAt(position + 1) != '.')
+        {
+            position++;
+
+            while (isDigit(charAt(position)))
+            {
+                position++;
+            }
+
+            type = DECIMAL;
+            return;
+        }
+
+        type = INTEGER;
+    }
+
+    private void scanDigits()
+    {
+        while (isDigit(charAt(position)))
+        {
+            position++;
+        }
+    }
+
+    private void scanIdentifier()
+    {
+        position++;
+
+        while (position < length)
+        {
+            char ch = input.charAt(position);
+
+            if (!isIdentifierStart(ch) && !isDigit(ch))
+                break;
+
+            position++;
+        }
+
+        int identifierLength = position - start;
+
+        type = IDENTIFIER;
+
+        if (identifierLength == 4)
+        {
+            if (isKeyword("null"))
+                type = NULL;
+            else if (isKeyword("true"))
+                type = TRUE;
+            else if (isKeyword("this"))
+                type = THIS;
+        } else if (identifierLength == 5 && isKeyword("false"))
+        {
+            type = FALSE;
+        }
+    }
+
+    /**
+     * Compares the current token to the keyword (in lower case), ignoring the case of ASCII letters only.
+     */
+    private boolean isKeyword(String keyword)
+    {
+        for (int i = 0; i < keyword.length(); i++)
+        {
+            char expected = keyword.charAt(i);
+            char ch = input.charAt(start + i);
+
+            if (ch != expected && ch != expected - ('a' - 'A'))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the character at the index, or 0 past the end of the input.
+     */
+    private char charAt(int index)
+    {
+        return index < length ? input.charAt(index) : 0;
+    }
+
+    private static boolean isWhitespace(char ch)
+    {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    private static boolean isDigit(char ch)
+    {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isIdentifierStart(char ch)
+    {
+        return ch == '$'
+                || (ch >= 'A' && ch <= 'Z')
+                || ch == '_'
+                || (ch >= 'a' && ch <= 'z')
+                || (ch >= '\u00c0' && ch <= '\u00d6')
+                || (ch >= '\u00d8' && ch <= '\u00f6')
+                || (ch >= '\u00f8' && ch <= '\u1fff')
+                || (ch >= '\u3040' && ch <= '\u318f')
+                || (ch >= '\u3300' && ch <= '\u337f')
+                || (ch >= '\u3400' && ch <= '\u3d2d')
+                || (ch >= '\u4e00' && ch <= '\u9fff')
+                || (ch >= '\uf900' && ch <= '\ufaff');
+    }
+}
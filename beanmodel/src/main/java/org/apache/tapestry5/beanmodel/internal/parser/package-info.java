@@ -13,6 +13,6 @@
 // limitations under the License.
 
 /**
- * [INTERNAL USE ONLY] support classes related to Antlr; API subject to change
+ * [INTERNAL USE ONLY] parser for property expressions; API subject to change
  */
-package org.apache.tapestry5.beanmodel.internal.antlr;
+package org.apache.tapestry5.beanmodel.internal.parser;
@@ -17,20 +17,28 @@ package org.apache.tapestry5.beanmodel.internal.services;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
+import org.apache.tapestry5.beanmodel.PrimitivePropertyConduit;
 import org.apache.tapestry5.beanmodel.PropertyConduit;
 import org.apache.tapestry5.beanmodel.PropertyConduit2;
 import org.apache.tapestry5.commons.services.TypeCoercer;
 
-public class CoercingPropertyConduitWrapper implements PropertyConduit2
+public class CoercingPropertyConduitWrapper implements PropertyConduit2, PrimitivePropertyConduit
 {
     private final PropertyConduit conduit;
 
+    /**
+     * The wrapped conduit, if it reads primitive values directly, or null.
+     */
+    private final PrimitivePropertyConduit primitiveConduit;
+
     private final TypeCoercer coercer;
 
     public CoercingPropertyConduitWrapper(final PropertyConduit conduit, final TypeCoercer coercer)
     {
         this.conduit = conduit;
         this.coercer = coercer;
+
+        primitiveConduit = conduit instanceof PrimitivePropertyConduit ? (PrimitivePropertyConduit) conduit : null;
     }
 
     public Object get(Object instance)
@@ -38,6 +46,35 @@ public class CoercingPropertyConduitWrapper implements PropertyConduit2
         return conduit.get(instance);
     }
 
+    public boolean isNullable()
+    {
+        return primitiveConduit == null || primitiveConduit.isNullable();
+    }
+
+    public int getInt(Object instance)
+    {
+        return primitiveConduit == null ? PrimitivePropertyConduit.super.getInt(instance)
+                : primitiveConduit.getInt(instance);
+    }
+
+    public long getLong(Object instance)
+    {
+        return primitiveConduit == null ? PrimitivePropertyConduit.super.getLong(instance)
+                : primitiveConduit.getLong(instance);
+    }
+
+    public double getDouble(Object instance)
+    {
+        return primitiveConduit == null ? PrimitivePropertyConduit.super.getDouble(instance)
+                : primitiveConduit.getDouble(instance);
+    }
+
+    public boolean getBoolean(Object instance)
+    {
+        return primitiveConduit == null ? PrimitivePropertyConduit.super.getBoolean(instance)
+                : primitiveConduit.getBoolean(instance);
+    }
+
     public <T extends Annotation> T getAnnotation(Class<T> annotationClass)
     {
         return conduit.getAnnotation(annotationClass);
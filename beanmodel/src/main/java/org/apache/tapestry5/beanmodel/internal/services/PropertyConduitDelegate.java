@@ -49,4 +49,39 @@ public class PropertyConduitDelegate
     {
         return coerce(value, Boolean.class).equals(Boolean.FALSE);
     }
+
+    /**
+     * Used by {@link org.apache.tapestry5.beanmodel.PrimitivePropertyConduit#getInt(Object)} when the property is not
+     * an int.
+     *
+     * @since 5.8.0
+     */
+    public final int toInt(Object value)
+    {
+        return value == null ? 0 : coerce(value, Integer.class);
+    }
+
+    /**
+     * @since 5.8.0
+     */
+    public final long toLong(Object value)
+    {
+        return value == null ? 0L : coerce(value, Long.class);
+    }
+
+    /**
+     * @since 5.8.0
+     */
+    public final double toDouble(Object value)
+    {
+        return value == null ? 0d : coerce(value, Double.class);
+    }
+
+    /**
+     * @since 5.8.0
+     */
+    public final boolean toBoolean(Object value)
+    {
+        return value != null && coerce(value, Boolean.class);
+    }
 }
@@ -14,45 +14,48 @@
 
 package org.apache.tapestry5.beanmodel.internal.services;
 
-import static org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser.DECIMAL;
-import static org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser.DEREF;
-import static org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser.FALSE;
-import static org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser.IDENTIFIER;
-import static org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser.INTEGER;
-import static org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser.INVOKE;
-import static org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser.LIST;
-import static org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser.MAP;
-import static org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser.NOT;
-import static org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser.NULL;
-import static org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser.RANGEOP;
-import static org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser.SAFEDEREF;
-import static org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser.STRING;
-import static org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser.THIS;
-import static org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser.TRUE;
+import static org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser.DECIMAL;
+import static org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser.DEREF;
+import static org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser.FALSE;
+import static org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser.IDENTIFIER;
+import static org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser.INTEGER;
+import static org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser.INVOKE;
+import static org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser.LIST;
+import static org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser.MAP;
+import static org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser.NOT;
+import static org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser.NULL;
+import static org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser.RANGEOP;
+import static org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser.SAFEDEREF;
+import static org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser.STRING;
+import static org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser.THIS;
+import static org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser.TRUE;
 
 import org.apache.tapestry5.ioc.annotations.ComponentLayer;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
-import org.antlr.runtime.ANTLRInputStream;
-import org.antlr.runtime.CommonTokenStream;
-import org.antlr.runtime.tree.Tree;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.tapestry5.beanmodel.PrimitivePropertyConduit;
 import org.apache.tapestry5.beanmodel.PropertyConduit;
 import org.apache.tapestry5.beanmodel.PropertyConduit2;
 import org.apache.tapestry5.beanmodel.internal.InternalPropertyConduit;
-import org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionLexer;
-import org.apache.tapestry5.beanmodel.internal.antlr.PropertyExpressionParser;
+import org.apache.tapestry5.beanmodel.internal.parser.ExpressionNode;
+import org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser;
+import org.apache.tapestry5.beanmodel.services.PropertyConduitCacheStatistics;
 import org.apache.tapestry5.beanmodel.services.PropertyConduitSource;
 import org.apache.tapestry5.commons.AnnotationProvider;
 import org.apache.tapestry5.commons.internal.NullAnnotationProvider;
@@ -72,6 +75,7 @@ import org.apache.tapestry5.commons.util.IntegerRange;
 import org.apache.tapestry5.commons.util.MultiKey;
 import org.apache.tapestry5.commons.util.UnknownValueException;
 import org.apache.tapestry5.ioc.annotations.ComponentClasses;
+import org.apache.tapestry5.ioc.annotations.Inject;
 import org.apache.tapestry5.ioc.annotations.PostInjection;
 import org.apache.tapestry5.plastic.Condition;
 import org.apache.tapestry5.plastic.InstructionBuilder;
@@ -80,6 +84,7 @@ import org.apache.tapestry5.plastic.MethodDescription;
 import org.apache.tapestry5.plastic.PlasticClass;
 import org.apache.tapestry5.plastic.PlasticClassTransformer;
 import org.apache.tapestry5.plastic.PlasticField;
+import org.apache.tapestry5.plastic.PlasticManager;
 import org.apache.tapestry5.plastic.PlasticMethod;
 import org.apache.tapestry5.plastic.PlasticUtils;
 
@@ -104,6 +109,21 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
         private static final MethodDescription GET_ANNOTATION = getMethodDescription(AnnotationProvider.class,
                 "getAnnotation", Class.class);
 
+        private static final MethodDescription IS_NULLABLE = getMethodDescription(PrimitivePropertyConduit.class,
+                "isNullable");
+
+        /**
+         * The primitive accessors of {@link PrimitivePropertyConduit}, keyed on the primitive type each returns.
+         */
+        private static final Map<Class, MethodDescription> PRIMITIVE_GETTERS = CollectionFactory.newMap();
+
+        static
+        {
+            PRIMITIVE_GETTERS.put(int.class, getMethodDescription(PrimitivePropertyConduit.class, "getInt", Object.class));
+            PRIMITIVE_GETTERS.put(long.class, getMethodDescription(PrimitivePropertyConduit.class, "getLong", Object.class));
+            PRIMITIVE_GETTERS.put(double.class, getMethodDescription(PrimitivePropertyConduit.class, "getDouble", Object.class));
+            PRIMITIVE_GETTERS.put(boolean.class, getMethodDescription(PrimitivePropertyConduit.class, "getBoolean", Object.class));
+        }
     }
 
     static class DelegateMethods
@@ -113,6 +133,19 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
         static final Method RANGE = getMethod(PropertyConduitDelegate.class, "range", int.class, int.class);
 
         static final Method COERCE = getMethod(PropertyConduitDelegate.class, "coerce", Object.class, Class.class);
+
+        /**
+         * Coercions used by the {@link PrimitivePropertyConduit} accessors that do not match the property type.
+         */
+        static final Map<Class, Method> TO_PRIMITIVE = CollectionFactory.newMap();
+
+        static
+        {
+            TO_PRIMITIVE.put(int.class, getMethod(PropertyConduitDelegate.class, "toInt", Object.class));
+            TO_PRIMITIVE.put(long.class, getMethod(PropertyConduitDelegate.class, "toLong", Object.class));
+            TO_PRIMITIVE.put(double.class, getMethod(PropertyConduitDelegate.class, "toDouble", Object.class));
+            TO_PRIMITIVE.put(boolean.class, getMethod(PropertyConduitDelegate.class, "toBoolean", Object.class));
+        }
     }
 
     static class ArrayListMethods
@@ -133,6 +166,14 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
         }
     };
 
+    private static InstructionBuilderCallback RETURN_DEFAULT_VALUE = new InstructionBuilderCallback()
+    {
+        public void doBuild(InstructionBuilder builder)
+        {
+            builder.returnDefaultValue();
+        }
+    };
+
     private static final String[] SINGLE_OBJECT_ARGUMENT = new String[]
             {Object.class.getName()};
 
@@ -237,7 +278,61 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
     /**
      * Keyed on combination of root class and expression.
      */
-    private final Map<MultiKey, PropertyConduit> cache = CollectionFactory.newConcurrentMap();
+    private final ConcurrentMap<MultiKey, CacheEntry> cache = CollectionFactory.newConcurrentMap();
+
+    /**
+     * Conduits currently being built, so that threads needing the same conduit (such as a thread
+     * precompiling a page's expressions and a thread creating the page's bindings) wait for a single build.
+     */
+    private final ConcurrentMap<MultiKey, FutureTask<PropertyConduit>> pending = CollectionFactory.newConcurrentMap();
+
+    /**
+     * Maximum number of cached conduits, or 0 for no limit.
+     */
+    private final int maxCacheSize;
+
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder(), evictions = new LongAdder(),
+            buildTime = new LongAdder();
+
+    /**
+     * Guards additions to, and removals from, the cache (but not lookups), and the clock.
+     */
+    private final Object evictionLock = new Object();
+
+    /**
+     * The cached entries, oldest first; entries used since they were last examined here are given a second chance
+     * (moved to the end) rather than evicted.
+     */
+    private final Queue<CacheEntry> clock = new ArrayDeque<CacheEntry>();
+
+    /**
+     * When the cache is bounded, the conduits for each root class are generated within their own class loader, so that
+     * the classes of evicted conduits can be unloaded. Keyed on root class; a root class's loader is replaced as soon
+     * as one of its conduits is evicted, and the old loader (and all its classes) can be collected once the rest of its
+     * conduits are no longer in use.
+     */
+    private final ConcurrentMap<Class, PlasticManager> managers = CollectionFactory.newConcurrentMap();
+
+    private static final class CacheEntry
+    {
+        final MultiKey key;
+
+        final Class rootClass;
+
+        final PropertyConduit conduit;
+
+        /**
+         * Set when the conduit is obtained from the cache, cleared when the entry is passed over for eviction.
+         */
+        volatile boolean referenced;
+
+        CacheEntry(MultiKey key, Class rootClass, PropertyConduit conduit)
+        {
+            this.key = key;
+            this.rootClass = rootClass;
+            this.conduit = conduit;
+        }
+    }
 
     private final Invariant invariantAnnotation = new Invariant()
     {
@@ -276,7 +371,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
 
         private final String expression;
 
-        private final Tree tree;
+        private final ExpressionNode tree;
 
         private Class conduitPropertyType;
 
@@ -292,7 +387,17 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
 
         private PlasticMethod getRootMethod, navMethod;
 
-        PropertyConduitBuilder(Class rootType, String expression, Tree tree)
+        /**
+         * The primitive type whose {@link PrimitivePropertyConduit} accessor reads the property directly, if any.
+         */
+        private Class directPrimitiveType;
+
+        /**
+         * True if the navigation uses the safe-dereference operator, and so may short-circuit to null.
+         */
+        private boolean nullable;
+
+        PropertyConduitBuilder(Class rootType, String expression, ExpressionNode tree)
         {
             this.rootType = rootType;
             this.expression = expression;
@@ -320,6 +425,16 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
 
             plasticClass.introduceMethod(ConduitMethods.GET_ANNOTATION).delegateTo(annotationProviderField);
 
+            implementCoercingPrimitiveGetters();
+
+            plasticClass.introduceMethod(ConduitMethods.IS_NULLABLE, new InstructionBuilderCallback()
+            {
+                public void doBuild(InstructionBuilder builder)
+                {
+                    builder.loadConstant(nullable ? 1 : 0).returnResult();
+                }
+            });
+
             plasticClass.introduceMethod(ConduitMethods.GET_PROPERTY_NAME, new InstructionBuilderCallback()
             {
                 public void doBuild(InstructionBuilder builder)
@@ -378,7 +493,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
             });
         }
 
-        private boolean isLeaf(Tree node)
+        private boolean isLeaf(ExpressionNode node)
         {
             int type = node.getType();
 
@@ -395,7 +510,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
 
             Type activeType = rootType;
 
-            Tree node = tree;
+            ExpressionNode node = tree;
 
             while (!isLeaf(node))
             {
@@ -403,6 +518,8 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
 
                 callbacks.add(term.callback);
 
+                nullable |= node.getType() == SAFEDEREF;
+
                 activeType = term.type;
 
                 // Second term is the continuation, possibly another chained
@@ -439,7 +556,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
             implementAccessors(activeType, node);
         }
 
-        private void implementAccessors(Type activeType, Tree node)
+        private void implementAccessors(Type activeType, ExpressionNode node)
         {
             switch (node.getType())
             {
@@ -509,7 +626,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
             }
         }
 
-        public void implementMethodAccessors(final Type activeType, final Tree invokeNode)
+        public void implementMethodAccessors(final Type activeType, final ExpressionNode invokeNode)
         {
             final Term term = buildInvokeTerm(activeType, invokeNode);
 
@@ -520,24 +637,12 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
             conduitPropertyGenericType = term.genericType;
             annotationProvider = term.annotationProvider;
 
-            plasticClass.introduceMethod(ConduitMethods.GET, new InstructionBuilderCallback()
-            {
-                public void doBuild(InstructionBuilder builder)
-                {
-                    invokeNavigateMethod(builder);
-
-                    term.callback.doBuild(builder);
-
-                    boxIfPrimitive(builder, conduitPropertyType);
-
-                    builder.returnResult();
-                }
-            });
+            implementGetters(conduitPropertyType, true, term.callback);
 
             implementNoOpSetter();
         }
 
-        public void implementPropertyAccessors(Type activeType, Tree identifierNode)
+        public void implementPropertyAccessors(Type activeType, ExpressionNode identifierNode)
         {
             String propertyName = identifierNode.getText();
 
@@ -674,58 +779,128 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
         {
             if (isStatic(field))
             {
-                plasticClass.introduceMethod(ConduitMethods.GET, new InstructionBuilderCallback()
+                implementGetters(field.getType(), false, new InstructionBuilderCallback()
                 {
                     public void doBuild(InstructionBuilder builder)
                     {
                         builder.getStaticField(field.getDeclaringClass().getName(), field.getName(), field.getType());
-
-                        // Cast not necessary here since the return type of get() is Object
-
-                        boxIfPrimitive(builder, field.getType());
-
-                        builder.returnResult();
                     }
                 });
 
                 return;
             }
 
+            implementGetters(field.getType(), true, new InstructionBuilderCallback()
+            {
+                public void doBuild(InstructionBuilder builder)
+                {
+                    builder.getField(field.getDeclaringClass().getName(), field.getName(), field.getType());
+                }
+            });
+        }
+
+        private void implementGetter(final Method readMethod)
+        {
+            implementGetters(conduitPropertyType, true, new InstructionBuilderCallback()
+            {
+                public void doBuild(InstructionBuilder builder)
+                {
+                    invokeMethod(builder, readMethod, null, 0);
+                }
+            });
+        }
+
+        /**
+         * Implements get() and, if the value is of a matching primitive type, the corresponding
+         * {@link PrimitivePropertyConduit} accessor; the latter is the same code, without the boxing of the value.
+         *
+         * @param valueType
+         *         type of value left on the stack by the readValue callback
+         * @param navigate
+         *         if true, the navigate method is invoked first, to put the object containing the property on the stack
+         * @param readValue
+         *         reads the property value
+         */
+        private void implementGetters(final Class valueType, final boolean navigate,
+                                      final InstructionBuilderCallback readValue)
+        {
             plasticClass.introduceMethod(ConduitMethods.GET, new InstructionBuilderCallback()
             {
                 public void doBuild(InstructionBuilder builder)
                 {
-                    invokeNavigateMethod(builder);
+                    if (navigate)
+                    {
+                        invokeNavigateMethod(builder);
+                    }
 
-                    builder.getField(field.getDeclaringClass().getName(), field.getName(), field.getType());
+                    readValue.doBuild(builder);
 
                     // Cast not necessary here since the return type of get() is Object
 
-                    boxIfPrimitive(builder, field.getType());
+                    boxIfPrimitive(builder, valueType);
 
                     builder.returnResult();
                 }
             });
-        }
 
-        private void implementGetter(final Method readMethod)
-        {
-            plasticClass.introduceMethod(ConduitMethods.GET, new InstructionBuilderCallback()
+            MethodDescription primitiveGetter = ConduitMethods.PRIMITIVE_GETTERS.get(valueType);
+
+            if (primitiveGetter == null)
+            {
+                return;
+            }
+
+            directPrimitiveType = valueType;
+
+            plasticClass.introduceMethod(primitiveGetter, new InstructionBuilderCallback()
             {
                 public void doBuild(InstructionBuilder builder)
                 {
-                    invokeNavigateMethod(builder);
+                    if (navigate)
+                    {
+                        builder.loadThis().loadArgument(0).invokeVirtual(navMethod);
 
-                    invokeMethod(builder, readMethod, null, 0);
+                        builder.dupe().when(Condition.NULL, RETURN_DEFAULT_VALUE);
+                    }
 
-                    boxIfPrimitive(builder, conduitPropertyType);
+                    readValue.doBuild(builder);
 
                     builder.returnResult();
                 }
             });
         }
 
-        private void implementRangeOpGetter(final Tree rangeNode)
+        /**
+         * Implements the {@link PrimitivePropertyConduit} accessors that don't read the property directly; each
+         * invokes get() and coerces the result.
+         */
+        private void implementCoercingPrimitiveGetters()
+        {
+            for (Map.Entry<Class, MethodDescription> entry : ConduitMethods.PRIMITIVE_GETTERS.entrySet())
+            {
+                if (entry.getKey() == directPrimitiveType)
+                {
+                    continue;
+                }
+
+                final Method toPrimitive = DelegateMethods.TO_PRIMITIVE.get(entry.getKey());
+
+                plasticClass.introduceMethod(entry.getValue(), new InstructionBuilderCallback()
+                {
+                    public void doBuild(InstructionBuilder builder)
+                    {
+                        builder.loadThis().getField(getDelegateField());
+
+                        builder.loadThis().loadArgument(0).invokeVirtual(plasticClass.getClassName(),
+                                Object.class.getName(), "get", Object.class.getName());
+
+                        builder.invoke(toPrimitive).returnResult();
+                    }
+                });
+            }
+        }
+
+        private void implementRangeOpGetter(final ExpressionNode rangeNode)
         {
             plasticClass.introduceMethod(ConduitMethods.GET, new InstructionBuilderCallback()
             {
@@ -746,22 +921,16 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
          * @param node
          *         subexpression to invert
          */
-        private void implementNotOpGetter(final Tree node)
+        private void implementNotOpGetter(final ExpressionNode node)
         {
             // Implement get() as navigate, then do a method invocation based on node
             // then, then pass (wrapped) result to delegate.invert()
 
-            plasticClass.introduceMethod(ConduitMethods.GET, new InstructionBuilderCallback()
+            implementGetters(boolean.class, false, new InstructionBuilderCallback()
             {
                 public void doBuild(InstructionBuilder builder)
                 {
-                    Type expressionType = implementNotExpression(builder, node);
-
-                    // Yes, we know this will always be the case, for now.
-
-                    boxIfPrimitive(builder, expressionType);
-
-                    builder.returnResult();
+                    implementNotExpression(builder, node);
                 }
             });
         }
@@ -788,7 +957,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
          *         defines the expression
          * @return the expression type
          */
-        private Type implementSubexpression(InstructionBuilder builder, Type activeType, Tree node)
+        private Type implementSubexpression(InstructionBuilder builder, Type activeType, ExpressionNode node)
         {
             Term term;
 
@@ -892,7 +1061,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
             builder.loadThis().loadArgument(0).invokeVirtual(getRootMethod);
         }
 
-        private void implementListGetter(final Tree listNode)
+        private void implementListGetter(final ExpressionNode listNode)
         {
             plasticClass.introduceMethod(ConduitMethods.GET, new InstructionBuilderCallback()
             {
@@ -905,7 +1074,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
             });
         }
 
-        private Type implementListConstructor(InstructionBuilder builder, Tree listNode)
+        private Type implementListConstructor(InstructionBuilder builder, ExpressionNode listNode)
         {
             // First, create an empty instance of ArrayList
 
@@ -929,7 +1098,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
             return ArrayList.class;
         }
 
-        private void implementMapGetter(final Tree mapNode)
+        private void implementMapGetter(final ExpressionNode mapNode)
         {
             plasticClass.introduceMethod(ConduitMethods.GET, new InstructionBuilderCallback()
             {
@@ -942,7 +1111,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
             });
         }
 
-        private Type implementMapConstructor(InstructionBuilder builder, Tree mapNode)
+        private Type implementMapConstructor(InstructionBuilder builder, ExpressionNode mapNode)
         {
             int count = mapNode.getChildCount();
             builder.newInstance(HashMap.class);
@@ -1002,7 +1171,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
          *         offset within the node to the first child expression (1 in an INVOKE node because the
          *         first child is the method name, 0 in a RANGEOP node)
          */
-        private void invokeMethod(InstructionBuilder builder, Method method, Tree node, int childOffset)
+        private void invokeMethod(InstructionBuilder builder, Method method, ExpressionNode node, int childOffset)
         {
             // We start with the target object for the method on top of the stack.
             // Next, we have to push each method parameter, which may include boxing/deboxing
@@ -1056,18 +1225,18 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
          * @return a term indicating the type of the expression to this point, and a {@link InstructionBuilderCallback}
          *         to advance the evaluation of the expression form the previous value to the current
          */
-        private Term analyzeDerefNode(Type activeType, Tree node)
+        private Term analyzeDerefNode(Type activeType, ExpressionNode node)
         {
             // The first child is the term.
 
-            Tree term = node.getChild(0);
+            ExpressionNode term = node.getChild(0);
 
             boolean allowNull = node.getType() == SAFEDEREF;
 
             return buildTerm(activeType, term, allowNull ? NullHandling.ALLOW : NullHandling.FORBID);
         }
 
-        private Term buildTerm(Type activeType, Tree term, final NullHandling nullHandling)
+        private Term buildTerm(Type activeType, ExpressionNode term, final NullHandling nullHandling)
         {
             assertNodeType(term, IDENTIFIER, INVOKE);
 
@@ -1115,7 +1284,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
             });
         }
 
-        private void assertNodeType(Tree node, int... expected)
+        private void assertNodeType(ExpressionNode node, int... expected)
         {
             int type = node.getType();
 
@@ -1128,21 +1297,21 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
             throw unexpectedNodeType(node, expected);
         }
 
-        private RuntimeException unexpectedNodeType(Tree node, int... expected)
+        private RuntimeException unexpectedNodeType(ExpressionNode node, int... expected)
         {
             List<String> tokenNames = CollectionFactory.newList();
 
             for (int i = 0; i < expected.length; i++)
-                tokenNames.add(PropertyExpressionParser.tokenNames[expected[i]]);
+                tokenNames.add(PropertyExpressionParser.getTypeName(expected[i]));
 
             String message = String.format("Node %s was type %s, but was expected to be (one of) %s.",
-                    node.toStringTree(), PropertyExpressionParser.tokenNames[node.getType()],
+                    node.toStringTree(), PropertyExpressionParser.getTypeName(node.getType()),
                     InternalCommonsUtils.joinSorted(tokenNames));
 
             return new RuntimeException(message);
         }
 
-        private Term buildTerm(Type activeType, Tree termNode)
+        private Term buildTerm(Type activeType, ExpressionNode termNode)
         {
             switch (termNode.getType())
             {
@@ -1159,7 +1328,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
             }
         }
 
-        private Term buildPropertyAccessTerm(Type activeType, Tree termNode)
+        private Term buildPropertyAccessTerm(Type activeType, ExpressionNode termNode)
         {
             String propertyName = termNode.getText();
 
@@ -1274,7 +1443,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
             }
         }
 
-        private Term buildInvokeTerm(final Type activeType, final Tree invokeNode)
+        private Term buildInvokeTerm(final Type activeType, final ExpressionNode invokeNode)
         {
             String methodName = invokeNode.getChild(0).getText();
 
@@ -1341,7 +1510,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
                 builder.boxPrimitive(termType.getName());
         }
 
-        public Class implementNotExpression(InstructionBuilder builder, final Tree notNode)
+        public Class implementNotExpression(InstructionBuilder builder, final ExpressionNode notNode)
         {
             Type expressionType = implementSubexpression(builder, null, notNode.getChild(0));
 
@@ -1369,9 +1538,22 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
         }
     }
 
+    @Inject
     public PropertyConduitSourceImpl(PropertyAccess access, @ComponentLayer
     PlasticProxyFactory proxyFactory, TypeCoercer typeCoercer, StringInterner interner)
     {
+        this(access, proxyFactory, typeCoercer, interner, 0);
+    }
+
+    /**
+     * @param maxCacheSize
+     *         the maximum number of conduits to cache, or 0 for no limit
+     * @since 5.8.0
+     */
+    public PropertyConduitSourceImpl(PropertyAccess access, PlasticProxyFactory proxyFactory, TypeCoercer typeCoercer,
+                                     StringInterner interner, int maxCacheSize)
+    {
+        this.maxCacheSize = maxCacheSize;
         this.access = access;
         this.proxyFactory = proxyFactory;
         this.typeCoercer = typeCoercer;
@@ -1387,35 +1569,184 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
     @PostInjection
     public void listenForInvalidations(@ComponentClasses InvalidationEventHub hub)
     {
-        hub.clearOnInvalidation(cache);
+        hub.addInvalidationCallback(new Runnable()
+        {
+            public void run()
+            {
+                synchronized (evictionLock)
+                {
+                    cache.clear();
+                    clock.clear();
+                    managers.clear();
+                }
+            }
+        });
     }
 
 
-    public PropertyConduit create(Class rootClass, String expression)
+    public PropertyConduit create(final Class rootClass, final String expression)
     {
         assert rootClass != null;
         assert InternalCommonsUtils.isNonBlank(expression);
 
         MultiKey key = new MultiKey(rootClass, expression);
 
-        PropertyConduit result = cache.get(key);
+        CacheEntry entry = cache.get(key);
 
-        if (result == null)
+        if (entry != null)
         {
-            result = build(rootClass, expression);
-            cache.put(key, result);
+            hits.increment();
+
+            if (!entry.referenced)
+            {
+                entry.referenced = true;
+            }
+
+            return entry.conduit;
         }
 
-        return result;
+        FutureTask<PropertyConduit> task = new FutureTask<PropertyConduit>(new Callable<PropertyConduit>()
+        {
+            public PropertyConduit call()
+            {
+                return build(rootClass, expression);
+            }
+        });
+
+        FutureTask<PropertyConduit> existing = pending.putIfAbsent(key, task);
+
+        if (existing != null)
+        {
+            // Another thread is building the same conduit; wait for it.
+
+            hits.increment();
+
+            return await(existing);
+        }
+
+        try
+        {
+            // Check again, in case the conduit was cached, by another thread, since the first check.
+
+            entry = cache.get(key);
+
+            if (entry != null)
+            {
+                hits.increment();
+
+                return entry.conduit;
+            }
+
+            misses.increment();
+
+            long startNanos = System.nanoTime();
+
+            task.run();
+
+            PropertyConduit result = await(task);
+
+            buildTime.add(System.nanoTime() - startNanos);
+
+            synchronized (evictionLock)
+            {
+                CacheEntry added = new CacheEntry(key, rootClass, result);
+
+                cache.put(key, added);
+
+                if (maxCacheSize > 0)
+                {
+                    clock.add(added);
+
+                    evict();
+                }
+            }
+
+            return result;
+        } finally
+        {
+            pending.remove(key, task);
+        }
+    }
+
+    private static PropertyConduit await(FutureTask<PropertyConduit> task)
+    {
+        boolean interrupted = false;
+
+        try
+        {
+            while (true)
+            {
+                try
+                {
+                    return task.get();
+                } catch (InterruptedException ex)
+                {
+                    interrupted = true;
+                } catch (ExecutionException ex)
+                {
+                    Throwable cause = ex.getCause();
+
+                    if (cause instanceof RuntimeException)
+                        throw (RuntimeException) cause;
+
+                    if (cause instanceof Error)
+                        throw (Error) cause;
+
+                    throw new RuntimeException(cause);
+                }
+            }
+        } finally
+        {
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Discards conduits until the cache is within its maximum size, passing over (once) those used since they were last
+     * examined. Invoked with the eviction lock held.
+     */
+    private void evict()
+    {
+        while (cache.size() > maxCacheSize)
+        {
+            CacheEntry entry = clock.remove();
+
+            if (entry.referenced)
+            {
+                entry.referenced = false;
+
+                clock.add(entry);
+
+                continue;
+            }
+
+            cache.remove(entry.key);
+
+            evictions.increment();
+
+            // Generate the root class's later conduits in a new class loader, so that this one can be collected.
+
+            PlasticManager manager = managers.get(entry.rootClass);
+
+            if (manager != null && manager.getClassLoader() == entry.conduit.getClass().getClassLoader())
+            {
+                managers.remove(entry.rootClass, manager);
+            }
+        }
+    }
+
+    public PropertyConduitCacheStatistics getCacheStatistics()
+    {
+        return new PropertyConduitCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), buildTime.sum(),
+                cache.size(), maxCacheSize);
     }
 
     /**
      * Builds a subclass of {@link PropertyConduitDelegate} that implements the
      * get() and set() methods and overrides the
-     * constructor. In a worst-case race condition, we may build two (or more)
-     * conduits for the same
-     * rootClass/expression, and it will get sorted out when the conduit is
-     * stored into the cache.
+     * constructor. Only one thread at a time builds the conduit for a particular
+     * rootClass/expression; other threads wait for it.
      *
      * @param rootClass
      *         class of root object for expression evaluation
@@ -1425,7 +1756,7 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
      */
     private PropertyConduit build(final Class rootClass, String expression)
     {
-        Tree tree = parse(expression);
+        ExpressionNode tree = parse(expression);
 
         try
         {
@@ -1463,8 +1794,8 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
 
                 case RANGEOP:
 
-                    Tree fromNode = tree.getChild(0);
-                    Tree toNode = tree.getChild(1);
+                    ExpressionNode fromNode = tree.getChild(0);
+                    ExpressionNode toNode = tree.getChild(1);
 
                     // If the range is defined as integers (not properties, etc.)
                     // then it is possible to calculate the value here, once, and not
@@ -1488,8 +1819,14 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
                     break;
             }
 
-            return proxyFactory.createProxy(InternalPropertyConduit.class,
-                    new PropertyConduitBuilder(rootClass, expression, tree)).newInstance();
+            PropertyConduitBuilder builder = new PropertyConduitBuilder(rootClass, expression, tree);
+
+            if (maxCacheSize == 0)
+            {
+                return proxyFactory.createProxy(InternalPropertyConduit.class, builder).newInstance();
+            }
+
+            return managerFor(rootClass).createProxy(InternalPropertyConduit.class, builder).newInstance();
         } catch (Exception ex)
         {
             throw new PropertyExpressionException(String.format("Exception generating conduit for expression '%s': %s",
@@ -1497,6 +1834,25 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
         }
     }
 
+    private PlasticManager managerFor(Class rootClass)
+    {
+        PlasticManager manager = managers.get(rootClass);
+
+        if (manager == null)
+        {
+            manager = PlasticManager.withClassLoader(proxyFactory.getClassLoader()).create();
+
+            PlasticManager existing = managers.putIfAbsent(rootClass, manager);
+
+            if (existing != null)
+            {
+                manager = existing;
+            }
+        }
+
+        return manager;
+    }
+
     private PropertyConduit createLiteralThisPropertyConduit(final Class rootClass)
     {
         return new PropertyConduit()
@@ -1534,29 +1890,11 @@ public class PropertyConduitSourceImpl implements PropertyConduitSource
                 "LiteralPropertyConduit[%s]", value), value);
     }
 
-    private Tree parse(String expression)
+    private ExpressionNode parse(String expression)
     {
-        InputStream is = new ByteArrayInputStream(expression.getBytes());
-
-        ANTLRInputStream ais;
-
-        try
-        {
-            ais = new ANTLRInputStream(is);
-        } catch (IOException ex)
-        {
-            throw new RuntimeException(ex);
-        }
-
-        PropertyExpressionLexer lexer = new PropertyExpressionLexer(ais);
-
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-
-        PropertyExpressionParser parser = new PropertyExpressionParser(tokens);
-
         try
         {
-            return (Tree) parser.start().getTree();
+            return PropertyExpressionParser.parse(expression);
         } catch (Exception ex)
         {
             throw new RuntimeException(String.format("Error parsing property expression '%s': %s.", expression,
@@ -15,7 +15,7 @@
 package org.apache.tapestry5.beanmodel.internal.services;
 
 /**
- * Exception thrown when there is a problem parsing a property expression using the ANTLR property expression grammar.
+ * Exception thrown when there is a problem parsing a property expression.
  */
 public class PropertyExpressionException extends RuntimeException
 {
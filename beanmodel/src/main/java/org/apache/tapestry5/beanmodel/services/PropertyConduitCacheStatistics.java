@@ -0,0 +1,93 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.beanmodel.services;
+
+/**
+ * A snapshot of the statistics for the cache of conduits maintained by the {@link PropertyConduitSource}.
+ *
+ * @see PropertyConduitSource#getCacheStatistics()
+ * @since 5.8.0
+ */
+public final class PropertyConduitCacheStatistics
+{
+    private final long hits, misses, evictions, buildTime;
+
+    private final int size, maxSize;
+
+    public PropertyConduitCacheStatistics(long hits, long misses, long evictions, long buildTime, int size, int maxSize)
+    {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.buildTime = buildTime;
+        this.size = size;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the number of requests for a conduit satisfied from the cache.
+     */
+    public long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * Returns the number of requests for a conduit that required the expression to be parsed and a conduit built.
+     */
+    public long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * Returns the number of conduits discarded from the cache to keep it within its maximum size.
+     */
+    public long getEvictions()
+    {
+        return evictions;
+    }
+
+    /**
+     * Returns the total time, in nanoseconds, spent parsing expressions and building conduits.
+     */
+    public long getBuildTime()
+    {
+        return buildTime;
+    }
+
+    /**
+     * Returns the number of conduits currently cached.
+     */
+    public int getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of conduits cached, or 0 if the cache is unbounded.
+     */
+    public int getMaxSize()
+    {
+        return maxSize;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("PropertyConduitCacheStatistics[hits=%d misses=%d evictions=%d size=%d maxSize=%d buildTime=%.2fms]",
+                hits, misses, evictions, size, maxSize, buildTime / 1000000d);
+    }
+}
@@ -24,7 +24,8 @@ public interface PropertyConduitSource
     /**
      * Returns a property conduit instance for the given expression. PropertyConduitSource caches the conduits it
      * returns, so despite the name, this method does not always create a <em>new</em> conduit. The cache is cleared if
-     * a change to component classes is observed.
+     * a change to component classes is observed. The cache may be limited in size, in which case the least recently
+     * used conduits are discarded as new ones are created.
      *
      * Callers of this method should observe notifications from the {@link org.apache.tapestry5.commons.services.InvalidationEventHub}
      * for {@link org.apache.tapestry5.ioc.annotations.ComponentClasses} and discard any aquired conduits; failure to do so
@@ -36,4 +37,11 @@ public interface PropertyConduitSource
      * @return RuntimeException if the expression is invalid (poorly formed, references non-existent properties, etc.)
      */
     PropertyConduit create(Class rootType, String expression);
+
+    /**
+     * Returns the current statistics for the cache of conduits.
+     *
+     * @since 5.8.0
+     */
+    PropertyConduitCacheStatistics getCacheStatistics();
 }
@@ -0,0 +1,92 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.commons.internal.services;
+
+import org.apache.tapestry5.commons.services.Coercion;
+
+import java.util.Arrays;
+
+/**
+ * A flattened sequence of coercions, through any number of intermediate types, built by the {@link TypeCoercerImpl}
+ * as it searches for a way to coerce from one type to another. Unlike nested {@link CompoundCoercion}s, the steps are
+ * invoked from a single loop, so a chain of any length costs one level of dispatch per step.
+ *
+ * @since 5.8.0
+ */
+@SuppressWarnings("all")
+public final class CoercionChain implements Coercion<Object, Object>
+{
+    private final Coercion[] steps;
+
+    private CoercionChain(Coercion[] steps)
+    {
+        this.steps = steps;
+    }
+
+    /**
+     * Returns a coercion that invokes the first coercion, and then the second. Chains are flattened, so the
+     * result never contains another CoercionChain.
+     */
+    public static CoercionChain append(Coercion first, Coercion second)
+    {
+        Coercion[] head = first instanceof CoercionChain ? ((CoercionChain) first).steps : new Coercion[]{ first };
+        Coercion[] tail = second instanceof CoercionChain ? ((CoercionChain) second).steps : new Coercion[]{ second };
+
+        Coercion[] steps = Arrays.copyOf(head, head.length + tail.length);
+
+        System.arraycopy(tail, 0, steps, head.length, tail.length);
+
+        return new CoercionChain(steps);
+    }
+
+    /**
+     * Returns the number of individual coercions in the chain.
+     */
+    public int getLength()
+    {
+        return steps.length;
+    }
+
+    @Override
+    public Object coerce(Object input)
+    {
+        Object value = input;
+
+        for (Coercion step : steps)
+        {
+            value = step.coerce(value);
+        }
+
+        return value;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < steps.length; i++)
+        {
+            if (i > 0)
+            {
+                builder.append(", ");
+            }
+
+            builder.append(steps[i]);
+        }
+
+        return builder.toString();
+    }
+}
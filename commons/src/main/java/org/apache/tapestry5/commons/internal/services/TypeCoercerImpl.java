@@ -19,11 +19,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.tapestry5.commons.internal.util.InheritanceSearch;
 import org.apache.tapestry5.commons.internal.util.InternalCommonsUtils;
-import org.apache.tapestry5.commons.internal.util.LockSupport;
 import org.apache.tapestry5.commons.services.Coercion;
 import org.apache.tapestry5.commons.services.CoercionTuple;
 import org.apache.tapestry5.commons.services.TypeCoercer;
@@ -35,7 +34,7 @@ import org.apache.tapestry5.func.F;
 import org.apache.tapestry5.plastic.PlasticUtils;
 
 @SuppressWarnings("all")
-public class TypeCoercerImpl extends LockSupport implements TypeCoercer
+public class TypeCoercerImpl implements TypeCoercer
 {
     // Constructed from the service's configuration.
 
@@ -48,7 +47,7 @@ public class TypeCoercerImpl extends LockSupport implements TypeCoercer
     {
         private final Class type;
 
-        private final Map<Class, Coercion> cache = CollectionFactory.newConcurrentMap();
+        private final ConcurrentMap<Class, Coercion> cache = CollectionFactory.newConcurrentMap();
 
         TargetCoercion(Class type)
         {
@@ -80,6 +79,35 @@ public class TypeCoercerImpl extends LockSupport implements TypeCoercer
             }
         }
 
+        /**
+         * Searches for, and caches, the coercion from the source type (if there is one).
+         *
+         * @return true if a coercion is necessary and was found
+         */
+        boolean precompute(Class sourceType)
+        {
+            if (type.isAssignableFrom(sourceType))
+            {
+                return false;
+            }
+
+            if (cache.containsKey(sourceType))
+            {
+                return true;
+            }
+
+            Coercion c = searchForCoercion(sourceType, type);
+
+            if (c == null)
+            {
+                return false;
+            }
+
+            cache.putIfAbsent(sourceType, c);
+
+            return true;
+        }
+
         String explain(Class sourceType)
         {
             return getCoercion(sourceType).toString();
@@ -91,8 +119,16 @@ public class TypeCoercerImpl extends LockSupport implements TypeCoercer
 
             if (c == null)
             {
-                c = findOrCreateCoercion(sourceType, type);
-                cache.put(sourceType, c);
+                // On a race, both threads search, but only the first result is cached and used.
+
+                Coercion newCoercion = findOrCreateCoercion(sourceType, type);
+
+                c = cache.putIfAbsent(sourceType, newCoercion);
+
+                if (c == null)
+                {
+                    c = newCoercion;
+                }
             }
 
             return c;
@@ -100,9 +136,11 @@ public class TypeCoercerImpl extends LockSupport implements TypeCoercer
     }
 
     /**
-     * Map from a target type to a TargetCoercion for that type.
+     * Map from a target type to a TargetCoercion for that type. Reads are lock-free, so that coercions (once cached)
+     * never contend with each other, however many threads are coercing. The keys are strongly referenced;
+     * {@link #clearCache()} discards the entire map, so that nothing is retained from a discarded class loader.
      */
-    private final Map<Class, TargetCoercion> typeToTargetCoercion = new WeakHashMap<Class, TargetCoercion>();
+    private final ConcurrentMap<Class, TargetCoercion> typeToTargetCoercion = CollectionFactory.newConcurrentMap();
 
     private static final Coercion NO_COERCION = new Coercion<Object, Object>()
     {
@@ -196,64 +234,63 @@ public class TypeCoercerImpl extends LockSupport implements TypeCoercer
 
     private TargetCoercion getTargetCoercion(Class targetType)
     {
-        try
+        TargetCoercion tc = typeToTargetCoercion.get(targetType);
+
+        if (tc == null)
         {
-            acquireReadLock();
+            TargetCoercion newTargetCoercion = new TargetCoercion(targetType);
 
-            TargetCoercion tc = typeToTargetCoercion.get(targetType);
+            tc = typeToTargetCoercion.putIfAbsent(targetType, newTargetCoercion);
 
-            return tc != null ? tc : createAndStoreNewTargetCoercion(targetType);
-        } finally
-        {
-            releaseReadLock();
+            if (tc == null)
+            {
+                tc = newTargetCoercion;
+            }
         }
+
+        return tc;
     }
 
-    private TargetCoercion createAndStoreNewTargetCoercion(Class targetType)
+    @Override
+    public int precomputeCoercions()
     {
-        try
+        Set<Class> sourceTypes = CollectionFactory.newSet(sourceTypeToTuple.keySet());
+        Set<Class> targetTypes = CollectionFactory.newSet();
+
+        for (List<CoercionTuple> tuples : sourceTypeToTuple.values())
         {
-            upgradeReadLockToWriteLock();
+            for (CoercionTuple tuple : tuples)
+            {
+                targetTypes.add(PlasticUtils.toWrapperType(tuple.getTargetType()));
+            }
+        }
 
-            // Inner check since some other thread may have beat us to it.
+        int count = 0;
 
-            TargetCoercion tc = typeToTargetCoercion.get(targetType);
+        for (Class targetType : targetTypes)
+        {
+            TargetCoercion tc = getTargetCoercion(targetType);
 
-            if (tc == null)
+            for (Class sourceType : sourceTypes)
             {
-                tc = new TargetCoercion(targetType);
-                typeToTargetCoercion.put(targetType, tc);
+                if (tc.precompute(sourceType))
+                {
+                    count++;
+                }
             }
-
-            return tc;
-        } finally
-        {
-            downgradeWriteLockToReadLock();
         }
+
+        return count;
     }
 
     @Override
     public void clearCache()
     {
-        try
-        {
-            acquireReadLock();
-
-            // There's no need to clear the typeToTargetCoercion map, as it is a WeakHashMap and
-            // will release the keys for classes that are no longer in existence. On the other hand,
-            // there's likely all sorts of references to unloaded classes inside each TargetCoercion's
-            // individual cache, so clear all those.
+        // Both the target types (the keys) and each TargetCoercion's individual cache may reference
+        // classes from a discarded class loader, so clear it all; the TargetCoercions, and their caches, will
+        // be rebuilt on demand.
 
-            for (TargetCoercion tc : typeToTargetCoercion.values())
-            {
-                // Can tc ever be null?
-
-                tc.clearCache();
-            }
-        } finally
-        {
-            releaseReadLock();
-        }
+        typeToTargetCoercion.clear();
     }
 
     /**
@@ -282,6 +319,28 @@ public class TypeCoercerImpl extends LockSupport implements TypeCoercer
      */
     @SuppressWarnings("unchecked")
     private Coercion findOrCreateCoercion(Class sourceType, Class targetType)
+    {
+        Coercion coercion = searchForCoercion(sourceType, targetType);
+
+        if (coercion == null)
+        {
+            // Not found anywhere. Identify the source and target type and a (sorted) list of
+            // all the known coercions.
+
+            throw new UnknownValueException(String.format("Could not find a coercion from type %s to type %s.",
+                    sourceType.getName(), targetType.getName()), buildCoercionCatalog());
+        }
+
+        return coercion;
+    }
+
+    /**
+     * Performs the search described by {@link #findOrCreateCoercion(Class, Class)}.
+     *
+     * @return the coercion, or null if there is no way to coerce from the source type to the target type
+     */
+    @SuppressWarnings("unchecked")
+    private Coercion searchForCoercion(Class sourceType, Class targetType)
     {
         if (sourceType == Void.class)
         {
@@ -335,11 +394,7 @@ public class TypeCoercerImpl extends LockSupport implements TypeCoercer
             queueIntermediates(sourceType, targetType, tuple, consideredTuples, queue);
         }
 
-        // Not found anywhere. Identify the source and target type and a (sorted) list of
-        // all the known coercions.
-
-        throw new UnknownValueException(String.format("Could not find a coercion from type %s to type %s.",
-                sourceType.getName(), targetType.getName()), buildCoercionCatalog());
+        return null;
     }
 
     /**
@@ -469,7 +524,7 @@ public class TypeCoercerImpl extends LockSupport implements TypeCoercer
                 // from I1 (i.e., I2 is a superclass/superinterface of I1) and X is a new
                 // intermediate type, hopefully closer to our eventual target type.
 
-                Coercion compoundCoercer = new CompoundCoercion(intermediateTuple.getCoercion(), tuple.getCoercion());
+                Coercion compoundCoercer = CoercionChain.append(intermediateTuple.getCoercion(), tuple.getCoercion());
 
                 CoercionTuple compoundTuple = new CoercionTuple(sourceType, newIntermediateType, compoundCoercer, false);
 
@@ -14,22 +14,156 @@
 
 package org.apache.tapestry5.commons.internal.util;
 
+import java.text.DecimalFormatSymbols;
+import java.util.Formattable;
+import java.util.List;
 import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.tapestry5.commons.MessageFormatter;
+import org.apache.tapestry5.commons.util.CollectionFactory;
 import org.apache.tapestry5.commons.util.ExceptionUtils;
 
-
+/**
+ * The format is parsed once, when the formatter is created. Formats that use only the simple %s and %d conversions
+ * (optionally with an explicit argument index), %n and %% are then formatted directly from the parsed segments;
+ * any other format, or any argument that needs more than {@link Object#toString()}, is formatted by
+ * {@link String#format(Locale, String, Object...)}, so the result is always the same.
+ */
 public class MessageFormatterImpl implements MessageFormatter
 {
+    /**
+     * Matches a format specifier, as defined by {@link java.util.Formatter}.
+     */
+    private static final Pattern SPECIFIER = Pattern.compile(
+            "%(\\d+\\$)?([-#+ 0,(\\<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])");
+
     private final String format;
 
     private final Locale locale;
 
+    /**
+     * The parsed format: literal Strings and Arguments. Null if the format can not be formatted directly.
+     */
+    private final Object[] segments;
+
+    private static final class Argument
+    {
+        final int index;
+
+        final boolean decimal;
+
+        Argument(int index, boolean decimal)
+        {
+            this.index = index;
+            this.decimal = decimal;
+        }
+    }
+
     public MessageFormatterImpl(String format, Locale locale)
     {
         this.format = format;
         this.locale = locale;
+
+        segments = compile(format, locale);
+    }
+
+    private static Object[] compile(String format, Locale locale)
+    {
+        List<Object> result = CollectionFactory.newList();
+        StringBuilder literal = new StringBuilder(format.length());
+        Matcher matcher = SPECIFIER.matcher(format);
+
+        int length = format.length();
+        int cursor = 0;
+        int ordinaryIndex = 0;
+
+        while (cursor < length)
+        {
+            int percent = format.indexOf('%', cursor);
+
+            if (percent < 0)
+            {
+                literal.append(format, cursor, length);
+                break;
+            }
+
+            literal.append(format, cursor, percent);
+
+            matcher.region(percent, length);
+
+            // Invalid formats are left to the Formatter, to report.
+
+            if (!matcher.lookingAt())
+                return null;
+
+            String index = matcher.group(1);
+            String flags = matcher.group(2);
+            char conversion = matcher.group(6).charAt(0);
+
+            if ((flags != null && !flags.isEmpty()) || matcher.group(3) != null || matcher.group(4) != null
+                    || matcher.group(5) != null)
+                return null;
+
+            switch (conversion)
+            {
+                case '%':
+                case 'n':
+
+                    if (index != null)
+                        return null;
+
+                    literal.append(conversion == '%' ? "%" : System.lineSeparator());
+                    break;
+
+                case 'd':
+
+                    // Numbers are formatted using the locale's digits.
+
+                    if (locale != null && DecimalFormatSymbols.getInstance(locale).getZeroDigit() != '0')
+                        return null;
+
+                    // Fall through.
+
+                case 's':
+
+                    int argumentIndex;
+
+                    try
+                    {
+                        argumentIndex = index == null ? 0 : Integer.parseInt(index.substring(0, index.length() - 1));
+                    } catch (NumberFormatException ex)
+                    {
+                        return null;
+                    }
+
+                    // As with the Formatter, an explicit index of 0 is treated as no index at all.
+
+                    argumentIndex = argumentIndex == 0 ? ordinaryIndex++ : argumentIndex - 1;
+
+                    if (literal.length() > 0)
+                    {
+                        result.add(literal.toString());
+                        literal.setLength(0);
+                    }
+
+                    result.add(new Argument(argumentIndex, conversion == 'd'));
+                    break;
+
+                default:
+                    return null;
+            }
+
+            cursor = matcher.end();
+        }
+
+        if (literal.length() > 0)
+        {
+            result.add(literal.toString());
+        }
+
+        return result.toArray();
     }
 
     @Override
@@ -45,10 +179,67 @@ public class MessageFormatterImpl implements MessageFormatter
             }
         }
 
+        String result = segments == null ? null : formatSegments(args);
+
         // Might be tempting to create a Formatter object and just keep reusing it ... but
         // Formatters are not threadsafe.
 
-        return String.format(locale, format, args);
+        return result != null ? result : String.format(locale, format, args);
+    }
+
+    /**
+     * Returns the formatted message, or null if the Formatter must be used instead.
+     */
+    private String formatSegments(Object[] args)
+    {
+        StringBuilder builder = new StringBuilder(format.length() + 16 * args.length);
+
+        for (Object segment : segments)
+        {
+            if (segment instanceof String)
+            {
+                builder.append((String) segment);
+                continue;
+            }
+
+            Argument argument = (Argument) segment;
+
+            // A missing argument is an error the Formatter reports.
+
+            if (argument.index >= args.length)
+                return null;
+
+            Object arg = args[argument.index];
+
+            if (arg == null)
+            {
+                builder.append("null");
+                continue;
+            }
+
+            if (argument.decimal)
+            {
+                if (!(arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte))
+                    return null;
+
+                long value = ((Number) arg).longValue();
+
+                // The minus sign may be localized.
+
+                if (value < 0)
+                    return null;
+
+                builder.append(value);
+                continue;
+            }
+
+            if (arg instanceof Formattable)
+                return null;
+
+            builder.append(arg.toString());
+        }
+
+        return builder.toString();
     }
 
     /**
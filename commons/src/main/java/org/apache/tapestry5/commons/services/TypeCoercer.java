@@ -83,4 +83,18 @@ public interface TypeCoercer
      * Clears cached information stored by the TypeCoercer.
      */
     void clearCache();
+
+    /**
+     * Computes and caches the coercion between every pair of source and target types that appear in the
+     * TypeCoercer's configuration, so that no search for a coercion occurs when those types are later coerced. Pairs
+     * that can not be coerced are skipped. The results are discarded by {@link #clearCache()}, and are then
+     * recomputed on demand, as usual.
+     *
+     * @return the number of coercions computed
+     * @since 5.8.0
+     */
+    default int precomputeCoercions()
+    {
+        return 0;
+    }
 }
@@ -470,6 +470,26 @@ public class InstructionBuilderImpl extends Lockable implements Opcodes, Instruc
         return checkcast(cache.toTypeName(clazz));
     }
 
+    @Override
+    public InstructionBuilder instanceOf(String className)
+    {
+        check();
+
+        String internalName = className.contains("[") ? cache.toDesc(className) : cache.toInternalName(className);
+
+        v.visitTypeInsn(INSTANCEOF, internalName);
+
+        return this;
+    }
+
+    @Override
+    public InstructionBuilder instanceOf(Class clazz)
+    {
+        check();
+
+        return instanceOf(cache.toTypeName(clazz));
+    }
+
     @Override
     public InstructionBuilder startTryCatch(TryCatchCallback callback)
     {
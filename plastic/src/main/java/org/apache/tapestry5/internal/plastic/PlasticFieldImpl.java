@@ -21,9 +21,24 @@ import org.apache.tapestry5.internal.plastic.asm.tree.MethodNode;
 import org.apache.tapestry5.plastic.*;
 
 import java.lang.reflect.Modifier;
+import java.util.EnumMap;
+import java.util.Map;
 
 class PlasticFieldImpl extends PlasticMember implements PlasticField, Comparable<PlasticFieldImpl>
 {
+    /**
+     * The {@link PrimitiveFieldConduit} method that reads each type of field without boxing.
+     */
+    private static final Map<PrimitiveType, String> PRIMITIVE_CONDUIT_GETTERS = new EnumMap<>(PrimitiveType.class);
+
+    static
+    {
+        PRIMITIVE_CONDUIT_GETTERS.put(PrimitiveType.INT, "getInt");
+        PRIMITIVE_CONDUIT_GETTERS.put(PrimitiveType.LONG, "getLong");
+        PRIMITIVE_CONDUIT_GETTERS.put(PrimitiveType.DOUBLE, "getDouble");
+        PRIMITIVE_CONDUIT_GETTERS.put(PrimitiveType.BOOLEAN, "getBoolean");
+    }
+
     private final FieldNode node;
 
     private final String typeName;
@@ -434,14 +449,35 @@ class PlasticFieldImpl extends PlasticMember implements PlasticField, Comparable
 
         pushFieldConduitOntoStack(conduitFieldName, builder);
 
-        builder.loadThis();
+        final PrimitiveType primitiveType = PrimitiveType.getByName(typeName);
 
-        // Now push the instance context on the stack
+        if (primitiveType != null && PRIMITIVE_CONDUIT_GETTERS.containsKey(primitiveType))
+        {
+            // Conduits that can supply the value without boxing it are asked to.
 
-        plasticClass.pushInstanceContextFieldOntoStack(builder);
+            builder.dupe().instanceOf(PrimitiveFieldConduit.class).when(Condition.NON_ZERO, new WhenCallback()
+            {
+                @Override
+                public void ifTrue(InstructionBuilder builder)
+                {
+                    builder.checkcast(PrimitiveFieldConduit.class).loadThis();
 
-        builder.invoke(FieldConduit.class, Object.class, "get", Object.class, InstanceContext.class).castOrUnbox(
-                typeName);
+                    plasticClass.pushInstanceContextFieldOntoStack(builder);
+
+                    builder.invoke(PrimitiveFieldConduit.class, primitiveType.primitiveType,
+                            PRIMITIVE_CONDUIT_GETTERS.get(primitiveType), Object.class, InstanceContext.class);
+                }
+
+                @Override
+                public void ifFalse(InstructionBuilder builder)
+                {
+                    invokeConduitGet(builder);
+                }
+            });
+        } else
+        {
+            invokeConduitGet(builder);
+        }
 
         if (writeBehindEnabled)
         {
@@ -471,6 +507,21 @@ class PlasticFieldImpl extends PlasticMember implements PlasticField, Comparable
         plasticClass.redirectFieldRead(node.name, isPrivate(), getAccess);
     }
 
+    /**
+     * Invokes get() on the conduit (already on the stack) and casts or unboxes the result to the field type.
+     */
+    private void invokeConduitGet(InstructionBuilder builder)
+    {
+        builder.loadThis();
+
+        // Now push the instance context on the stack
+
+        plasticClass.pushInstanceContextFieldOntoStack(builder);
+
+        builder.invoke(FieldConduit.class, Object.class, "get", Object.class, InstanceContext.class).castOrUnbox(
+                typeName);
+    }
+
     private boolean isWriteBehindEnabled()
     {
         return plasticClass.pool.isEnabled(TransformationOption.FIELD_WRITEBEHIND);
@@ -247,6 +247,22 @@ public interface InstructionBuilder
     @Opcodes("CHECKCAST")
     InstructionBuilder checkcast(Class clazz);
 
+    /**
+     * Replaces the object on top of the stack with the integer 1 if it is an instance of the indicated class, or 0
+     * otherwise (including when the object is null).
+     *
+     * @param className class to check for
+     * @since 5.8.0
+     */
+    @Opcodes("INSTANCEOF")
+    InstructionBuilder instanceOf(String className);
+
+    /**
+     * @since 5.8.0
+     */
+    @Opcodes("INSTANCEOF")
+    InstructionBuilder instanceOf(Class clazz);
+
     /**
      * Defines the start of a block that can have exception handlers and finally blocks applied.
      * Continue using this InstructionBuilder to define code inside the block, then call
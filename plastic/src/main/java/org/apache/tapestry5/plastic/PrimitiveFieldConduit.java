@@ -0,0 +1,57 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.plastic;
+
+/**
+ * A {@link FieldConduit} that can supply the value of an int, long, double or boolean field without boxing it. When a
+ * field of one of those types is read, and its conduit implements this interface, the matching method is invoked
+ * instead of {@link #get(Object, InstanceContext)}. The default implementations unbox the value returned by get().
+ *
+ * @since 5.8.0
+ */
+public interface PrimitiveFieldConduit<T> extends FieldConduit<T>
+{
+    /**
+     * Invoked when an int field is read.
+     */
+    default int getInt(Object instance, InstanceContext context)
+    {
+        return (Integer) get(instance, context);
+    }
+
+    /**
+     * Invoked when a long field is read.
+     */
+    default long getLong(Object instance, InstanceContext context)
+    {
+        return (Long) get(instance, context);
+    }
+
+    /**
+     * Invoked when a double field is read.
+     */
+    default double getDouble(Object instance, InstanceContext context)
+    {
+        return (Double) get(instance, context);
+    }
+
+    /**
+     * Invoked when a boolean field is read.
+     */
+    default boolean getBoolean(Object instance, InstanceContext context)
+    {
+        return (Boolean) get(instance, context);
+    }
+}
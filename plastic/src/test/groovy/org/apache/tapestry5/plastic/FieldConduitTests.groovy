@@ -149,6 +149,53 @@ class FieldConduitTests extends AbstractPlasticSpecification
         1* fc.get(o, _) >> "bumble"
     }
 
+    def "a primitive field conduit supplies the value of a primitive field without boxing"()
+    {
+        PrimitiveFieldConduit fc = Mock()
+
+        def pc = mgr.getPlasticClass(IntFieldHolder.name)
+
+        pc.allFields.first().setConduit(fc)
+
+        def o = pc.createInstantiator().newInstance()
+
+        when:
+
+        def r = o.getValue()
+
+        then:
+
+        1 * fc.getInt(o, _) >> 777
+        0 * fc.get(_, _)
+
+        r == 777
+    }
+
+    def "verify write-behind on wide field with a primitive field conduit"()
+    {
+        PrimitiveFieldConduit fc = Mock()
+
+        def mgr = PlasticManager.withContextClassLoader().enable(TransformationOption.FIELD_WRITEBEHIND).create()
+
+        def pc = mgr.getPlasticClass(LongWriteBehind.name)
+
+        pc.allFields.first().setConduit(fc)
+
+        def o = pc.createInstantiator().newInstance()
+
+        when:
+
+        def r = o.value
+
+        then:
+
+        1 * fc.getLong(o, _) >> 987654321L
+
+        r == 987654321L
+
+        o.m_value == 987654321L
+    }
+
     def "verify write-behind on normal field"()
     {
         FieldConduit fc = Mock()
@@ -23,7 +23,6 @@ import java.net.URL;
 
 import javax.enterprise.inject.spi.Extension;
 
-import org.antlr.runtime.Lexer;
 import org.apache.commons.codec.StringEncoder;
 import org.apache.commons.httpclient.HttpClient;
 import org.apache.commons.httpclient.HttpException;
@@ -96,7 +95,6 @@ public class InjectTest {
                 // tapestry dependencies, for real project put it in a helper
                 // class: new TapestryArchive(name)...
                 .addAsLibraries(JarLocation.jarLocation(HttpClient.class))
-                .addAsLibraries(JarLocation.jarLocation(Lexer.class))
                 .addAsLibraries(JarLocation.jarLocation(StringEncoder.class))
                 .addAsLibraries(JarLocation.jarLocation(IOCConstants.class))
                 .addAsLibraries(JarLocation.jarLocation(PlasticClass.class))
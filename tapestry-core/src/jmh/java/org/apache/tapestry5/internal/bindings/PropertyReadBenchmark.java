@@ -0,0 +1,140 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.bindings;
+
+import org.apache.tapestry5.beanmodel.PrimitivePropertyConduit;
+import org.apache.tapestry5.beanmodel.internal.services.PropertyConduitSourceImpl;
+import org.apache.tapestry5.beanmodel.services.PropertyConduitSource;
+import org.apache.tapestry5.commons.internal.services.StringInternerImpl;
+import org.apache.tapestry5.commons.services.PlasticProxyFactory;
+import org.apache.tapestry5.commons.services.PropertyAccess;
+import org.apache.tapestry5.commons.services.TypeCoercer;
+import org.apache.tapestry5.ioc.Registry;
+import org.apache.tapestry5.ioc.RegistryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading an int property boxed ({@link PrimitivePropertyConduit#get(Object)}, {@link PropBinding#get()})
+ * and unboxed ({@link PrimitivePropertyConduit#getInt(Object)}, {@link PropBinding#getInt()}), for property
+ * expressions of increasing depth. Run with {@code gradlew :tapestry-core:jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertyReadBenchmark
+{
+    @Param({ "value", "next.value", "next.next.value", "next.next.next.value", "next.next.next.next.value" })
+    public String expression;
+
+    private Registry registry;
+
+    private Node root;
+
+    private PrimitivePropertyConduit conduit;
+
+    private PropBinding binding;
+
+    public static class Node
+    {
+        private final int value;
+
+        private final Node next;
+
+        public Node(int value, Node next)
+        {
+            this.value = value;
+            this.next = next;
+        }
+
+        public int getValue()
+        {
+            return value;
+        }
+
+        public Node getNext()
+        {
+            return next;
+        }
+    }
+
+    @Setup
+    public void setup()
+    {
+        registry = RegistryBuilder.buildAndStartupRegistry();
+
+        PropertyConduitSource source = new PropertyConduitSourceImpl(registry.getService(PropertyAccess.class),
+                registry.getService(PlasticProxyFactory.class), registry.getService(TypeCoercer.class),
+                new StringInternerImpl());
+
+        // Values outside the range of Integer.valueOf()'s cache, so that boxing allocates.
+
+        root = new Node(1000, new Node(2000, new Node(3000, new Node(4000, new Node(5000, null)))));
+
+        conduit = (PrimitivePropertyConduit) source.create(Node.class, expression);
+
+        binding = new PropBinding(null, root, conduit, expression, "PropBinding[" + expression + "]");
+
+        if (binding.getPrimitiveType() != int.class)
+        {
+            throw new IllegalStateException(String.format("Expression '%s' is not read without boxing.", expression));
+        }
+    }
+
+    @TearDown
+    public void shutdown()
+    {
+        registry.shutdown();
+    }
+
+    @Benchmark
+    public Object conduitGet()
+    {
+        return conduit.get(root);
+    }
+
+    @Benchmark
+    public int conduitGetInt()
+    {
+        return conduit.getInt(root);
+    }
+
+    @Benchmark
+    public Object bindingGet()
+    {
+        return binding.get();
+    }
+
+    @Benchmark
+    public int bindingGetInt()
+    {
+        return binding.getInt();
+    }
+}
@@ -36,4 +36,12 @@ public class PersistenceConstants
      * used for confirmation messages presented to the user.
      */
     public static final String FLASH = "flash";
+
+    /**
+     * The field's value is stored by the {@link org.apache.tapestry5.services.ExternalStateStore}, outside of the
+     * session, and is available to any server sharing the store.
+     *
+     * @since 5.8.0
+     */
+    public static final String EXTERNAL = "external";
 }
@@ -643,4 +643,123 @@ public class SymbolConstants
      * @since 5.4
      */
     public static final String PRELOADER_MODE = "tapestry.page-preload-mode";
+
+    /**
+     * The maximum number of {@link org.apache.tapestry5.beanmodel.PropertyConduit}s cached by the
+     * {@link org.apache.tapestry5.beanmodel.services.PropertyConduitSource}; once exceeded, conduits that have not been
+     * used recently are discarded. Conduits for template bindings are retained by the bindings themselves, so this mostly
+     * limits conduits created dynamically (for example, by the {@link org.apache.tapestry5.beanmodel.services.BeanModelSource}).
+     * When limited, the conduits of each root class are generated in their own class loader, which is unloaded once its
+     * conduits have been discarded and are no longer in use. Defaults to 5000; 0 means no limit.
+     *
+     * @since 5.8.0
+     */
+    public static final String PROPERTY_CONDUIT_CACHE_SIZE = "tapestry.property-conduit-cache-size";
+
+    /**
+     * If true, then as the page loader analyzes each component's template, it compiles the property expressions
+     * of the component's "prop:" parameter bindings in the background (using the
+     * {@link org.apache.tapestry5.ioc.services.ParallelExecutor}), so that the conduits are ready by the time
+     * the bindings are created. The default is the value of {@link #PRODUCTION_MODE}.
+     *
+     * @since 5.8.0
+     */
+    public static final String PRECOMPILE_PROPERTY_EXPRESSIONS = "tapestry.precompile-property-expressions";
+
+    /**
+     * If true, then while markup is rendered, the value read from a (non-invariant) "prop:" binding is memoized, and
+     * reused by later reads of the same property expression on the same component, until any component code runs (a
+     * render phase method or an event handler) or any binding is updated. This avoids re-evaluating expensive
+     * getters read more than once between such points. Memoization can be disabled for individual properties
+     * with the {@link org.apache.tapestry5.annotations.NotMemoized} annotation, and for the bindings of
+     * individual parameters with {@link org.apache.tapestry5.annotations.Parameter#cache()}. The default is false.
+     *
+     * @since 5.8.0
+     */
+    public static final String MEMOIZE_BINDINGS = "tapestry.memoize-bindings";
+
+    /**
+     * If true, then the number of times each "prop:" binding is evaluated (and, when {@link #MEMOIZE_BINDINGS} is
+     * enabled, the number of reads satisfied by a memoized value) are counted, and reported by the
+     * {@link org.apache.tapestry5.services.BindingStatistics} service. The default is false.
+     *
+     * @since 5.8.0
+     */
+    public static final String BINDING_STATISTICS_ENABLED = "tapestry.binding-statistics-enabled";
+
+    /**
+     * If true (the default), then data stored on the client by the {@link org.apache.tapestry5.services.ClientDataEncoder}
+     * (such as the {@link org.apache.tapestry5.corelib.components.Form}'s form data, and client-persisted fields)
+     * is written in a compact binary format, rather than as serialized Java objects, and signed using HmacSHA256.
+     * If false, client data is written exactly as by earlier releases (GZipped serialized Java objects, signed using
+     * HmacSHA1), which may be useful while the servers of a cluster are being upgraded. Client data in either format
+     * is accepted.
+     *
+     * @since 5.8.0
+     */
+    public static final String COMPACT_CLIENT_DATA = "tapestry.compact-client-data";
+
+    /**
+     * Directory in which the default {@link org.apache.tapestry5.services.ExternalStateStore} stores the values of
+     * fields and session state objects persisted with the {@linkplain PersistenceConstants#EXTERNAL "external"}
+     * strategy, one file per client. Placing the directory on a file system shared by all servers allows any server
+     * to handle requests from any client. If blank (the default), the values are instead kept in off-heap memory of
+     * the server itself.
+     *
+     * @since 5.8.0
+     */
+    public static final String EXTERNAL_STATE_DIRECTORY = "tapestry.external-state-directory";
+
+    /**
+     * Time interval after which values stored by the default {@link org.apache.tapestry5.services.ExternalStateStore}
+     * for a client that has made no further requests are discarded. The default is "30 m" (30 minutes).
+     *
+     * @since 5.8.0
+     */
+    public static final String EXTERNAL_STATE_TIMEOUT = "tapestry.external-state-timeout";
+
+    /**
+     * Maximum number of bytes of off-heap memory used by the default
+     * {@link org.apache.tapestry5.services.ExternalStateStore} when no
+     * {@linkplain #EXTERNAL_STATE_DIRECTORY directory} is configured. Once the limit is reached, further values are
+     * kept on the heap. The default is 67108864 (64 MB).
+     *
+     * @since 5.8.0
+     */
+    public static final String EXTERNAL_STATE_OFF_HEAP_LIMIT = "tapestry.external-state-off-heap-limit";
+
+    /**
+     * If true, then the time taken by each request is recorded by the {@link org.apache.tapestry5.services.RequestMetrics}
+     * service, by kind of request (page render, component event, asset or module), by page and by component event.
+     * The metrics are shown on the "Metrics" tab of the {@linkplain org.apache.tapestry5.corelib.pages.T5Dashboard
+     * dashboard}, and (with the tapestry-jmx library) exposed as an MBean. The default is false, in which case nothing
+     * is recorded and there is no overhead.
+     *
+     * @since 5.8.0
+     */
+    public static final String REQUEST_METRICS_ENABLED = "tapestry.request-metrics-enabled";
+
+    /**
+     * If true, then links created by the {@link org.apache.tapestry5.services.PageRenderLinkSource} and by components
+     * are cached for the duration of the request, so that a link to the same page or component event, with the same
+     * context, is only encoded once (for example, when rendered inside a loop). Only links whose context values are
+     * all immutable (strings, primitive wrappers, BigInteger, BigDecimal and enums) are cached, and absolute links
+     * (including a scheme and host) are never cached.
+     * {@link org.apache.tapestry5.services.LinkCreationListener2}s are still notified of every link created.
+     *
+     * Each cached link costs a key, a map entry and a copy; this only pays off for pages that repeat the same links.
+     * The default is false.
+     *
+     * @since 5.8.0
+     */
+    public static final String LINK_CACHE_ENABLED = "tapestry.link-cache-enabled";
+
+    /**
+     * The maximum number of links (see {@link #LINK_CACHE_ENABLED}) that are also shared between requests; when the
+     * limit is exceeded, the shared links are discarded. The default is 0, which disables sharing links between
+     * requests.
+     *
+     * @since 5.8.0
+     */
+    public static final String SHARED_LINK_CACHE_SIZE = "tapestry.shared-link-cache-size";
 }
@@ -0,0 +1,45 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.annotations;
+
+import org.apache.tapestry5.ioc.annotations.UseWith;
+
+import java.lang.annotation.*;
+
+import static org.apache.tapestry5.ioc.annotations.AnnotationUseContext.*;
+
+/**
+ * Marks a property whose value may change each time it is read (for example, a getter that advances a counter, or
+ * that returns the current time), so that the values of "prop:" bindings to it are never memoized, even when
+ * {@link org.apache.tapestry5.SymbolConstants#MEMOIZE_BINDINGS binding memoization} is enabled.
+ *
+ * The annotation may be placed on the getter method or on the field of the property; it applies to bindings whose
+ * expression ends with the property (or with a call to the annotated method):
+ * <pre>
+ * &#064;NotMemoized
+ * public String getRowClass() {
+ *     return (row++ % 2 == 0) ? "even" : "odd";
+ * }
+ * </pre>
+ *
+ * @since 5.8.0
+ */
+@Target({ElementType.METHOD, ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@UseWith({COMPONENT, MIXIN, PAGE})
+public @interface NotMemoized
+{
+}
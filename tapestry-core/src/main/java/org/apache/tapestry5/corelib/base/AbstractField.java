@@ -21,6 +21,7 @@ import org.apache.tapestry5.http.services.Request;
 import org.apache.tapestry5.internal.BeanValidationContext;
 import org.apache.tapestry5.internal.InternalComponentResources;
 import org.apache.tapestry5.internal.services.FormControlNameManager;
+import org.apache.tapestry5.internal.util.CompactExternalizable;
 import org.apache.tapestry5.ioc.annotations.Inject;
 import org.apache.tapestry5.ioc.annotations.Symbol;
 import org.apache.tapestry5.ioc.internal.util.InternalUtils;
@@ -29,6 +30,9 @@ import org.apache.tapestry5.services.Environment;
 import org.apache.tapestry5.services.FormSupport;
 import org.apache.tapestry5.services.javascript.JavaScriptSupport;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.Serializable;
 
 /**
@@ -71,11 +75,18 @@ public abstract class AbstractField implements Field
     @Symbol(SymbolConstants.FORM_FIELD_CSS_CLASS)
     protected String cssClass;
 
-    static class Setup implements ComponentAction<AbstractField>, Serializable
+    static class Setup implements ComponentAction<AbstractField>, CompactExternalizable
     {
         private static final long serialVersionUID = 2690270808212097020L;
 
-        private final String controlName;
+        private String controlName;
+
+        /**
+         * Used when reading the action from compact form data.
+         */
+        Setup()
+        {
+        }
 
         public Setup(String controlName)
         {
@@ -92,6 +103,16 @@ public abstract class AbstractField implements Field
         {
             return String.format("AbstractField.Setup[%s]", controlName);
         }
+
+        public void writeCompact(ObjectOutput out) throws IOException
+        {
+            out.writeObject(controlName);
+        }
+
+        public void readCompact(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            controlName = (String) in.readObject();
+        }
     }
 
     static class ProcessSubmission implements ComponentAction<AbstractField>, Serializable
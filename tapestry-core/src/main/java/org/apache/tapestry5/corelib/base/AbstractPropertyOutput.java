@@ -14,6 +14,7 @@ package org.apache.tapestry5.corelib.base;
 
 import org.apache.tapestry5.*;
 import org.apache.tapestry5.annotations.Parameter;
+import org.apache.tapestry5.beanmodel.PrimitivePropertyConduit;
 import org.apache.tapestry5.beanmodel.PropertyConduit;
 import org.apache.tapestry5.beanmodel.PropertyModel;
 import org.apache.tapestry5.commons.Messages;
@@ -132,9 +133,7 @@ public abstract class AbstractPropertyOutput
             return beanBlockSource.getDisplayBlock(datatype);
         }
 
-        Object value = readPropertyForObject();
-
-        String text = value == null ? "" : value.toString();
+        String text = readPropertyTextForObject();
 
         if (InternalUtils.isNonBlank(text))
         {
@@ -155,12 +154,54 @@ public abstract class AbstractPropertyOutput
             return conduit == null ? null : conduit.get(object);
         } catch (NullPointerException ex)
         {
-            throw new TapestryException(String.format("Property '%s' contains a null value in the path.", model.getPropertyName()),
-                    resources.getLocation(),
-                    ex);
+            throw nullInPath(ex);
         }
     }
 
+    /**
+     * Reads the property and converts it to a string; properties of common primitive types are read without boxing,
+     * unless the expression may evaluate to null.
+     */
+    String readPropertyTextForObject()
+    {
+        PropertyConduit conduit = model.getConduit();
+
+        if (conduit instanceof PrimitivePropertyConduit && !((PrimitivePropertyConduit) conduit).isNullable())
+        {
+            PrimitivePropertyConduit primitiveConduit = (PrimitivePropertyConduit) conduit;
+            Class propertyType = conduit.getPropertyType();
+
+            try
+            {
+                if (propertyType == int.class)
+                    return String.valueOf(primitiveConduit.getInt(object));
+
+                if (propertyType == long.class)
+                    return String.valueOf(primitiveConduit.getLong(object));
+
+                if (propertyType == double.class)
+                    return String.valueOf(primitiveConduit.getDouble(object));
+
+                if (propertyType == boolean.class)
+                    return String.valueOf(primitiveConduit.getBoolean(object));
+            } catch (NullPointerException ex)
+            {
+                throw nullInPath(ex);
+            }
+        }
+
+        Object value = readPropertyForObject();
+
+        return value == null ? "" : value.toString();
+    }
+
+    private TapestryException nullInPath(NullPointerException ex)
+    {
+        return new TapestryException(String.format("Property '%s' contains a null value in the path.", model.getPropertyName()),
+                resources.getLocation(),
+                ex);
+    }
+
     /**
      * Returns false; there's no template and this prevents the body from rendering.
      */
@@ -20,6 +20,7 @@ import org.apache.tapestry5.corelib.internal.AjaxFormLoopContext;
 import org.apache.tapestry5.dom.Element;
 import org.apache.tapestry5.http.Link;
 import org.apache.tapestry5.internal.services.RequestConstants;
+import org.apache.tapestry5.internal.util.CompactExternalizable;
 import org.apache.tapestry5.ioc.annotations.Inject;
 import org.apache.tapestry5.json.JSONObject;
 import org.apache.tapestry5.services.ComponentDefaultProvider;
@@ -32,6 +33,9 @@ import org.apache.tapestry5.services.ajax.AjaxResponseRenderer;
 import org.apache.tapestry5.services.compatibility.DeprecationWarning;
 import org.apache.tapestry5.services.javascript.JavaScriptSupport;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.util.Collections;
 import java.util.Iterator;
 
@@ -194,9 +198,18 @@ public class AjaxFormLoop
     /**
      * Action for synchronizing the current element of the loop by recording its client value.
      */
-    static class SyncValue implements ComponentAction<AjaxFormLoop>
+    static class SyncValue implements ComponentAction<AjaxFormLoop>, CompactExternalizable
     {
-        private final String clientValue;
+        private static final long serialVersionUID = -8462748617296231304L;
+
+        private String clientValue;
+
+        /**
+         * Used when reading the action from compact form data.
+         */
+        SyncValue()
+        {
+        }
 
         public SyncValue(String clientValue)
         {
@@ -213,6 +226,16 @@ public class AjaxFormLoop
         {
             return String.format("AjaxFormLoop.SyncValue[%s]", clientValue);
         }
+
+        public void writeCompact(ObjectOutput out) throws IOException
+        {
+            out.writeObject(clientValue);
+        }
+
+        public void readCompact(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            clientValue = (String) in.readObject();
+        }
     }
 
     private static final ComponentAction<AjaxFormLoop> BEGIN_HEARTBEAT = new ComponentAction<AjaxFormLoop>()
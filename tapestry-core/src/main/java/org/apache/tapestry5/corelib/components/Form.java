@@ -19,6 +19,7 @@ import org.apache.tapestry5.commons.Location;
 import org.apache.tapestry5.commons.Messages;
 import org.apache.tapestry5.commons.internal.util.TapestryException;
 import org.apache.tapestry5.commons.services.PropertyAccess;
+import org.apache.tapestry5.commons.util.CollectionFactory;
 import org.apache.tapestry5.commons.util.ExceptionUtils;
 import org.apache.tapestry5.corelib.ClientValidation;
 import org.apache.tapestry5.corelib.internal.ComponentActionSink;
@@ -54,6 +55,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.util.Map;
 
 /**
  * An HTML form, which will enclose other components to render out the various
@@ -724,6 +726,11 @@ public class Form implements ClientElement, FormValidationControl
         // Due to Ajax there may be multiple values here, so
         // handle each one individually.
 
+        // Fields inside a Loop store several actions per rendered row, so each component is
+        // typically referenced many times.
+
+        Map<String, Component> components = CollectionFactory.newMap();
+
         for (String clientEncodedActions : values)
         {
             if (InternalUtils.isBlank(clientEncodedActions))
@@ -752,7 +759,14 @@ public class Form implements ClientElement, FormValidationControl
                         continue;
                     }
 
-                    component = source.getComponent(componentId);
+                    component = components.get(componentId);
+
+                    if (component == null)
+                    {
+                        component = source.getComponent(componentId);
+
+                        components.put(componentId, component);
+                    }
 
                     logger.debug("Processing: {} {}", componentId, action);
 
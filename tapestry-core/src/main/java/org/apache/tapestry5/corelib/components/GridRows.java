@@ -35,8 +35,12 @@ import org.apache.tapestry5.annotations.Property;
 import org.apache.tapestry5.beanmodel.PropertyModel;
 import org.apache.tapestry5.grid.GridDataSource;
 import org.apache.tapestry5.grid.GridModel;
+import org.apache.tapestry5.internal.util.CompactExternalizable;
 import org.apache.tapestry5.services.FormSupport;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.util.List;
 
 /**
@@ -68,11 +72,18 @@ public class GridRows
     /**
      * This action is used when a {@link org.apache.tapestry5.ValueEncoder} is not provided.
      */
-    static class SetupForRowByIndex implements ComponentAction<GridRows>
+    static class SetupForRowByIndex implements ComponentAction<GridRows>, CompactExternalizable
     {
         private static final long serialVersionUID = -3216282071752371975L;
 
-        private final int rowIndex;
+        private int rowIndex;
+
+        /**
+         * Used when reading the action from compact form data.
+         */
+        SetupForRowByIndex()
+        {
+        }
 
         public SetupForRowByIndex(int rowIndex)
         {
@@ -89,14 +100,33 @@ public class GridRows
         {
             return String.format("GridRows.SetupForRowByIndex[%d]", rowIndex);
         }
+
+        public void writeCompact(ObjectOutput out) throws IOException
+        {
+            out.writeInt(rowIndex);
+        }
+
+        public void readCompact(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            rowIndex = in.readInt();
+        }
     }
 
     /**
      * This action is used when a {@link org.apache.tapestry5.ValueEncoder} is provided.
      */
-    static class SetupForRowWithClientValue implements ComponentAction<GridRows>
+    static class SetupForRowWithClientValue implements ComponentAction<GridRows>, CompactExternalizable
     {
-        private final String clientValue;
+        private static final long serialVersionUID = 2060223225877435054L;
+
+        private String clientValue;
+
+        /**
+         * Used when reading the action from compact form data.
+         */
+        SetupForRowWithClientValue()
+        {
+        }
 
         SetupForRowWithClientValue(String clientValue)
         {
@@ -113,6 +143,16 @@ public class GridRows
         {
             return String.format("GridRows.SetupForRowWithClientValue[%s]", clientValue);
         }
+
+        public void writeCompact(ObjectOutput out) throws IOException
+        {
+            out.writeObject(clientValue);
+        }
+
+        public void readCompact(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            clientValue = (String) in.readObject();
+        }
     }
 
     /**
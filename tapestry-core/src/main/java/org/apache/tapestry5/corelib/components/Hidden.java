@@ -18,12 +18,17 @@ import org.apache.tapestry5.annotations.Parameter;
 import org.apache.tapestry5.annotations.SupportsInformalParameters;
 import org.apache.tapestry5.dom.Element;
 import org.apache.tapestry5.http.services.Request;
+import org.apache.tapestry5.internal.util.CompactExternalizable;
 import org.apache.tapestry5.ioc.annotations.Inject;
 import org.apache.tapestry5.ioc.internal.util.InternalUtils;
 import org.apache.tapestry5.services.ComponentDefaultProvider;
 import org.apache.tapestry5.services.FormSupport;
 import org.apache.tapestry5.services.javascript.JavaScriptSupport;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
 /**
  * Used to record a page property as a value into the form. The value is encoded
  * when the form is rendered, then decoded after the form is submitted back to
@@ -90,9 +95,18 @@ public class Hidden implements ClientElement
         return defaultProvider.defaultValueEncoder("value", resources);
     }
 
-    static class ProcessSubmission implements ComponentAction<Hidden>
+    static class ProcessSubmission implements ComponentAction<Hidden>, CompactExternalizable
     {
-        private final String controlName;
+        private static final long serialVersionUID = 6523217853261002758L;
+
+        private String controlName;
+
+        /**
+         * Used when reading the action from compact form data.
+         */
+        ProcessSubmission()
+        {
+        }
 
         public ProcessSubmission(String controlName)
         {
@@ -103,6 +117,16 @@ public class Hidden implements ClientElement
         {
             component.processSubmission(controlName);
         }
+
+        public void writeCompact(ObjectOutput out) throws IOException
+        {
+            out.writeObject(controlName);
+        }
+
+        public void readCompact(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            controlName = (String) in.readObject();
+        }
     }
 
     boolean beginRender(MarkupWriter writer)
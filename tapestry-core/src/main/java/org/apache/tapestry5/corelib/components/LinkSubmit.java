@@ -18,6 +18,7 @@ import org.apache.tapestry5.*;
 import org.apache.tapestry5.annotations.*;
 import org.apache.tapestry5.corelib.SubmitMode;
 import org.apache.tapestry5.http.services.Request;
+import org.apache.tapestry5.internal.util.CompactExternalizable;
 import org.apache.tapestry5.ioc.annotations.Inject;
 import org.apache.tapestry5.ioc.internal.util.InternalUtils;
 import org.apache.tapestry5.json.JSONArray;
@@ -25,6 +26,10 @@ import org.apache.tapestry5.services.FormSupport;
 import org.apache.tapestry5.services.Heartbeat;
 import org.apache.tapestry5.services.javascript.JavaScriptSupport;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
 /**
  * Generates a client-side hyperlink that submits the enclosing form. If the link is clicked in the browser, the
  * component will trigger an event ({@linkplain EventConstants#SELECTED selected} by default) , just like
@@ -101,9 +106,18 @@ public class LinkSubmit implements ClientElement
 
     private String clientId;
 
-    private static class ProcessSubmission implements ComponentAction<LinkSubmit>
+    private static class ProcessSubmission implements ComponentAction<LinkSubmit>, CompactExternalizable
     {
-        private final String clientId;
+        private static final long serialVersionUID = 5722254966460680046L;
+
+        private String clientId;
+
+        /**
+         * Used when reading the action from compact form data.
+         */
+        ProcessSubmission()
+        {
+        }
 
         public ProcessSubmission(String clientId)
         {
@@ -114,6 +128,16 @@ public class LinkSubmit implements ClientElement
         {
             component.processSubmission(clientId);
         }
+
+        public void writeCompact(ObjectOutput out) throws IOException
+        {
+            out.writeObject(clientId);
+        }
+
+        public void readCompact(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            clientId = (String) in.readObject();
+        }
     }
 
     private void processSubmission(String clientId)
@@ -16,11 +16,15 @@ import org.apache.tapestry5.*;
 import org.apache.tapestry5.annotations.*;
 import org.apache.tapestry5.commons.util.CollectionFactory;
 import org.apache.tapestry5.corelib.LoopFormState;
+import org.apache.tapestry5.internal.util.CompactExternalizable;
 import org.apache.tapestry5.ioc.annotations.Inject;
 import org.apache.tapestry5.services.ComponentDefaultProvider;
 import org.apache.tapestry5.services.FormSupport;
 import org.apache.tapestry5.services.Heartbeat;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.util.Iterator;
 import java.util.List;
 
@@ -131,11 +135,18 @@ public class Loop<T>
     /**
      * Restores a state value (this is the case when there is no encoder and the complete value is stored).
      */
-    static class RestoreState implements ComponentAction<Loop>
+    static class RestoreState implements ComponentAction<Loop>, CompactExternalizable
     {
         private static final long serialVersionUID = -3926831611368720764L;
 
-        private final Object storedValue;
+        private Object storedValue;
+
+        /**
+         * Used when reading the action from compact form data.
+         */
+        RestoreState()
+        {
+        }
 
         public RestoreState(final Object storedValue)
         {
@@ -152,14 +163,33 @@ public class Loop<T>
         {
             return String.format("Loop.RestoreState[%s]", storedValue);
         }
+
+        public void writeCompact(ObjectOutput out) throws IOException
+        {
+            out.writeObject(storedValue);
+        }
+
+        public void readCompact(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            storedValue = in.readObject();
+        }
     }
 
     /**
      * Restores the value using a stored primary key via {@link ValueEncoder#toValue(String)}.
      */
-    static class RestoreStateFromStoredClientValue implements ComponentAction<Loop>
+    static class RestoreStateFromStoredClientValue implements ComponentAction<Loop>, CompactExternalizable
     {
-        private final String clientValue;
+        private static final long serialVersionUID = 3285308671260631293L;
+
+        private String clientValue;
+
+        /**
+         * Used when reading the action from compact form data.
+         */
+        RestoreStateFromStoredClientValue()
+        {
+        }
 
         public RestoreStateFromStoredClientValue(final String clientValue)
         {
@@ -176,6 +206,16 @@ public class Loop<T>
         {
             return String.format("Loop.RestoreStateFromStoredClientValue[%s]", clientValue);
         }
+
+        public void writeCompact(ObjectOutput out) throws IOException
+        {
+            out.writeObject(clientValue);
+        }
+
+        public void readCompact(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            clientValue = (String) in.readObject();
+        }
     }
 
     /**
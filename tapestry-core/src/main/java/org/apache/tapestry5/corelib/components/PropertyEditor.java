@@ -23,6 +23,7 @@ import org.apache.tapestry5.beanmodel.services.*;
 import org.apache.tapestry5.commons.Messages;
 import org.apache.tapestry5.commons.internal.util.TapestryException;
 import org.apache.tapestry5.internal.BeanValidationContext;
+import org.apache.tapestry5.internal.util.CompactExternalizable;
 import org.apache.tapestry5.ioc.annotations.Inject;
 import org.apache.tapestry5.services.BeanBlockSource;
 import org.apache.tapestry5.services.Core;
@@ -33,6 +34,9 @@ import org.apache.tapestry5.services.FormSupport;
 import org.apache.tapestry5.services.Heartbeat;
 import org.apache.tapestry5.services.PropertyEditContext;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.lang.annotation.Annotation;
 import java.util.Locale;
 
@@ -47,11 +51,18 @@ public class PropertyEditor
     /**
      * Configures and stores a {@link PropertyEditContext} into the {@link Environment}.
      */
-    static class SetupEnvironment implements ComponentAction<PropertyEditor>
+    static class SetupEnvironment implements ComponentAction<PropertyEditor>, CompactExternalizable
     {
         private static final long serialVersionUID = 5337049721509981997L;
 
-        private final String property;
+        private String property;
+
+        /**
+         * Used when reading the action from compact form data.
+         */
+        SetupEnvironment()
+        {
+        }
 
         public SetupEnvironment(String property)
         {
@@ -68,6 +79,16 @@ public class PropertyEditor
         {
             return String.format("PropertyEditor.SetupEnvironment[%s]", property);
         }
+
+        public void writeCompact(ObjectOutput out) throws IOException
+        {
+            out.writeObject(property);
+        }
+
+        public void readCompact(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            property = (String) in.readObject();
+        }
     }
 
     static class CleanupEnvironment implements ComponentAction<PropertyEditor>
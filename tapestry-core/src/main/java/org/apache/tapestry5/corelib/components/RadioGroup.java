@@ -21,11 +21,16 @@ import org.apache.tapestry5.annotations.Parameter;
 import org.apache.tapestry5.commons.services.TypeCoercer;
 import org.apache.tapestry5.http.services.Request;
 import org.apache.tapestry5.internal.TapestryInternalUtils;
+import org.apache.tapestry5.internal.util.CompactExternalizable;
 import org.apache.tapestry5.ioc.annotations.Inject;
 import org.apache.tapestry5.services.ComponentDefaultProvider;
 import org.apache.tapestry5.services.Environment;
 import org.apache.tapestry5.services.FormSupport;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
 /**
  * A wrapper component around some number of {@link Radio} components, used to organize the selection and define the
  * property to be edited. Examples of its use are in the {@link Radio} documentation.
@@ -118,11 +123,18 @@ public class RadioGroup implements Field
         return defaultProvider.defaultValueEncoder("value", resources);
     }
 
-    private static class Setup implements ComponentAction<RadioGroup>
+    private static class Setup implements ComponentAction<RadioGroup>, CompactExternalizable
     {
         private static final long serialVersionUID = -7984673040135949374L;
 
-        private final String controlName;
+        private String controlName;
+
+        /**
+         * Used when reading the action from compact form data.
+         */
+        Setup()
+        {
+        }
 
         Setup(String controlName)
         {
@@ -139,6 +151,16 @@ public class RadioGroup implements Field
         {
             return String.format("RadioGroup.Setup[%s]", controlName);
         }
+
+        public void writeCompact(ObjectOutput out) throws IOException
+        {
+            out.writeObject(controlName);
+        }
+
+        public void readCompact(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            controlName = (String) in.readObject();
+        }
     }
 
     private static final ComponentAction<RadioGroup> PROCESS_SUBMISSION = new ComponentAction<RadioGroup>()
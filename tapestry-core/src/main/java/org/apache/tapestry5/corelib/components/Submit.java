@@ -18,6 +18,7 @@ import org.apache.tapestry5.*;
 import org.apache.tapestry5.annotations.*;
 import org.apache.tapestry5.corelib.SubmitMode;
 import org.apache.tapestry5.http.services.Request;
+import org.apache.tapestry5.internal.util.CompactExternalizable;
 import org.apache.tapestry5.internal.util.Holder;
 import org.apache.tapestry5.ioc.annotations.Inject;
 import org.apache.tapestry5.ioc.internal.util.InternalUtils;
@@ -26,6 +27,10 @@ import org.apache.tapestry5.services.FormSupport;
 import org.apache.tapestry5.services.Heartbeat;
 import org.apache.tapestry5.services.javascript.JavaScriptSupport;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
 /**
  * Corresponds to &lt;input type="submit"&gt; or &lt;input type="image"&gt;, a client-side element that can force the
  * enclosing form to submit. The submit responsible for the form submission will post a notification that allows the
@@ -123,9 +128,18 @@ public class Submit implements ClientElement
 
     private String clientId;
 
-    private static class ProcessSubmission implements ComponentAction<Submit>
+    private static class ProcessSubmission implements ComponentAction<Submit>, CompactExternalizable
     {
-        private final String clientId, elementName;
+        private static final long serialVersionUID = -7398303570602982333L;
+
+        private String clientId, elementName;
+
+        /**
+         * Used when reading the action from compact form data.
+         */
+        ProcessSubmission()
+        {
+        }
 
         public ProcessSubmission(String clientId, String elementName)
         {
@@ -137,6 +151,18 @@ public class Submit implements ClientElement
         {
             component.processSubmission(clientId, elementName);
         }
+
+        public void writeCompact(ObjectOutput out) throws IOException
+        {
+            out.writeObject(clientId);
+            out.writeObject(elementName);
+        }
+
+        public void readCompact(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            clientId = (String) in.readObject();
+            elementName = (String) in.readObject();
+        }
     }
 
     public Submit()
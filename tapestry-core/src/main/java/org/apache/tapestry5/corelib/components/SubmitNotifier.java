@@ -18,9 +18,14 @@ import org.apache.tapestry5.ComponentAction;
 import org.apache.tapestry5.ComponentResources;
 import org.apache.tapestry5.annotations.Environmental;
 import org.apache.tapestry5.annotations.Events;
+import org.apache.tapestry5.internal.util.CompactExternalizable;
 import org.apache.tapestry5.ioc.annotations.Inject;
 import org.apache.tapestry5.services.FormSupport;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
 /**
  * A non visual component used to provide notifications to its container during a form submission. Records actions into
  * the form on {@link org.apache.tapestry5.annotations.BeginRender} and {@link org.apache.tapestry5.annotations.AfterRender}
@@ -36,9 +41,18 @@ public class SubmitNotifier
     public static final String BEGIN_SUBMIT_EVENT = "BeginSubmit";
     public static final String AFTER_SUBMIT_EVENT = "AfterSubmit";
 
-    private static final class TriggerEvent implements ComponentAction<SubmitNotifier>
+    private static final class TriggerEvent implements ComponentAction<SubmitNotifier>, CompactExternalizable
     {
-        private final String eventType;
+        private static final long serialVersionUID = 2426619116296009409L;
+
+        private String eventType;
+
+        /**
+         * Used when reading the action from compact form data.
+         */
+        TriggerEvent()
+        {
+        }
 
         public TriggerEvent(String eventType)
         {
@@ -55,6 +69,16 @@ public class SubmitNotifier
         {
             return String.format("SubmitNotifier.TriggerEvent[%s]", eventType);
         }
+
+        public void writeCompact(ObjectOutput out) throws IOException
+        {
+            out.writeObject(eventType);
+        }
+
+        public void readCompact(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            eventType = (String) in.readObject();
+        }
     }
 
 
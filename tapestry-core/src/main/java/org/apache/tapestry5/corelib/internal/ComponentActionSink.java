@@ -67,8 +67,8 @@ public class ComponentActionSink
 
         try
         {
-            // Writing the complete id is not very efficient, but the GZip filter
-            // should help out there.
+            // Writing the complete id is not very efficient, but the compact client data format
+            // writes each distinct id just once (and otherwise, the GZip filter helps out).
             stream.writeUTF(completeId);
             stream.writeBoolean(cancel);
             stream.writeObject(action);
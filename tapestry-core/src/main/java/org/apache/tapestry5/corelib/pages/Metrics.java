@@ -0,0 +1,115 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.corelib.pages;
+
+import org.apache.tapestry5.SymbolConstants;
+import org.apache.tapestry5.alerts.AlertManager;
+import org.apache.tapestry5.annotations.InjectComponent;
+import org.apache.tapestry5.annotations.Property;
+import org.apache.tapestry5.annotations.UnknownActivationContextCheck;
+import org.apache.tapestry5.annotations.WhitelistAccessOnly;
+import org.apache.tapestry5.corelib.components.Zone;
+import org.apache.tapestry5.ioc.annotations.Inject;
+import org.apache.tapestry5.ioc.util.TimingHistogram;
+import org.apache.tapestry5.services.RequestMetrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Displays the request timings collected by the {@link RequestMetrics} service, when
+ * {@linkplain SymbolConstants#REQUEST_METRICS_ENABLED enabled}.
+ *
+ * @since 5.8.0
+ */
+@UnknownActivationContextCheck(false)
+@WhitelistAccessOnly
+public class Metrics
+{
+    private static final List<String> CATEGORIES = Arrays.asList("Requests", "Pages", "Events");
+
+    private static final double NANOS_PER_MILLI = 1000000d;
+
+    @Inject
+    @Property
+    private RequestMetrics requestMetrics;
+
+    @Inject
+    private AlertManager alertManager;
+
+    @InjectComponent
+    private Zone metricsZone;
+
+    @Property
+    private String category;
+
+    @Property
+    private Map.Entry<String, TimingHistogram> row;
+
+    public String getEnabledSymbol()
+    {
+        return SymbolConstants.REQUEST_METRICS_ENABLED;
+    }
+
+    public List<String> getCategories()
+    {
+        return CATEGORIES;
+    }
+
+    public Map<String, TimingHistogram> getTimings()
+    {
+        if (category.equals("Pages"))
+        {
+            return requestMetrics.getPageRenderTimings();
+        }
+
+        if (category.equals("Events"))
+        {
+            return requestMetrics.getComponentEventTimings();
+        }
+
+        return requestMetrics.getHandlerTimings();
+    }
+
+    public TimingHistogram getTiming()
+    {
+        return row.getValue();
+    }
+
+    public String formatMillis(long nanos)
+    {
+        return String.format("%,.2f", nanos / NANOS_PER_MILLI);
+    }
+
+    public String formatPercentile(double percentile)
+    {
+        return formatMillis(getTiming().getPercentile(percentile));
+    }
+
+    Object onActionFromRefresh()
+    {
+        return metricsZone.getBody();
+    }
+
+    Object onActionFromReset()
+    {
+        requestMetrics.reset();
+
+        alertManager.info("Request metrics have been reset.");
+
+        return metricsZone.getBody();
+    }
+}
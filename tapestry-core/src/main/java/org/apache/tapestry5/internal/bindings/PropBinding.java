@@ -17,12 +17,16 @@ package org.apache.tapestry5.internal.bindings;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
+import org.apache.tapestry5.beanmodel.PrimitivePropertyConduit;
 import org.apache.tapestry5.beanmodel.PropertyConduit;
 import org.apache.tapestry5.beanmodel.PropertyConduit2;
+import org.apache.tapestry5.annotations.NotMemoized;
 import org.apache.tapestry5.beanmodel.internal.services.Invariant;
 import org.apache.tapestry5.commons.Location;
 import org.apache.tapestry5.commons.internal.util.TapestryException;
 import org.apache.tapestry5.internal.TapestryInternalUtils;
+import org.apache.tapestry5.internal.services.BindingEvaluationCounter;
+import org.apache.tapestry5.internal.services.BindingMemo;
 
 /**
  * Base class for bindings created by the {@link org.apache.tapestry5.internal.bindings.PropBindingFactory}. A subclass
@@ -40,7 +44,33 @@ public class PropBinding extends AbstractBinding implements InternalPropBinding
     
     private final String expression;
 
+    private final BindingMemo memo;
+
+    private final BindingEvaluationCounter counter;
+
+    private boolean memoize;
+
+    /**
+     * The conduit, when it reads a property of type int, long, double or boolean without boxing it, and the expression
+     * can not evaluate to null; otherwise null.
+     */
+    private final PrimitivePropertyConduit primitiveConduit;
+
     public PropBinding(final Location location, final Object root, final PropertyConduit conduit, final String expression, final String toString)
+    {
+        this(location, root, conduit, expression, toString, null, null);
+    }
+
+    /**
+     * @param memo
+     *         used to memoize the binding's value and to invalidate memoized values when the binding is updated,
+     *         or null if memoization is not enabled
+     * @param counter
+     *         counts evaluations of the binding, or null if statistics are not enabled
+     * @since 5.8.0
+     */
+    public PropBinding(final Location location, final Object root, final PropertyConduit conduit, final String expression, final String toString,
+                       final BindingMemo memo, final BindingEvaluationCounter counter)
     {
         super(location);
 
@@ -48,8 +78,21 @@ public class PropBinding extends AbstractBinding implements InternalPropBinding
         this.conduit = conduit;
         this.expression = expression.intern();
         this.toString = toString;
+        this.memo = memo;
+        this.counter = counter;
 
         invariant = conduit.getAnnotation(Invariant.class) != null;
+
+        memoize = memo != null && !invariant && conduit.getAnnotation(NotMemoized.class) == null;
+
+        primitiveConduit = conduit instanceof PrimitivePropertyConduit
+                && !((PrimitivePropertyConduit) conduit).isNullable()
+                && isReadWithoutBoxing(conduit.getPropertyType()) ? (PrimitivePropertyConduit) conduit : null;
+    }
+
+    private static boolean isReadWithoutBoxing(Class type)
+    {
+        return type == int.class || type == long.class || type == double.class || type == boolean.class;
     }
 
     /**
@@ -60,6 +103,13 @@ public class PropBinding extends AbstractBinding implements InternalPropBinding
     {
         try
         {
+            if (memoize)
+            {
+                return memo.read(conduit, root, counter);
+            }
+
+            evaluated();
+
             return conduit.get(root);
         }
         catch (Exception ex)
@@ -68,6 +118,126 @@ public class PropBinding extends AbstractBinding implements InternalPropBinding
         }
     }
 
+    /**
+     * Returns the type of the property (int, long, double or boolean) when it may be read, without boxing, by the
+     * matching method ({@link #getInt()}, {@link #getLong()}, {@link #getDouble()} or {@link #getBoolean()}); returns
+     * null otherwise.
+     *
+     * @since 5.8.0
+     */
+    public Class getPrimitiveType()
+    {
+        return primitiveConduit == null ? null : conduit.getPropertyType();
+    }
+
+    /**
+     * Reads the value of an int property. The value is read with {@link #get()} (and unboxed) when it is memoized, or
+     * when {@link #getPrimitiveType()} is not int.
+     *
+     * @since 5.8.0
+     */
+    public int getInt()
+    {
+        if (memoize || primitiveConduit == null)
+        {
+            return (Integer) get();
+        }
+
+        try
+        {
+            evaluated();
+
+            return primitiveConduit.getInt(root);
+        }
+        catch (Exception ex)
+        {
+            throw new TapestryException(ex.getMessage(), getLocation(), ex);
+        }
+    }
+
+    /**
+     * Reads the value of a long property. The value is read with {@link #get()} (and unboxed) when it is memoized, or
+     * when {@link #getPrimitiveType()} is not long.
+     *
+     * @since 5.8.0
+     */
+    public long getLong()
+    {
+        if (memoize || primitiveConduit == null)
+        {
+            return (Long) get();
+        }
+
+        try
+        {
+            evaluated();
+
+            return primitiveConduit.getLong(root);
+        }
+        catch (Exception ex)
+        {
+            throw new TapestryException(ex.getMessage(), getLocation(), ex);
+        }
+    }
+
+    /**
+     * Reads the value of a double property. The value is read with {@link #get()} (and unboxed) when it is memoized, or
+     * when {@link #getPrimitiveType()} is not double.
+     *
+     * @since 5.8.0
+     */
+    public double getDouble()
+    {
+        if (memoize || primitiveConduit == null)
+        {
+            return (Double) get();
+        }
+
+        try
+        {
+            evaluated();
+
+            return primitiveConduit.getDouble(root);
+        }
+        catch (Exception ex)
+        {
+            throw new TapestryException(ex.getMessage(), getLocation(), ex);
+        }
+    }
+
+    /**
+     * Reads the value of a boolean property. The value is read with {@link #get()} (and unboxed) when it is memoized, or
+     * when {@link #getPrimitiveType()} is not boolean.
+     *
+     * @since 5.8.0
+     */
+    public boolean getBoolean()
+    {
+        if (memoize || primitiveConduit == null)
+        {
+            return (Boolean) get();
+        }
+
+        try
+        {
+            evaluated();
+
+            return primitiveConduit.getBoolean(root);
+        }
+        catch (Exception ex)
+        {
+            throw new TapestryException(ex.getMessage(), getLocation(), ex);
+        }
+    }
+
+    private void evaluated()
+    {
+        if (counter != null)
+        {
+            counter.evaluated();
+        }
+    }
+
     @Override
     public void set(Object value)
     {
@@ -79,6 +249,26 @@ public class PropBinding extends AbstractBinding implements InternalPropBinding
         {
             throw new TapestryException(ex.getMessage(), getLocation(), ex);
         }
+        finally
+        {
+            // Any memoized value, of this or any other binding, may depend on the updated property.
+
+            if (memo != null)
+            {
+                memo.invalidate();
+            }
+        }
+    }
+
+    /**
+     * Ensures that the binding's value is never memoized; used for the bindings of parameters that are
+     * not {@linkplain org.apache.tapestry5.annotations.Parameter#cache() cached}.
+     *
+     * @since 5.8.0
+     */
+    public void disableMemoization()
+    {
+        memoize = false;
     }
 
     @Override
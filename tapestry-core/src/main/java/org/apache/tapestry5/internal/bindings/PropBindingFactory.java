@@ -18,6 +18,8 @@ import org.apache.tapestry5.beanmodel.PropertyConduit;
 import org.apache.tapestry5.beanmodel.services.PropertyConduitSource;
 import org.apache.tapestry5.commons.Location;
 import org.apache.tapestry5.commons.internal.services.StringInterner;
+import org.apache.tapestry5.internal.services.BindingEvaluationCounter;
+import org.apache.tapestry5.internal.services.BindingMemo;
 import org.apache.tapestry5.services.BindingFactory;
 
 /**
@@ -32,10 +34,13 @@ public class PropBindingFactory implements BindingFactory
 
     private final StringInterner interner;
 
-    public PropBindingFactory(PropertyConduitSource propertyConduitSource, StringInterner interner)
+    private final BindingMemo memo;
+
+    public PropBindingFactory(PropertyConduitSource propertyConduitSource, StringInterner interner, BindingMemo memo)
     {
         source = propertyConduitSource;
         this.interner = interner;
+        this.memo = memo;
     }
 
     public Binding newBinding(String description, ComponentResources container,
@@ -49,6 +54,11 @@ public class PropBindingFactory implements BindingFactory
         String toString = interner.format("PropBinding[%s %s(%s)]", description, container
                 .getCompleteId(), expression);
 
-        return new PropBinding(location, target, conduit, expression, toString);
+        BindingEvaluationCounter counter = memo.getCounter(location == null
+                ? toString
+                : interner.format("prop:%s (%s)", expression, location));
+
+        return new PropBinding(location, target, conduit, expression, toString,
+                memo.isMemoizationEnabled() ? memo : null, counter);
     }
 }
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
+import org.apache.tapestry5.beanmodel.PrimitivePropertyConduit;
 import org.apache.tapestry5.beanmodel.PropertyConduit;
 import org.apache.tapestry5.commons.util.CollectionFactory;
 import org.apache.tapestry5.grid.ColumnSort;
@@ -77,7 +78,9 @@ public class CollectionGridDataSource implements GridDataSource
                 }
             };
 
-            final Comparator rowComparator = new Comparator()
+            final Comparator primitiveRowComparator = createPrimitiveRowComparator(conduit);
+
+            final Comparator rowComparator = primitiveRowComparator != null ? primitiveRowComparator : new Comparator()
             {
                 public int compare(Object row1, Object row2)
                 {
@@ -104,6 +107,37 @@ public class CollectionGridDataSource implements GridDataSource
         }
     }
 
+    /**
+     * For properties of common primitive types, returns a comparator that compares the property values without
+     * boxing them; otherwise (including when the expression may evaluate to null) returns null.
+     */
+    private static Comparator createPrimitiveRowComparator(PropertyConduit conduit)
+    {
+        if (!(conduit instanceof PrimitivePropertyConduit))
+            return null;
+
+        final PrimitivePropertyConduit primitiveConduit = (PrimitivePropertyConduit) conduit;
+
+        if (primitiveConduit.isNullable())
+            return null;
+
+        Class propertyType = conduit.getPropertyType();
+
+        if (propertyType == int.class)
+            return (row1, row2) -> Integer.compare(primitiveConduit.getInt(row1), primitiveConduit.getInt(row2));
+
+        if (propertyType == long.class)
+            return (row1, row2) -> Long.compare(primitiveConduit.getLong(row1), primitiveConduit.getLong(row2));
+
+        if (propertyType == double.class)
+            return (row1, row2) -> Double.compare(primitiveConduit.getDouble(row1), primitiveConduit.getDouble(row2));
+
+        if (propertyType == boolean.class)
+            return (row1, row2) -> Boolean.compare(primitiveConduit.getBoolean(row1), primitiveConduit.getBoolean(row2));
+
+        return null;
+    }
+
     /**
      * Returns the type of the first element in the list, or null if the list is empty.
      */
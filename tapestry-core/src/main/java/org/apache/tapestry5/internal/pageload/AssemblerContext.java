@@ -18,6 +18,7 @@ import org.apache.tapestry5.internal.parser.TokenType;
 import org.apache.tapestry5.runtime.RenderCommand;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Used when constructing a {@link org.apache.tapestry5.internal.pageload.AssemblerContext}, encapsulating the
@@ -37,6 +38,9 @@ class AssemblerContext implements TokenStream
 
     private final List<RenderCommand> composable = CollectionFactory.newList();
 
+    // Property expressions of the "prop:" bindings of the component's embedded components, for precompilation.
+    final Set<String> propertyExpressions = CollectionFactory.newSet();
+
     AssemblerContext(ComponentAssembler assembler, TokenStream stream, boolean strictMixinParameters)
     {
         this.assembler = assembler;
@@ -22,6 +22,7 @@ import org.apache.tapestry5.internal.services.ComponentInstantiatorSource;
 import org.apache.tapestry5.internal.services.Instantiator;
 import org.apache.tapestry5.internal.structure.*;
 import org.apache.tapestry5.ioc.Invokable;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.ioc.internal.util.InternalUtils;
 import org.apache.tapestry5.ioc.util.IdAllocator;
@@ -73,7 +74,7 @@ class ComponentAssemblerImpl implements ComponentAssembler
 
     public ComponentPageElement assembleRootComponent(final Page page)
     {
-        return tracker.invoke("Assembling root component for page " + page.getName(),
+        return tracker.invoke(OperationDescription.format("Assembling root component for page %s", page.getName()),
                 new Invokable<ComponentPageElement>()
                 {
                     public ComponentPageElement invoke()
@@ -153,7 +154,8 @@ class ComponentAssemblerImpl implements ComponentAssembler
 
         final String componentClassName = instantiator.getModel().getComponentClassName();
 
-        String description = String.format("Assembling component %s (%s)", embeddedName.completeId, componentClassName);
+        OperationDescription description = OperationDescription.format("Assembling component %s (%s)",
+                embeddedName.completeId, componentClassName);
 
         tracker.run(description, new Runnable()
         {
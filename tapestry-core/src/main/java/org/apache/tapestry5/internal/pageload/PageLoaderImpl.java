@@ -16,6 +16,7 @@ import org.apache.tapestry5.Binding;
 import org.apache.tapestry5.BindingConstants;
 import org.apache.tapestry5.ComponentResources;
 import org.apache.tapestry5.MarkupWriter;
+import org.apache.tapestry5.SymbolConstants;
 import org.apache.tapestry5.beanmodel.internal.services.*;
 import org.apache.tapestry5.beanmodel.services.*;
 import org.apache.tapestry5.commons.Location;
@@ -39,13 +40,17 @@ import org.apache.tapestry5.internal.services.PageLoader;
 import org.apache.tapestry5.internal.services.PersistentFieldManager;
 import org.apache.tapestry5.internal.structure.*;
 import org.apache.tapestry5.ioc.Invokable;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.ioc.annotations.ComponentClasses;
 import org.apache.tapestry5.ioc.annotations.PostInjection;
+import org.apache.tapestry5.ioc.annotations.Symbol;
 import org.apache.tapestry5.ioc.internal.util.InternalUtils;
+import org.apache.tapestry5.ioc.services.ParallelExecutor;
 import org.apache.tapestry5.ioc.services.PerthreadManager;
 import org.apache.tapestry5.model.ComponentModel;
 import org.apache.tapestry5.model.EmbeddedComponentModel;
+import org.apache.tapestry5.model.ParameterModel;
 import org.apache.tapestry5.runtime.RenderCommand;
 import org.apache.tapestry5.runtime.RenderQueue;
 import org.apache.tapestry5.services.ComponentClassResolver;
@@ -58,6 +63,8 @@ import org.slf4j.Logger;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * There's still a lot of room to beef up {@link org.apache.tapestry5.internal.pageload.ComponentAssembler} and
@@ -159,11 +166,20 @@ public class PageLoaderImpl implements PageLoader, ComponentAssemblerSource
 
     private final RequestGlobals requestGlobals;
 
+    private final ParallelExecutor parallelExecutor;
+
+    private final PropertyConduitSource conduitSource;
+
+    private final boolean precompilePropertyExpressions;
+
     public PageLoaderImpl(ComponentInstantiatorSource instantiatorSource, ComponentTemplateSource templateSource,
                           PageElementFactory elementFactory, ComponentPageElementResourcesSource resourcesSource,
                           ComponentClassResolver componentClassResolver, PersistentFieldManager persistentFieldManager,
                           StringInterner interner, OperationTracker tracker, PerthreadManager perThreadManager,
-                          Logger logger, MetaDataLocator metaDataLocator, RequestGlobals requestGlobals)
+                          Logger logger, MetaDataLocator metaDataLocator, RequestGlobals requestGlobals,
+                          ParallelExecutor parallelExecutor, PropertyConduitSource conduitSource,
+                          @Symbol(SymbolConstants.PRECOMPILE_PROPERTY_EXPRESSIONS)
+                          boolean precompilePropertyExpressions)
     {
         this.instantiatorSource = instantiatorSource;
         this.templateSource = templateSource;
@@ -177,6 +193,9 @@ public class PageLoaderImpl implements PageLoader, ComponentAssemblerSource
         this.logger = logger;
         this.metaDataLocator = metaDataLocator;
         this.requestGlobals = requestGlobals;
+        this.parallelExecutor = parallelExecutor;
+        this.conduitSource = conduitSource;
+        this.precompilePropertyExpressions = precompilePropertyExpressions;
     }
 
     @PostInjection
@@ -200,7 +219,7 @@ public class PageLoaderImpl implements PageLoader, ComponentAssemblerSource
 
         final long startTime = System.nanoTime();
 
-        return tracker.invoke("Constructing instance of page class " + pageClassName, new Invokable<Page>()
+        return tracker.invoke(OperationDescription.format("Constructing instance of page class %s", pageClassName), new Invokable<Page>()
         {
             public Page invoke()
             {
@@ -261,7 +280,7 @@ public class PageLoaderImpl implements PageLoader, ComponentAssemblerSource
 
     private ComponentAssembler createAssembler(final String className, final ComponentResourceSelector selector)
     {
-        return tracker.invoke("Creating ComponentAssembler for " + className, new Invokable<ComponentAssembler>()
+        return tracker.invoke(OperationDescription.format("Creating ComponentAssembler for %s", className), new Invokable<ComponentAssembler>()
         {
             public ComponentAssembler invoke()
             {
@@ -311,6 +330,87 @@ public class PageLoaderImpl implements PageLoader, ComponentAssemblerSource
         }
 
         context.flushComposable();
+
+        precompilePropertyExpressions(assembler, context.propertyExpressions);
+    }
+
+    /**
+     * Compiles, in the background, the conduits for the property expressions bound to the parameters of the
+     * component's embedded components, so that (most of) the compilation has occurred by the time the page
+     * is assembled and the bindings are created. Any errors are ignored here; they are reported, with
+     * the proper location, when the binding is created.
+     */
+    private void precompilePropertyExpressions(ComponentAssembler assembler, final Set<String> expressions)
+    {
+        if (!precompilePropertyExpressions || expressions.isEmpty())
+            return;
+
+        final String className = assembler.getModel().getComponentClassName();
+        final ClassLoader classLoader = instantiatorSource.getProxyFactory().getClassLoader();
+
+        try
+        {
+            parallelExecutor.invoke(new Invokable<Void>()
+            {
+                public Void invoke()
+                {
+                    Class rootClass;
+
+                    try
+                    {
+                        rootClass = classLoader.loadClass(className);
+                    } catch (ClassNotFoundException ex)
+                    {
+                        return null;
+                    }
+
+                    for (String expression : expressions)
+                    {
+                        try
+                        {
+                            conduitSource.create(rootClass, expression);
+                        } catch (RuntimeException ex)
+                        {
+                            // Ignored; reported when the binding is created.
+                        }
+                    }
+
+                    return null;
+                }
+            });
+        } catch (RejectedExecutionException ex)
+        {
+            // The thread pool is saturated; the expressions will be compiled as the bindings are created.
+        }
+    }
+
+    /**
+     * Identifies the property expression of a parameter binding (one with the "prop:" prefix, or with no prefix
+     * where the parameter's default binding prefix is "prop"), for later precompilation.
+     */
+    private void collectPropertyExpression(AssemblerContext context, EmbeddedComponentAssembler embeddedAssembler,
+                                           String parameterName, String parameterValue)
+    {
+        if (!precompilePropertyExpressions || InternalUtils.isBlank(parameterValue))
+            return;
+
+        int colonx = parameterValue.indexOf(':');
+
+        if (colonx < 0)
+        {
+            ParameterModel parameterModel = embeddedAssembler.getComponentAssembler().getModel()
+                    .getParameterModel(parameterName);
+
+            if (parameterModel != null && BindingConstants.PROP.equals(parameterModel.getDefaultBindingPrefix()))
+                context.propertyExpressions.add(parameterValue);
+
+            return;
+        }
+
+        String expression = parameterValue.substring(colonx + 1);
+
+        if (parameterValue.substring(0, colonx).equals(BindingConstants.PROP) && InternalUtils.isNonBlank(expression))
+            context.propertyExpressions.add(expression);
     }
 
     /**
@@ -860,6 +960,8 @@ public class PageLoaderImpl implements PageLoader, ComponentAssemblerSource
             return;
         }
 
+        collectPropertyExpression(context, embeddedAssembler, parameterName, parameterValue);
+
         context.add(new PageAssemblyAction()
         {
             public void execute(PageAssembly pageAssembly)
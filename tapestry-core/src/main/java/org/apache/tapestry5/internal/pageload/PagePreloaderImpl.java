@@ -15,6 +15,7 @@ package org.apache.tapestry5.internal.pageload;
 import org.apache.tapestry5.SymbolConstants;
 import org.apache.tapestry5.commons.util.CollectionFactory;
 import org.apache.tapestry5.commons.util.ExceptionUtils;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.ioc.annotations.Symbol;
 import org.apache.tapestry5.ioc.services.ThreadLocale;
@@ -73,7 +74,7 @@ public class PagePreloaderImpl implements PagePreloader
         {
             for (final String pageName : pageNames)
             {
-                tracker.run(String.format("Preloading page '%s'.", pageName), new Runnable()
+                tracker.run(OperationDescription.format("Preloading page '%s'.", pageName), new Runnable()
                         {
                             @Override
                             public void run()
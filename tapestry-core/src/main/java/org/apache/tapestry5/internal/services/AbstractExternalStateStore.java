@@ -0,0 +1,181 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.apache.tapestry5.services.ExternalStateStore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Base class for {@link ExternalStateStore} implementations that store all the entries for a state id together, as a
+ * single block of bytes. Updates read the existing block, apply the changes and write a new block; updates for the
+ * same state id are serialized (within this server), but loads are not blocked, as implementations must replace the
+ * block atomically.
+ *
+ * @since 5.8.0
+ */
+public abstract class AbstractExternalStateStore implements ExternalStateStore
+{
+    private static final int STRIPES = 64;
+
+    private final Object[] locks = new Object[STRIPES];
+
+    protected AbstractExternalStateStore()
+    {
+        for (int i = 0; i < STRIPES; i++)
+        {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Reads the block for the state id, noting that the state id is still in use.
+     *
+     * @return the block, or null if nothing is stored for the state id
+     */
+    protected abstract byte[] read(String stateId) throws IOException;
+
+    /**
+     * Atomically replaces the block for the state id.
+     */
+    protected abstract void write(String stateId, byte[] block) throws IOException;
+
+    /**
+     * Deletes the block for the state id, if it exists.
+     */
+    protected abstract void delete(String stateId) throws IOException;
+
+    /**
+     * Removes the entries of all state ids that have not been used since the cutoff time.
+     *
+     * @param cutoff
+     *         time, in milliseconds since the epoch
+     */
+    public abstract void removeExpired(long cutoff);
+
+    public Map<String, byte[]> load(String stateId)
+    {
+        try
+        {
+            byte[] block = read(stateId);
+
+            return block == null ? Collections.<String, byte[]>emptyMap() : decode(block);
+        } catch (IOException ex)
+        {
+            throw new RuntimeException(String.format("Unable to load external state %s: %s", stateId, ex.getMessage()), ex);
+        }
+    }
+
+    public void store(String stateId, Map<String, byte[]> changes)
+    {
+        synchronized (lock(stateId))
+        {
+            try
+            {
+                byte[] block = read(stateId);
+
+                Map<String, byte[]> entries = block == null ? CollectionFactory.<String, byte[]>newMap() : decode(block);
+
+                for (Map.Entry<String, byte[]> change : changes.entrySet())
+                {
+                    if (change.getValue() == null)
+                    {
+                        entries.remove(change.getKey());
+                    } else
+                    {
+                        entries.put(change.getKey(), change.getValue());
+                    }
+                }
+
+                if (entries.isEmpty())
+                {
+                    delete(stateId);
+                } else
+                {
+                    write(stateId, encode(entries));
+                }
+            } catch (IOException ex)
+            {
+                throw new RuntimeException(String.format("Unable to store external state %s: %s", stateId, ex.getMessage()), ex);
+            }
+        }
+    }
+
+    public void remove(String stateId)
+    {
+        synchronized (lock(stateId))
+        {
+            try
+            {
+                delete(stateId);
+            } catch (IOException ex)
+            {
+                throw new RuntimeException(String.format("Unable to remove external state %s: %s", stateId, ex.getMessage()), ex);
+            }
+        }
+    }
+
+    private Object lock(String stateId)
+    {
+        return locks[(stateId.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    static byte[] encode(Map<String, byte[]> entries) throws IOException
+    {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        DataOutputStream dos = new DataOutputStream(bos);
+
+        dos.writeInt(entries.size());
+
+        for (Map.Entry<String, byte[]> entry : entries.entrySet())
+        {
+            dos.writeUTF(entry.getKey());
+            dos.writeInt(entry.getValue().length);
+            dos.write(entry.getValue());
+        }
+
+        dos.close();
+
+        return bos.toByteArray();
+    }
+
+    static Map<String, byte[]> decode(byte[] block) throws IOException
+    {
+        DataInputStream dis = new DataInputStream(new ByteArrayInputStream(block));
+
+        int count = dis.readInt();
+
+        Map<String, byte[]> result = CollectionFactory.newMap();
+
+        for (int i = 0; i < count; i++)
+        {
+            String name = dis.readUTF();
+            byte[] value = new byte[dis.readInt()];
+
+            dis.readFully(value);
+
+            result.put(name, value);
+        }
+
+        return result;
+    }
+}
@@ -28,7 +28,9 @@ import org.apache.tapestry5.services.MarkupWriterFactory;
 import org.apache.tapestry5.services.PartialMarkupRenderer;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 
 public class AjaxPartialResponseRendererImpl implements AjaxPartialResponseRenderer
 {
@@ -42,6 +44,8 @@ public class AjaxPartialResponseRendererImpl implements AjaxPartialResponseRende
 
     private final boolean compactJSON;
 
+    private final boolean utf8;
+
     private final ContentType contentType;
 
     public AjaxPartialResponseRendererImpl(MarkupWriterFactory factory,
@@ -65,6 +69,7 @@ public class AjaxPartialResponseRendererImpl implements AjaxPartialResponseRende
         this.partialMarkupRenderer = partialMarkupRenderer;
         this.compactJSON = compactJSON;
 
+        utf8 = StandardCharsets.UTF_8.name().equalsIgnoreCase(outputEncoding);
         contentType = new ContentType(InternalConstants.JSON_MIME_TYPE).withCharset(outputEncoding);
     }
 
@@ -93,6 +98,19 @@ public class AjaxPartialResponseRendererImpl implements AjaxPartialResponseRende
 
                 partialMarkupRenderer.renderMarkup(writer, reply);
 
+                if (utf8)
+                {
+                    // Encode straight to bytes, rather than through a Writer.
+
+                    OutputStream os = response.getOutputStream(contentType.toString());
+
+                    reply.writeTo(os, compactJSON);
+
+                    os.close();
+
+                    return null;
+                }
+
                 PrintWriter pw = response.getPrintWriter(contentType.toString());
 
                 reply.print(pw, compactJSON);
@@ -34,8 +34,14 @@ public class ArrayEventContext extends AbstractEventContext
         this.values = values;
     }
 
+    @SuppressWarnings("unchecked")
     public <T> T get(Class<T> desiredType, int index)
     {
+        // The common case when encoding the context into a URL; no coercion is needed.
+
+        if (desiredType == Object.class)
+            return (T) values[index];
+
         return typeCoercer.coerce(values[index], desiredType);
     }
 
@@ -33,6 +33,7 @@ import org.apache.tapestry5.internal.AssetConstants;
 import org.apache.tapestry5.internal.TapestryInternalUtils;
 import org.apache.tapestry5.internal.services.assets.ResourceChangeTracker;
 import org.apache.tapestry5.ioc.Invokable;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.ioc.annotations.PostInjection;
 import org.apache.tapestry5.ioc.internal.util.InternalUtils;
@@ -148,7 +149,8 @@ public class AssetSourceImpl extends LockSupport implements AssetSource
 
         assert InternalUtils.isNonBlank(path);
 
-        return tracker.invoke(String.format("Resolving '%s' for component %s", path, resources.getCompleteId()),
+        return tracker.invoke(OperationDescription.format("Resolving '%s' for component %s", path,
+                resources.getCompleteId()),
                 new Invokable<Asset>()
                 {
                     public Asset invoke()
@@ -0,0 +1,67 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the evaluations of bindings with a particular description; see {@link BindingMemo#getCounter(String)}.
+ *
+ * @since 5.8.0
+ */
+public final class BindingEvaluationCounter
+{
+    private final String description;
+
+    private final LongAdder evaluations = new LongAdder();
+
+    private final LongAdder memoized = new LongAdder();
+
+    BindingEvaluationCounter(String description)
+    {
+        this.description = description;
+    }
+
+    public void evaluated()
+    {
+        evaluations.increment();
+    }
+
+    public void memoized()
+    {
+        memoized.increment();
+    }
+
+    String getDescription()
+    {
+        return description;
+    }
+
+    long getEvaluations()
+    {
+        return evaluations.sum();
+    }
+
+    long getMemoized()
+    {
+        return memoized.sum();
+    }
+
+    void reset()
+    {
+        evaluations.reset();
+        memoized.reset();
+    }
+}
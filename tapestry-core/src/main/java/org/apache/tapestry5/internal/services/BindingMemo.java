@@ -0,0 +1,76 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.beanmodel.PropertyConduit;
+import org.apache.tapestry5.services.BindingStatistics;
+
+/**
+ * Memoizes the values of "prop:" bindings while markup is rendered (when
+ * {@linkplain org.apache.tapestry5.SymbolConstants#MEMOIZE_BINDINGS enabled}), and counts binding evaluations for the
+ * {@link BindingStatistics} service.
+ *
+ * Memoized values are per-thread, and are keyed on the property expression's conduit and root object (the
+ * component), so that different bindings of the same expression in the same template share the memoized value. All
+ * memoized values are discarded whenever state they may depend on may have changed: whenever component code runs,
+ * and whenever a binding is updated.
+ *
+ * @since 5.8.0
+ */
+public interface BindingMemo
+{
+    /**
+     * Returns the statistics about binding evaluations.
+     */
+    BindingStatistics getStatistics();
+
+    /**
+     * Returns true if binding values may be memoized.
+     */
+    boolean isMemoizationEnabled();
+
+    /**
+     * Returns the counter shared by bindings with the given description, or null if statistics are not enabled.
+     */
+    BindingEvaluationCounter getCounter(String description);
+
+    /**
+     * Invoked as the rendering of markup starts; renders may be nested. Values are only memoized while rendering.
+     */
+    void beginRender();
+
+    /**
+     * Invoked as the rendering of markup finishes.
+     */
+    void endRender();
+
+    /**
+     * Discards all of the current thread's memoized values.
+     */
+    void invalidate();
+
+    /**
+     * Reads the value of a property expression, using the memoized value if there is one.
+     *
+     * @param conduit
+     *         used to read the value
+     * @param root
+     *         the object from which the value is read
+     * @param counter
+     *         to update, or null
+     * @return the value
+     */
+    Object read(PropertyConduit conduit, Object root, BindingEvaluationCounter counter);
+}
@@ -0,0 +1,254 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.SymbolConstants;
+import org.apache.tapestry5.beanmodel.PropertyConduit;
+import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.apache.tapestry5.ioc.annotations.Symbol;
+import org.apache.tapestry5.ioc.services.PerThreadValue;
+import org.apache.tapestry5.ioc.services.PerthreadManager;
+import org.apache.tapestry5.services.BindingEvaluationCount;
+import org.apache.tapestry5.services.BindingStatistics;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+public class BindingMemoImpl implements BindingMemo, BindingStatistics
+{
+    /**
+     * The memoized value for one conduit; valid only for the root, and only while the generation is current.
+     */
+    private static final class Entry
+    {
+        Object root, value;
+
+        long generation;
+    }
+
+    private static final class State
+    {
+        int renderDepth;
+
+        /**
+         * Incremented on each invalidation, which discards all entries from earlier generations.
+         */
+        long generation;
+
+        final Map<PropertyConduit, Entry> entries = new IdentityHashMap<PropertyConduit, Entry>();
+    }
+
+    private static final Comparator<BindingEvaluationCount> MOST_EVALUATED_FIRST = new Comparator<BindingEvaluationCount>()
+    {
+        public int compare(BindingEvaluationCount o1, BindingEvaluationCount o2)
+        {
+            int result = Long.compare(o2.getEvaluations(), o1.getEvaluations());
+
+            if (result == 0)
+            {
+                result = Long.compare(o2.getMemoized(), o1.getMemoized());
+            }
+
+            return result != 0 ? result : o1.getBinding().compareTo(o2.getBinding());
+        }
+    };
+
+    private final boolean memoizationEnabled, statisticsEnabled;
+
+    private final PerThreadValue<State> stateValue;
+
+    private final ConcurrentMap<String, BindingEvaluationCounter> counters = CollectionFactory.newConcurrentMap();
+
+    public BindingMemoImpl(PerthreadManager perthreadManager,
+
+                           @Symbol(SymbolConstants.MEMOIZE_BINDINGS)
+                           boolean memoizationEnabled,
+
+                           @Symbol(SymbolConstants.BINDING_STATISTICS_ENABLED)
+                           boolean statisticsEnabled)
+    {
+        this.memoizationEnabled = memoizationEnabled;
+        this.statisticsEnabled = statisticsEnabled;
+
+        stateValue = perthreadManager.createValue();
+    }
+
+    public BindingStatistics getStatistics()
+    {
+        return this;
+    }
+
+    public boolean isMemoizationEnabled()
+    {
+        return memoizationEnabled;
+    }
+
+    public boolean isEnabled()
+    {
+        return statisticsEnabled;
+    }
+
+    public BindingEvaluationCounter getCounter(String description)
+    {
+        if (!statisticsEnabled)
+        {
+            return null;
+        }
+
+        BindingEvaluationCounter counter = counters.get(description);
+
+        if (counter == null)
+        {
+            BindingEvaluationCounter newCounter = new BindingEvaluationCounter(description);
+
+            counter = counters.putIfAbsent(description, newCounter);
+
+            if (counter == null)
+            {
+                counter = newCounter;
+            }
+        }
+
+        return counter;
+    }
+
+    public List<BindingEvaluationCount> getEvaluationCounts()
+    {
+        List<BindingEvaluationCount> result = CollectionFactory.newList();
+
+        for (BindingEvaluationCounter counter : counters.values())
+        {
+            long evaluations = counter.getEvaluations();
+            long memoized = counter.getMemoized();
+
+            if (evaluations != 0 || memoized != 0)
+            {
+                result.add(new BindingEvaluationCount(counter.getDescription(), evaluations, memoized));
+            }
+        }
+
+        Collections.sort(result, MOST_EVALUATED_FIRST);
+
+        return result;
+    }
+
+    public void reset()
+    {
+        // Bindings keep the counter they obtained when created, so the counters are reset rather than discarded.
+
+        for (BindingEvaluationCounter counter : counters.values())
+        {
+            counter.reset();
+        }
+    }
+
+    public void beginRender()
+    {
+        if (memoizationEnabled)
+        {
+            State state = stateValue.get();
+
+            if (state == null)
+            {
+                state = stateValue.set(new State());
+            }
+
+            state.renderDepth++;
+            state.generation++;
+        }
+    }
+
+    public void endRender()
+    {
+        if (memoizationEnabled)
+        {
+            State state = stateValue.get();
+
+            if (state != null)
+            {
+                state.renderDepth--;
+                state.generation++;
+            }
+        }
+    }
+
+    public void invalidate()
+    {
+        if (memoizationEnabled)
+        {
+            State state = stateValue.get();
+
+            if (state != null)
+            {
+                state.generation++;
+            }
+        }
+    }
+
+    public Object read(PropertyConduit conduit, Object root, BindingEvaluationCounter counter)
+    {
+        State state = memoizationEnabled ? stateValue.get() : null;
+
+        if (state == null || state.renderDepth == 0)
+        {
+            return evaluate(conduit, root, counter);
+        }
+
+        Entry entry = state.entries.get(conduit);
+
+        if (entry != null && entry.generation == state.generation && entry.root == root)
+        {
+            if (counter != null)
+            {
+                counter.memoized();
+            }
+
+            return entry.value;
+        }
+
+        // If evaluating the expression invalidates the memo, then the value is stored as of the earlier
+        // generation, and so will not be reused.
+
+        long generation = state.generation;
+
+        Object value = evaluate(conduit, root, counter);
+
+        if (entry == null)
+        {
+            entry = new Entry();
+            state.entries.put(conduit, entry);
+        }
+
+        entry.root = root;
+        entry.value = value;
+        entry.generation = generation;
+
+        return value;
+    }
+
+    private static Object evaluate(PropertyConduit conduit, Object root, BindingEvaluationCounter counter)
+    {
+        if (counter != null)
+        {
+            counter.evaluated();
+        }
+
+        return conduit.get(root);
+    }
+}
@@ -0,0 +1,95 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.commons.MessageFormatter;
+import org.apache.tapestry5.commons.util.AbstractMessages;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Messages for one {@link MessagesBundle}, for one locale: the properties defined by the bundle's own (localized)
+ * properties files, backed by the messages of the parent bundle. Rather than each component's catalog containing a
+ * copy of every inherited property, the catalogs (and the formatters they cache) of parent bundles, ultimately the
+ * application catalog, are shared by all the bundles that extend them.
+ *
+ * @since 5.8.0
+ */
+public class BundleMessages extends AbstractMessages
+{
+    private final Map<String, String> properties;
+
+    private final BundleMessages parent;
+
+    private volatile Set<String> keys;
+
+    /**
+     * @param locale
+     *         used when formatting messages
+     * @param properties
+     *         the bundle's own properties (a case-insensitive map), which are retained
+     * @param parent
+     *         the messages of the parent bundle, or null
+     */
+    public BundleMessages(Locale locale, Map<String, String> properties, BundleMessages parent)
+    {
+        super(locale);
+
+        this.properties = properties;
+        this.parent = parent;
+    }
+
+    @Override
+    protected String valueForKey(String key)
+    {
+        String result = properties.get(key);
+
+        return result == null && parent != null ? parent.valueForKey(key) : result;
+    }
+
+    /**
+     * Formatters for inherited properties are obtained from (and cached by) the parent.
+     */
+    @Override
+    public MessageFormatter getFormatter(String key)
+    {
+        if (parent != null && !properties.containsKey(key))
+            return parent.getFormatter(key);
+
+        return super.getFormatter(key);
+    }
+
+    @Override
+    public Set<String> getKeys()
+    {
+        if (keys == null)
+        {
+            Set<String> result = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+
+            if (parent != null)
+                result.addAll(parent.getKeys());
+
+            result.addAll(properties.keySet());
+
+            keys = Collections.unmodifiableSet(result);
+        }
+
+        return keys;
+    }
+}
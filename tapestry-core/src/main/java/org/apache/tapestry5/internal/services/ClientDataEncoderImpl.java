@@ -16,37 +16,55 @@ package org.apache.tapestry5.internal.services;
 
 import org.apache.tapestry5.SymbolConstants;
 import org.apache.tapestry5.alerts.AlertManager;
+import org.apache.tapestry5.commons.services.PlasticProxyFactory;
+import org.apache.tapestry5.commons.util.ExceptionUtils;
 import org.apache.tapestry5.http.internal.TapestryHttpInternalConstants;
-import org.apache.tapestry5.internal.TapestryInternalUtils;
-import org.apache.tapestry5.internal.util.Base64InputStream;
-import org.apache.tapestry5.internal.util.MacOutputStream;
+import org.apache.tapestry5.internal.util.CompactObjectInputStream;
+import org.apache.tapestry5.ioc.annotations.ComponentLayer;
 import org.apache.tapestry5.ioc.annotations.Symbol;
 import org.apache.tapestry5.services.ClientDataEncoder;
 import org.apache.tapestry5.services.ClientDataSink;
 import org.apache.tapestry5.services.URLEncoder;
 import org.slf4j.Logger;
 
-import javax.crypto.spec.SecretKeySpec;
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.UnsupportedEncodingException;
-import java.security.Key;
-import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
 
 public class ClientDataEncoderImpl implements ClientDataEncoder
 {
+    /**
+     * First byte of GZip data, and so of client data that is not compact.
+     */
+    private static final int GZIP_MAGIC = 0x1f;
+
     private final URLEncoder urlEncoder;
 
-    private final Key hmacKey;
+    private final ClientDataMac mac;
+
+    private final boolean compact;
+
+    private final PlasticProxyFactory proxyFactory;
 
     public ClientDataEncoderImpl(URLEncoder urlEncoder, @Symbol(SymbolConstants.HMAC_PASSPHRASE) String passphrase,
                                  Logger logger,
                                  @Symbol(TapestryHttpInternalConstants.TAPESTRY_APP_PACKAGE_PARAM)
-                                 String applicationPackageName, AlertManager alertManager) throws UnsupportedEncodingException
+                                 String applicationPackageName, AlertManager alertManager,
+                                 @Symbol(SymbolConstants.COMPACT_CLIENT_DATA)
+                                 boolean compact,
+                                 @ComponentLayer
+                                 PlasticProxyFactory proxyFactory) throws UnsupportedEncodingException
     {
         this.urlEncoder = urlEncoder;
+        this.compact = compact;
+        this.proxyFactory = proxyFactory;
 
         if (passphrase.equals(""))
         {
@@ -66,14 +84,20 @@ public class ClientDataEncoderImpl implements ClientDataEncoder
             passphrase = applicationPackageName;
         }
 
-        hmacKey = new SecretKeySpec(passphrase.getBytes("UTF8"), "HmacSHA1");
+        mac = new ClientDataMac(passphrase.getBytes("UTF8"), !compact);
+    }
+
+    public ClientDataEncoderImpl(URLEncoder urlEncoder, String passphrase, Logger logger, String applicationPackageName,
+                                 AlertManager alertManager) throws UnsupportedEncodingException
+    {
+        this(urlEncoder, passphrase, logger, applicationPackageName, alertManager, true, null);
     }
 
     public ClientDataSink createSink()
     {
         try
         {
-            return new ClientDataSinkImpl(urlEncoder, hmacKey);
+            return new ClientDataSinkImpl(urlEncoder, mac, compact);
         } catch (IOException ex)
         {
             throw new RuntimeException(ex);
@@ -82,7 +106,7 @@ public class ClientDataEncoderImpl implements ClientDataEncoder
 
     public ObjectInputStream decodeClientData(String clientData)
     {
-        // The clientData is Base64 that's been gzip'ed (i.e., this matches
+        // The clientData is Base64 that's been either compacted, or gzip'ed (i.e., this matches
         // what ClientDataSinkImpl does).
 
         int colonx = clientData.indexOf(':');
@@ -96,44 +120,84 @@ public class ClientDataEncoderImpl implements ClientDataEncoder
 
         String storedHmacResult = clientData.substring(0, colonx);
 
-        String clientStream = clientData.substring(colonx + 1);
-
         try
         {
-            Base64InputStream b64in = new Base64InputStream(clientStream);
+            byte[] data = Base64.getMimeDecoder().decode(clientData.substring(colonx + 1));
 
-            validateHMAC(storedHmacResult, b64in);
+            if (!mac.verify(storedHmacResult, data))
+            {
+                throw new IOException("Client data associated with the current request appears to have been tampered with " +
+                        "(the HMAC signature does not match).");
+            }
 
-            // After reading it once to validate, reset it for the actual read (which includes the GZip decompression).
+            if (data.length == 0)
+            {
+                throw new IOException("Client data is empty.");
+            }
 
-            b64in.reset();
+            switch (data[0])
+            {
+                case GZIP_MAGIC:
+                    return new ObjectInputStream(new BufferedInputStream(new GZIPInputStream(new ByteArrayInputStream(data))));
 
-            BufferedInputStream buffered = new BufferedInputStream(new GZIPInputStream(b64in));
+                case ClientDataSinkImpl.COMPACT:
+                    return new CompactObjectInputStream(new ByteArrayInputStream(data, 1, data.length - 1), classLoader());
 
-            return new ObjectInputStream(buffered);
+                case ClientDataSinkImpl.COMPACT_DEFLATED:
+                    return new CompactObjectInputStream(new ByteArrayInputStream(inflate(data)), classLoader());
+
+                default:
+                    throw new IOException(String.format("Client data is in an unknown format (%d).", data[0]));
+            }
         } catch (IOException ex)
         {
             throw new RuntimeException(ex);
         }
     }
 
-    private void validateHMAC(String storedHmacResult, Base64InputStream b64in) throws IOException
+    /**
+     * Classes of objects in the client data may be component classes (or classes nested inside them), so they are
+     * resolved using the component class loader.
+     */
+    private ClassLoader classLoader()
+    {
+        return proxyFactory == null ? null : proxyFactory.getClassLoader();
+    }
+
+    private static byte[] inflate(byte[] data) throws IOException
     {
-        MacOutputStream macOs = MacOutputStream.streamFor(hmacKey);
+        Inflater inflater = new Inflater(true);
+
+        try
+        {
+            inflater.setInput(data, 1, data.length - 1);
 
-        TapestryInternalUtils.copy(b64in, macOs);
+            ByteArrayOutputStream result = new ByteArrayOutputStream(data.length * 4);
 
-        macOs.close();
+            byte[] chunk = new byte[8192];
 
-        String actual = macOs.getResult();
+            while (!inflater.finished())
+            {
+                int count = inflater.inflate(chunk);
 
-        if (!MessageDigest.isEqual(storedHmacResult.getBytes(), actual.getBytes()))
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                {
+                    throw new IOException("Client data is truncated.");
+                }
+
+                result.write(chunk, 0, count);
+            }
+
+            return result.toByteArray();
+        } catch (DataFormatException ex)
         {
-            throw new IOException("Client data associated with the current request appears to have been tampered with " +
-                    "(the HMAC signature does not match).");
+            throw new IOException("Client data is corrupt: " + ExceptionUtils.toMessage(ex), ex);
+        } finally
+        {
+            inflater.end();
         }
     }
-    
+
     public ObjectInputStream decodeEncodedClientData(String clientData) throws IOException
     {
         return decodeClientData(urlEncoder.decode(clientData));
@@ -0,0 +1,129 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.tapestry5.commons.util.ExceptionUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.MessageDigest;
+
+/**
+ * Computes and verifies the HMAC signatures of client data, in a single pass over the data. Client data is signed
+ * using HmacSHA256; signatures computed using HmacSHA1 (by earlier releases, or when
+ * {@linkplain org.apache.tapestry5.SymbolConstants#COMPACT_CLIENT_DATA compact client data} is disabled) are
+ * recognized by their length, and also accepted.
+ *
+ * @since 5.8.0
+ */
+public class ClientDataMac
+{
+    /**
+     * Length of a Base64 encoded HmacSHA1 signature.
+     */
+    private static final int SHA1_SIGNATURE_LENGTH = 28;
+
+    private final Algorithm sha256, sha1;
+
+    private final boolean legacy;
+
+    private static final class Algorithm
+    {
+        private final SecretKeySpec key;
+
+        /**
+         * The initialized prototype is never used directly; it is cloned, which is much cheaper than obtaining and
+         * initializing a new instance.
+         */
+        private final Mac prototype;
+
+        Algorithm(byte[] passphrase, String name)
+        {
+            key = new SecretKeySpec(passphrase, name);
+            prototype = newMac();
+        }
+
+        private Mac newMac()
+        {
+            try
+            {
+                Mac mac = Mac.getInstance(key.getAlgorithm());
+
+                mac.init(key);
+
+                return mac;
+            } catch (Exception ex)
+            {
+                throw new RuntimeException(String.format("Unable to create %s message authentication code: %s",
+                        key.getAlgorithm(), ExceptionUtils.toMessage(ex)), ex);
+            }
+        }
+
+        byte[] compute(byte[] data, int offset, int length)
+        {
+            Mac mac;
+
+            try
+            {
+                mac = (Mac) prototype.clone();
+            } catch (CloneNotSupportedException ex)
+            {
+                mac = newMac();
+            }
+
+            mac.update(data, offset, length);
+
+            return mac.doFinal();
+        }
+    }
+
+    /**
+     * @param passphrase
+     *         the secret key
+     * @param legacy
+     *         if true, sign using HmacSHA1, as earlier releases did
+     */
+    public ClientDataMac(byte[] passphrase, boolean legacy)
+    {
+        sha256 = new Algorithm(passphrase, "HmacSHA256");
+        sha1 = new Algorithm(passphrase, "HmacSHA1");
+
+        this.legacy = legacy;
+    }
+
+    /**
+     * Returns the Base64 encoded signature of the data.
+     */
+    public String sign(byte[] data, int offset, int length)
+    {
+        return new String(Base64.encodeBase64((legacy ? sha1 : sha256).compute(data, offset, length)));
+    }
+
+    /**
+     * Returns true if the signature matches the data.
+     *
+     * @param signature
+     *         Base64 encoded signature, as returned by {@link #sign(byte[], int, int)}
+     */
+    public boolean verify(String signature, byte[] data)
+    {
+        Algorithm algorithm = signature.length() == SHA1_SIGNATURE_LENGTH ? sha1 : sha256;
+
+        byte[] expected = Base64.encodeBase64(algorithm.compute(data, 0, data.length));
+
+        return MessageDigest.isEqual(signature.getBytes(), expected);
+    }
+}
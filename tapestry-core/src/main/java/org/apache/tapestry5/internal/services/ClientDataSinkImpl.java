@@ -14,40 +14,92 @@
 
 package org.apache.tapestry5.internal.services;
 
-import org.apache.tapestry5.internal.util.Base64OutputStream;
-import org.apache.tapestry5.internal.util.MacOutputStream;
-import org.apache.tapestry5.internal.util.TeeOutputStream;
+import org.apache.tapestry5.internal.util.CompactObjectOutputStream;
 import org.apache.tapestry5.services.ClientDataSink;
 import org.apache.tapestry5.services.URLEncoder;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
-import java.security.Key;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPOutputStream;
 
+/**
+ * Collects the data in memory. When {@linkplain org.apache.tapestry5.SymbolConstants#COMPACT_CLIENT_DATA compact},
+ * the data is written by a {@link CompactObjectOutputStream}, prefixed with a format byte, and (unless it is small,
+ * or does not compress) deflated. Otherwise, the data is written by an ObjectOutputStream and GZipped, as in earlier
+ * releases. Either way, the resulting bytes are signed in a single pass, and the signature and the Base64 encoded
+ * bytes are combined to form the client data.
+ */
 public class ClientDataSinkImpl implements ClientDataSink
 {
-    private final Base64OutputStream base64OutputStream;
+    /**
+     * Format byte for compact data that has not been compressed.
+     */
+    static final int COMPACT = 1;
+
+    /**
+     * Format byte for compact data that has been deflated (without any zlib or gzip header).
+     */
+    static final int COMPACT_DEFLATED = 2;
+
+    /**
+     * Compact data smaller than this is not worth compressing.
+     */
+    private static final int DEFLATE_THRESHOLD = 100;
+
+    private final Buffer buffer = new Buffer();
 
     private final ObjectOutputStream objectOutputStream;
 
     private final URLEncoder urlEncoder;
 
+    private final ClientDataMac mac;
+
+    private final boolean compact;
+
     private boolean closed;
 
-    private final MacOutputStream macOutputStream;
+    private String clientData;
 
-    public ClientDataSinkImpl(URLEncoder urlEncoder, Key hmacKey) throws IOException
+    /**
+     * Provides access to the content without copying it.
+     */
+    private static final class Buffer extends ByteArrayOutputStream
+    {
+        Buffer()
+        {
+            super(512);
+        }
+
+        byte[] array()
+        {
+            return buf;
+        }
+    }
+
+    public ClientDataSinkImpl(URLEncoder urlEncoder, ClientDataMac mac, boolean compact) throws IOException
     {
         this.urlEncoder = urlEncoder;
+        this.mac = mac;
+        this.compact = compact;
+
+        final OutputStream pipeline;
 
-        base64OutputStream = new Base64OutputStream();
-        macOutputStream =  MacOutputStream.streamFor(hmacKey);
+        if (compact)
+        {
+            buffer.write(COMPACT);
 
-        final BufferedOutputStream pipeline = new BufferedOutputStream(new GZIPOutputStream(
-                new TeeOutputStream(macOutputStream, base64OutputStream)));
+            pipeline = buffer;
+        } else
+        {
+            pipeline = new BufferedOutputStream(new GZIPOutputStream(buffer));
+        }
 
         OutputStream guard = new OutputStream()
         {
@@ -84,8 +136,7 @@ public class ClientDataSinkImpl implements ClientDataSink
             }
         };
 
-
-        objectOutputStream = new ObjectOutputStream(guard);
+        objectOutputStream = compact ? new CompactObjectOutputStream(guard) : new ObjectOutputStream(guard);
     }
 
     public ObjectOutputStream getObjectOutputStream()
@@ -95,6 +146,11 @@ public class ClientDataSinkImpl implements ClientDataSink
 
     public String getClientData()
     {
+        if (clientData != null)
+        {
+            return clientData;
+        }
+
         if (!closed)
         {
             try
@@ -106,7 +162,55 @@ public class ClientDataSinkImpl implements ClientDataSink
             }
         }
 
-        return macOutputStream.getResult() + ":" + base64OutputStream.toBase64();
+        byte[] data = buffer.array();
+        int length = buffer.size();
+
+        if (compact && length > DEFLATE_THRESHOLD)
+        {
+            Buffer deflated = deflate(data, length);
+
+            if (deflated.size() < length)
+            {
+                data = deflated.array();
+                length = deflated.size();
+            }
+        }
+
+        ByteBuffer base64 = Base64.getEncoder().encode(ByteBuffer.wrap(data, 0, length));
+
+        clientData = mac.sign(data, 0, length) + ":"
+                + new String(base64.array(), 0, base64.limit(), StandardCharsets.US_ASCII);
+
+        return clientData;
+    }
+
+    private static Buffer deflate(byte[] data, int length)
+    {
+        Buffer result = new Buffer();
+
+        result.write(COMPACT_DEFLATED);
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+
+        try
+        {
+            deflater.setInput(data, 1, length - 1);
+            deflater.finish();
+
+            byte[] chunk = new byte[Math.min(length, 8192)];
+
+            while (!deflater.finished())
+            {
+                int count = deflater.deflate(chunk);
+
+                result.write(chunk, 0, count);
+            }
+        } finally
+        {
+            deflater.end();
+        }
+
+        return result;
     }
 
     public String getEncodedClientData()
@@ -107,6 +107,12 @@ public class ComponentClassResolverImpl implements ComponentClassResolver, Inval
          */
         private final Map<String, String> pageNameToCanonicalPageName = CollectionFactory.newCaseInsensitiveMap();
 
+        /**
+         * All the keys of pageToClassName (plus, for pages of the core library, the names without the "core/"
+         * prefix), used to decode page render request paths.
+         */
+        private final PageNameTrie pageNameTrie = new PageNameTrie();
+
 
         /**
          * These are used to check for name overlaps: a single name (generated by different paths) that maps to more than one class.
@@ -119,6 +125,19 @@ public class ComponentClassResolverImpl implements ComponentClassResolver, Inval
 
         private boolean invalid = false;
 
+        private void buildPageNameTrie()
+        {
+            for (String pageName : pageToClassName.keySet())
+            {
+                pageNameTrie.add(pageName);
+
+                if (pageName.regionMatches(true, 0, CORE_LIBRARY_PREFIX, 0, CORE_LIBRARY_PREFIX.length()))
+                {
+                    pageNameTrie.add(pageName.substring(CORE_LIBRARY_PREFIX.length()));
+                }
+            }
+        }
+
         private void rebuild(String pathPrefix, String rootPackage)
         {
             fill(pathPrefix, rootPackage, InternalConstants.PAGES_SUBPACKAGE, pageToClassName, pageToClassNames);
@@ -428,6 +447,8 @@ public class ComponentClassResolverImpl implements ComponentClassResolver, Inval
 
         newData.validate();
 
+        newData.buildPageNameTrie();
+
         showChanges("pages", data.pageToClassName, newData.pageToClassName);
         showChanges("components", data.componentToClassName, newData.componentToClassName);
         showChanges("mixins", data.mixinToClassName, newData.mixinToClassName);
@@ -548,6 +569,12 @@ public class ComponentClassResolverImpl implements ComponentClassResolver, Inval
         return locate(pageName, getData().pageToClassName) != null;
     }
 
+    @Override
+    public List<String> getPageNamePrefixes(String path)
+    {
+        return getData().pageNameTrie.findPrefixes(path);
+    }
+
     public boolean isPage(final String pageClassName)
     {
         return locate(pageClassName, getData().pageClassNameToLogicalName) != null;
@@ -441,25 +441,20 @@ public class ComponentEventLinkEncoderImpl implements ComponentEventLinkEncoder
             explicitLocale = true;
         }
 
-        slashx = extendedName.length();
-        boolean atEnd = true;
+        // Try the longest page name first; the rest of the path is the page activation context.
 
-        while (slashx > 0)
+        for (String pageName : componentClassResolver.getPageNamePrefixes(extendedName))
         {
-            String pageName = extendedName.substring(0, slashx);
-            String pageActivationContext = atEnd ? "" : extendedName.substring(slashx + 1);
+            String pageActivationContext = pageName.length() == extendedName.length()
+                    ? ""
+                    : extendedName.substring(pageName.length() + 1);
 
-            PageRenderRequestParameters parameters = checkIfPage(request, pageName, pageActivationContext);
+            PageRenderRequestParameters parameters = toPageRenderParameters(request, pageName, pageActivationContext);
 
             if (parameters != null)
             {
                 return parameters;
             }
-
-            // Work backwards, splitting at the next slash.
-            slashx = extendedName.lastIndexOf('/', slashx - 1);
-
-            atEnd = false;
         }
 
         // OK, maybe its all page activation context for the root Index page.
@@ -499,6 +494,12 @@ public class ComponentEventLinkEncoderImpl implements ComponentEventLinkEncoder
         {
             return null;
         }
+
+        return toPageRenderParameters(request, pageName, pageActivationContext);
+    }
+
+    private PageRenderRequestParameters toPageRenderParameters(Request request, String pageName, String pageActivationContext)
+    {
         String canonicalized = componentClassResolver.canonicalizePageName(pageName);
 
         // If the page is only visible to the whitelist, but the request is not on the whitelist, then
@@ -529,16 +530,14 @@ public class ComponentEventLinkEncoderImpl implements ComponentEventLinkEncoder
 
     public void appendContext(boolean seperatorRequired, EventContext context, StringBuilder builder)
     {
-        String encoded = contextPathEncoder.encodeIntoPath(context);
-
-        if (encoded.length() > 0)
+        if (context.getCount() > 0)
         {
             if (seperatorRequired)
             {
                 builder.append(SLASH);
             }
 
-            builder.append(encoded);
+            contextPathEncoder.encodeIntoPath(context, builder);
         }
     }
 }
@@ -29,6 +29,7 @@ import org.apache.tapestry5.internal.model.MutableComponentModelImpl;
 import org.apache.tapestry5.internal.plastic.PlasticInternalUtils;
 import org.apache.tapestry5.ioc.Invokable;
 import org.apache.tapestry5.ioc.LoggerSource;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.ioc.annotations.PostInjection;
 import org.apache.tapestry5.ioc.annotations.Primary;
@@ -227,7 +228,7 @@ public final class ComponentInstantiatorSourceImpl implements ComponentInstantia
 
     private Instantiator createInstantiatorForClass(final String className)
     {
-        return tracker.invoke(String.format("Creating instantiator for component class %s", className),
+        return tracker.invoke(OperationDescription.format("Creating instantiator for component class %s", className),
                 new Invokable<Instantiator>()
                 {
                     public Instantiator invoke()
@@ -274,7 +275,8 @@ public final class ComponentInstantiatorSourceImpl implements ComponentInstantia
 
     public void transform(final PlasticClass plasticClass)
     {
-        tracker.run(String.format("Running component class transformations on %s", plasticClass.getClassName()),
+        tracker.run(OperationDescription.format("Running component class transformations on %s",
+                plasticClass.getClassName()),
                 new Runnable()
                 {
                     public void run()
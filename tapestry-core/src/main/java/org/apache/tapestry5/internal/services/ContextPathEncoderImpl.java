@@ -15,7 +15,6 @@
 package org.apache.tapestry5.internal.services;
 
 import org.apache.tapestry5.EventContext;
-import org.apache.tapestry5.commons.services.TypeCoercer;
 import org.apache.tapestry5.internal.EmptyEventContext;
 import org.apache.tapestry5.internal.TapestryInternalUtils;
 import org.apache.tapestry5.internal.URLEventContext;
@@ -32,15 +31,12 @@ public class ContextPathEncoderImpl implements ContextPathEncoder
 
     private final URLEncoder urlEncoder;
 
-    private final TypeCoercer typeCoercer;
-
     private final EventContext EMPTY = new EmptyEventContext();
 
-    public ContextPathEncoderImpl(ContextValueEncoder valueEncoder, URLEncoder urlEncoder, TypeCoercer typeCoercer)
+    public ContextPathEncoderImpl(ContextValueEncoder valueEncoder, URLEncoder urlEncoder)
     {
         this.valueEncoder = valueEncoder;
         this.urlEncoder = urlEncoder;
-        this.typeCoercer = typeCoercer;
     }
 
     public String encodeValue(Object value)
@@ -55,29 +51,56 @@ public class ContextPathEncoderImpl implements ContextPathEncoder
         if (context == null || context.length == 0)
             return "";
 
-        return encodeIntoPath(new ArrayEventContext(typeCoercer, context));
+        StringBuilder output = new StringBuilder(BUFFER_SIZE);
+
+        append(context, output);
+
+        return output.toString();
     }
 
     public String encodeIntoPath(EventContext context)
     {
         assert context != null;
-        int count = context.getCount();
+
+        if (context.getCount() == 0)
+            return "";
 
         StringBuilder output = new StringBuilder(BUFFER_SIZE);
 
+        encodeIntoPath(context, output);
+
+        return output.toString();
+    }
+
+    public void encodeIntoPath(EventContext context, StringBuilder output)
+    {
+        assert context != null;
+        int count = context.getCount();
+
+        if (count == 0)
+            return;
+
+        Object[] values = new Object[count];
+
         for (int i = 0; i < count; i++)
         {
-            Object raw = context.get(Object.class, i);
+            values[i] = context.get(Object.class, i);
+        }
 
-            String urlEncoded = encodeValue(raw);
+        append(values, output);
+    }
+
+    private void append(Object[] values, StringBuilder output)
+    {
+        String[] clientValues = valueEncoder.toClient(values);
 
+        for (int i = 0; i < clientValues.length; i++)
+        {
             if (i > 0)
                 output.append('/');
 
-            output.append(urlEncoded);
+            urlEncoder.encode(clientValues[i], output);
         }
-
-        return output.toString();
     }
 
     public EventContext decodePath(String path)
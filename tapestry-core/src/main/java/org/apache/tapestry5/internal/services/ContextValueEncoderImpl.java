@@ -37,7 +37,6 @@ public class ContextValueEncoderImpl implements ContextValueEncoder
         return encoder.toClient(value);
     }
 
-
     public <T> T toValue(Class<T> requiredType, String clientValue)
     {
         assert requiredType != null;
@@ -46,4 +45,34 @@ public class ContextValueEncoderImpl implements ContextValueEncoder
 
         return encoder.toValue(clientValue);
     }
+
+    /**
+     * Looks up the encoder only when the type of the value differs from the type of the previous value, as
+     * contexts usually consist of a few values of the same type.
+     */
+    public String[] toClient(Object[] values)
+    {
+        String[] result = new String[values.length];
+
+        Class type = null;
+        ValueEncoder encoder = null;
+
+        for (int i = 0; i < values.length; i++)
+        {
+            Object value = values[i];
+
+            if (value == null)
+                continue;
+
+            if (value.getClass() != type)
+            {
+                type = value.getClass();
+                encoder = valueEncoderSource.getValueEncoder(type);
+            }
+
+            result[i] = encoder.toClient(value);
+        }
+
+        return result;
+    }
 }
@@ -214,7 +214,7 @@ public class DefaultRequestExceptionHandler implements RequestExceptionHandler
                 JSONObject reply = new JSONObject();
                 reply.in(InternalConstants.PARTIAL_KEY).put("redirectURL", link.toRedirectURI());
 
-                os.write(reply.toCompactString().getBytes("UTF-8"));
+                reply.writeTo(os, true);
 
                 os.close();
 
@@ -17,6 +17,7 @@ package org.apache.tapestry5.internal.services;
 import org.apache.tapestry5.ComponentEventCallback;
 import org.apache.tapestry5.TapestryMarkers;
 import org.apache.tapestry5.ioc.Invokable;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.runtime.Event;
 import org.slf4j.Logger;
@@ -82,7 +83,7 @@ public class EventImpl implements Event
         if (result != null)
         {
             boolean handleResult =
-                    tracker.invoke("Handling result from method " + methodDescription + '.', new Invokable<Boolean>()
+                    tracker.invoke(OperationDescription.format("Handling result from method %s.", methodDescription), new Invokable<Boolean>()
                     {
                         public Boolean invoke()
                         {
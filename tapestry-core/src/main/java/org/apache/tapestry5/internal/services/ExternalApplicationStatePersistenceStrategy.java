@@ -0,0 +1,74 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.services.ApplicationStateCreator;
+import org.apache.tapestry5.services.ApplicationStatePersistenceStrategy;
+
+/**
+ * Stores SSOs with the {@link org.apache.tapestry5.services.ExternalStateStore}, rather than in the session. SSOs
+ * that are modified in place are written back to the store at the end of the request.
+ *
+ * @since 5.8.0
+ */
+public class ExternalApplicationStatePersistenceStrategy implements ApplicationStatePersistenceStrategy
+{
+    static final String PREFIX = "sso:";
+
+    private final ExternalStateManager manager;
+
+    public ExternalApplicationStatePersistenceStrategy(ExternalStateManager manager)
+    {
+        this.manager = manager;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Class<T> ssoClass, ApplicationStateCreator<T> creator)
+    {
+        String key = buildKey(ssoClass);
+
+        T sso = (T) manager.get(key);
+
+        if (sso == null)
+        {
+            sso = creator.create();
+
+            manager.set(key, sso);
+        }
+
+        return sso;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getIfExists(Class<T> ssoClass)
+    {
+        return (T) manager.get(buildKey(ssoClass));
+    }
+
+    public <T> void set(Class<T> ssoClass, T sso)
+    {
+        manager.set(buildKey(ssoClass), sso);
+    }
+
+    public <T> boolean exists(Class<T> ssoClass)
+    {
+        return manager.get(buildKey(ssoClass)) != null;
+    }
+
+    private static String buildKey(Class<?> ssoClass)
+    {
+        return PREFIX + ssoClass.getName();
+    }
+}
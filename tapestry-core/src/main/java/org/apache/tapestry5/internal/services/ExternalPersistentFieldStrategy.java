@@ -0,0 +1,84 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.apache.tapestry5.ioc.internal.util.InternalUtils;
+import org.apache.tapestry5.services.PersistentFieldChange;
+import org.apache.tapestry5.services.PersistentFieldStrategy;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A strategy for storing persistent page properties with the {@link org.apache.tapestry5.services.ExternalStateStore}.
+ *
+ * Uses the same names as the {@link SessionPersistentFieldStrategy}:
+ * <code>state:<em>page-name</em>:<em>component-id</em>:<em>field-name</em></code>
+ *
+ * @since 5.8.0
+ */
+public class ExternalPersistentFieldStrategy implements PersistentFieldStrategy
+{
+    static final String PREFIX = "state:";
+
+    private final ExternalStateManager manager;
+
+    public ExternalPersistentFieldStrategy(ExternalStateManager manager)
+    {
+        this.manager = manager;
+    }
+
+    public Collection<PersistentFieldChange> gatherFieldChanges(String pageName)
+    {
+        List<PersistentFieldChange> result = CollectionFactory.newList();
+
+        for (String name : manager.getNames(PREFIX + pageName + ":"))
+        {
+            String[] chunks = name.split(":");
+
+            // The component id will be the empty string for the root component
+
+            result.add(new PersistentFieldChangeImpl(chunks[2], chunks[3], manager.get(name)));
+        }
+
+        return result;
+    }
+
+    public void discardChanges(String pageName)
+    {
+        for (String name : manager.getNames(PREFIX + pageName + ":"))
+        {
+            manager.set(name, null);
+        }
+    }
+
+    public void postChange(String pageName, String componentId, String fieldName, Object newValue)
+    {
+        assert InternalUtils.isNonBlank(pageName);
+        assert InternalUtils.isNonBlank(fieldName);
+
+        StringBuilder builder = new StringBuilder(PREFIX);
+        builder.append(pageName);
+        builder.append(':');
+
+        if (componentId != null) builder.append(componentId);
+
+        builder.append(':');
+        builder.append(fieldName);
+
+        manager.set(builder.toString(), newValue);
+    }
+}
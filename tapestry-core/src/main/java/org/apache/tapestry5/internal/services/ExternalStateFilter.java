@@ -0,0 +1,95 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.http.Link;
+import org.apache.tapestry5.http.services.Request;
+import org.apache.tapestry5.http.services.RequestFilter;
+import org.apache.tapestry5.http.services.RequestHandler;
+import org.apache.tapestry5.http.services.Response;
+import org.apache.tapestry5.util.ResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+
+/**
+ * Writes the changes to external state at the end of the request, as a single operation. The changes are also
+ * written just before the response is sent (a redirect, an error, or content), so that they are visible to the
+ * client's next request, even if that arrives before this request has fully completed.
+ *
+ * @since 5.8.0
+ */
+public class ExternalStateFilter implements RequestFilter
+{
+    private final ExternalStateManager manager;
+
+    public ExternalStateFilter(ExternalStateManager manager)
+    {
+        this.manager = manager;
+    }
+
+    public boolean service(Request request, Response response, RequestHandler handler) throws IOException
+    {
+        try
+        {
+            return handler.service(request, new ResponseWrapper(response)
+            {
+                @Override
+                public PrintWriter getPrintWriter(String contentType) throws IOException
+                {
+                    manager.flush();
+
+                    return super.getPrintWriter(contentType);
+                }
+
+                @Override
+                public OutputStream getOutputStream(String contentType) throws IOException
+                {
+                    manager.flush();
+
+                    return super.getOutputStream(contentType);
+                }
+
+                @Override
+                public void sendRedirect(String URL) throws IOException
+                {
+                    manager.flush();
+
+                    super.sendRedirect(URL);
+                }
+
+                @Override
+                public void sendRedirect(Link link) throws IOException
+                {
+                    manager.flush();
+
+                    super.sendRedirect(link);
+                }
+
+                @Override
+                public void sendError(int sc, String message) throws IOException
+                {
+                    manager.flush();
+
+                    super.sendError(sc, message);
+                }
+            });
+        } finally
+        {
+            manager.flush();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import java.util.List;
+
+/**
+ * Per-thread view of the values stored for the current client by the
+ * {@link org.apache.tapestry5.services.ExternalStateStore}. Values are loaded from the store on first use, and
+ * changes are collected until {@link #flush()}, so that each request reads from and writes to the store (at most)
+ * once.
+ *
+ * @since 5.8.0
+ */
+public interface ExternalStateManager
+{
+    /**
+     * Returns the named value, or null if not stored.
+     */
+    Object get(String name);
+
+    /**
+     * Returns the names of the stored values whose names start with the prefix.
+     */
+    List<String> getNames(String prefix);
+
+    /**
+     * Stores a value, replacing any previous value.
+     *
+     * @param name
+     *         name of the value
+     * @param value
+     *         the new value (which must be serializable), or null to remove the value
+     */
+    void set(String name, Object value);
+
+    /**
+     * Writes all the changes made since the values were loaded (or since the prior flush) to the store, as a single
+     * operation. Values that were read and have been changed in place (as determined by the
+     * {@link org.apache.tapestry5.http.services.SessionPersistedObjectAnalyzer}, and a comparison of the
+     * serialized form) are written as well.
+     */
+    void flush();
+}
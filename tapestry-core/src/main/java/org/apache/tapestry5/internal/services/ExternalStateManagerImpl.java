@@ -0,0 +1,270 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.commons.services.PlasticProxyFactory;
+import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.apache.tapestry5.http.services.SessionPersistedObjectAnalyzer;
+import org.apache.tapestry5.internal.util.CompactObjectInputStream;
+import org.apache.tapestry5.internal.util.CompactObjectOutputStream;
+import org.apache.tapestry5.ioc.ScopeConstants;
+import org.apache.tapestry5.ioc.annotations.ComponentLayer;
+import org.apache.tapestry5.ioc.annotations.Scope;
+import org.apache.tapestry5.services.Cookies;
+import org.apache.tapestry5.services.ExternalStateStore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Scope(ScopeConstants.PERTHREAD)
+public class ExternalStateManagerImpl implements ExternalStateManager
+{
+    /**
+     * Name of the cookie that stores the state id.
+     */
+    static final String COOKIE_NAME = "t5state";
+
+    private static final int STATE_ID_BYTES = 16;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Cookies cookies;
+
+    private final ExternalStateStore store;
+
+    private final SessionPersistedObjectAnalyzer analyzer;
+
+    private final PlasticProxyFactory proxyFactory;
+
+    private String stateId;
+
+    private boolean stateIdRead;
+
+    /**
+     * Serialized values, as loaded from (or last written to) the store; null until first needed.
+     */
+    private Map<String, byte[]> stored;
+
+    /**
+     * Values that have been read or set during this request.
+     */
+    private final Map<String, Object> values = CollectionFactory.newMap();
+
+    private final Set<String> changed = CollectionFactory.newSet();
+
+    public ExternalStateManagerImpl(Cookies cookies, ExternalStateStore store,
+                                    SessionPersistedObjectAnalyzer analyzer,
+                                    @ComponentLayer PlasticProxyFactory proxyFactory)
+    {
+        this.cookies = cookies;
+        this.store = store;
+        this.analyzer = analyzer;
+        this.proxyFactory = proxyFactory;
+    }
+
+    private String readStateId()
+    {
+        if (!stateIdRead)
+        {
+            stateIdRead = true;
+
+            String value = cookies.readCookieValue(COOKIE_NAME);
+
+            stateId = isValidStateId(value) ? value : null;
+        }
+
+        return stateId;
+    }
+
+    static boolean isValidStateId(String value)
+    {
+        if (value == null || value.length() != 22)
+            return false;
+
+        for (int i = 0; i < value.length(); i++)
+        {
+            char ch = value.charAt(i);
+
+            if (!((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') || ch == '-' || ch == '_'))
+                return false;
+        }
+
+        return true;
+    }
+
+    private Map<String, byte[]> getStored()
+    {
+        if (stored == null)
+        {
+            String id = readStateId();
+
+            stored = id == null ? CollectionFactory.<String, byte[]>newMap() : CollectionFactory.newMap(store.load(id));
+        }
+
+        return stored;
+    }
+
+    public Object get(String name)
+    {
+        if (values.containsKey(name))
+            return values.get(name);
+
+        byte[] data = getStored().get(name);
+
+        Object value = data == null ? null : deserialize(name, data);
+
+        values.put(name, value);
+
+        return value;
+    }
+
+    public List<String> getNames(String prefix)
+    {
+        Set<String> names = CollectionFactory.newSet();
+
+        for (String name : getStored().keySet())
+        {
+            if (name.startsWith(prefix))
+                names.add(name);
+        }
+
+        for (Map.Entry<String, Object> entry : values.entrySet())
+        {
+            if (entry.getKey().startsWith(prefix))
+            {
+                if (entry.getValue() == null)
+                    names.remove(entry.getKey());
+                else
+                    names.add(entry.getKey());
+            }
+        }
+
+        List<String> result = CollectionFactory.newList(names);
+
+        Collections.sort(result);
+
+        return result;
+    }
+
+    public void set(String name, Object value)
+    {
+        if (value != null && !(value instanceof Serializable))
+            throw new IllegalArgumentException(String.format("External state must be serializable, but %s does not implement the Serializable interface.", value));
+
+        getStored();
+
+        if (value != null && readStateId() == null)
+        {
+            byte[] bytes = new byte[STATE_ID_BYTES];
+
+            RANDOM.nextBytes(bytes);
+
+            stateId = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+            cookies.getBuilder(COOKIE_NAME, stateId).setMaxAge(-1).setHttpOnly(true).write();
+        }
+
+        values.put(name, value);
+        changed.add(name);
+    }
+
+    public void flush()
+    {
+        if (stored == null || stateId == null)
+            return;
+
+        Map<String, byte[]> changes = CollectionFactory.newMap();
+
+        for (Map.Entry<String, Object> entry : values.entrySet())
+        {
+            String name = entry.getKey();
+            Object value = entry.getValue();
+
+            if (changed.contains(name))
+            {
+                if (value != null || stored.containsKey(name))
+                    changes.put(name, value == null ? null : serialize(name, value));
+
+                continue;
+            }
+
+            // A value that was read may have been modified in place.
+
+            if (value != null && analyzer.checkAndResetDirtyState(value))
+            {
+                byte[] data = serialize(name, value);
+
+                if (!Arrays.equals(data, stored.get(name)))
+                    changes.put(name, data);
+            }
+        }
+
+        changed.clear();
+
+        if (changes.isEmpty())
+            return;
+
+        store.store(stateId, changes);
+
+        for (Map.Entry<String, byte[]> change : changes.entrySet())
+        {
+            if (change.getValue() == null)
+                stored.remove(change.getKey());
+            else
+                stored.put(change.getKey(), change.getValue());
+        }
+    }
+
+    private static byte[] serialize(String name, Object value)
+    {
+        try
+        {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            ObjectOutputStream os = new CompactObjectOutputStream(bos);
+
+            os.writeObject(value);
+            os.close();
+
+            return bos.toByteArray();
+        } catch (IOException ex)
+        {
+            throw new RuntimeException(String.format("Unable to serialize external state '%s': %s", name, ex.getMessage()), ex);
+        }
+    }
+
+    private Object deserialize(String name, byte[] data)
+    {
+        try
+        {
+            ObjectInputStream is = new CompactObjectInputStream(new ByteArrayInputStream(data), proxyFactory.getClassLoader());
+
+            return is.readObject();
+        } catch (Exception ex)
+        {
+            throw new RuntimeException(String.format("Unable to read external state '%s': %s", name, ex.getMessage()), ex);
+        }
+    }
+}
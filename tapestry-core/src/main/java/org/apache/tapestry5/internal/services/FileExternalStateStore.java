@@ -0,0 +1,129 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * An {@link org.apache.tapestry5.services.ExternalStateStore} that stores the entries for each state id in a file
+ * within a directory. When the directory is shared by several servers, any of them may handle requests from any
+ * client; concurrent updates for the same state id from different servers are not merged (the last update wins).
+ *
+ * @since 5.8.0
+ */
+public class FileExternalStateStore extends AbstractExternalStateStore
+{
+    private static final String SUFFIX = ".state";
+
+    private final File directory;
+
+    public FileExternalStateStore(File directory)
+    {
+        this.directory = directory;
+
+        directory.mkdirs();
+
+        if (!directory.isDirectory())
+        {
+            throw new IllegalArgumentException(String.format("External state directory %s does not exist and could not be created.", directory));
+        }
+    }
+
+    private File toFile(String stateId)
+    {
+        // The state id comes from a cookie; make sure it can't be used to reach outside the directory.
+
+        for (int i = 0; i < stateId.length(); i++)
+        {
+            char ch = stateId.charAt(i);
+
+            if (!(Character.isLetterOrDigit(ch) || ch == '-' || ch == '_'))
+            {
+                throw new IllegalArgumentException(String.format("'%s' is not a valid external state id.", stateId));
+            }
+        }
+
+        return new File(directory, stateId + SUFFIX);
+    }
+
+    @Override
+    protected byte[] read(String stateId) throws IOException
+    {
+        File file = toFile(stateId);
+
+        byte[] result;
+
+        try
+        {
+            result = Files.readAllBytes(file.toPath());
+        } catch (NoSuchFileException ex)
+        {
+            return null;
+        }
+
+        file.setLastModified(System.currentTimeMillis());
+
+        return result;
+    }
+
+    @Override
+    protected void write(String stateId, byte[] block) throws IOException
+    {
+        File temp = File.createTempFile(stateId, ".tmp", directory);
+
+        try
+        {
+            Files.write(temp.toPath(), block);
+
+            Files.move(temp.toPath(), toFile(stateId).toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally
+        {
+            temp.delete();
+        }
+    }
+
+    @Override
+    protected void delete(String stateId) throws IOException
+    {
+        Files.deleteIfExists(toFile(stateId).toPath());
+    }
+
+    @Override
+    public void removeExpired(long cutoff)
+    {
+        File[] files = directory.listFiles(new FileFilter()
+        {
+            public boolean accept(File file)
+            {
+                return file.getName().endsWith(SUFFIX);
+            }
+        });
+
+        if (files == null)
+            return;
+
+        for (File file : files)
+        {
+            if (file.lastModified() < cutoff)
+                file.delete();
+        }
+    }
+}
@@ -22,7 +22,9 @@ import org.apache.tapestry5.json.JSONArray;
 import org.apache.tapestry5.services.ComponentEventResultProcessor;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 
 public class JSONArrayEventResultProcessor implements ComponentEventResultProcessor<JSONArray>
 {
@@ -30,6 +32,8 @@ public class JSONArrayEventResultProcessor implements ComponentEventResultProces
 
     private final boolean compactJSON;
 
+    private final boolean utf8;
+
     private final ContentType contentType;
 
     public JSONArrayEventResultProcessor(Response response,
@@ -43,11 +47,23 @@ public class JSONArrayEventResultProcessor implements ComponentEventResultProces
         this.response = response;
         this.compactJSON = compactJSON;
 
+        utf8 = StandardCharsets.UTF_8.name().equalsIgnoreCase(outputEncoding);
         contentType = new ContentType(InternalConstants.JSON_MIME_TYPE).withCharset(outputEncoding);
     }
 
     public void processResultValue(JSONArray value) throws IOException
     {
+        if (utf8)
+        {
+            OutputStream os = response.getOutputStream(contentType.toString());
+
+            value.writeTo(os, compactJSON);
+
+            os.close();
+
+            return;
+        }
+
         PrintWriter pw = response.getPrintWriter(contentType.toString());
 
         value.print(pw, compactJSON);
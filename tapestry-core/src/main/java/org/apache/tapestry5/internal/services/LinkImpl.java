@@ -21,6 +21,7 @@ import org.apache.tapestry5.http.services.Response;
 import org.apache.tapestry5.ioc.internal.util.InternalUtils;
 import org.apache.tapestry5.services.ContextPathEncoder;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -77,7 +78,7 @@ public class LinkImpl implements Link
         if (parameters == null)
             parameters = new TreeMap<String, List<String>>();
 
-        parameters.put(parameterName, Arrays.asList(value));
+        parameters.put(parameterName, new ArrayList<String>(Arrays.asList(value)));
     }
 
     public Link addParameter(String parameterName, String value)
@@ -14,15 +14,27 @@
 
 package org.apache.tapestry5.internal.services;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.tapestry5.SymbolConstants;
+import org.apache.tapestry5.commons.services.InvalidationEventHub;
 import org.apache.tapestry5.commons.services.TypeCoercer;
 import org.apache.tapestry5.commons.util.CollectionFactory;
 import org.apache.tapestry5.http.Link;
+import org.apache.tapestry5.http.services.Request;
 import org.apache.tapestry5.http.services.RequestGlobals;
 import org.apache.tapestry5.internal.TapestryInternalUtils;
 import org.apache.tapestry5.internal.structure.Page;
+import org.apache.tapestry5.ioc.annotations.ComponentClasses;
+import org.apache.tapestry5.ioc.annotations.PostInjection;
+import org.apache.tapestry5.ioc.annotations.Symbol;
 import org.apache.tapestry5.ioc.internal.util.InternalUtils;
+import org.apache.tapestry5.ioc.services.PerThreadValue;
+import org.apache.tapestry5.ioc.services.PerthreadManager;
 import org.apache.tapestry5.services.ComponentClassResolver;
 import org.apache.tapestry5.services.ComponentEventLinkEncoder;
 import org.apache.tapestry5.services.ComponentEventRequestParameters;
@@ -30,7 +42,16 @@ import org.apache.tapestry5.services.LinkCreationHub;
 import org.apache.tapestry5.services.LinkCreationListener;
 import org.apache.tapestry5.services.LinkCreationListener2;
 import org.apache.tapestry5.services.PageRenderRequestParameters;
-
+import org.apache.tapestry5.services.PersistentLocale;
+
+/**
+ * Creates links using the {@link ComponentEventLinkEncoder}, then notifies the {@link LinkCreationListener2}s.
+ *
+ * When enabled (see {@link SymbolConstants#LINK_CACHE_ENABLED}), the links obtained from the encoder are cached for
+ * the duration of the request, and optionally (see {@link SymbolConstants#SHARED_LINK_CACHE_SIZE}) shared between
+ * requests. Absolute links are not cached. The cached links are never decorated: each call returns a copy, and the listeners are notified of the
+ * copy, exactly as if the link had just been encoded.
+ */
 @SuppressWarnings("all")
 public class LinkSourceImpl implements LinkSource, LinkCreationHub
 {
@@ -50,9 +71,57 @@ public class LinkSourceImpl implements LinkSource, LinkCreationHub
 
     private final RequestPageCache pageCache;
 
+    private final PersistentLocale persistentLocale;
+
+    /**
+     * Links cached for the current request, or null if caching is disabled.
+     */
+    private final PerThreadValue<Map<LinkKey, Link>> requestLinks;
+
+    /**
+     * Links shared between requests, or null if not enabled.
+     */
+    private final Map<LinkKey, Link> sharedLinks;
+
+    private final int sharedLinkCacheSize;
+
+    /**
+     * Identifies a link by everything that contributes to the encoded link: the kind of link, the page names,
+     * component id, event type, contexts, as well as the request's locale and security.
+     */
+    private static final class LinkKey
+    {
+        private final Object[] values;
+
+        private final int hashCode;
+
+        LinkKey(Object[] values)
+        {
+            this.values = values;
+            this.hashCode = Arrays.hashCode(values);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return obj instanceof LinkKey && Arrays.equals(values, ((LinkKey) obj).values);
+        }
+    }
+
     public LinkSourceImpl(PageRenderQueue pageRenderQueue, PageActivationContextCollector contextCollector,
             TypeCoercer typeCoercer, ComponentClassResolver resolver, ComponentEventLinkEncoder linkEncoder,
-            RequestGlobals requestGlobals, RequestPageCache pageCache, List<LinkCreationListener2> configuration)
+            RequestGlobals requestGlobals, RequestPageCache pageCache, List<LinkCreationListener2> configuration,
+            PerthreadManager perthreadManager, PersistentLocale persistentLocale,
+            @Symbol(SymbolConstants.LINK_CACHE_ENABLED)
+            boolean linkCacheEnabled,
+            @Symbol(SymbolConstants.SHARED_LINK_CACHE_SIZE)
+            int sharedLinkCacheSize)
     {
         this.pageRenderQueue = pageRenderQueue;
         this.contextCollector = contextCollector;
@@ -62,7 +131,22 @@ public class LinkSourceImpl implements LinkSource, LinkCreationHub
         this.requestGlobals = requestGlobals;
         this.pageCache = pageCache;
 
+        this.persistentLocale = persistentLocale;
+        this.sharedLinkCacheSize = sharedLinkCacheSize;
+
         listeners.addAll(configuration);
+
+        requestLinks = linkCacheEnabled ? perthreadManager.<Map<LinkKey, Link>>createValue() : null;
+        sharedLinks = linkCacheEnabled && sharedLinkCacheSize > 0 ? CollectionFactory.<LinkKey, Link>newConcurrentMap() : null;
+    }
+
+    @PostInjection
+    public void setupInvalidation(@ComponentClasses InvalidationEventHub invalidationEventHub)
+    {
+        if (sharedLinks != null)
+        {
+            invalidationEventHub.clearOnInvalidation(sharedLinks);
+        }
     }
 
     public Link createComponentEventLink(Page page, String nestedId, String eventType, boolean forForm,
@@ -86,7 +170,26 @@ public class LinkSourceImpl implements LinkSource, LinkCreationHub
                 new ArrayEventContext(typeCoercer, pageActivationContext), new ArrayEventContext(typeCoercer,
                         eventContext));
 
-        Link link = linkEncoder.createComponentEventLink(parameters, forForm);
+        Link link = null;
+        LinkKey key = null;
+
+        if (requestLinks != null && isCacheable(pageActivationContext) && isCacheable(eventContext))
+        {
+            key = toKey(new Object[]{"event", activePageName, page.getName(), parameters.getNestedComponentId(),
+                    eventType, forForm, pageActivationContext.length}, pageActivationContext, eventContext);
+
+            link = getCachedLink(key);
+        }
+
+        if (link == null)
+        {
+            link = linkEncoder.createComponentEventLink(parameters, forForm);
+
+            if (key != null)
+            {
+                link = cacheLink(key, link);
+            }
+        }
 
         for (LinkCreationListener2 listener : listeners)
             listener.createdComponentEventLink(link, parameters);
@@ -116,7 +219,25 @@ public class LinkSourceImpl implements LinkSource, LinkCreationHub
         PageRenderRequestParameters parameters = new PageRenderRequestParameters(canonical, new ArrayEventContext(
                 typeCoercer, context), loopback);
 
-        Link link = linkEncoder.createPageRenderLink(parameters);
+        Link link = null;
+        LinkKey key = null;
+
+        if (requestLinks != null && isCacheable(context))
+        {
+            key = toKey(new Object[]{"page", canonical, loopback}, context);
+
+            link = getCachedLink(key);
+        }
+
+        if (link == null)
+        {
+            link = linkEncoder.createPageRenderLink(parameters);
+
+            if (key != null)
+            {
+                link = cacheLink(key, link);
+            }
+        }
 
         for (LinkCreationListener2 listener : listeners)
             listener.createdPageRenderLink(link, parameters);
@@ -124,6 +245,140 @@ public class LinkSourceImpl implements LinkSource, LinkCreationHub
         return link;
     }
 
+    /**
+     * Contexts are only cached if their values are immutable and have value semantics, so that an equal context
+     * is always encoded into the same link.
+     */
+    private static boolean isCacheable(Object[] context)
+    {
+        for (Object value : context)
+        {
+            if (!(value == null
+                    || value instanceof String
+                    || value instanceof Integer
+                    || value instanceof Long
+                    || value instanceof Short
+                    || value instanceof Byte
+                    || value instanceof Boolean
+                    || value instanceof Character
+                    || value instanceof Double
+                    || value instanceof Float
+                    || value.getClass() == BigInteger.class
+                    || value.getClass() == BigDecimal.class
+                    || value instanceof Enum))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private LinkKey toKey(Object[] prefix, Object[]... contexts)
+    {
+        Request request = requestGlobals.getRequest();
+
+        int length = prefix.length + 2;
+
+        for (Object[] context : contexts)
+        {
+            length += context.length;
+        }
+
+        Object[] values = Arrays.copyOf(prefix, length);
+
+        int index = prefix.length;
+
+        // The locale may be encoded into the link, and the security of the request determines the security of the
+        // link.
+
+        values[index++] = persistentLocale.get();
+        values[index++] = request != null && request.isSecure();
+
+        for (Object[] context : contexts)
+        {
+            System.arraycopy(context, 0, values, index, context.length);
+
+            index += context.length;
+        }
+
+        return new LinkKey(values);
+    }
+
+    /**
+     * Returns a copy of the cached link, to be decorated by the listeners, or null if not cached.
+     */
+    private Link getCachedLink(LinkKey key)
+    {
+        Map<LinkKey, Link> links = requestLinks.get();
+
+        Link link = links == null ? null : links.get(key);
+
+        if (link == null && sharedLinks != null)
+        {
+            link = sharedLinks.get(key);
+
+            if (link != null)
+            {
+                getRequestLinks().put(key, link);
+            }
+        }
+
+        return link == null ? null : copy(link);
+    }
+
+    /**
+     * Caches the newly encoded link, returning a copy to be decorated by the listeners. Absolute links are not cached,
+     * as the scheme and host of the base URL are not part of the key.
+     */
+    private Link cacheLink(LinkKey key, Link link)
+    {
+        if (isAbsolute(link))
+        {
+            return link;
+        }
+
+        getRequestLinks().put(key, link);
+
+        if (sharedLinks != null)
+        {
+            if (sharedLinks.size() >= sharedLinkCacheSize)
+            {
+                sharedLinks.clear();
+            }
+
+            sharedLinks.put(key, link);
+        }
+
+        return copy(link);
+    }
+
+    private static boolean isAbsolute(Link link)
+    {
+        String basePath = link.getBasePath();
+
+        return link.getSecurity().isAbsolute() || !basePath.startsWith("/") || basePath.startsWith("//");
+    }
+
+    private Map<LinkKey, Link> getRequestLinks()
+    {
+        Map<LinkKey, Link> links = requestLinks.get();
+
+        if (links == null)
+        {
+            links = CollectionFactory.newMap();
+
+            requestLinks.set(links);
+        }
+
+        return links;
+    }
+
+    private static Link copy(Link link)
+    {
+        return link.copyWithBasePath(link.getBasePath());
+    }
+
     public LinkCreationHub getLinkCreationHub()
     {
         return this;
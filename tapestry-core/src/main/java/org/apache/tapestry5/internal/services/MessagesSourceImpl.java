@@ -52,13 +52,7 @@ public class MessagesSourceImpl extends InvalidationEventHubImpl implements Mess
     /**
      * Keyed on bundle id and ComponentResourceSelector.
      */
-    private final Map<MultiKey, Messages> messagesByBundleIdAndSelector = CollectionFactory.newConcurrentMap();
-
-    /**
-     * Keyed on bundle id and ComponentResourceSelector, the cooked properties include properties inherited from less
-     * locale-specific properties files, or inherited from parent bundles.
-     */
-    private final Map<MultiKey, Map<String, String>> cookedProperties = CollectionFactory.newConcurrentMap();
+    private final Map<MultiKey, BundleMessages> messagesByBundleIdAndSelector = CollectionFactory.newConcurrentMap();
 
     /**
      * Raw properties represent just the properties read from a specific properties file, in isolation.
@@ -88,7 +82,6 @@ public class MessagesSourceImpl extends InvalidationEventHubImpl implements Mess
     public void invalidate()
     {
         messagesByBundleIdAndSelector.clear();
-        cookedProperties.clear();
         rawProperties.clear();
 
         tracker.clear();
@@ -98,9 +91,17 @@ public class MessagesSourceImpl extends InvalidationEventHubImpl implements Mess
 
     public Messages getMessages(MessagesBundle bundle, ComponentResourceSelector selector)
     {
+        return getBundleMessages(bundle, selector);
+    }
+
+    private BundleMessages getBundleMessages(MessagesBundle bundle, ComponentResourceSelector selector)
+    {
+        if (bundle == null)
+            return null;
+
         MultiKey key = new MultiKey(bundle.getId(), selector);
 
-        Messages result = messagesByBundleIdAndSelector.get(key);
+        BundleMessages result = messagesByBundleIdAndSelector.get(key);
 
         if (result == null)
         {
@@ -111,30 +112,30 @@ public class MessagesSourceImpl extends InvalidationEventHubImpl implements Mess
         return result;
     }
 
-    private Messages buildMessages(MessagesBundle bundle, ComponentResourceSelector selector)
+    /**
+     * The messages for a bundle are backed by the messages of its parent bundle (if any) for the same selector, so
+     * inherited properties are shared rather than copied. A bundle that defines no properties of its own simply
+     * shares its parent's messages.
+     */
+    private BundleMessages buildMessages(MessagesBundle bundle, ComponentResourceSelector selector)
     {
+        BundleMessages parent = getBundleMessages(bundle.getParent(), selector);
+
         Map<String, String> properties = findBundleProperties(bundle, selector);
 
-        return new MapMessages(selector.locale, properties);
+        if (properties.isEmpty() && parent != null)
+            return parent;
+
+        return new BundleMessages(selector.locale, properties, parent);
     }
 
     /**
-     * Assembles a set of properties appropriate for the bundle in question, and the desired locale. The properties
-     * reflect the properties of the bundles' parent (if any) for the locale, overalyed with any properties defined for
-     * this bundle and its locale.
+     * Assembles the properties defined by the bundle itself for the desired locale: the properties of each
+     * localization of the bundle, with more locale-specific properties overriding less specific ones. Properties
+     * inherited from the bundle's parent are not included.
      */
     private Map<String, String> findBundleProperties(MessagesBundle bundle, ComponentResourceSelector selector)
     {
-        if (bundle == null)
-            return emptyMap;
-
-        MultiKey key = new MultiKey(bundle.getId(), selector);
-
-        Map<String, String> existing = cookedProperties.get(key);
-
-        if (existing != null)
-            return existing;
-
         // What would be cool is if we could maintain a cache of bundle id + locale -->
         // Resource. That would optimize quite a bit of this; may need to use an alternative to
         // LocalizedNameGenerator.
@@ -145,32 +146,31 @@ public class MessagesSourceImpl extends InvalidationEventHubImpl implements Mess
 
         // Localizations are now in least-specific to most-specific order.
 
-        Map<String, String> previous = findBundleProperties(bundle.getParent(), selector);
+        Map<String, String> previous = emptyMap;
 
         for (Resource localization : F.flow(localizations).reverse())
         {
             Map<String, String> rawProperties = getRawProperties(localization);
 
-            // Woould be nice to write into the cookedProperties cache here,
-            // but we can't because we don't know the selector part of the MultiKey.
-
             previous = extend(previous, rawProperties);
         }
 
-        cookedProperties.put(key, previous);
-
         return previous;
     }
 
     /**
      * Returns a new map consisting of all the properties in previous overlayed with all the properties in
-     * rawProperties. If rawProperties is empty, returns just the base map.
+     * rawProperties. If rawProperties is empty, returns just the base map; if the base map is empty, the
+     * rawProperties may be returned as is (shared by every locale that uses the properties file).
      */
     private Map<String, String> extend(Map<String, String> base, Map<String, String> rawProperties)
     {
         if (rawProperties.isEmpty())
             return base;
 
+        if (base.isEmpty() && rawProperties instanceof CaseInsensitiveMap)
+            return rawProperties;
+
         // Make a copy of the base Map
 
         Map<String, String> result = new CaseInsensitiveMap<String>(base);
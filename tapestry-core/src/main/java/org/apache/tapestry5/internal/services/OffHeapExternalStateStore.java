@@ -0,0 +1,214 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.commons.util.CollectionFactory;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An {@link org.apache.tapestry5.services.ExternalStateStore} that keeps the entries for each state id in a direct
+ * (off-heap) buffer, so that stored state does not add to the size of the garbage collected heap. The entries are
+ * only available to this server.
+ *
+ * Direct buffers are costly to allocate and are only freed by the garbage collector, so they are pooled: buffer sizes
+ * are rounded up to a power of two, and the buffer of a replaced or removed block is reused for a later block of the
+ * same size class. The total size of the direct buffers is capped; once the cap is reached, blocks that can not reuse
+ * a pooled buffer are kept on the heap instead.
+ *
+ * @since 5.8.0
+ */
+public class OffHeapExternalStateStore extends AbstractExternalStateStore
+{
+    private static final int MIN_SHIFT = 8;
+
+    private static final int MAX_SHIFT = 30;
+
+    private static class Block
+    {
+        final ByteBuffer buffer;
+
+        final int sizeClass;
+
+        volatile long lastAccess = System.currentTimeMillis();
+
+        /**
+         * Set once the buffer has been returned to the pool. Guarded by the block itself.
+         */
+        boolean released;
+
+        Block(ByteBuffer buffer, int sizeClass)
+        {
+            this.buffer = buffer;
+            this.sizeClass = sizeClass;
+        }
+    }
+
+    private final Map<String, Block> blocks = CollectionFactory.newConcurrentMap();
+
+    private final long maxOffHeapBytes;
+
+    private final AtomicLong offHeapBytes = new AtomicLong();
+
+    /**
+     * Free direct buffers, indexed by size class (the base 2 logarithm of their capacity).
+     */
+    @SuppressWarnings("unchecked")
+    private final Queue<ByteBuffer>[] pools = new Queue[MAX_SHIFT + 1];
+
+    /**
+     * @param maxOffHeapBytes
+     *         maximum total capacity of the direct buffers, whether in use or pooled
+     */
+    public OffHeapExternalStateStore(long maxOffHeapBytes)
+    {
+        this.maxOffHeapBytes = maxOffHeapBytes;
+
+        for (int i = MIN_SHIFT; i <= MAX_SHIFT; i++)
+        {
+            pools[i] = new ConcurrentLinkedQueue<ByteBuffer>();
+        }
+    }
+
+    /**
+     * Returns the total capacity of the direct buffers allocated so far.
+     */
+    long getOffHeapBytes()
+    {
+        return offHeapBytes.get();
+    }
+
+    @Override
+    protected byte[] read(String stateId)
+    {
+        while (true)
+        {
+            Block block = blocks.get(stateId);
+
+            if (block == null)
+                return null;
+
+            block.lastAccess = System.currentTimeMillis();
+
+            synchronized (block)
+            {
+                // A released block has just been replaced or removed; look again.
+
+                if (block.released)
+                    continue;
+
+                // Each reader uses its own view of the buffer, which is not modified until released.
+
+                ByteBuffer buffer = block.buffer.duplicate();
+
+                byte[] result = new byte[buffer.remaining()];
+
+                buffer.get(result);
+
+                return result;
+            }
+        }
+    }
+
+    @Override
+    protected void write(String stateId, byte[] bytes)
+    {
+        int sizeClass = sizeClass(bytes.length);
+
+        ByteBuffer buffer = allocate(sizeClass, bytes.length);
+
+        buffer.put(bytes);
+        buffer.flip();
+
+        release(blocks.put(stateId, new Block(buffer, buffer.isDirect() ? sizeClass : -1)));
+    }
+
+    @Override
+    protected void delete(String stateId)
+    {
+        release(blocks.remove(stateId));
+    }
+
+    @Override
+    public void removeExpired(long cutoff)
+    {
+        Iterator<Map.Entry<String, Block>> iterator = blocks.entrySet().iterator();
+
+        while (iterator.hasNext())
+        {
+            Map.Entry<String, Block> entry = iterator.next();
+
+            Block block = entry.getValue();
+
+            if (block.lastAccess < cutoff && blocks.remove(entry.getKey(), block))
+                release(block);
+        }
+    }
+
+    private static int sizeClass(int length)
+    {
+        int shift = 32 - Integer.numberOfLeadingZeros(Math.max(length, 1) - 1);
+
+        return Math.max(shift, MIN_SHIFT);
+    }
+
+    /**
+     * Returns a pooled direct buffer if available, or a new one if under the cap, or a heap buffer otherwise.
+     */
+    private ByteBuffer allocate(int sizeClass, int length)
+    {
+        if (sizeClass > MAX_SHIFT)
+            return ByteBuffer.allocate(length);
+
+        ByteBuffer buffer = pools[sizeClass].poll();
+
+        if (buffer != null)
+        {
+            buffer.clear();
+
+            return buffer;
+        }
+
+        int capacity = 1 << sizeClass;
+
+        if (offHeapBytes.addAndGet(capacity) > maxOffHeapBytes)
+        {
+            offHeapBytes.addAndGet(-capacity);
+
+            return ByteBuffer.allocate(length);
+        }
+
+        return ByteBuffer.allocateDirect(capacity);
+    }
+
+    private void release(Block block)
+    {
+        if (block == null)
+            return;
+
+        synchronized (block)
+        {
+            block.released = true;
+        }
+
+        if (block.sizeClass >= 0)
+            pools[block.sizeClass].offer(block.buffer);
+    }
+}
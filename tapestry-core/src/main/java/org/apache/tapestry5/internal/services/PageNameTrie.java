@@ -0,0 +1,134 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.commons.util.CollectionFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A trie of logical page names (including aliases), with one node per folder or page name term. Used to find all
+ * the page names that are prefixes of a request path in a single pass over the path, rather than by checking
+ * successively shorter prefixes. Matching is case insensitive. Not threadsafe while being built; immutable afterwards.
+ *
+ * @since 5.8.0
+ */
+class PageNameTrie
+{
+    private static class Node
+    {
+        final Map<String, Node> children = CollectionFactory.newCaseInsensitiveMap();
+
+        boolean pageName;
+    }
+
+    private final Node root = new Node();
+
+    /**
+     * Adds a logical page name; the empty page name is ignored.
+     */
+    void add(String pageName)
+    {
+        if (pageName.isEmpty())
+        {
+            return;
+        }
+
+        Node node = root;
+
+        int start = 0;
+
+        while (true)
+        {
+            int slashx = pageName.indexOf('/', start);
+
+            String term = slashx < 0 ? pageName.substring(start) : pageName.substring(start, slashx);
+
+            Node child = node.children.get(term);
+
+            if (child == null)
+            {
+                child = new Node();
+                node.children.put(term, child);
+            }
+
+            node = child;
+
+            if (slashx < 0)
+            {
+                break;
+            }
+
+            start = slashx + 1;
+        }
+
+        node.pageName = true;
+    }
+
+    /**
+     * Returns the prefixes of the path (consisting of complete terms) that are page names, longest first.
+     */
+    List<String> findPrefixes(String path)
+    {
+        List<String> result = null;
+
+        Node node = root;
+
+        int start = 0;
+
+        while (start <= path.length())
+        {
+            int slashx = path.indexOf('/', start);
+
+            int end = slashx < 0 ? path.length() : slashx;
+
+            node = node.children.get(path.substring(start, end));
+
+            if (node == null)
+            {
+                break;
+            }
+
+            if (node.pageName)
+            {
+                if (result == null)
+                {
+                    result = new ArrayList<String>(2);
+                }
+
+                result.add(path.substring(0, end));
+            }
+
+            if (slashx < 0)
+            {
+                break;
+            }
+
+            start = slashx + 1;
+        }
+
+        if (result == null)
+        {
+            return Collections.emptyList();
+        }
+
+        Collections.reverse(result);
+
+        return result;
+    }
+}
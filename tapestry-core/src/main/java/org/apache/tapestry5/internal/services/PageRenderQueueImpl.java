@@ -35,6 +35,8 @@ public class PageRenderQueueImpl implements PageRenderQueue
 {
     private final LoggerSource loggerSource;
 
+    private final BindingMemo bindingMemo;
+
     private Page page;
 
     private boolean partialRenderInitialized;
@@ -61,9 +63,10 @@ public class PageRenderQueueImpl implements PageRenderQueue
         }
     }
 
-    public PageRenderQueueImpl(LoggerSource loggerSource)
+    public PageRenderQueueImpl(LoggerSource loggerSource, BindingMemo bindingMemo)
     {
         this.loggerSource = loggerSource;
+        this.bindingMemo = bindingMemo;
     }
 
     public void initializeForCompletePage(Page page)
@@ -83,7 +86,7 @@ public class PageRenderQueueImpl implements PageRenderQueue
 
         Logger logger = loggerSource.getLogger(name);
 
-        queue = new RenderQueueImpl(logger);
+        queue = new RenderQueueImpl(logger, bindingMemo);
     }
 
     public boolean isPartialRenderInitialized()
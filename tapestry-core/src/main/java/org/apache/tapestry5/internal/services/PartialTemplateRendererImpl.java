@@ -28,17 +28,20 @@ public class PartialTemplateRendererImpl implements PartialTemplateRenderer
     
     final private TypeCoercer typeCoercer;
 
-    public PartialTemplateRendererImpl(TypeCoercer typeCoercer)
+    final private BindingMemo bindingMemo;
+
+    public PartialTemplateRendererImpl(TypeCoercer typeCoercer, BindingMemo bindingMemo)
     {
         super();
         this.typeCoercer = typeCoercer;
+        this.bindingMemo = bindingMemo;
     }
 
     public Document renderAsDocument(Object object)
     {
         RenderCommand renderCommand = toRenderCommand(object);
         MarkupWriter markupWriter = new MarkupWriterImpl(); 
-        RenderQueueImpl renderQueue = new RenderQueueImpl(LOGGER); 
+        RenderQueueImpl renderQueue = new RenderQueueImpl(LOGGER, bindingMemo); 
         renderQueue.push(renderCommand); 
         renderQueue.run(markupWriter);
         return markupWriter.getDocument();
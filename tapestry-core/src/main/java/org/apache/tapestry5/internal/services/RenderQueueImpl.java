@@ -34,9 +34,22 @@ public class RenderQueueImpl implements RenderQueue
 
     private final Logger logger;
 
+    private final BindingMemo bindingMemo;
+
     public RenderQueueImpl(Logger logger)
+    {
+        this(logger, null);
+    }
+
+    /**
+     * @param bindingMemo
+     *         informed as rendering starts and finishes, or null
+     * @since 5.8.0
+     */
+    public RenderQueueImpl(Logger logger, BindingMemo bindingMemo)
     {
         this.logger = logger;
+        this.bindingMemo = bindingMemo;
     }
 
     public void push(RenderCommand command)
@@ -64,6 +77,11 @@ public class RenderQueueImpl implements RenderQueue
         // Seems to make sense to use one try/finally around the whole processInbound, rather than
         // around each call to render() since the end result (in a failure scenario) is the same.
 
+        if (bindingMemo != null)
+        {
+            bindingMemo.beginRender();
+        }
+
         try
         {
             while (!queue.isEmpty())
@@ -85,6 +103,12 @@ public class RenderQueueImpl implements RenderQueue
             logger.error(message, ex);
 
             throw new RenderQueueException(message, renderingComponents.getSnapshot(), ex);
+        } finally
+        {
+            if (bindingMemo != null)
+            {
+                bindingMemo.endRender();
+            }
         }
 
         if (debugEnabled)
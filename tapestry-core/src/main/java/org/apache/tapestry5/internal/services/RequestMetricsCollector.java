@@ -0,0 +1,53 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.http.services.Dispatcher;
+import org.apache.tapestry5.services.RequestMetrics;
+
+/**
+ * Records the metrics exposed by the {@link RequestMetrics} service. The recording methods should only be invoked
+ * when metrics are {@linkplain #isEnabled() enabled}.
+ *
+ * @since 5.8.0
+ */
+public interface RequestMetricsCollector
+{
+    /**
+     * Returns true if request metrics are enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the metrics recorded by this collector.
+     */
+    RequestMetrics getRequestMetrics();
+
+    /**
+     * Records the duration of a page render request.
+     */
+    void recordPageRender(String pageName, long nanos);
+
+    /**
+     * Records the duration of a component event request.
+     */
+    void recordComponentEvent(String pageName, String eventType, long nanos);
+
+    /**
+     * Wraps a dispatcher so that the requests it handles are timed under the given handler name. Returns the
+     * dispatcher unchanged if metrics are not enabled.
+     */
+    Dispatcher track(String handler, Dispatcher dispatcher);
+}
@@ -0,0 +1,210 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.SymbolConstants;
+import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.apache.tapestry5.http.services.Dispatcher;
+import org.apache.tapestry5.http.services.Request;
+import org.apache.tapestry5.http.services.Response;
+import org.apache.tapestry5.ioc.annotations.Symbol;
+import org.apache.tapestry5.ioc.util.TimingHistogram;
+import org.apache.tapestry5.services.RequestMetrics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * @since 5.8.0
+ */
+public class RequestMetricsCollectorImpl implements RequestMetricsCollector, RequestMetrics
+{
+    static final int MAX_KEYS = 1000;
+
+    static final String OTHER = "(other)";
+
+    private static final Comparator<Map.Entry<String, TimingHistogram>> BY_DESCENDING_TOTAL_TIME = new Comparator<Map.Entry<String, TimingHistogram>>()
+    {
+        @Override
+        public int compare(Map.Entry<String, TimingHistogram> o1, Map.Entry<String, TimingHistogram> o2)
+        {
+            return Long.compare(o2.getValue().getTotalTime(), o1.getValue().getTotalTime());
+        }
+    };
+
+    /**
+     * A bounded set of histograms, keyed on name.
+     */
+    private static class Timings
+    {
+        private final ConcurrentMap<String, TimingHistogram> histograms = CollectionFactory.newConcurrentMap();
+
+        void record(String name, long nanos)
+        {
+            TimingHistogram histogram = histograms.get(name);
+
+            if (histogram == null)
+            {
+                String key = histograms.size() < MAX_KEYS ? name : OTHER;
+
+                histogram = histograms.get(key);
+
+                if (histogram == null)
+                {
+                    TimingHistogram newHistogram = new TimingHistogram();
+
+                    histogram = histograms.putIfAbsent(key, newHistogram);
+
+                    if (histogram == null)
+                    {
+                        histogram = newHistogram;
+                    }
+                }
+            }
+
+            histogram.record(nanos);
+        }
+
+        Map<String, TimingHistogram> snapshot()
+        {
+            List<Map.Entry<String, TimingHistogram>> entries = new ArrayList<Map.Entry<String, TimingHistogram>>(histograms.entrySet());
+
+            Collections.sort(entries, BY_DESCENDING_TOTAL_TIME);
+
+            Map<String, TimingHistogram> result = new LinkedHashMap<String, TimingHistogram>();
+
+            for (Map.Entry<String, TimingHistogram> entry : entries)
+            {
+                result.put(entry.getKey(), entry.getValue());
+            }
+
+            return Collections.unmodifiableMap(result);
+        }
+    }
+
+    private final boolean enabled;
+
+    private final Timings handlers = new Timings();
+
+    private final Timings pageRenders = new Timings();
+
+    private final Timings componentEvents = new Timings();
+
+    public RequestMetricsCollectorImpl(@Symbol(SymbolConstants.REQUEST_METRICS_ENABLED) boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    @Override
+    public RequestMetrics getRequestMetrics()
+    {
+        return this;
+    }
+
+    @Override
+    public void recordPageRender(String pageName, long nanos)
+    {
+        handlers.record(PAGE_RENDER, nanos);
+        pageRenders.record(pageName, nanos);
+    }
+
+    @Override
+    public void recordComponentEvent(String pageName, String eventType, long nanos)
+    {
+        handlers.record(COMPONENT_EVENT, nanos);
+        componentEvents.record(pageName + ":" + eventType, nanos);
+    }
+
+    @Override
+    public Dispatcher track(final String handler, final Dispatcher dispatcher)
+    {
+        if (!enabled)
+        {
+            return dispatcher;
+        }
+
+        return new Dispatcher()
+        {
+            @Override
+            public boolean dispatch(Request request, Response response) throws IOException
+            {
+                long startNanos = System.nanoTime();
+
+                // Requests that the dispatcher passes on are not timed; failed requests are.
+
+                boolean timed = true;
+
+                try
+                {
+                    boolean handled = dispatcher.dispatch(request, response);
+
+                    timed = handled;
+
+                    return handled;
+                } finally
+                {
+                    if (timed)
+                    {
+                        handlers.record(handler, System.nanoTime() - startNanos);
+                    }
+                }
+            }
+
+            @Override
+            public String toString()
+            {
+                return dispatcher.toString();
+            }
+        };
+    }
+
+    @Override
+    public Map<String, TimingHistogram> getHandlerTimings()
+    {
+        return handlers.snapshot();
+    }
+
+    @Override
+    public Map<String, TimingHistogram> getPageRenderTimings()
+    {
+        return pageRenders.snapshot();
+    }
+
+    @Override
+    public Map<String, TimingHistogram> getComponentEventTimings()
+    {
+        return componentEvents.snapshot();
+    }
+
+    @Override
+    public void reset()
+    {
+        handlers.histograms.clear();
+        pageRenders.histograms.clear();
+        componentEvents.histograms.clear();
+    }
+}
@@ -0,0 +1,69 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.services.ComponentEventRequestFilter;
+import org.apache.tapestry5.services.ComponentEventRequestHandler;
+import org.apache.tapestry5.services.ComponentEventRequestParameters;
+import org.apache.tapestry5.services.PageRenderRequestFilter;
+import org.apache.tapestry5.services.PageRenderRequestHandler;
+import org.apache.tapestry5.services.PageRenderRequestParameters;
+
+import java.io.IOException;
+
+/**
+ * Times page render and component event requests for the {@link org.apache.tapestry5.services.RequestMetrics}
+ * service. Only contributed when {@linkplain org.apache.tapestry5.SymbolConstants#REQUEST_METRICS_ENABLED request
+ * metrics} are enabled.
+ *
+ * @since 5.8.0
+ */
+public class RequestMetricsFilter implements PageRenderRequestFilter, ComponentEventRequestFilter
+{
+    private final RequestMetricsCollector collector;
+
+    public RequestMetricsFilter(RequestMetricsCollector collector)
+    {
+        this.collector = collector;
+    }
+
+    public void handle(PageRenderRequestParameters parameters, PageRenderRequestHandler handler) throws IOException
+    {
+        long startNanos = System.nanoTime();
+
+        try
+        {
+            handler.handle(parameters);
+        } finally
+        {
+            collector.recordPageRender(parameters.getLogicalPageName(), System.nanoTime() - startNanos);
+        }
+    }
+
+    public void handle(ComponentEventRequestParameters parameters, ComponentEventRequestHandler handler)
+            throws IOException
+    {
+        long startNanos = System.nanoTime();
+
+        try
+        {
+            handler.handle(parameters);
+        } finally
+        {
+            collector.recordComponentEvent(parameters.getActivePageName(), parameters.getEventType(),
+                    System.nanoTime() - startNanos);
+        }
+    }
+}
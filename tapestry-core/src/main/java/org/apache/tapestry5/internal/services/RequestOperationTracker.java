@@ -18,6 +18,7 @@ import org.apache.tapestry5.beanmodel.services.*;
 import org.apache.tapestry5.http.services.Request;
 import org.apache.tapestry5.internal.util.Holder;
 import org.apache.tapestry5.ioc.IOOperation;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.services.ComponentEventRequestParameters;
 import org.apache.tapestry5.services.ComponentRequestFilter;
@@ -49,7 +50,7 @@ public class RequestOperationTracker implements ComponentRequestFilter
                 ? parameters.getContainingPageName()
                 : parameters.getContainingPageName() + ":" + parameters.getNestedComponentId();
 
-        tracker.perform(String.format("Handling %s '%s' component event request for %s.",
+        tracker.perform(OperationDescription.format("Handling %s '%s' component event request for %s.",
                 request.isXHR() ? "Ajax" : "traditional",
                 parameters.getEventType(),
                 componentId),
@@ -68,7 +69,7 @@ public class RequestOperationTracker implements ComponentRequestFilter
     {
         final Holder<IOException> holder = Holder.create();
 
-        tracker.run("Handling page render request for page " + parameters.getLogicalPageName(),
+        tracker.run(OperationDescription.format("Handling page render request for page %s", parameters.getLogicalPageName()),
                 new Runnable()
                 {
                     public void run()
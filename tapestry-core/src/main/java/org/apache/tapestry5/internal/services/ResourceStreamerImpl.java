@@ -22,6 +22,7 @@ import org.apache.tapestry5.http.services.Response;
 import org.apache.tapestry5.internal.InternalConstants;
 import org.apache.tapestry5.internal.services.assets.ResourceChangeTracker;
 import org.apache.tapestry5.ioc.IOOperation;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.ioc.annotations.InjectService;
 import org.apache.tapestry5.ioc.annotations.Symbol;
@@ -105,7 +106,7 @@ public class ResourceStreamerImpl implements ResourceStreamer
 
         final boolean compress = providedChecksum.startsWith("z");
 
-        return tracker.perform("Streaming " + resource + (compress ? " (compressed)" : ""), new IOOperation<Boolean>()
+        return tracker.perform(OperationDescription.format("Streaming %s%s", resource, compress ? " (compressed)" : ""), new IOOperation<Boolean>()
         {
             public Boolean perform() throws IOException
             {
@@ -18,6 +18,7 @@ import org.apache.tapestry5.SymbolConstants;
 import org.apache.tapestry5.commons.Resource;
 import org.apache.tapestry5.internal.parser.ComponentTemplate;
 import org.apache.tapestry5.ioc.Invokable;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.ioc.annotations.Symbol;
 
@@ -54,7 +55,7 @@ public class TemplateParserImpl implements TemplateParser
         if (!templateResource.exists())
             throw new RuntimeException(String.format("Template resource %s does not exist.", templateResource));
 
-        return tracker.invoke("Parsing component template " + templateResource, new Invokable<ComponentTemplate>()
+        return tracker.invoke(OperationDescription.format("Parsing component template %s", templateResource), new Invokable<ComponentTemplate>()
         {
             public ComponentTemplate invoke()
             {
@@ -14,8 +14,6 @@
 
 package org.apache.tapestry5.internal.services;
 
-import java.util.BitSet;
-
 import org.apache.tapestry5.services.URLEncoder;
 
 public class URLEncoderImpl implements URLEncoder
@@ -24,63 +22,105 @@ public class URLEncoderImpl implements URLEncoder
     static final String ENCODED_BLANK = "$B";
 
     /**
-     * Bit set indicating which character are safe to pass through (when encoding or decoding) as-is. All other
-     * characters are encoded as a kind of unicode escape.
+     * Indicates which characters (by ASCII value) are safe to pass through (when encoding or decoding) as-is. All
+     * other characters are encoded as a kind of unicode escape.
      */
-    private final BitSet safe = new BitSet(128);
+    private static final boolean[] SAFE = new boolean[128];
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
 
+    static
     {
         markSafe("abcdefghijklmnopqrstuvwxyz");
         markSafe("ABCDEFGHIJKLMNOPQRSTUVWXYZ");
         markSafe("01234567890-_.:");
     }
 
-    private void markSafe(String s)
+    private static void markSafe(String s)
     {
         for (char ch : s.toCharArray())
         {
-            safe.set((int) ch);
+            SAFE[ch] = true;
         }
     }
 
+    private static boolean isSafe(char ch)
+    {
+        return ch < 128 && SAFE[ch];
+    }
+
     public String encode(String input)
     {
         if (input == null)
             return ENCODED_NULL;
 
-        if (input.equals(""))
+        int length = input.length();
+
+        if (length == 0)
             return ENCODED_BLANK;
 
-        boolean dirty = false;
+        int i = 0;
 
-        int length = input.length();
+        while (i < length && isSafe(input.charAt(i)))
+        {
+            i++;
+        }
 
-        StringBuilder output = new StringBuilder(length * 2);
+        if (i == length)
+            return input;
 
-        for (int i = 0; i < length; i++)
+        StringBuilder output = new StringBuilder(length + 16);
+
+        output.append(input, 0, i);
+
+        encode(input, i, output);
+
+        return output.toString();
+    }
+
+    public void encode(String input, StringBuilder output)
+    {
+        if (input == null)
+        {
+            output.append(ENCODED_NULL);
+            return;
+        }
+
+        if (input.isEmpty())
+        {
+            output.append(ENCODED_BLANK);
+            return;
+        }
+
+        encode(input, 0, output);
+    }
+
+    private static void encode(String input, int start, StringBuilder output)
+    {
+        int length = input.length();
+
+        for (int i = start; i < length; i++)
         {
             char ch = input.charAt(i);
 
             if (ch == '$')
             {
                 output.append("$$");
-                dirty = true;
                 continue;
             }
 
-            int chAsInt = (int) ch;
-
-            if (safe.get(chAsInt))
+            if (isSafe(ch))
             {
                 output.append(ch);
                 continue;
             }
 
-            output.append(String.format("$%04x", chAsInt));
-            dirty = true;
+            output.append('$')
+                    .append(HEX[(ch >> 12) & 0xf])
+                    .append(HEX[(ch >> 8) & 0xf])
+                    .append(HEX[(ch >> 4) & 0xf])
+                    .append(HEX[ch & 0xf]);
         }
-
-        return dirty ? output.toString() : input;
     }
 
     public String decode(String input)
@@ -93,11 +133,11 @@ public class URLEncoderImpl implements URLEncoder
         if (input.equals(ENCODED_BLANK))
             return "";
 
-        boolean dirty = false;
-
         int length = input.length();
 
-        StringBuilder output = new StringBuilder(length * 2);
+        // Only allocated once the first escape is found.
+
+        StringBuilder output = null;
 
         for (int i = 0; i < length; i++)
         {
@@ -105,34 +145,30 @@ public class URLEncoderImpl implements URLEncoder
 
             if (ch == '$')
             {
-                dirty = true;
+                if (output == null)
+                {
+                    output = new StringBuilder(length);
+                    output.append(input, 0, i);
+                }
 
                 if (i + 1 < length && input.charAt(i + 1) == '$')
                 {
                     output.append('$');
                     i++;
 
-                    dirty = true;
                     continue;
                 }
 
                 if (i + 4 < length)
                 {
-                    String hex = input.substring(i + 1, i + 5);
+                    int unicode = parseHex(input, i + 1);
 
-                    try
+                    if (unicode >= 0)
                     {
-                        int unicode = Integer.parseInt(hex, 16);
-
                         output.append((char) unicode);
                         i += 4;
-                        dirty = true;
                         continue;
                     }
-                    catch (NumberFormatException ex)
-                    {
-                        // Ignore.
-                    }
                 }
 
                 throw new IllegalArgumentException(
@@ -141,13 +177,34 @@ public class URLEncoderImpl implements URLEncoder
                                 input, i + 1));
             }
 
-            if (!safe.get((int) ch)) { throw new IllegalArgumentException(
+            if (!isSafe(ch)) { throw new IllegalArgumentException(
                     String.format("Input string '%s' is not valid; the character '%s' at position %d is not valid.",
                             input, ch, i + 1)); }
 
-            output.append(ch);
+            if (output != null)
+                output.append(ch);
+        }
+
+        return output == null ? input : output.toString();
+    }
+
+    /**
+     * Parses the four hex digits starting at the offset, returning -1 if any of them is not a hex digit.
+     */
+    private static int parseHex(String input, int offset)
+    {
+        int result = 0;
+
+        for (int i = offset; i < offset + 4; i++)
+        {
+            int digit = Character.digit(input.charAt(i), 16);
+
+            if (digit < 0)
+                return -1;
+
+            result = (result << 4) | digit;
         }
 
-        return dirty ? output.toString() : input;
+        return result;
     }
 }
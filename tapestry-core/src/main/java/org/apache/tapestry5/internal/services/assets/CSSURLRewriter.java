@@ -23,6 +23,7 @@ import org.apache.tapestry5.SymbolConstants;
 import org.apache.tapestry5.commons.Resource;
 import org.apache.tapestry5.http.ContentType;
 import org.apache.tapestry5.ioc.IOOperation;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.services.AssetNotFoundException;
 import org.apache.tapestry5.services.AssetSource;
@@ -105,7 +106,7 @@ public class CSSURLRewriter extends DelegatingSRS
 
     private StreamableResource filter(final StreamableResource base, final Resource baseResource) throws IOException
     {
-        return tracker.perform("Rewriting relative URLs in " + baseResource,
+        return tracker.perform(OperationDescription.format("Rewriting relative URLs in %s", baseResource),
                 new IOOperation<StreamableResource>()
                 {
                     public StreamableResource perform() throws IOException
@@ -16,6 +16,7 @@ import org.apache.tapestry5.http.services.Request;
 import org.apache.tapestry5.http.services.Response;
 import org.apache.tapestry5.internal.services.ResourceStreamer;
 import org.apache.tapestry5.ioc.IOOperation;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.services.LocalizationSetter;
 import org.apache.tapestry5.services.assets.AssetRequestHandler;
@@ -63,7 +64,7 @@ public class StackAssetRequestHandler implements AssetRequestHandler
 
     public boolean handleAssetRequest(Request request, Response response, final String extraPath) throws IOException
     {
-        return tracker.perform(String.format("Streaming JavaScript asset stack %s", extraPath),
+        return tracker.perform(OperationDescription.format("Streaming JavaScript asset stack %s", extraPath),
                 new IOOperation<Boolean>()
                 {
                     public Boolean perform() throws IOException
@@ -110,7 +111,7 @@ public class StackAssetRequestHandler implements AssetRequestHandler
         localizationSetter.setNonPersistentLocaleFromLocaleName(localeName);
 
         StreamableResource resource =
-                tracker.perform(String.format("Assembling JavaScript asset stack '%s' (%s)",
+                tracker.perform(OperationDescription.format("Assembling JavaScript asset stack '%s' (%s)",
                                 stackName, localeName),
                         new IOOperation<StreamableResource>()
                         {
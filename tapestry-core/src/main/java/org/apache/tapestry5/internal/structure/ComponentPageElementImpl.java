@@ -127,6 +127,10 @@ public class ComponentPageElementImpl extends BaseLocatable implements Component
 
         void invoke(MarkupWriter writer, Event event)
         {
+            // Component code may change the state that memoized binding values were derived from.
+
+            elementResources.invalidateMemoizedBindings();
+
             try
             {
                 if (components == null)
@@ -152,6 +156,9 @@ public class ComponentPageElementImpl extends BaseLocatable implements Component
             catch (Exception ex)
             {
                 throw new TapestryException(ex.getMessage(), getLocation(), ex);
+            } finally
+            {
+                elementResources.invalidateMemoizedBindings();
             }
 
         }
@@ -944,6 +951,8 @@ public class ComponentPageElementImpl extends BaseLocatable implements Component
      */
     private void invoke(boolean reverse, ComponentCallback callback)
     {
+        elementResources.invalidateMemoizedBindings();
+
         try
         { // Optimization: In the most general case (just the one component, no mixins)
             // invoke the callback on the component and be done ... no iterators, no nothing.
@@ -966,6 +975,9 @@ public class ComponentPageElementImpl extends BaseLocatable implements Component
         } catch (RuntimeException ex)
         {
             throw new TapestryException(ex.getMessage(), getLocation(), ex);
+        } finally
+        {
+            elementResources.invalidateMemoizedBindings();
         }
     }
 
@@ -1045,7 +1057,15 @@ public class ComponentPageElementImpl extends BaseLocatable implements Component
         {
             public Boolean invoke()
             {
-                return processEventTriggering(eventType, context, callback);
+                elementResources.invalidateMemoizedBindings();
+
+                try
+                {
+                    return processEventTriggering(eventType, context, callback);
+                } finally
+                {
+                    elementResources.invalidateMemoizedBindings();
+                }
             }
         });
     }
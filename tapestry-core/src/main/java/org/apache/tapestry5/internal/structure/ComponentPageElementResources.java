@@ -150,4 +150,12 @@ public interface ComponentPageElementResources extends ContextValueEncoder, Oper
      * @since 5.4
      */
     boolean isRenderTracingEnabled();
+
+    /**
+     * Discards any memoized binding values (see {@link org.apache.tapestry5.SymbolConstants#MEMOIZE_BINDINGS}),
+     * as component code is about to run.
+     *
+     * @since 5.8.0
+     */
+    void invalidateMemoizedBindings();
 }
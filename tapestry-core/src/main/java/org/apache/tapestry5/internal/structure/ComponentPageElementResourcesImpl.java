@@ -21,6 +21,7 @@ import org.apache.tapestry5.commons.util.CommonsUtils;
 import org.apache.tapestry5.http.Link;
 import org.apache.tapestry5.http.services.Request;
 import org.apache.tapestry5.http.services.RequestGlobals;
+import org.apache.tapestry5.internal.services.BindingMemo;
 import org.apache.tapestry5.internal.services.ComponentClassCache;
 import org.apache.tapestry5.internal.services.LinkSource;
 import org.apache.tapestry5.internal.services.RequestPageCache;
@@ -38,6 +39,7 @@ import org.apache.tapestry5.services.pageload.ComponentResourceSelector;
 import org.slf4j.Logger;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 public class ComponentPageElementResourcesImpl implements ComponentPageElementResources
 {
@@ -67,11 +69,14 @@ public class ComponentPageElementResourcesImpl implements ComponentPageElementRe
 
     private final RequestGlobals requestGlobals;
 
+    private final BindingMemo bindingMemo;
+
     public ComponentPageElementResourcesImpl(ComponentResourceSelector selector,
                                              ComponentMessagesSource componentMessagesSource, TypeCoercer typeCoercer,
                                              ComponentClassCache componentClassCache, ContextValueEncoder contextValueEncoder, LinkSource linkSource,
                                              RequestPageCache requestPageCache, ComponentClassResolver componentClassResolver,
-                                             LoggerSource loggerSource, OperationTracker tracker, PerthreadManager perThreadManager, boolean productionMode, boolean componentTracingEnabled, RequestGlobals requestGlobals)
+                                             LoggerSource loggerSource, OperationTracker tracker, PerthreadManager perThreadManager, boolean productionMode, boolean componentTracingEnabled, RequestGlobals requestGlobals,
+                                             BindingMemo bindingMemo)
     {
         this.selector = selector;
         this.componentMessagesSource = componentMessagesSource;
@@ -87,6 +92,7 @@ public class ComponentPageElementResourcesImpl implements ComponentPageElementRe
         this.productionMode = productionMode;
         this.componentTracingEnabled = componentTracingEnabled;
         this.requestGlobals = requestGlobals;
+        this.bindingMemo = bindingMemo != null && bindingMemo.isMemoizationEnabled() ? bindingMemo : null;
     }
 
     public ComponentResourceSelector getSelector()
@@ -168,6 +174,21 @@ public class ComponentPageElementResourcesImpl implements ComponentPageElementRe
         tracker.run(description, operation);
     }
 
+    public <T> T invoke(Supplier<String> description, Invokable<T> operation)
+    {
+        return tracker.invoke(description, operation);
+    }
+
+    public <T> T perform(Supplier<String> description, IOOperation<T> operation) throws IOException
+    {
+        return tracker.perform(description, operation);
+    }
+
+    public void run(Supplier<String> description, Runnable operation)
+    {
+        tracker.run(description, operation);
+    }
+
     public <T> PerThreadValue<T> createPerThreadValue()
     {
         return perThreadManager.createValue();
@@ -195,4 +216,11 @@ public class ComponentPageElementResourcesImpl implements ComponentPageElementRe
         return "true".equals(request.getParameter("t:component-trace"));
     }
 
+    public void invalidateMemoizedBindings()
+    {
+        if (bindingMemo != null)
+        {
+            bindingMemo.invalidate();
+        }
+    }
 }
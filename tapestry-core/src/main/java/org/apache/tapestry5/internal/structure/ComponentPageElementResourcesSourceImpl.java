@@ -19,6 +19,7 @@ import org.apache.tapestry5.commons.services.TypeCoercer;
 import org.apache.tapestry5.commons.util.CollectionFactory;
 import org.apache.tapestry5.http.TapestryHttpSymbolConstants;
 import org.apache.tapestry5.http.services.RequestGlobals;
+import org.apache.tapestry5.internal.services.BindingMemo;
 import org.apache.tapestry5.internal.services.ComponentClassCache;
 import org.apache.tapestry5.internal.services.LinkSource;
 import org.apache.tapestry5.internal.services.RequestPageCache;
@@ -62,13 +63,15 @@ public class ComponentPageElementResourcesSourceImpl implements ComponentPageEle
 
     private final RequestGlobals requestGlobals;
 
+    private final BindingMemo bindingMemo;
+
     public ComponentPageElementResourcesSourceImpl(ComponentMessagesSource componentMessagesSource,
             TypeCoercer typeCoercer, ComponentClassCache componentClassCache, ContextValueEncoder contextValueEncoder,
             LinkSource linkSource, RequestPageCache requestPageCache, ComponentClassResolver componentClassResolver,
             LoggerSource loggerSource, OperationTracker tracker, PerthreadManager perThreadManager,
             @Symbol(TapestryHttpSymbolConstants.PRODUCTION_MODE) boolean productionMode,
             @Symbol(SymbolConstants.COMPONENT_RENDER_TRACING_ENABLED) boolean componentTracingEnabled,
-            RequestGlobals requestGlobals)
+            RequestGlobals requestGlobals, BindingMemo bindingMemo)
     {
         this.componentMessagesSource = componentMessagesSource;
         this.typeCoercer = typeCoercer;
@@ -83,6 +86,7 @@ public class ComponentPageElementResourcesSourceImpl implements ComponentPageEle
         this.productionMode = productionMode;
         this.componentTracingEnabled = componentTracingEnabled;
         this.requestGlobals = requestGlobals;
+        this.bindingMemo = bindingMemo;
     }
 
     public ComponentPageElementResources get(ComponentResourceSelector selector)
@@ -95,7 +99,8 @@ public class ComponentPageElementResourcesSourceImpl implements ComponentPageEle
         {
             result = new ComponentPageElementResourcesImpl(selector, componentMessagesSource, typeCoercer,
                     componentClassCache, contextValueEncoder, linkSource, requestPageCache, componentClassResolver,
-                    loggerSource, tracker, perThreadManager, productionMode, componentTracingEnabled, requestGlobals);
+                    loggerSource, tracker, perThreadManager, productionMode, componentTracingEnabled, requestGlobals,
+                    bindingMemo);
 
             // Small race condition here, where we may create two instances of the CPER for the same locale,
             // but that's not worth worrying about.
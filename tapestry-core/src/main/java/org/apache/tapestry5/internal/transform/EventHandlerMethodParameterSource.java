@@ -15,6 +15,7 @@
 package org.apache.tapestry5.internal.transform;
 
 import org.apache.tapestry5.ioc.Invokable;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.runtime.ComponentEvent;
 
@@ -63,7 +64,8 @@ public class EventHandlerMethodParameterSource
         // Hopefully this will not be too much overhead; it's really nice to be able to track what parameter
         // caused a failure.
 
-        return operationTracker.invoke("Obtaining value for parameter #" + (index + 1) + " of "+ methodIdentifier,
+        return operationTracker.invoke(OperationDescription.format("Obtaining value for parameter #%d of %s",
+                index + 1, methodIdentifier),
                 new ParameterExtractor(providers, index, event));
     }
 }
@@ -16,6 +16,7 @@ import org.apache.tapestry5.commons.ObjectLocator;
 import org.apache.tapestry5.commons.util.ExceptionUtils;
 import org.apache.tapestry5.func.F;
 import org.apache.tapestry5.func.Predicate;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.ioc.annotations.Inject;
 import org.apache.tapestry5.model.MutableComponentModel;
@@ -63,7 +64,7 @@ public class InjectWorker implements ComponentClassTransformWorker2
         {
             final String fieldName = field.getName();
 
-            tracker.run(String.format("Injecting field  %s.%s", plasticClass.getClassName(), fieldName), new Runnable()
+            tracker.run(OperationDescription.format("Injecting field  %s.%s", plasticClass.getClassName(), fieldName), new Runnable()
             {
                 public void run()
                 {
@@ -17,6 +17,7 @@ import org.apache.tapestry5.annotations.Parameter;
 import org.apache.tapestry5.commons.services.TypeCoercer;
 import org.apache.tapestry5.internal.InternalComponentResources;
 import org.apache.tapestry5.plastic.FieldConduit;
+import org.apache.tapestry5.plastic.PrimitiveFieldConduit;
 
 /**
  * A facade around {@link Binding} and {@link InternalComponentResources} that is used to instrument
@@ -28,9 +29,12 @@ import org.apache.tapestry5.plastic.FieldConduit;
  *
  * {@link #set(Object, org.apache.tapestry5.plastic.InstanceContext, Object)} pushes the value into the binding.
  *
+ * A primitive field bound to a "prop:" expression of the same type is read through the {@link PrimitiveFieldConduit}
+ * methods, which read the property without boxing it.
+ *
  * @since 5.2.0
  */
-public interface ParameterConduit extends FieldConduit<Object>
+public interface ParameterConduit extends PrimitiveFieldConduit<Object>
 {
     /**
      * Determines if the parameter is actually bound.
@@ -24,6 +24,7 @@ import org.apache.tapestry5.func.Flow;
 import org.apache.tapestry5.func.Predicate;
 import org.apache.tapestry5.internal.InternalComponentResources;
 import org.apache.tapestry5.internal.bindings.LiteralBinding;
+import org.apache.tapestry5.internal.bindings.PropBinding;
 import org.apache.tapestry5.internal.services.ComponentClassCache;
 import org.apache.tapestry5.ioc.internal.util.InternalUtils;
 import org.apache.tapestry5.ioc.services.PerThreadValue;
@@ -58,11 +59,25 @@ public class ParameterWorker implements ComponentClassTransformWorker2
 
         Object value;
 
+        /**
+         * True when the cached value was read from the binding without boxing, and is stored in bits rather than value.
+         */
+        boolean unboxed;
+
+        long bits;
+
         void reset(Object defaultValue)
         {
             cached = false;
+            unboxed = false;
             value = defaultValue;
         }
+
+        void setValue(Object newValue)
+        {
+            unboxed = false;
+            value = newValue;
+        }
     }
 
     private final ComponentClassCache classCache;
@@ -188,6 +203,12 @@ public class ParameterWorker implements ComponentClassTransformWorker2
 
                     private Binding parameterBinding;
 
+                    /**
+                     * The parameter binding, when the field is primitive and bound to a property of the same type that
+                     * can be read without boxing.
+                     */
+                    private PropBinding primitiveBinding;
+
                     boolean loaded = false;
 
                     private boolean invariant = false;
@@ -235,7 +256,7 @@ public class ParameterWorker implements ComponentClassTransformWorker2
 
                         if (!loaded)
                         {
-                            state.value = newValue;
+                            state.setValue(newValue);
                             defaultValue = newValue;
                             return;
                         }
@@ -244,7 +265,7 @@ public class ParameterWorker implements ComponentClassTransformWorker2
 
                         writeToBinding(newValue);
 
-                        state.value = newValue;
+                        state.setValue(newValue);
 
                         // If caching is enabled for the parameter (the typical case) and the
                         // component is currently rendering, then the result
@@ -265,9 +286,7 @@ public class ParameterWorker implements ComponentClassTransformWorker2
                             result = typeCoercer.coerce(boundValue, fieldType);
                         } catch (RuntimeException ex)
                         {
-                            throw new TapestryException(String.format(
-                                    "Failure reading parameter '%s' of component %s: %s", parameterName,
-                                    icr.getCompleteId(), ExceptionUtils.toMessage(ex)), parameterBinding, ex);
+                            throw readFailure(ex);
                         }
 
                         if (result == null && !allowNull)
@@ -281,6 +300,93 @@ public class ParameterWorker implements ComponentClassTransformWorker2
                         return result;
                     }
 
+                    private TapestryException readFailure(RuntimeException ex)
+                    {
+                        return new TapestryException(String.format(
+                                "Failure reading parameter '%s' of component %s: %s", parameterName,
+                                icr.getCompleteId(), ExceptionUtils.toMessage(ex)), parameterBinding, ex);
+                    }
+
+                    /**
+                     * Reads the value of a primitive parameter from its {@linkplain #primitiveBinding binding} (or from
+                     * the cache) without boxing it; the value is returned as the bits of a long.
+                     */
+                    private long readPrimitive()
+                    {
+                        ParameterState state = getState();
+
+                        if (state.cached)
+                        {
+                            return state.unboxed ? state.bits : toBits(state.value);
+                        }
+
+                        long bits;
+
+                        try
+                        {
+                            if (fieldType == int.class)
+                            {
+                                bits = primitiveBinding.getInt();
+                            } else if (fieldType == long.class)
+                            {
+                                bits = primitiveBinding.getLong();
+                            } else if (fieldType == double.class)
+                            {
+                                bits = Double.doubleToRawLongBits(primitiveBinding.getDouble());
+                            } else
+                            {
+                                bits = primitiveBinding.getBoolean() ? 1L : 0L;
+                            }
+                        } catch (RuntimeException ex)
+                        {
+                            throw readFailure(ex);
+                        }
+
+                        if (invariant || (annotation.cache() && icr.isRendering()))
+                        {
+                            state.bits = bits;
+                            state.unboxed = true;
+                            state.cached = true;
+                        }
+
+                        return bits;
+                    }
+
+                    private long toBits(Object value)
+                    {
+                        if (fieldType == double.class)
+                        {
+                            return Double.doubleToRawLongBits((Double) value);
+                        }
+
+                        if (fieldType == boolean.class)
+                        {
+                            return (Boolean) value ? 1L : 0L;
+                        }
+
+                        return ((Number) value).longValue();
+                    }
+
+                    private Object fromBits(long bits)
+                    {
+                        if (fieldType == int.class)
+                        {
+                            return (int) bits;
+                        }
+
+                        if (fieldType == long.class)
+                        {
+                            return bits;
+                        }
+
+                        if (fieldType == double.class)
+                        {
+                            return Double.longBitsToDouble(bits);
+                        }
+
+                        return bits != 0L;
+                    }
+
                     private void writeToBinding(Object newValue)
                     {
                         // An unbound parameter acts like a simple field
@@ -349,11 +455,22 @@ public class ParameterWorker implements ComponentClassTransformWorker2
 
                         parameterBinding = icr.getBinding(parameterName);
 
+                        // A parameter that is not cached is expected to see the current value on every read.
+
+                        if (!annotation.cache() && parameterBinding instanceof PropBinding)
+                        {
+                            ((PropBinding) parameterBinding).disableMemoization();
+                        }
+
                         loaded = true;
 
                         invariant = parameterBinding != null && parameterBinding.isInvariant();
 
-                        getState().value = defaultValue;
+                        primitiveBinding = parameterBinding instanceof PropBinding
+                                && ((PropBinding) parameterBinding).getPrimitiveType() == fieldType
+                                ? (PropBinding) parameterBinding : null;
+
+                        getState().setValue(defaultValue);
                     }
 
                     public boolean isBound()
@@ -372,7 +489,7 @@ public class ParameterWorker implements ComponentClassTransformWorker2
 
                         if (state.cached || !isBound())
                         {
-                            return state.value;
+                            return state.unboxed ? fromBits(state.bits) : state.value;
                         }
 
                         // Read the parameter's binding and cast it to the
@@ -387,13 +504,37 @@ public class ParameterWorker implements ComponentClassTransformWorker2
 
                         if (invariant || (annotation.cache() && icr.isRendering()))
                         {
-                            state.value = result;
+                            state.setValue(result);
                             state.cached = true;
                         }
 
                         return result;
                     }
 
+                    // A primitive field is read through these methods (rather than get()) when it is bound to a
+                    // property of the same type, so that the value is not boxed.
+
+                    public int getInt(Object instance, InstanceContext context)
+                    {
+                        return primitiveBinding == null ? (Integer) get(instance, context) : (int) readPrimitive();
+                    }
+
+                    public long getLong(Object instance, InstanceContext context)
+                    {
+                        return primitiveBinding == null ? (Long) get(instance, context) : readPrimitive();
+                    }
+
+                    public double getDouble(Object instance, InstanceContext context)
+                    {
+                        return primitiveBinding == null ? (Double) get(instance, context)
+                                : Double.longBitsToDouble(readPrimitive());
+                    }
+
+                    public boolean getBoolean(Object instance, InstanceContext context)
+                    {
+                        return primitiveBinding == null ? (Boolean) get(instance, context) : readPrimitive() != 0L;
+                    }
+
                     private Binding getDefaultBindingForParameter()
                     {
                         if (InternalUtils.isNonBlank(annotation.value()))
@@ -0,0 +1,44 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.util;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+
+/**
+ * Implemented by serializable objects (typically, {@link org.apache.tapestry5.ComponentAction}s) that are frequently
+ * written to a {@link CompactObjectOutputStream}, so that they can be written as just their class name (written only
+ * once per stream) and their state, and read back without Java serialization. When written to an ordinary
+ * ObjectOutputStream, the object is serialized as normal (its serialized form is unchanged).
+ *
+ * Implementations must have a no-arguments constructor (which need not be public), used to create the instance
+ * before {@link #readCompact(ObjectInput)} is invoked.
+ *
+ * @since 5.8.0
+ */
+public interface CompactExternalizable extends Serializable
+{
+    /**
+     * Writes the object's state.
+     */
+    void writeCompact(ObjectOutput out) throws IOException;
+
+    /**
+     * Restores the object's state, as written by {@link #writeCompact(ObjectOutput)}.
+     */
+    void readCompact(ObjectInput in) throws IOException, ClassNotFoundException;
+}
@@ -0,0 +1,612 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.util;
+
+import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.apache.tapestry5.commons.util.ExceptionUtils;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.NotActiveException;
+import java.io.ObjectInputStream;
+import java.io.ObjectInputValidation;
+import java.io.ObjectStreamClass;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.tapestry5.internal.util.CompactObjectOutputStream.*;
+
+/**
+ * Reads the format written by {@link CompactObjectOutputStream}. Reading past the end of the data throws an
+ * {@link EOFException}, as with a normal ObjectInputStream.
+ *
+ * @since 5.8.0
+ */
+public class CompactObjectInputStream extends ObjectInputStream
+{
+    private final InputStream in;
+
+    private final ClassLoader classLoader;
+
+    private final byte[] main;
+
+    private int position;
+
+    private final List<String> strings = CollectionFactory.newList();
+
+    private final List<Object> objects = CollectionFactory.newList();
+
+    private final Map<String, Class<?>> classes = CollectionFactory.newMap();
+
+    /**
+     * No-arguments constructors of {@link CompactExternalizable} classes.
+     */
+    private static final ClassValue<Constructor<?>> CONSTRUCTORS = new ClassValue<Constructor<?>>()
+    {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type)
+        {
+            try
+            {
+                Constructor<?> result = type.getDeclaredConstructor();
+
+                result.setAccessible(true);
+
+                return result;
+            } catch (NoSuchMethodException ex)
+            {
+                return null;
+            }
+        }
+    };
+
+    private ObjectInputStream serialized;
+
+    /**
+     * @param in
+     *         stream of data written by a {@link CompactObjectOutputStream}
+     * @param classLoader
+     *         used to resolve the classes of enums and serialized objects, or null to use the thread's context class
+     *         loader
+     */
+    public CompactObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException
+    {
+        super();
+
+        this.in = in;
+        this.classLoader = classLoader != null ? classLoader : defaultClassLoader();
+
+        int length = 0;
+
+        for (int shift = 0; ; shift += 7)
+        {
+            int b = in.read();
+
+            if (b < 0 || shift > 28)
+            {
+                throw new StreamCorruptedException("Compact object stream header is missing or invalid.");
+            }
+
+            length |= (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0)
+            {
+                break;
+            }
+        }
+
+        main = new byte[length];
+
+        int offset = 0;
+
+        while (offset < length)
+        {
+            int count = in.read(main, offset, length - offset);
+
+            if (count < 0)
+            {
+                throw new EOFException("Compact object stream is truncated.");
+            }
+
+            offset += count;
+        }
+    }
+
+    private static ClassLoader defaultClassLoader()
+    {
+        ClassLoader result = Thread.currentThread().getContextClassLoader();
+
+        return result != null ? result : CompactObjectInputStream.class.getClassLoader();
+    }
+
+    @Override
+    protected Object readObjectOverride() throws IOException, ClassNotFoundException
+    {
+        int tag = next();
+
+        switch (tag)
+        {
+            case NULL:
+                return null;
+
+            case STRING:
+                return readString();
+
+            case TRUE:
+                return Boolean.TRUE;
+
+            case FALSE:
+                return Boolean.FALSE;
+
+            case INTEGER:
+                return (int) unZigZag(readVarLong());
+
+            case LONG:
+                return unZigZag(readVarLong());
+
+            case SHORT:
+                return (short) unZigZag(readVarLong());
+
+            case BYTE:
+                return (byte) next();
+
+            case CHARACTER:
+                return (char) readVarLong();
+
+            case FLOAT:
+                return Float.intBitsToFloat((int) readFixed(4));
+
+            case DOUBLE:
+                return Double.longBitsToDouble(readFixed(8));
+
+            case ENUM:
+                return readEnum();
+
+            case SERIALIZED:
+                return readSerialized();
+
+            case EXTERNALIZABLE:
+                return readExternalizable();
+
+            case REFERENCE:
+                return readReference();
+
+            default:
+                throw new StreamCorruptedException(String.format("Invalid type tag %d in compact object stream.", tag));
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object readEnum() throws IOException, ClassNotFoundException
+    {
+        String className = readString();
+        String name = readString();
+
+        Class type = Class.forName(className, false, classLoader);
+
+        if (!type.isEnum())
+        {
+            throw new InvalidClassException(className, "Not an enum type.");
+        }
+
+        try
+        {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException ex)
+        {
+            throw new InvalidClassException(className, String.format("No enum constant named '%s'.", name));
+        }
+    }
+
+    private Object readSerialized() throws IOException, ClassNotFoundException
+    {
+        // Reserve the index first, just as the output stream does.
+
+        int index = objects.size();
+
+        objects.add(null);
+
+        Object result = serialized().readObject();
+
+        objects.set(index, result);
+
+        return result;
+    }
+
+    private Object readExternalizable() throws IOException, ClassNotFoundException
+    {
+        String className = readString();
+
+        Class<?> type = classes.get(className);
+
+        if (type == null)
+        {
+            type = Class.forName(className, false, classLoader);
+
+            if (!CompactExternalizable.class.isAssignableFrom(type))
+            {
+                throw new InvalidClassException(className, "Does not implement CompactExternalizable.");
+            }
+
+            classes.put(className, type);
+        }
+
+        Constructor<?> constructor = CONSTRUCTORS.get(type);
+
+        if (constructor == null)
+        {
+            throw new InvalidClassException(className, "No no-arguments constructor.");
+        }
+
+        CompactExternalizable result;
+
+        try
+        {
+            result = (CompactExternalizable) constructor.newInstance();
+        } catch (Exception ex)
+        {
+            InvalidClassException ice = new InvalidClassException(className, "Unable to instantiate: " + ExceptionUtils.toMessage(ex));
+
+            ice.initCause(ex);
+
+            throw ice;
+        }
+
+        objects.add(result);
+
+        result.readCompact(this);
+
+        return result;
+    }
+
+    private Object readReference() throws IOException
+    {
+        long index = readVarLong();
+
+        if (index >= objects.size())
+        {
+            throw new StreamCorruptedException(String.format("Invalid object reference %d in compact object stream.", index));
+        }
+
+        return objects.get((int) index);
+    }
+
+    private ObjectInputStream serialized() throws IOException
+    {
+        if (serialized == null)
+        {
+            serialized = new ObjectInputStream(in)
+            {
+                @Override
+                protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException
+                {
+                    try
+                    {
+                        return Class.forName(desc.getName(), false, classLoader);
+                    } catch (ClassNotFoundException ex)
+                    {
+                        return super.resolveClass(desc);
+                    }
+                }
+            };
+        }
+
+        return serialized;
+    }
+
+    @Override
+    public Object readUnshared() throws IOException, ClassNotFoundException
+    {
+        return readObjectOverride();
+    }
+
+    @Override
+    public void defaultReadObject() throws IOException
+    {
+        throw new NotActiveException("CompactObjectInputStream does not support defaultReadObject().");
+    }
+
+    @Override
+    public GetField readFields() throws IOException
+    {
+        throw new NotActiveException("CompactObjectInputStream does not support readFields().");
+    }
+
+    @Override
+    public void registerValidation(ObjectInputValidation obj, int prio) throws NotActiveException
+    {
+        throw new NotActiveException("CompactObjectInputStream does not support registerValidation().");
+    }
+
+    @Override
+    public int read()
+    {
+        return position < main.length ? main[position++] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] buf, int off, int len)
+    {
+        if (len == 0)
+        {
+            return 0;
+        }
+
+        int count = Math.min(len, main.length - position);
+
+        if (count <= 0)
+        {
+            return -1;
+        }
+
+        System.arraycopy(main, position, buf, off, count);
+
+        position += count;
+
+        return count;
+    }
+
+    @Override
+    public int available()
+    {
+        return main.length - position;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        in.close();
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException
+    {
+        return next() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException
+    {
+        return (byte) next();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException
+    {
+        return next();
+    }
+
+    @Override
+    public char readChar() throws IOException
+    {
+        return (char) readFixed(2);
+    }
+
+    @Override
+    public short readShort() throws IOException
+    {
+        return (short) readFixed(2);
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException
+    {
+        return (int) readFixed(2);
+    }
+
+    @Override
+    public int readInt() throws IOException
+    {
+        return (int) unZigZag(readVarLong());
+    }
+
+    @Override
+    public long readLong() throws IOException
+    {
+        return unZigZag(readVarLong());
+    }
+
+    @Override
+    public float readFloat() throws IOException
+    {
+        return Float.intBitsToFloat((int) readFixed(4));
+    }
+
+    @Override
+    public double readDouble() throws IOException
+    {
+        return Double.longBitsToDouble(readFixed(8));
+    }
+
+    @Override
+    public void readFully(byte[] buf) throws IOException
+    {
+        readFully(buf, 0, buf.length);
+    }
+
+    @Override
+    public void readFully(byte[] buf, int off, int len) throws IOException
+    {
+        if (len > main.length - position)
+        {
+            throw new EOFException();
+        }
+
+        System.arraycopy(main, position, buf, off, len);
+
+        position += len;
+    }
+
+    @Override
+    public int skipBytes(int len)
+    {
+        int count = Math.max(0, Math.min(len, main.length - position));
+
+        position += count;
+
+        return count;
+    }
+
+    /**
+     * @deprecated As with {@link java.io.DataInputStream#readLine()}, this does not properly convert bytes to
+     * characters.
+     */
+    @Override
+    @Deprecated
+    public String readLine() throws IOException
+    {
+        if (position >= main.length)
+        {
+            return null;
+        }
+
+        StringBuilder builder = new StringBuilder();
+
+        while (position < main.length)
+        {
+            int ch = main[position++] & 0xFF;
+
+            if (ch == '\n')
+            {
+                break;
+            }
+
+            if (ch == '\r')
+            {
+                if (position < main.length && main[position] == '\n')
+                {
+                    position++;
+                }
+
+                break;
+            }
+
+            builder.append((char) ch);
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOException
+    {
+        return readString();
+    }
+
+    private String readString() throws IOException
+    {
+        long token = readVarLong();
+
+        if ((token & 1) != 0)
+        {
+            long index = token >>> 1;
+
+            if (index >= strings.size())
+            {
+                throw new StreamCorruptedException(String.format("Invalid string reference %d in compact object stream.", index));
+            }
+
+            return strings.get((int) index);
+        }
+
+        long byteCount = token >>> 1;
+
+        if (byteCount > main.length - position)
+        {
+            throw new EOFException();
+        }
+
+        int end = position + (int) byteCount;
+
+        char[] chars = new char[(int) byteCount];
+        int length = 0;
+
+        while (position < end)
+        {
+            int b = main[position++] & 0xFF;
+
+            if (b < 0x80)
+            {
+                chars[length++] = (char) b;
+            } else if ((b & 0xE0) == 0xC0 && position < end)
+            {
+                chars[length++] = (char) (((b & 0x1F) << 6) | (main[position++] & 0x3F));
+            } else if ((b & 0xF0) == 0xE0 && position + 1 < end)
+            {
+                chars[length++] = (char) (((b & 0x0F) << 12) | ((main[position] & 0x3F) << 6) | (main[position + 1] & 0x3F));
+                position += 2;
+            } else
+            {
+                throw new StreamCorruptedException("Malformed string in compact object stream.");
+            }
+        }
+
+        String result = new String(chars, 0, length);
+
+        strings.add(result);
+
+        return result;
+    }
+
+    private int next() throws EOFException
+    {
+        if (position >= main.length)
+        {
+            throw new EOFException();
+        }
+
+        return main[position++] & 0xFF;
+    }
+
+    private long readVarLong() throws IOException
+    {
+        long result = 0;
+
+        for (int shift = 0; shift < 64; shift += 7)
+        {
+            int b = next();
+
+            result |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0)
+            {
+                return result;
+            }
+        }
+
+        throw new StreamCorruptedException("Malformed number in compact object stream.");
+    }
+
+    private long readFixed(int bytes) throws EOFException
+    {
+        long result = 0;
+
+        for (int i = 0; i < bytes; i++)
+        {
+            result = (result << 8) | next();
+        }
+
+        return result;
+    }
+
+    private static long unZigZag(long value)
+    {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,449 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.util;
+
+import org.apache.tapestry5.commons.util.CollectionFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotActiveException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * An ObjectOutputStream that writes a compact binary format, rather than the Java serialization format. Strings,
+ * the primitive wrapper types, and enums are written as a type tag followed by their value; numbers are written as
+ * variable length integers, and each distinct string (whether written as an object, or via {@link #writeUTF(String)})
+ * is written only once, later occurrences being written as a reference to the first. Any other object is written
+ * using Java serialization, into a separate section of the output, so that class descriptors are shared between all
+ * such objects, just as with a normal ObjectOutputStream. Primitive values are written in the same compact form, so
+ * the output can only be read by a {@link CompactObjectInputStream}.
+ *
+ * The output is buffered; it is written to the underlying stream when this stream is closed.
+ *
+ * @since 5.8.0
+ */
+public class CompactObjectOutputStream extends ObjectOutputStream
+{
+    static final int NULL = 0;
+
+    static final int STRING = 1;
+
+    static final int TRUE = 2;
+
+    static final int FALSE = 3;
+
+    static final int INTEGER = 4;
+
+    static final int LONG = 5;
+
+    static final int SHORT = 6;
+
+    static final int BYTE = 7;
+
+    static final int CHARACTER = 8;
+
+    static final int FLOAT = 9;
+
+    static final int DOUBLE = 10;
+
+    static final int ENUM = 11;
+
+    static final int SERIALIZED = 12;
+
+    static final int EXTERNALIZABLE = 13;
+
+    static final int REFERENCE = 14;
+
+    private final OutputStream out;
+
+    private final ByteArrayOutputStream main = new ByteArrayOutputStream(256);
+
+    private final Map<String, Integer> strings = CollectionFactory.newMap();
+
+    private final Map<Object, Integer> objects = new IdentityHashMap<Object, Integer>();
+
+    private ByteArrayOutputStream serializedBuffer;
+
+    private ObjectOutputStream serialized;
+
+    private boolean closed;
+
+    public CompactObjectOutputStream(OutputStream out) throws IOException
+    {
+        super();
+
+        this.out = out;
+    }
+
+    @Override
+    protected void writeObjectOverride(Object obj) throws IOException
+    {
+        if (obj == null)
+        {
+            main.write(NULL);
+            return;
+        }
+
+        if (obj instanceof String)
+        {
+            main.write(STRING);
+            writeString((String) obj);
+            return;
+        }
+
+        if (obj instanceof Integer)
+        {
+            main.write(INTEGER);
+            writeVarLong(zigZag((Integer) obj));
+            return;
+        }
+
+        if (obj instanceof Boolean)
+        {
+            main.write((Boolean) obj ? TRUE : FALSE);
+            return;
+        }
+
+        if (obj instanceof Long)
+        {
+            main.write(LONG);
+            writeVarLong(zigZag((Long) obj));
+            return;
+        }
+
+        if (obj instanceof Enum)
+        {
+            Enum<?> value = (Enum<?>) obj;
+
+            main.write(ENUM);
+            writeString(value.getDeclaringClass().getName());
+            writeString(value.name());
+            return;
+        }
+
+        if (obj instanceof Short)
+        {
+            main.write(SHORT);
+            writeVarLong(zigZag((Short) obj));
+            return;
+        }
+
+        if (obj instanceof Byte)
+        {
+            main.write(BYTE);
+            main.write((Byte) obj);
+            return;
+        }
+
+        if (obj instanceof Character)
+        {
+            main.write(CHARACTER);
+            writeVarLong((Character) obj);
+            return;
+        }
+
+        if (obj instanceof Double)
+        {
+            main.write(DOUBLE);
+            writeFixed(Double.doubleToLongBits((Double) obj), 8);
+            return;
+        }
+
+        if (obj instanceof Float)
+        {
+            main.write(FLOAT);
+            writeFixed(Float.floatToIntBits((Float) obj), 4);
+            return;
+        }
+
+        Integer index = objects.get(obj);
+
+        if (index != null)
+        {
+            main.write(REFERENCE);
+            writeVarLong(index);
+            return;
+        }
+
+        objects.put(obj, objects.size());
+
+        if (obj instanceof CompactExternalizable)
+        {
+            main.write(EXTERNALIZABLE);
+            writeString(obj.getClass().getName());
+
+            ((CompactExternalizable) obj).writeCompact(this);
+            return;
+        }
+
+        main.write(SERIALIZED);
+
+        if (serialized == null)
+        {
+            serializedBuffer = new ByteArrayOutputStream();
+            serialized = new ObjectOutputStream(serializedBuffer);
+        }
+
+        serialized.writeObject(obj);
+    }
+
+    @Override
+    public void writeUnshared(Object obj) throws IOException
+    {
+        writeObjectOverride(obj);
+    }
+
+    @Override
+    public void defaultWriteObject() throws IOException
+    {
+        throw new NotActiveException("CompactObjectOutputStream does not support defaultWriteObject().");
+    }
+
+    @Override
+    public PutField putFields() throws IOException
+    {
+        throw new NotActiveException("CompactObjectOutputStream does not support putFields().");
+    }
+
+    @Override
+    public void writeFields() throws IOException
+    {
+        throw new NotActiveException("CompactObjectOutputStream does not support writeFields().");
+    }
+
+    @Override
+    public void useProtocolVersion(int version)
+    {
+        // Only applies to the serialized section, which always uses the default protocol.
+    }
+
+    @Override
+    public void reset()
+    {
+        // The tables of strings and objects are retained, as the stream is read in a single pass.
+    }
+
+    @Override
+    public void write(int val)
+    {
+        main.write(val);
+    }
+
+    @Override
+    public void write(byte[] buf)
+    {
+        main.write(buf, 0, buf.length);
+    }
+
+    @Override
+    public void write(byte[] buf, int off, int len)
+    {
+        main.write(buf, off, len);
+    }
+
+    @Override
+    public void writeBoolean(boolean val)
+    {
+        main.write(val ? 1 : 0);
+    }
+
+    @Override
+    public void writeByte(int val)
+    {
+        main.write(val);
+    }
+
+    @Override
+    public void writeShort(int val)
+    {
+        writeFixed(val, 2);
+    }
+
+    @Override
+    public void writeChar(int val)
+    {
+        writeFixed(val, 2);
+    }
+
+    @Override
+    public void writeInt(int val)
+    {
+        writeVarLong(zigZag(val));
+    }
+
+    @Override
+    public void writeLong(long val)
+    {
+        writeVarLong(zigZag(val));
+    }
+
+    @Override
+    public void writeFloat(float val)
+    {
+        writeFixed(Float.floatToIntBits(val), 4);
+    }
+
+    @Override
+    public void writeDouble(double val)
+    {
+        writeFixed(Double.doubleToLongBits(val), 8);
+    }
+
+    @Override
+    public void writeBytes(String str)
+    {
+        for (int i = 0; i < str.length(); i++)
+        {
+            main.write(str.charAt(i));
+        }
+    }
+
+    @Override
+    public void writeChars(String str)
+    {
+        for (int i = 0; i < str.length(); i++)
+        {
+            writeFixed(str.charAt(i), 2);
+        }
+    }
+
+    /**
+     * Writes the string to the stream; unlike {@link java.io.DataOutput#writeUTF(String)}, there is no limit on the
+     * length of the string.
+     */
+    @Override
+    public void writeUTF(String str)
+    {
+        writeString(str);
+    }
+
+    @Override
+    public void flush()
+    {
+        // Everything is written on close.
+    }
+
+    /**
+     * Writes the length of the main section, the main section, and then the serialized section (if any), to the
+     * underlying stream, and closes it.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if (closed)
+        {
+            return;
+        }
+
+        closed = true;
+
+        int length = main.size();
+
+        while ((length & ~0x7F) != 0)
+        {
+            out.write((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+
+        out.write(length);
+
+        main.writeTo(out);
+
+        if (serialized != null)
+        {
+            serialized.close();
+            serializedBuffer.writeTo(out);
+        }
+
+        out.close();
+    }
+
+    /**
+     * A string is written as an unsigned variable length integer, N. If the low bit of N is set, the string is the
+     * same as a previously written string, whose index is the remainder of N. Otherwise, the remainder of N is the
+     * number of bytes that follow, containing the string's characters in the same encoding as
+     * {@link java.io.DataOutput#writeUTF(String)}.
+     */
+    private void writeString(String str)
+    {
+        Integer index = strings.get(str);
+
+        if (index != null)
+        {
+            writeVarLong(((long) index << 1) | 1);
+            return;
+        }
+
+        strings.put(str, strings.size());
+
+        int length = str.length();
+        long byteCount = 0;
+
+        for (int i = 0; i < length; i++)
+        {
+            char ch = str.charAt(i);
+
+            byteCount += ch != 0 && ch < 0x80 ? 1 : ch < 0x800 ? 2 : 3;
+        }
+
+        writeVarLong(byteCount << 1);
+
+        for (int i = 0; i < length; i++)
+        {
+            char ch = str.charAt(i);
+
+            if (ch != 0 && ch < 0x80)
+            {
+                main.write(ch);
+            } else if (ch < 0x800)
+            {
+                main.write(0xC0 | (ch >> 6));
+                main.write(0x80 | (ch & 0x3F));
+            } else
+            {
+                main.write(0xE0 | (ch >> 12));
+                main.write(0x80 | ((ch >> 6) & 0x3F));
+                main.write(0x80 | (ch & 0x3F));
+            }
+        }
+    }
+
+    private void writeVarLong(long value)
+    {
+        while ((value & ~0x7FL) != 0)
+        {
+            main.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        main.write((int) value);
+    }
+
+    private void writeFixed(long value, int bytes)
+    {
+        for (int shift = (bytes - 1) * 8; shift >= 0; shift -= 8)
+        {
+            main.write((int) (value >>> shift));
+        }
+    }
+
+    private static long zigZag(long value)
+    {
+        return (value << 1) ^ (value >> 63);
+    }
+}
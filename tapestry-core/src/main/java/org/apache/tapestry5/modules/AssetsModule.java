@@ -34,6 +34,7 @@ import org.apache.tapestry5.internal.services.ContextAssetFactory;
 import org.apache.tapestry5.internal.services.ExternalUrlAssetFactory;
 import org.apache.tapestry5.internal.services.IdentityAssetPathConverter;
 import org.apache.tapestry5.internal.services.RequestConstants;
+import org.apache.tapestry5.internal.services.RequestMetricsCollector;
 import org.apache.tapestry5.internal.services.ResourceStreamer;
 import org.apache.tapestry5.internal.services.assets.AssetChecksumGeneratorImpl;
 import org.apache.tapestry5.internal.services.assets.AssetPathConstructorImpl;
@@ -78,6 +79,7 @@ import org.apache.tapestry5.services.ClasspathProvider;
 import org.apache.tapestry5.services.ComponentClassResolver;
 import org.apache.tapestry5.services.ContextProvider;
 import org.apache.tapestry5.services.Core;
+import org.apache.tapestry5.services.RequestMetrics;
 import org.apache.tapestry5.services.assets.AssetChecksumGenerator;
 import org.apache.tapestry5.services.assets.AssetPathConstructor;
 import org.apache.tapestry5.services.assets.AssetRequestHandler;
@@ -403,14 +405,15 @@ public class AssetsModule
     @Primary
     public static void setupAssetDispatch(OrderedConfiguration<Dispatcher> configuration,
                                           @AssetRequestDispatcher
-                                          Dispatcher assetDispatcher)
+                                          Dispatcher assetDispatcher,
+                                          RequestMetricsCollector metricsCollector)
     {
 
         // This goes first because an asset to be streamed may have an file
         // extension, such as
         // ".html", that will confuse the later dispatchers.
 
-        configuration.add("Asset", assetDispatcher, "before:ComponentEvent");
+        configuration.add("Asset", metricsCollector.track(RequestMetrics.ASSET, assetDispatcher), "before:ComponentEvent");
     }
     
     @Primary
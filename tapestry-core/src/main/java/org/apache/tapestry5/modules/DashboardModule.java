@@ -34,5 +34,6 @@ public class DashboardModule
         configuration.add("Pages", new DashboardTab("Pages", "core/PageCatalog"));
         configuration.add("Services", new DashboardTab("Services", "core/ServiceStatus"));
         configuration.add("Libraries", new DashboardTab("ComponentLibraries", "core/ComponentLibraries"));
+        configuration.add("Metrics", new DashboardTab("Metrics", "core/Metrics"));
     }
 }
@@ -22,6 +22,8 @@ import org.apache.tapestry5.http.services.ResponseCompressionAnalyzer;
 import org.apache.tapestry5.internal.pageload.PageLoaderImpl;
 import org.apache.tapestry5.internal.services.AjaxPartialResponseRenderer;
 import org.apache.tapestry5.internal.services.AjaxPartialResponseRendererImpl;
+import org.apache.tapestry5.internal.services.BindingMemo;
+import org.apache.tapestry5.internal.services.BindingMemoImpl;
 import org.apache.tapestry5.internal.services.ClientPersistentFieldStorage;
 import org.apache.tapestry5.internal.services.ClientPersistentFieldStorageImpl;
 import org.apache.tapestry5.internal.services.ComponentInstantiatorSource;
@@ -29,6 +31,8 @@ import org.apache.tapestry5.internal.services.ComponentModelSource;
 import org.apache.tapestry5.internal.services.CookieSink;
 import org.apache.tapestry5.internal.services.CookieSource;
 import org.apache.tapestry5.internal.services.EndOfRequestEventHub;
+import org.apache.tapestry5.internal.services.ExternalStateManager;
+import org.apache.tapestry5.internal.services.ExternalStateManagerImpl;
 import org.apache.tapestry5.internal.services.FormControlNameManager;
 import org.apache.tapestry5.internal.services.FormControlNameManagerImpl;
 import org.apache.tapestry5.internal.services.InternalComponentInvalidationEventHub;
@@ -56,6 +60,8 @@ import org.apache.tapestry5.internal.services.PersistentFieldManagerImpl;
 import org.apache.tapestry5.internal.services.ReloadHelper;
 import org.apache.tapestry5.internal.services.ReloadHelperImpl;
 import org.apache.tapestry5.internal.services.RequestPageCache;
+import org.apache.tapestry5.internal.services.RequestMetricsCollector;
+import org.apache.tapestry5.internal.services.RequestMetricsCollectorImpl;
 import org.apache.tapestry5.internal.services.RequestPageCacheImpl;
 import org.apache.tapestry5.internal.services.RequestSecurityManager;
 import org.apache.tapestry5.internal.services.RequestSecurityManagerImpl;
@@ -104,6 +110,7 @@ public class InternalModule
         binder.bind(PageElementFactory.class, PageElementFactoryImpl.class);
         binder.bind(ResourceStreamer.class, ResourceStreamerImpl.class);
         binder.bind(ClientPersistentFieldStorage.class, ClientPersistentFieldStorageImpl.class);
+        binder.bind(ExternalStateManager.class, ExternalStateManagerImpl.class);
         binder.bind(PageRenderQueue.class, PageRenderQueueImpl.class);
         binder.bind(AjaxPartialResponseRenderer.class, AjaxPartialResponseRendererImpl.class);
         binder.bind(PageContentTypeAnalyzer.class, PageContentTypeAnalyzerImpl.class);
@@ -123,6 +130,8 @@ public class InternalModule
         binder.bind(UnknownActivationContextHandler.class, UnknownActivationContextHandlerImpl.class);
         binder.bind(ReloadHelper.class, ReloadHelperImpl.class);
         binder.bind(FormControlNameManager.class, FormControlNameManagerImpl.class);
+        binder.bind(BindingMemo.class, BindingMemoImpl.class);
+        binder.bind(RequestMetricsCollector.class, RequestMetricsCollectorImpl.class);
 
     }
 
@@ -27,6 +27,7 @@ import org.apache.tapestry5.http.services.Dispatcher;
 import org.apache.tapestry5.http.services.Request;
 import org.apache.tapestry5.internal.InternalConstants;
 import org.apache.tapestry5.internal.services.DocumentLinker;
+import org.apache.tapestry5.internal.services.RequestMetricsCollector;
 import org.apache.tapestry5.internal.services.ResourceStreamer;
 import org.apache.tapestry5.internal.services.ajax.JavaScriptSupportImpl;
 import org.apache.tapestry5.internal.services.assets.ResourceChangeTracker;
@@ -57,6 +58,7 @@ import org.apache.tapestry5.services.MarkupRendererFilter;
 import org.apache.tapestry5.services.PartialMarkupRenderer;
 import org.apache.tapestry5.services.PartialMarkupRendererFilter;
 import org.apache.tapestry5.services.PathConstructor;
+import org.apache.tapestry5.services.RequestMetrics;
 import org.apache.tapestry5.services.compatibility.Compatibility;
 import org.apache.tapestry5.services.compatibility.Trait;
 import org.apache.tapestry5.services.javascript.AMDWrapper;
@@ -278,18 +280,19 @@ public class JavaScriptModule
                                               @Symbol(SymbolConstants.MODULE_PATH_PREFIX)
                                               String modulePathPrefix,
                                               @Symbol(SymbolConstants.ASSET_PATH_PREFIX)
-                                              String assetPathPrefix)
+                                              String assetPathPrefix,
+                                              RequestMetricsCollector metricsCollector)
     {
         configuration.add("Modules",
-                new ModuleDispatcher(moduleManager, resourceStreamer, tracker, pathConstructor,
+                metricsCollector.track(RequestMetrics.MODULE, new ModuleDispatcher(moduleManager, resourceStreamer, tracker, pathConstructor,
                     javaScriptStackSource, javaScriptStackPathConstructor, localizationSetter, modulePathPrefix,
-                    assetPathPrefix, false),
+                    assetPathPrefix, false)),
                 "after:Asset", "before:ComponentEvent");
 
         configuration.add("ComnpressedModules",
-                new ModuleDispatcher(moduleManager, resourceStreamer, tracker, pathConstructor,
+                metricsCollector.track(RequestMetrics.MODULE, new ModuleDispatcher(moduleManager, resourceStreamer, tracker, pathConstructor,
                     javaScriptStackSource, javaScriptStackPathConstructor, localizationSetter, modulePathPrefix,
-                    assetPathPrefix, true),
+                    assetPathPrefix, true)),
                 "after:Modules", "before:ComponentEvent");
     }
 
@@ -12,6 +12,7 @@
 
 package org.apache.tapestry5.modules;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
@@ -111,6 +112,7 @@ import org.apache.tapestry5.commons.services.TypeCoercer;
 import org.apache.tapestry5.commons.util.AvailableValues;
 import org.apache.tapestry5.commons.util.CollectionFactory;
 import org.apache.tapestry5.commons.util.StrategyRegistry;
+import org.apache.tapestry5.commons.util.TimeInterval;
 import org.apache.tapestry5.corelib.data.SecureOption;
 import org.apache.tapestry5.grid.GridConstants;
 import org.apache.tapestry5.grid.GridDataSource;
@@ -244,6 +246,7 @@ import org.apache.tapestry5.ioc.annotations.Contribute;
 import org.apache.tapestry5.ioc.annotations.ImportModule;
 import org.apache.tapestry5.ioc.annotations.Inject;
 import org.apache.tapestry5.ioc.annotations.InjectService;
+import org.apache.tapestry5.ioc.annotations.IntermediateType;
 import org.apache.tapestry5.ioc.annotations.Local;
 import org.apache.tapestry5.ioc.annotations.Marker;
 import org.apache.tapestry5.ioc.annotations.Match;
@@ -266,8 +269,11 @@ import org.apache.tapestry5.ioc.services.SymbolSource;
 import org.apache.tapestry5.ioc.services.ThreadLocale;
 import org.apache.tapestry5.ioc.services.UpdateListener;
 import org.apache.tapestry5.ioc.services.UpdateListenerHub;
+import org.apache.tapestry5.ioc.services.cron.IntervalSchedule;
+import org.apache.tapestry5.ioc.services.cron.PeriodicExecutor;
 import org.apache.tapestry5.json.JSONArray;
 import org.apache.tapestry5.json.JSONObject;
+import org.apache.tapestry5.json.JSONStreamable;
 import org.apache.tapestry5.plastic.MethodAdvice;
 import org.apache.tapestry5.plastic.MethodDescription;
 import org.apache.tapestry5.plastic.MethodInvocation;
@@ -286,6 +292,7 @@ import org.apache.tapestry5.services.BeanBlockOverrideSource;
 import org.apache.tapestry5.services.BeanBlockSource;
 import org.apache.tapestry5.services.BindingFactory;
 import org.apache.tapestry5.services.BindingSource;
+import org.apache.tapestry5.services.BindingStatistics;
 import org.apache.tapestry5.services.ClientBehaviorSupport;
 import org.apache.tapestry5.services.ClientDataEncoder;
 import org.apache.tapestry5.services.ComponentClassResolver;
@@ -316,6 +323,7 @@ import org.apache.tapestry5.services.Environment;
 import org.apache.tapestry5.services.EnvironmentalShadowBuilder;
 import org.apache.tapestry5.services.ExceptionReportWriter;
 import org.apache.tapestry5.services.ExceptionReporter;
+import org.apache.tapestry5.services.ExternalStateStore;
 import org.apache.tapestry5.services.FieldTranslatorSource;
 import org.apache.tapestry5.services.FieldValidatorDefaultSource;
 import org.apache.tapestry5.services.FieldValidatorSource;
@@ -346,6 +354,7 @@ import org.apache.tapestry5.services.PersistentFieldStrategy;
 import org.apache.tapestry5.services.PersistentLocale;
 import org.apache.tapestry5.services.RelativeElementPosition;
 import org.apache.tapestry5.services.RequestExceptionHandler;
+import org.apache.tapestry5.services.RequestMetrics;
 import org.apache.tapestry5.services.ResourceDigestGenerator;
 import org.apache.tapestry5.services.ResponseRenderer;
 import org.apache.tapestry5.services.SelectModelFactory;
@@ -526,7 +535,6 @@ public final class TapestryModule
         binder.bind(AjaxResponseRenderer.class, AjaxResponseRendererImpl.class);
         binder.bind(AlertManager.class, AlertManagerImpl.class);
         binder.bind(ValidationDecoratorFactory.class, ValidationDecoratorFactoryImpl.class);
-        binder.bind(PropertyConduitSource.class, PropertyConduitSourceImpl.class);
         binder.bind(ClientWhitelist.class, ClientWhitelistImpl.class);
         binder.bind(MetaDataLocator.class, MetaDataLocatorImpl.class);
         binder.bind(ComponentClassCache.class, ComponentClassCacheImpl.class);
@@ -956,6 +964,10 @@ public final class TapestryModule
      * <dt>StoreIntoGlobals</dt>
      * <dd>Stores the request and response into the {@link org.apache.tapestry5.http.services.RequestGlobals} service (this
      * is repeated at the end of the pipeline, in case any filter substitutes the request or response).
+     * <dt>ExternalState</dt>
+     * <dd>Writes changes to {@linkplain org.apache.tapestry5.PersistenceConstants#EXTERNAL external state} before the
+     * response is sent, and after the end of the request (see
+     * {@link org.apache.tapestry5.internal.services.ExternalStateFilter})</dd>
      * <dt>EndOfRequest</dt>
      * <dd>Notifies internal services that the request has ended</dd>
      * </dl>
@@ -1003,6 +1015,10 @@ public final class TapestryModule
 
         configuration.add("StoreIntoGlobals", storeIntoGlobals);
 
+        // Outside of EndOfRequest, so that changes made by end of request listeners are written too.
+
+        configuration.addInstance("ExternalState", ExternalStateFilter.class);
+
         configuration.add("EndOfRequest", fireEndOfRequestEvent);
 
         configuration.addInstance("ErrorFilter", RequestErrorFilter.class);
@@ -1310,6 +1326,48 @@ public final class TapestryModule
         return service;
     }
 
+    /**
+     * The statistics are collected by the internal BindingMemo service, as it is informed of each evaluation of a
+     * "prop:" binding.
+     *
+     * @since 5.8.0
+     */
+    public static BindingStatistics buildBindingStatistics(BindingMemo memo)
+    {
+        return memo.getStatistics();
+    }
+
+    /**
+     * The metrics are recorded by the internal RequestMetricsCollector service.
+     *
+     * @since 5.8.0
+     */
+    public static RequestMetrics buildRequestMetrics(RequestMetricsCollector collector)
+    {
+        return collector.getRequestMetrics();
+    }
+
+    /**
+     * Builds the PropertyConduitSource, with its cache of conduits limited in size by the
+     * {@link SymbolConstants#PROPERTY_CONDUIT_CACHE_SIZE} symbol.
+     *
+     * @since 5.8.0
+     */
+    public static PropertyConduitSource buildPropertyConduitSource(PropertyAccess access, @ComponentLayer
+                                                                   PlasticProxyFactory proxyFactory,
+                                                                   TypeCoercer typeCoercer, StringInterner interner,
+                                                                   @Symbol(SymbolConstants.PROPERTY_CONDUIT_CACHE_SIZE)
+                                                                   int cacheSize, @ComponentClasses
+                                                                   InvalidationEventHub hub)
+    {
+        PropertyConduitSourceImpl service = new PropertyConduitSourceImpl(access, proxyFactory, typeCoercer, interner,
+                cacheSize);
+
+        service.listenForInvalidations(hub);
+
+        return service;
+    }
+
 
     /**
      * Builds the PropBindingFactory as a chain of command. The terminator of
@@ -1333,6 +1391,40 @@ public final class TapestryModule
         return chainBuilder.build(BindingFactory.class, configuration);
     }
 
+    /**
+     * Builds the store used by the "external" persistence strategies: a {@link FileExternalStateStore} when the
+     * {@link SymbolConstants#EXTERNAL_STATE_DIRECTORY} symbol is set, and an {@link OffHeapExternalStateStore}
+     * otherwise. Expired entries are periodically removed.
+     *
+     * @since 5.8.0
+     */
+    public static ExternalStateStore buildExternalStateStore(PeriodicExecutor periodicExecutor,
+
+                                                             @Symbol(SymbolConstants.EXTERNAL_STATE_DIRECTORY)
+                                                             String directory,
+
+                                                             @Symbol(SymbolConstants.EXTERNAL_STATE_TIMEOUT)
+                                                             @IntermediateType(TimeInterval.class)
+                                                             final long timeout,
+
+                                                             @Symbol(SymbolConstants.EXTERNAL_STATE_OFF_HEAP_LIMIT)
+                                                             long offHeapLimit)
+    {
+        final AbstractExternalStateStore store = directory.trim().isEmpty()
+                ? new OffHeapExternalStateStore(offHeapLimit)
+                : new FileExternalStateStore(new File(directory));
+
+        periodicExecutor.addJob(new IntervalSchedule(Math.min(timeout, 60 * 1000)), "Expire external state", new Runnable()
+        {
+            public void run()
+            {
+                store.removeExpired(System.currentTimeMillis() - timeout);
+            }
+        });
+
+        return store;
+    }
+
     public PersistentFieldStrategy buildClientPersistentFieldStrategy(LinkCreationHub linkCreationHub, @Autobuild
     ClientPersistentFieldStrategy service)
     {
@@ -1565,7 +1657,8 @@ public final class TapestryModule
     // ========================================================================
 
     /**
-     * Contributes the default "session" strategy.
+     * Contributes the default "session" strategy, and the "external" strategy (which stores SSOs with the
+     * {@link ExternalStateStore}).
      */
     public void contributeApplicationStatePersistenceStrategySource(
             MappedConfiguration<String, ApplicationStatePersistenceStrategy> configuration,
@@ -1574,6 +1667,7 @@ public final class TapestryModule
             ApplicationStatePersistenceStrategy sessionStategy)
     {
         configuration.add("session", sessionStategy);
+        configuration.addInstance(PersistenceConstants.EXTERNAL, ExternalApplicationStatePersistenceStrategy.class);
     }
 
     /**
@@ -1643,6 +1737,8 @@ public final class TapestryModule
      * <dd>Renders the component and its body (unless its a page, in which case a redirect JSON response is sent)</dd>
      * <dt>{@link org.apache.tapestry5.json.JSONObject} or {@link org.apache.tapestry5.json.JSONArray}</dt>
      * <dd>The JSONObject is returned as a text/javascript response</dd>
+     * <dt>{@link org.apache.tapestry5.json.JSONStreamable}</dt>
+     * <dd>The JSON content is written directly to the response, as it is generated</dd>
      * <dt>{@link org.apache.tapestry5.StreamResponse}</dt>
      * <dd>The stream response is sent as the actual response</dd>
      * <dt>String</dt>
@@ -1668,6 +1764,7 @@ public final class TapestryModule
         configuration.addInstance(Component.class, AjaxComponentInstanceEventResultProcessor.class);
         configuration.addInstance(JSONObject.class, JSONObjectEventResultProcessor.class);
         configuration.addInstance(JSONArray.class, JSONArrayEventResultProcessor.class);
+        configuration.addInstance(JSONStreamable.class, JSONStreamableEventResultProcessor.class);
         configuration.addInstance(StreamResponse.class, StreamResponseResultProcessor.class);
         configuration.addInstance(String.class, AjaxPageNameComponentEventResultProcessor.class);
         configuration.addInstance(Link.class, AjaxLinkComponentEventResultProcessor.class);
@@ -1979,6 +2076,8 @@ public final class TapestryModule
      * <dd>Values are stored in the {@link Session}, until the next request (for the page)
      * <dt>client
      * <dd>Values are encoded into URLs (or hidden form fields)
+     * <dt>external
+     * <dd>Values are stored with the {@link ExternalStateStore}
      * </dl>
      */
     public void contributePersistentFieldManager(MappedConfiguration<String, PersistentFieldStrategy> configuration,
@@ -1991,6 +2090,7 @@ public final class TapestryModule
         configuration.add(PersistenceConstants.SESSION, new SessionPersistentFieldStrategy(request));
         configuration.add(PersistenceConstants.FLASH, new FlashPersistentFieldStrategy(request));
         configuration.add(PersistenceConstants.CLIENT, clientStrategy);
+        configuration.addInstance(PersistenceConstants.EXTERNAL, ExternalPersistentFieldStrategy.class);
     }
 
     /**
@@ -2009,12 +2109,19 @@ public final class TapestryModule
     }
 
     /**
-     * Contributes a single filter, "Secure", which checks for non-secure
-     * requests that access secure pages.
+     * Contributes a filter, "Secure", which checks for non-secure
+     * requests that access secure pages, and (if {@linkplain SymbolConstants#REQUEST_METRICS_ENABLED enabled}) a
+     * filter, "Metrics", that times the request.
      */
     public void contributePageRenderRequestHandler(OrderedConfiguration<PageRenderRequestFilter> configuration,
-                                                   final RequestSecurityManager securityManager)
+                                                   final RequestSecurityManager securityManager,
+                                                   RequestMetricsCollector metricsCollector)
     {
+        if (metricsCollector.isEnabled())
+        {
+            configuration.add("Metrics", new RequestMetricsFilter(metricsCollector), "before:*");
+        }
+
         PageRenderRequestFilter secureFilter = new PageRenderRequestFilter()
         {
             public void handle(PageRenderRequestParameters parameters, PageRenderRequestHandler handler)
@@ -2187,6 +2294,18 @@ public final class TapestryModule
 
         configuration.add(SymbolConstants.ENABLE_PAGELOADING_MASK, true);
         configuration.add(SymbolConstants.PRELOADER_MODE, PreloaderMode.PRODUCTION);
+
+        configuration.add(SymbolConstants.PROPERTY_CONDUIT_CACHE_SIZE, 5000);
+        configuration.add(SymbolConstants.PRECOMPILE_PROPERTY_EXPRESSIONS, SymbolConstants.PRODUCTION_MODE_VALUE);
+        configuration.add(SymbolConstants.MEMOIZE_BINDINGS, false);
+        configuration.add(SymbolConstants.BINDING_STATISTICS_ENABLED, false);
+        configuration.add(SymbolConstants.COMPACT_CLIENT_DATA, true);
+        configuration.add(SymbolConstants.EXTERNAL_STATE_DIRECTORY, "");
+        configuration.add(SymbolConstants.EXTERNAL_STATE_TIMEOUT, "30 m");
+        configuration.add(SymbolConstants.EXTERNAL_STATE_OFF_HEAP_LIMIT, 64 * 1024 * 1024);
+        configuration.add(SymbolConstants.REQUEST_METRICS_ENABLED, false);
+        configuration.add(SymbolConstants.LINK_CACHE_ENABLED, false);
+        configuration.add(SymbolConstants.SHARED_LINK_CACHE_SIZE, 0);
     }
 
     /**
@@ -2244,12 +2363,19 @@ public final class TapestryModule
      * <dd>Determines if the request is Ajax oriented, and redirects to an alternative handler if so</dd>
      * <dt>Secure</dt>
      * <dd>Sends a redirect if an non-secure request accesses a secure page</dd>
+     * <dt>Metrics</dt>
+     * <dd>Times the request, if {@linkplain SymbolConstants#REQUEST_METRICS_ENABLED enabled}</dd>
      * </dl>
      */
     public void contributeComponentEventRequestHandler(OrderedConfiguration<ComponentEventRequestFilter> configuration,
                                                        final RequestSecurityManager requestSecurityManager, @Ajax
-    ComponentEventRequestHandler ajaxHandler)
+    ComponentEventRequestHandler ajaxHandler, RequestMetricsCollector metricsCollector)
     {
+        if (metricsCollector.isEnabled())
+        {
+            configuration.add("Metrics", new RequestMetricsFilter(metricsCollector), "before:*");
+        }
+
         ComponentEventRequestFilter secureFilter = new ComponentEventRequestFilter()
         {
             public void handle(ComponentEventRequestParameters parameters, ComponentEventRequestHandler handler)
@@ -0,0 +1,64 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.services;
+
+/**
+ * The number of times a binding has been evaluated, as reported by {@link BindingStatistics}.
+ *
+ * @since 5.8.0
+ */
+public final class BindingEvaluationCount
+{
+    private final String binding;
+
+    private final long evaluations, memoized;
+
+    public BindingEvaluationCount(String binding, long evaluations, long memoized)
+    {
+        this.binding = binding;
+        this.evaluations = evaluations;
+        this.memoized = memoized;
+    }
+
+    /**
+     * Describes the binding: its expression, and the location (usually, in a template) where it was defined.
+     */
+    public String getBinding()
+    {
+        return binding;
+    }
+
+    /**
+     * The number of times the binding's expression has been evaluated.
+     */
+    public long getEvaluations()
+    {
+        return evaluations;
+    }
+
+    /**
+     * The number of times reading the binding was satisfied by a memoized value, without evaluating the expression.
+     */
+    public long getMemoized()
+    {
+        return memoized;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%s: %,d evaluations, %,d memoized", binding, evaluations, memoized);
+    }
+}
@@ -0,0 +1,43 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.services;
+
+import java.util.List;
+
+/**
+ * Reports how often each "prop:" binding has been evaluated, in order to identify the bindings (and so, the
+ * property getters) that are evaluated most often by the application's pages. Counting is enabled by the
+ * {@link org.apache.tapestry5.SymbolConstants#BINDING_STATISTICS_ENABLED} symbol; bindings with the same expression
+ * and location (for example, in different localizations of a page) are counted together.
+ *
+ * @since 5.8.0
+ */
+public interface BindingStatistics
+{
+    /**
+     * Returns true if evaluations are being counted.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns a snapshot of the counts, most often evaluated bindings first; empty if counting is not enabled.
+     */
+    List<BindingEvaluationCount> getEvaluationCounts();
+
+    /**
+     * Discards all counts collected so far.
+     */
+    void reset();
+}
@@ -18,6 +18,7 @@ import org.apache.tapestry5.ioc.annotations.UsesConfiguration;
 import org.apache.tapestry5.ioc.services.ClassNameLocator;
 import org.apache.tapestry5.services.transform.ControlledPackageType;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -61,6 +62,41 @@ public interface ComponentClassResolver
      */
     boolean isPageName(String pageName);
 
+    /**
+     * Identifies the prefixes of a path that are logical page names, as when a page render request URL is decoded
+     * (the remainder of the path being the page activation context). Prefixes consist of complete terms of the path:
+     * for the path "admin/user/edit/17", the candidates are "admin/user/edit/17", "admin/user/edit", "admin/user" and
+     * "admin". The check is case insensitive. The empty prefix is never included.
+     *
+     * The default implementation checks each candidate with {@link #isPageName(String)}; implementations may do
+     * better.
+     *
+     * @param path
+     *         path without leading or trailing slashes
+     * @return the prefixes that are page names, longest first (possibly empty)
+     * @since 5.8.0
+     */
+    default List<String> getPageNamePrefixes(String path)
+    {
+        List<String> result = new ArrayList<String>(2);
+
+        int slashx = path.length();
+
+        while (slashx > 0)
+        {
+            String pageName = path.substring(0, slashx);
+
+            if (isPageName(pageName))
+            {
+                result.add(pageName);
+            }
+
+            slashx = path.lastIndexOf('/', slashx - 1);
+        }
+
+        return result;
+    }
+
     /**
      * Returns a list of all page names, in sorted order. These are the "canonical" page names.
      */
@@ -52,6 +52,21 @@ public interface ContextPathEncoder
      */
     String encodeIntoPath(EventContext context);
 
+    /**
+     * Encodes the context, as with {@link #encodeIntoPath(EventContext)}, appending the encoded values directly to
+     * the output. Nothing is appended if the context is empty.
+     *
+     * @param context
+     *            to encode
+     * @param output
+     *            to which the encoded values, separated by "/" characters, are appended
+     * @since 5.8.0
+     */
+    default void encodeIntoPath(EventContext context, StringBuilder output)
+    {
+        output.append(encodeIntoPath(context));
+    }
+
     /**
      * Inverse of {@link #encodeIntoPath(Object[])}; the path is split into strings, and the string are decoded and
      * constructed into an {@link org.apache.tapestry5.EventContext}.
@@ -40,4 +40,24 @@ public interface ContextValueEncoder
      * @see org.apache.tapestry5.ValueEncoder#toValue(String)
      */
     <T> T toValue(Class<T> requiredType, String clientValue);
+
+    /**
+     * Converts a number of context values into client-side strings, as with {@link #toClient(Object)}. Null values
+     * are converted to null.
+     *
+     * @param values to convert (elements may be null)
+     * @return a new array of the client-side strings
+     * @since 5.8.0
+     */
+    default String[] toClient(Object[] values)
+    {
+        String[] result = new String[values.length];
+
+        for (int i = 0; i < values.length; i++)
+        {
+            result[i] = values[i] == null ? null : toClient(values[i]);
+        }
+
+        return result;
+    }
 }
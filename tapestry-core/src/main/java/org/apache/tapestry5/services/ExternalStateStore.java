@@ -0,0 +1,62 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.services;
+
+import java.util.Map;
+
+/**
+ * A key-value store used by the "external" {@linkplain org.apache.tapestry5.PersistenceConstants#EXTERNAL persistent
+ * field strategy} and session state persistence strategy, to store values outside of the
+ * {@link org.apache.tapestry5.http.services.Session}. Each client is identified by a random state id (stored in a
+ * cookie); for each state id, the store contains any number of entries, each a name and a serialized value.
+ *
+ * All the entries for a state id are loaded at once, on first use within a request, and all the changes made during
+ * the request are stored in a single operation at the end of the request. With a store shared by all servers (such as
+ * a database, a distributed cache, or the file based store in a shared directory), requests from a client may be
+ * handled by any server, without sticky sessions or session replication.
+ *
+ * Tapestry provides an implementation that keeps entries in (off-heap) memory, and an implementation that stores the
+ * entries for each state id in a file; see {@link org.apache.tapestry5.SymbolConstants#EXTERNAL_STATE_DIRECTORY}.
+ * Implementations must be thread safe.
+ *
+ * @since 5.8.0
+ */
+public interface ExternalStateStore
+{
+    /**
+     * Returns all entries stored for the state id.
+     *
+     * @param stateId
+     *         identifies the client
+     * @return map of entry name to serialized value; empty (but never null) if nothing is stored for the state id
+     */
+    Map<String, byte[]> load(String stateId);
+
+    /**
+     * Updates the entries stored for the state id in a single operation. Entries not named in the changes are left
+     * unchanged.
+     *
+     * @param stateId
+     *         identifies the client
+     * @param changes
+     *         map of entry name to new serialized value, or to null to remove the entry
+     */
+    void store(String stateId, Map<String, byte[]> changes);
+
+    /**
+     * Removes all entries stored for the state id.
+     */
+    void remove(String stateId);
+}
@@ -0,0 +1,80 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.services;
+
+import org.apache.tapestry5.ioc.util.TimingHistogram;
+
+import java.util.Map;
+
+/**
+ * Reports the time taken to handle requests, as histograms of request durations. Requests are timed by kind of
+ * request (the request handler), by page (for page render requests) and by page and event type (for component event
+ * requests). Metrics are only recorded when the {@link org.apache.tapestry5.SymbolConstants#REQUEST_METRICS_ENABLED}
+ * symbol is true. Failed requests are timed as well.
+ *
+ * To keep memory bounded, only a limited number of distinct pages and events are tracked; other requests are
+ * aggregated together under the name "(other)".
+ *
+ * @since 5.8.0
+ */
+public interface RequestMetrics
+{
+    /**
+     * Name of the {@linkplain #getHandlerTimings() handler} for page render requests.
+     */
+    String PAGE_RENDER = "PageRender";
+
+    /**
+     * Name of the {@linkplain #getHandlerTimings() handler} for component event requests (traditional or Ajax).
+     */
+    String COMPONENT_EVENT = "ComponentEvent";
+
+    /**
+     * Name of the {@linkplain #getHandlerTimings() handler} for asset requests.
+     */
+    String ASSET = "Asset";
+
+    /**
+     * Name of the {@linkplain #getHandlerTimings() handler} for JavaScript module requests.
+     */
+    String MODULE = "Module";
+
+    /**
+     * Returns true if metrics are being recorded.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the histogram of request durations for each kind of request, keyed on the handler name (such as
+     * {@link #PAGE_RENDER}).
+     */
+    Map<String, TimingHistogram> getHandlerTimings();
+
+    /**
+     * Returns the histogram of durations of page render requests, keyed on the logical page name.
+     */
+    Map<String, TimingHistogram> getPageRenderTimings();
+
+    /**
+     * Returns the histogram of durations of component event requests, keyed on the logical name of the page and the
+     * event type, separated by a colon (for example, "admin/Users:delete").
+     */
+    Map<String, TimingHistogram> getComponentEventTimings();
+
+    /**
+     * Discards all recorded metrics.
+     */
+    void reset();
+}
@@ -31,6 +31,19 @@ public interface URLEncoder
      */
     String encode(String input);
 
+    /**
+     * Appends the encoded version of the input to the output; the same as appending the result of {@link
+     * #encode(String)}, but without creating an intermediate string.
+     *
+     * @param input  string to be encoded, which may be null
+     * @param output to which the encoded input is appended
+     * @since 5.8.0
+     */
+    default void encode(String input, StringBuilder output)
+    {
+        output.append(encode(input));
+    }
+
     /**
      * Given a previously encoded string, returns the original input.
      *
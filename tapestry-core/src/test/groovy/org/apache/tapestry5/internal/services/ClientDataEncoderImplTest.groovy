@@ -133,4 +133,92 @@ class ClientDataEncoderImplTest extends TestBase {
         unreachable()
     }
 
+    def legacyEncoder(passphrase) {
+        new ClientDataEncoderImpl(null, passphrase, null, "foo.bar", null, false, null)
+    }
+
+    @Test
+    void legacy_client_data_is_accepted() {
+        ClientDataEncoder legacy = legacyEncoder "hmac passphrase"
+        ClientDataEncoder compact = new ClientDataEncoderImpl(null, "hmac passphrase", null, "foo.bar", null)
+
+        def input = "current time millis is ${System.currentTimeMillis()} ms"
+
+        def output = convertToClientData legacy, input
+
+        // GZIP data starts with 0x1f 0x8b, and an HmacSHA1 signature is 28 characters.
+
+        assert extractData(output).startsWith("H4s")
+        assert output.indexOf(':') == 28
+
+        assert compact.decodeClientData(output).readObject() == input
+
+        // Likewise, an encoder configured for legacy output can read compact data.
+
+        assert legacy.decodeClientData(convertToClientData(compact, input)).readObject() == input
+    }
+
+    @Test
+    void compact_client_data_is_smaller() {
+        ClientDataEncoder legacy = legacyEncoder "hmac passphrase"
+        ClientDataEncoder compact = new ClientDataEncoderImpl(null, "hmac passphrase", null, "foo.bar", null)
+
+        def write = { ClientDataEncoder cde ->
+            def sink = cde.createSink()
+            def os = sink.objectOutputStream
+
+            100.times { index ->
+                os.writeUTF "form:loop:textfield"
+                os.writeBoolean false
+                os.writeObject "textfield_${index}".toString()
+            }
+
+            sink.clientData
+        }
+
+        def compactData = write compact
+        def legacyData = write legacy
+
+        assert compactData.length() < legacyData.length()
+
+        def ois = compact.decodeClientData compactData
+
+        100.times { index ->
+            assert ois.readUTF() == "form:loop:textfield"
+            assert !ois.readBoolean()
+            assert ois.readObject() == "textfield_${index}".toString()
+        }
+    }
+
+    @Test
+    void tampered_compact_data_is_detected() {
+        ClientDataEncoder cde = new ClientDataEncoderImpl(null, "hmac passphrase", null, "foo.bar", null)
+
+        def output = convertToClientData cde, "some value"
+
+        def colonx = output.indexOf(':')
+
+        def data = Base64.decoder.decode(output.substring(colonx + 1))
+
+        data[data.length - 1]++
+
+        try {
+            cde.decodeClientData(output.substring(0, colonx + 1) + Base64.encoder.encodeToString(data))
+            unreachable()
+        }
+        catch (Exception e) {
+            assert e.message.contains("HMAC signature does not match")
+        }
+    }
+
+    @Test
+    void client_data_is_computed_once() {
+        ClientDataEncoder cde = new ClientDataEncoderImpl(null, "hmac passphrase", null, "foo.bar", null)
+
+        def sink = cde.createSink()
+
+        sink.objectOutputStream.writeObject "value"
+
+        assert sink.clientData == sink.clientData
+    }
 }
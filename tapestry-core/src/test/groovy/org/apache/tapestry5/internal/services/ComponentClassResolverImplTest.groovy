@@ -167,6 +167,29 @@ class ComponentClassResolverImplTest extends InternalBaseTestCase {
         verify()
     }
 
+    @Test
+    void page_name_prefixes_of_path() {
+        ClassNameLocator locator = newClassNameLocator()
+        Logger logger = compliantLogger()
+
+        def classNames = ["${APP_ROOT_PACKAGE}.pages.Catalog", "${APP_ROOT_PACKAGE}.pages.catalog.ItemPage"] as String[]
+
+        train_locateComponentClassNames(locator, "${APP_ROOT_PACKAGE}.pages", classNames)
+
+        replay()
+
+        ComponentClassResolver resolver = new ComponentClassResolverImpl(logger, locator, "Catalog",
+            APP_ROOT_PACKAGE_MAPPINGS)
+
+        assertEquals(resolver.getPageNamePrefixes("catalog/item/42"), ["catalog/item", "catalog"])
+        assertEquals(resolver.getPageNamePrefixes("Catalog/ItemPage"), ["Catalog/ItemPage", "Catalog"])
+        assertEquals(resolver.getPageNamePrefixes("catalog/it"), ["catalog"])
+        assertEquals(resolver.getPageNamePrefixes("cat/item"), [])
+        assertEquals(resolver.getPageNamePrefixes(""), [])
+
+        verify()
+    }
+
     @Test
     void name_clashes_are_identified() {
         ClassNameLocator locator = newClassNameLocator()
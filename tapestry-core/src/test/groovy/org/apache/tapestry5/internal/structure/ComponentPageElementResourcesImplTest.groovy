@@ -12,7 +12,7 @@ class ComponentPageElementResourcesImplTest extends TestBase {
 
         rg.storeRequestResponse(request, null)
 
-        new ComponentPageElementResourcesImpl(null, null, null, null, null, null, null, null, null, null, null, productionMode, tracing, rg)
+        new ComponentPageElementResourcesImpl(null, null, null, null, null, null, null, null, null, null, null, productionMode, tracing, rg, null)
     }
 
     @Test
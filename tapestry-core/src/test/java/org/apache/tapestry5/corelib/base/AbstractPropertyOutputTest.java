@@ -13,6 +13,7 @@
 package org.apache.tapestry5.corelib.base;
 
 import org.apache.tapestry5.ComponentResources;
+import org.apache.tapestry5.beanmodel.PrimitivePropertyConduit;
 import org.apache.tapestry5.beanmodel.PropertyConduit;
 import org.apache.tapestry5.beanmodel.PropertyModel;
 import org.apache.tapestry5.commons.Location;
@@ -60,4 +61,26 @@ public class AbstractPropertyOutputTest extends InternalBaseTestCase
 
         verify();
     }
+
+    @Test
+    public void nullable_primitive_property_is_read_as_an_object()
+    {
+        PrimitivePropertyConduit conduit = newMock(PrimitivePropertyConduit.class);
+        PropertyModel model = mockPropertyModel();
+        Object object = new Object();
+
+        propertyOutputFixture.inject(model, object, null);
+
+        expect(model.getConduit()).andReturn(conduit).atLeastOnce();
+        expect(conduit.isNullable()).andReturn(true);
+        expect(conduit.get(object)).andReturn(null);
+
+        replay();
+
+        // A short-circuited "?." expression must render as an empty cell, not as "0".
+
+        assertEquals(propertyOutputFixture.readPropertyTextForObject(), "");
+
+        verify();
+    }
 }
@@ -426,6 +426,34 @@ public class PropBindingFactoryTest extends InternalBaseTestCase
         verify();
     }
 
+    @Test
+    public void primitive_property_is_read_without_boxing()
+    {
+        TargetBean bean = new TargetBean();
+        ComponentResources resources = newComponentResources(bean);
+        Location l = mockLocation();
+
+        replay();
+
+        PropBinding binding = (PropBinding) factory.newBinding("test binding", resources, null, "intValue", l);
+
+        assertSame(binding.getPrimitiveType(), int.class);
+
+        bean.setIntValue(3);
+
+        assertEquals(binding.getInt(), 3);
+
+        PropBinding literal = (PropBinding) factory.newBinding("test binding", resources, null, "true", l);
+
+        assertNull(literal.getPrimitiveType());
+
+        PropBinding object = (PropBinding) factory.newBinding("test binding", resources, null, "objectValue", l);
+
+        assertNull(object.getPrimitiveType());
+
+        verify();
+    }
+
     @Test
     public void read_only_property()
     {
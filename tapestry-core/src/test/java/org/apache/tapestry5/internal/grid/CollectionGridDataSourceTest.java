@@ -101,17 +101,66 @@ public class CollectionGridDataSourceTest extends InternalBaseTestCase
         sort("value", false, WILMA, FRED, BARNEY, BETTY);
     }
 
-    private void sort(String propertyName, boolean ascending, int... ids)
+    public static class Child
     {
-        PropertyModel propertyModel = model.get(propertyName);
+        private final int id;
 
-        int availableRows = source.getAvailableRows();
+        private final Datum parent;
 
-        SortConstraint constraint = new SortConstraint(propertyModel,
-                                                       ascending ? ColumnSort.ASCENDING : ColumnSort.DESCENDING);
-        List<SortConstraint> constraints = Collections.singletonList(constraint);
+        public Child(int id, Datum parent)
+        {
+            this.id = id;
+            this.parent = parent;
+        }
 
-        source.prepare(0, availableRows - 1, constraints);
+        public int getId()
+        {
+            return id;
+        }
+
+        public Datum getParent()
+        {
+            return parent;
+        }
+    }
+
+    @Test
+    public void sort_on_null_safe_primitive_sorts_nulls_first()
+    {
+        Messages messages = mockMessages();
+
+        stub_contains(messages, false);
+
+        replay();
+
+        BeanModel childModel = getService(BeanModelSource.class).create(Child.class, false, messages);
+
+        childModel.addExpression("parentId", "parent?.id");
+
+        verify();
+
+        // The orphan must sort as null, not as a parent id of 0.
+
+        List children = Arrays.asList(new Child(1, new Datum(3, "Three")), new Child(2, null),
+                                      new Child(3, new Datum(-1, "Minus One")));
+
+        CollectionGridDataSource childSource = new CollectionGridDataSource(children);
+
+        prepare(childSource, childModel.get("parentId"), true);
+
+        int[] ids = {2, 3, 1};
+
+        for (int i = 0; i < ids.length; i++)
+        {
+            Child row = (Child) childSource.getRowValue(i);
+
+            assertEquals(row.getId(), ids[i], "Id for Child #" + i);
+        }
+    }
+
+    private void sort(String propertyName, boolean ascending, int... ids)
+    {
+        prepare(source, model.get(propertyName), ascending);
 
         for (int i = 0; i < ids.length; i++)
         {
@@ -120,4 +169,15 @@ public class CollectionGridDataSourceTest extends InternalBaseTestCase
             assertEquals(row.getId(), ids[i], "Id for Datum #" + i);
         }
     }
+
+    private void prepare(CollectionGridDataSource source, PropertyModel propertyModel, boolean ascending)
+    {
+        int availableRows = source.getAvailableRows();
+
+        SortConstraint constraint = new SortConstraint(propertyModel,
+                                                       ascending ? ColumnSort.ASCENDING : ColumnSort.DESCENDING);
+        List<SortConstraint> constraints = Collections.singletonList(constraint);
+
+        source.prepare(0, availableRows - 1, constraints);
+    }
 }
@@ -0,0 +1,280 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.Binding;
+import org.apache.tapestry5.annotations.NotMemoized;
+import org.apache.tapestry5.beanmodel.PropertyConduit;
+import org.apache.tapestry5.beanmodel.services.PropertyConduitSource;
+import org.apache.tapestry5.internal.bindings.PropBinding;
+import org.apache.tapestry5.internal.test.InternalBaseTestCase;
+import org.apache.tapestry5.ioc.internal.services.PerthreadManagerImpl;
+import org.apache.tapestry5.ioc.services.PerthreadManager;
+import org.apache.tapestry5.services.BindingEvaluationCount;
+import org.apache.tapestry5.services.BindingStatistics;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class BindingMemoImplTest extends InternalBaseTestCase
+{
+    public static class Bean
+    {
+        private int reads;
+
+        private String value = "initial";
+
+        public String getValue()
+        {
+            reads++;
+
+            return value;
+        }
+
+        public void setValue(String value)
+        {
+            this.value = value;
+        }
+
+        @NotMemoized
+        public String getNext()
+        {
+            return "next-" + ++reads;
+        }
+    }
+
+    private PropertyConduitSource conduitSource;
+
+    @BeforeClass
+    public void setup()
+    {
+        conduitSource = getService(PropertyConduitSource.class);
+    }
+
+    private BindingMemo newMemo(boolean memoize, boolean statistics)
+    {
+        PerthreadManager perthreadManager = new PerthreadManagerImpl(LoggerFactory.getLogger(PerthreadManager.class));
+
+        return new BindingMemoImpl(perthreadManager, memoize, statistics);
+    }
+
+    private PropBinding newBinding(BindingMemo memo, Bean bean, String expression)
+    {
+        PropertyConduit conduit = conduitSource.create(Bean.class, expression);
+
+        return new PropBinding(null, bean, conduit, expression, "PropBinding[" + expression + "]",
+                memo.isMemoizationEnabled() ? memo : null, memo.getCounter("prop:" + expression));
+    }
+
+    @Test
+    public void values_memoized_only_while_rendering()
+    {
+        BindingMemo memo = newMemo(true, false);
+        Bean bean = new Bean();
+
+        Binding first = newBinding(memo, bean, "value");
+        Binding second = newBinding(memo, bean, "value");
+
+        assertEquals(first.get(), "initial");
+        assertEquals(first.get(), "initial");
+        assertEquals(bean.reads, 2);
+
+        memo.beginRender();
+
+        // Bindings of the same expression on the same component share the memoized value.
+
+        assertEquals(first.get(), "initial");
+        assertEquals(second.get(), "initial");
+        assertEquals(first.get(), "initial");
+        assertEquals(bean.reads, 3);
+
+        memo.invalidate();
+
+        assertEquals(second.get(), "initial");
+        assertEquals(bean.reads, 4);
+
+        memo.endRender();
+
+        assertEquals(first.get(), "initial");
+        assertEquals(bean.reads, 5);
+    }
+
+    @Test
+    public void memoized_values_are_per_component()
+    {
+        BindingMemo memo = newMemo(true, false);
+        Bean bean1 = new Bean();
+        Bean bean2 = new Bean();
+
+        bean2.setValue("other");
+
+        Binding first = newBinding(memo, bean1, "value");
+        Binding second = newBinding(memo, bean2, "value");
+
+        memo.beginRender();
+
+        assertEquals(first.get(), "initial");
+        assertEquals(second.get(), "other");
+        assertEquals(first.get(), "initial");
+
+        memo.endRender();
+
+        assertEquals(bean1.reads, 2);
+        assertEquals(bean2.reads, 1);
+    }
+
+    @Test
+    public void updating_a_binding_invalidates_memoized_values()
+    {
+        BindingMemo memo = newMemo(true, false);
+        Bean bean = new Bean();
+
+        Binding binding = newBinding(memo, bean, "value");
+
+        memo.beginRender();
+
+        assertEquals(binding.get(), "initial");
+
+        binding.set("updated");
+
+        assertEquals(binding.get(), "updated");
+
+        memo.endRender();
+    }
+
+    @Test
+    public void nested_renders()
+    {
+        BindingMemo memo = newMemo(true, false);
+        Bean bean = new Bean();
+
+        Binding binding = newBinding(memo, bean, "value");
+
+        memo.beginRender();
+        memo.beginRender();
+
+        binding.get();
+        binding.get();
+
+        memo.endRender();
+
+        binding.get();
+        binding.get();
+
+        memo.endRender();
+
+        binding.get();
+
+        assertEquals(bean.reads, 3);
+    }
+
+    @Test
+    public void opting_out_of_memoization()
+    {
+        BindingMemo memo = newMemo(true, false);
+        Bean bean = new Bean();
+
+        Binding next = newBinding(memo, bean, "next");
+        PropBinding value = newBinding(memo, bean, "value");
+
+        value.disableMemoization();
+
+        memo.beginRender();
+
+        assertEquals(next.get(), "next-1");
+        assertEquals(next.get(), "next-2");
+
+        value.get();
+        value.get();
+
+        memo.endRender();
+
+        assertEquals(bean.reads, 4);
+    }
+
+    @Test
+    public void memoization_disabled()
+    {
+        BindingMemo memo = newMemo(false, false);
+        Bean bean = new Bean();
+
+        Binding binding = newBinding(memo, bean, "value");
+
+        memo.beginRender();
+
+        binding.get();
+        binding.get();
+
+        memo.endRender();
+
+        assertEquals(bean.reads, 2);
+        assertFalse(memo.getStatistics().isEnabled());
+        assertNull(memo.getCounter("prop:value"));
+        assertTrue(memo.getStatistics().getEvaluationCounts().isEmpty());
+    }
+
+    @Test
+    public void evaluations_are_counted()
+    {
+        BindingMemo memo = newMemo(true, true);
+        Bean bean = new Bean();
+
+        Binding value = newBinding(memo, bean, "value");
+        Binding next = newBinding(memo, bean, "next");
+
+        next.get();
+
+        memo.beginRender();
+
+        value.get();
+        value.get();
+        value.get();
+
+        memo.endRender();
+
+        value.get();
+
+        List<BindingEvaluationCount> counts = memo.getStatistics().getEvaluationCounts();
+
+        assertEquals(counts.size(), 2);
+
+        assertEquals(counts.get(0).getBinding(), "prop:value");
+        assertEquals(counts.get(0).getEvaluations(), 2);
+        assertEquals(counts.get(0).getMemoized(), 2);
+
+        assertEquals(counts.get(1).toString(), "prop:next: 1 evaluations, 0 memoized");
+
+        memo.getStatistics().reset();
+
+        assertTrue(memo.getStatistics().getEvaluationCounts().isEmpty());
+
+        // Existing bindings continue to be counted after a reset.
+
+        value.get();
+
+        counts = memo.getStatistics().getEvaluationCounts();
+
+        assertEquals(counts.size(), 1);
+        assertEquals(counts.get(0).toString(), "prop:value: 1 evaluations, 0 memoized");
+    }
+
+    @Test
+    public void statistics_service_is_injectable_by_type()
+    {
+        assertNotNull(getService(BindingStatistics.class));
+    }
+}
@@ -0,0 +1,164 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.services.ClientDataEncoder;
+import org.apache.tapestry5.services.ClientDataSink;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import static java.lang.String.format;
+import static java.lang.System.out;
+
+/**
+ * Compares the cost of encoding and decoding a form's component actions (as written by
+ * {@link org.apache.tapestry5.corelib.internal.ComponentActionSink} and read when the form is submitted) with
+ * {@linkplain org.apache.tapestry5.SymbolConstants#COMPACT_CLIENT_DATA compact client data} enabled and disabled.
+ * Reports the time, in microseconds, to encode and to decode, and the length of the client data.
+ */
+public class ClientDataBench
+{
+    private static final int ITERATIONS = 200 * 1000;
+
+    /**
+     * Similar to AbstractField.Setup.
+     */
+    static class Setup implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final String controlName;
+
+        Setup(String controlName)
+        {
+            this.controlName = controlName;
+        }
+    }
+
+    /**
+     * Similar to AbstractField.ProcessSubmission.
+     */
+    static class ProcessSubmission implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+    }
+
+    public static void main(String[] args) throws IOException, ClassNotFoundException
+    {
+        ClientDataEncoder legacy = new ClientDataEncoderImpl(null, "bench passphrase", null, "bench", null, false, null);
+        ClientDataEncoder compact = new ClientDataEncoderImpl(null, "bench passphrase", null, "bench", null, true, null);
+
+        for (int fields : new int[]{ 3, 20, 200 })
+        {
+            out.println(format("%n%d fields:", fields));
+            out.println(format("%-10s %12s %12s %12s", "format", "encode us", "decode us", "length"));
+
+            int iterations = ITERATIONS / fields;
+
+            run("legacy", legacy, fields, iterations);
+            run("compact", compact, fields, iterations);
+        }
+    }
+
+    private static void run(String name, ClientDataEncoder encoder, int fields, int iterations)
+            throws IOException, ClassNotFoundException
+    {
+        // Warm up.
+
+        for (int i = 0; i < iterations / 2; i++)
+        {
+            decode(encoder, encode(encoder, fields));
+        }
+
+        String clientData = null;
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++)
+        {
+            clientData = encode(encoder, fields);
+        }
+
+        double encodeNanos = (System.nanoTime() - start) / (double) iterations;
+
+        int count = 0;
+
+        start = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++)
+        {
+            count += decode(encoder, clientData);
+        }
+
+        double decodeNanos = (System.nanoTime() - start) / (double) iterations;
+
+        if (count != iterations * fields * 2)
+        {
+            throw new IllegalStateException("Decoded " + count + " actions.");
+        }
+
+        out.println(format("%-10s %12.2f %12.2f %12d", name, encodeNanos / 1000, decodeNanos / 1000, clientData.length()));
+    }
+
+    private static String encode(ClientDataEncoder encoder, int fields) throws IOException
+    {
+        ClientDataSink sink = encoder.createSink();
+
+        ObjectOutputStream stream = sink.getObjectOutputStream();
+
+        for (int i = 0; i < fields; i++)
+        {
+            String completeId = "app/EditCustomer:customerform.loop.field" + (i % 10);
+
+            stream.writeUTF(completeId);
+            stream.writeBoolean(false);
+            stream.writeObject(new Setup("field_" + i));
+
+            stream.writeUTF(completeId);
+            stream.writeBoolean(false);
+            stream.writeObject(new ProcessSubmission());
+        }
+
+        return sink.getClientData();
+    }
+
+    private static int decode(ClientDataEncoder encoder, String clientData) throws IOException, ClassNotFoundException
+    {
+        ObjectInputStream ois = encoder.decodeClientData(clientData);
+
+        int count = 0;
+
+        try
+        {
+            while (true)
+            {
+                ois.readUTF();
+                ois.readBoolean();
+                ois.readObject();
+
+                count++;
+            }
+        } catch (EOFException ex)
+        {
+            // Expected
+        }
+
+        return count;
+    }
+}
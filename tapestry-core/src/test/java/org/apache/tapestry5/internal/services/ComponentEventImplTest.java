@@ -27,6 +27,8 @@ import org.easymock.IAnswer;
 import org.slf4j.Logger;
 import org.testng.annotations.Test;
 
+import java.util.function.Supplier;
+
 import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.isA;
 
@@ -37,7 +39,7 @@ public class ComponentEventImplTest extends InternalBaseTestCase
     {
         ComponentPageElementResources resources = newMock(ComponentPageElementResources.class);
 
-        expect(resources.invoke(EasyMock.isA(String.class), EasyMock.isA(Invokable.class))).andAnswer(new IAnswer<Object>()
+        expect(resources.invoke(EasyMock.isA(Supplier.class), EasyMock.isA(Invokable.class))).andAnswer(new IAnswer<Object>()
         {
             public Object answer() throws Throwable
             {
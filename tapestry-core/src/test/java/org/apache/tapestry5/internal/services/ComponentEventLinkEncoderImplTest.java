@@ -36,8 +36,11 @@ import org.apache.tapestry5.services.security.ClientWhitelist;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.util.Collections;
 import java.util.Locale;
 
+import static org.easymock.EasyMock.isA;
+
 /**
  * Most of the testing is implemented through legacy tests against code that uses CELE.
  *
@@ -144,6 +147,8 @@ public class ComponentEventLinkEncoderImplTest extends InternalBaseTestCase
 
         train_setLocaleFromLocaleName(ls, "", false);
 
+        train_getPageNamePrefixes(resolver, "");
+
         train_isPageName(resolver, "", false);
 
         replay();
@@ -167,6 +172,7 @@ public class ComponentEventLinkEncoderImplTest extends InternalBaseTestCase
         LocalizationSetter ls = mockLocalizationSetter();
 
         stub_isPageName(resolver, false);
+        expect(resolver.getPageNamePrefixes(isA(String.class))).andStubReturn(Collections.<String>emptyList());
 
         train_setLocaleFromLocaleName(ls, "foo", false);
         train_getPath(request, "/foo/Bar.baz");
@@ -195,6 +201,8 @@ public class ComponentEventLinkEncoderImplTest extends InternalBaseTestCase
 
         train_setLocaleFromLocaleName(ls, "en", true);
 
+        train_getPageNamePrefixes(resolver, "");
+
         train_isPageName(resolver, "", false);
 
         replay();
@@ -233,8 +241,7 @@ public class ComponentEventLinkEncoderImplTest extends InternalBaseTestCase
 
         train_setLocaleFromLocaleName(ls, "foo", false);
 
-        train_isPageName(resolver, "foo/bar", false);
-        train_isPageName(resolver, "foo", false);
+        train_getPageNamePrefixes(resolver, "foo/bar");
         train_isPageName(resolver, "", true);
 
         train_canonicalizePageName(resolver, "", "index");
@@ -280,7 +287,7 @@ public class ComponentEventLinkEncoderImplTest extends InternalBaseTestCase
 
         train_setLocaleFromLocaleName(ls, "foo", false);
 
-        train_isPageName(resolver, "foo/Bar", true);
+        train_getPageNamePrefixes(resolver, "foo/Bar", "foo/Bar");
 
         train_canonicalizePageName(resolver, "foo/Bar", "foo/bar");
 
@@ -313,7 +320,7 @@ public class ComponentEventLinkEncoderImplTest extends InternalBaseTestCase
 
         train_setLocaleFromLocaleName(ls, "foo", false);
 
-        train_isPageName(resolver, "foo/Bar", true);
+        train_getPageNamePrefixes(resolver, "foo/Bar", "foo/Bar");
 
         train_canonicalizePageName(resolver, "foo/Bar", "foo/bar");
 
@@ -349,14 +356,13 @@ public class ComponentEventLinkEncoderImplTest extends InternalBaseTestCase
 
         train_setLocaleFromLocaleName(ls, "foo", false);
 
-        train_isPageName(resolver, "foo/Bar", true);
+        train_getPageNamePrefixes(resolver, "foo/Bar", "foo/Bar");
 
         train_canonicalizePageName(resolver, "foo/Bar", "foo/bar");
 
         expect(metaDataLocator.findMeta(MetaDataConstants.WHITELIST_ONLY_PAGE, "foo/bar", boolean.class)).andReturn(true);
         expect(whitelist.isClientRequestOnWhitelist()).andReturn(false);
 
-        train_isPageName(resolver, "foo", false);
         train_isPageName(resolver, "", false);
 
         replay();
@@ -393,11 +399,7 @@ public class ComponentEventLinkEncoderImplTest extends InternalBaseTestCase
 
         train_setLocaleFromLocaleName(ls, "foo", false);
 
-        train_isPageName(resolver, "foo/Bar/zip/zoom", false);
-
-        train_isPageName(resolver, "foo/Bar/zip", false);
-
-        train_isPageName(resolver, "foo/Bar", true);
+        train_getPageNamePrefixes(resolver, "foo/Bar/zip/zoom", "foo/Bar");
 
         train_canonicalizePageName(resolver, "foo/Bar", "foo/bar");
 
@@ -501,8 +503,7 @@ public class ComponentEventLinkEncoderImplTest extends InternalBaseTestCase
         train_getPath(request, "/foo/pageid=123");
         train_setLocaleFromLocaleName(ls, "foo", false);
 
-        train_isPageName(resolver, "foo/pageid=123", false);
-        train_isPageName(resolver, "foo", false);
+        train_getPageNamePrefixes(resolver, "foo/pageid=123");
         train_isPageName(resolver, "", true);
 
         train_canonicalizePageName(resolver, "", "Index");
@@ -213,6 +213,41 @@ public class ComponentMessagesSourceImplTest extends InternalBaseTestCase
         verify();
     }
 
+    @Test
+    public void inherited_messages_are_shared()
+    {
+        ComponentModel model = mockComponentModel();
+        ComponentModel noCatalog = mockComponentModel();
+
+        train_getComponentClassName(model, SIMPLE_COMPONENT_CLASS_NAME);
+        train_getBaseResource(model, simpleComponentResource);
+        train_getParentModel(model, null);
+
+        train_getComponentClassName(noCatalog, "org.apache.tapestry5.internal.services.NoCatalogComponent");
+        train_getBaseResource(noCatalog, simpleComponentResource.forFile("NoCatalogComponent.class"));
+        train_getParentModel(noCatalog, null);
+
+        replay();
+
+        forceCacheClear();
+
+        Messages appCatalog = source.getApplicationCatalog(Locale.ENGLISH);
+        Messages messages = source.getMessages(model, Locale.ENGLISH);
+
+        // A component without a catalog of its own just uses the application catalog.
+
+        assertSame(source.getMessages(noCatalog, Locale.ENGLISH), appCatalog);
+
+        assertEquals(messages.get("app-catalog-source"), "AppCatalog");
+        assertTrue(messages.getKeys().containsAll(appCatalog.getKeys()));
+
+        // Formatters for inherited keys come from the application catalog.
+
+        assertSame(messages.getFormatter("app-catalog-source"), appCatalog.getFormatter("app-catalog-source"));
+
+        verify();
+    }
+
     @Test
     public void no_app_catalog()
     {
@@ -67,4 +67,27 @@ public class ContextValueEncoderImplTest extends InternalBaseTestCase
         verify();
     }
 
+    @Test
+    public void bulk_to_client()
+    {
+        ValueEncoder longEncoder = mockValueEncoder();
+        ValueEncoder stringEncoder = mockValueEncoder();
+        ValueEncoderSource source = mockValueEncoderSource();
+
+        // The encoder is obtained once for each run of values of the same type.
+
+        train_getValueEncoder(source, Long.class, longEncoder);
+        train_toClient(longEncoder, 1L, "one");
+        train_toClient(longEncoder, 2L, "two");
+        train_getValueEncoder(source, String.class, stringEncoder);
+        train_toClient(stringEncoder, "three", "three");
+
+        replay();
+
+        ContextValueEncoder cve = new ContextValueEncoderImpl(source);
+
+        assertArraysEqual(cve.toClient(new Object[]{1L, 2L, null, "three"}), new String[]{"one", "two", null, "three"});
+
+        verify();
+    }
 }
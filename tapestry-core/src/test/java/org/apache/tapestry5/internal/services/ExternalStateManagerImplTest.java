@@ -0,0 +1,346 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.CookieBuilder;
+import org.apache.tapestry5.commons.services.PlasticProxyFactory;
+import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.apache.tapestry5.http.services.SessionPersistedObjectAnalyzer;
+import org.apache.tapestry5.internal.test.InternalBaseTestCase;
+import org.apache.tapestry5.services.Cookies;
+import org.apache.tapestry5.services.ExternalStateStore;
+import org.apache.tapestry5.services.PersistentFieldChange;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.getCurrentArguments;
+import static org.easymock.EasyMock.isA;
+
+public class ExternalStateManagerImplTest extends InternalBaseTestCase
+{
+    private SessionPersistedObjectAnalyzer analyzer;
+
+    private PlasticProxyFactory proxyFactory;
+
+    static class Cart implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        final List<String> items = CollectionFactory.newList();
+    }
+
+    /**
+     * Counts the operations performed.
+     */
+    static class CountingStore extends OffHeapExternalStateStore
+    {
+        int loads, stores;
+
+        CountingStore()
+        {
+            super(1024 * 1024);
+        }
+
+        @Override
+        public Map<String, byte[]> load(String stateId)
+        {
+            loads++;
+
+            return super.load(stateId);
+        }
+
+        @Override
+        public void store(String stateId, Map<String, byte[]> changes)
+        {
+            stores++;
+
+            super.store(stateId, changes);
+        }
+    }
+
+    static class CapturingCookieBuilder extends CookieBuilder
+    {
+        boolean written;
+
+        String getValue()
+        {
+            return value;
+        }
+
+        CapturingCookieBuilder(String name, String value)
+        {
+            super(name, value);
+        }
+
+        @Override
+        public void write()
+        {
+            assertEquals(maxAge, Integer.valueOf(-1));
+            assertEquals(httpOnly, Boolean.TRUE);
+
+            written = true;
+        }
+
+        @Override
+        public void delete()
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @BeforeClass
+    public void setup()
+    {
+        analyzer = getService(SessionPersistedObjectAnalyzer.class);
+        proxyFactory = getService("ComponentProxyFactory", PlasticProxyFactory.class);
+    }
+
+    private ExternalStateManager newManager(Cookies cookies, ExternalStateStore store)
+    {
+        return new ExternalStateManagerImpl(cookies, store, analyzer, proxyFactory);
+    }
+
+    /**
+     * Performs the first request for a client, storing a value, and returns the new state id.
+     */
+    private String firstRequest(ExternalStateStore store, String name, Object value)
+    {
+        Cookies cookies = newMock(Cookies.class);
+
+        expect(cookies.readCookieValue(ExternalStateManagerImpl.COOKIE_NAME)).andReturn(null);
+
+        final CapturingCookieBuilder[] builder = new CapturingCookieBuilder[1];
+
+        expect(cookies.getBuilder(eq(ExternalStateManagerImpl.COOKIE_NAME), isA(String.class))).andAnswer(() ->
+        {
+            builder[0] = new CapturingCookieBuilder(ExternalStateManagerImpl.COOKIE_NAME, (String) getCurrentArguments()[1]);
+
+            return builder[0];
+        });
+
+        replay();
+
+        ExternalStateManager manager = newManager(cookies, store);
+
+        manager.set(name, value);
+        manager.flush();
+
+        verify();
+
+        assertTrue(builder[0].written);
+
+        return builder[0].getValue();
+    }
+
+    private ExternalStateManager nextRequest(ExternalStateStore store, String stateId)
+    {
+        Cookies cookies = newMock(Cookies.class);
+
+        expect(cookies.readCookieValue(ExternalStateManagerImpl.COOKIE_NAME)).andReturn(stateId);
+
+        replay();
+
+        return newManager(cookies, store);
+    }
+
+    @Test
+    public void nothing_is_loaded_or_stored_when_unused()
+    {
+        CountingStore store = new CountingStore();
+
+        Cookies cookies = newMock(Cookies.class);
+
+        replay();
+
+        newManager(cookies, store).flush();
+
+        verify();
+
+        assertEquals(store.loads, 0);
+        assertEquals(store.stores, 0);
+    }
+
+    @Test
+    public void changes_are_stored_in_a_single_operation()
+    {
+        CountingStore store = new CountingStore();
+
+        String stateId = firstRequest(store, "sso:cart", new Cart());
+
+        assertTrue(ExternalStateManagerImpl.isValidStateId(stateId));
+        assertEquals(store.stores, 1);
+
+        ExternalStateManager manager = nextRequest(store, stateId);
+
+        assertTrue(manager.get("sso:cart") instanceof Cart);
+
+        manager.set("state:Index::count", 5);
+        manager.set("state:Index::name", "fred");
+        manager.set("sso:cart", null);
+
+        assertEquals(manager.getNames("state:Index:"), Arrays.asList("state:Index::count", "state:Index::name"));
+        assertNull(manager.get("sso:cart"));
+
+        manager.flush();
+
+        verify();
+
+        assertEquals(store.loads, 1);
+        assertEquals(store.stores, 2);
+
+        Map<String, byte[]> stored = store.load(stateId);
+
+        assertEquals(CollectionFactory.newSet(stored.keySet()), CollectionFactory.newSet("state:Index::count", "state:Index::name"));
+    }
+
+    @Test
+    public void values_modified_in_place_are_stored()
+    {
+        CountingStore store = new CountingStore();
+
+        String stateId = firstRequest(store, "sso:cart", new Cart());
+
+        // A request that reads, but does not modify, the cart does not store it.
+
+        ExternalStateManager manager = nextRequest(store, stateId);
+
+        manager.get("sso:cart");
+        manager.flush();
+
+        verify();
+
+        assertEquals(store.stores, 1);
+
+        manager = nextRequest(store, stateId);
+
+        ((Cart) manager.get("sso:cart")).items.add("book");
+
+        manager.flush();
+
+        verify();
+
+        assertEquals(store.stores, 2);
+
+        manager = nextRequest(store, stateId);
+
+        assertEquals(((Cart) manager.get("sso:cart")).items, Arrays.asList("book"));
+
+        verify();
+    }
+
+    @Test
+    public void invalid_state_id_is_ignored()
+    {
+        CountingStore store = new CountingStore();
+
+        ExternalStateManager manager = nextRequest(store, "../../etc/passwd");
+
+        assertNull(manager.get("sso:cart"));
+        assertTrue(manager.getNames("").isEmpty());
+
+        verify();
+
+        assertEquals(store.loads, 0);
+    }
+
+    @Test
+    public void value_must_be_serializable()
+    {
+        Cookies cookies = newMock(Cookies.class);
+
+        replay();
+
+        try
+        {
+            newManager(cookies, new OffHeapExternalStateStore(1024 * 1024)).set("state:Index::value", new Object());
+            unreachable();
+        } catch (IllegalArgumentException ex)
+        {
+            assertMessageContains(ex, "must be serializable");
+        }
+
+        verify();
+    }
+
+    @Test
+    public void persistent_field_strategy()
+    {
+        CountingStore store = new CountingStore();
+
+        String stateId = firstRequest(store, "state:Other:foo:bar", "other");
+
+        ExternalStateManager manager = nextRequest(store, stateId);
+
+        ExternalPersistentFieldStrategy strategy = new ExternalPersistentFieldStrategy(manager);
+
+        strategy.postChange("Index", null, "count", 5);
+        strategy.postChange("Index", "loop.item", "value", "baz");
+
+        List<PersistentFieldChange> changes = CollectionFactory.newList(strategy.gatherFieldChanges("Index"));
+
+        assertEquals(changes.size(), 2);
+
+        assertEquals(changes.get(0).getComponentId(), "");
+        assertEquals(changes.get(0).getFieldName(), "count");
+        assertEquals(changes.get(0).getValue(), 5);
+
+        assertEquals(changes.get(1).getComponentId(), "loop.item");
+        assertEquals(changes.get(1).getFieldName(), "value");
+        assertEquals(changes.get(1).getValue(), "baz");
+
+        strategy.discardChanges("Index");
+
+        assertTrue(strategy.gatherFieldChanges("Index").isEmpty());
+        assertEquals(strategy.gatherFieldChanges("Other").size(), 1);
+
+        manager.flush();
+
+        verify();
+
+        assertEquals(store.load(stateId).keySet(), CollectionFactory.newSet("state:Other:foo:bar"));
+    }
+
+    @Test
+    public void application_state_strategy()
+    {
+        CountingStore store = new CountingStore();
+
+        String stateId = firstRequest(store, "unused", "x");
+
+        ExternalStateManager manager = nextRequest(store, stateId);
+
+        ExternalApplicationStatePersistenceStrategy strategy = new ExternalApplicationStatePersistenceStrategy(manager);
+
+        assertFalse(strategy.exists(Cart.class));
+        assertNull(strategy.getIfExists(Cart.class));
+
+        Cart cart = strategy.get(Cart.class, Cart::new);
+
+        assertTrue(strategy.exists(Cart.class));
+        assertSame(strategy.get(Cart.class, Cart::new), cart);
+
+        strategy.set(Cart.class, null);
+
+        assertFalse(strategy.exists(Cart.class));
+
+        verify();
+    }
+}
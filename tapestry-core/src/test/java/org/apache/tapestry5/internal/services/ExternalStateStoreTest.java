@@ -0,0 +1,151 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+
+public class ExternalStateStoreTest extends Assert
+{
+    private static final String STATE_ID = "AAECAwQFBgcICQoLDA0ODw";
+
+    @DataProvider
+    public Object[][] stores() throws IOException
+    {
+        File directory = Files.createTempDirectory("external-state").toFile();
+
+        directory.deleteOnExit();
+
+        return new Object[][]{
+                {new OffHeapExternalStateStore(1024 * 1024)},
+                {new OffHeapExternalStateStore(0)},
+                {new FileExternalStateStore(directory)}
+        };
+    }
+
+    private static Map<String, byte[]> changes(Object... nameValuePairs)
+    {
+        Map<String, byte[]> result = CollectionFactory.newMap();
+
+        for (int i = 0; i < nameValuePairs.length; i += 2)
+        {
+            result.put((String) nameValuePairs[i], (byte[]) nameValuePairs[i + 1]);
+        }
+
+        return result;
+    }
+
+    @Test(dataProvider = "stores")
+    public void changes_are_merged(AbstractExternalStateStore store)
+    {
+        assertTrue(store.load(STATE_ID).isEmpty());
+
+        store.store(STATE_ID, changes("a", new byte[]{1}, "b", new byte[]{2, 3}));
+        store.store(STATE_ID, changes("b", null, "c", new byte[0], "d", null));
+
+        Map<String, byte[]> entries = store.load(STATE_ID);
+
+        assertEquals(entries.keySet(), CollectionFactory.newSet("a", "c"));
+        assertEquals(entries.get("a"), new byte[]{1});
+        assertEquals(entries.get("c"), new byte[0]);
+
+        store.store(STATE_ID, changes("a", null, "c", null));
+
+        assertTrue(store.load(STATE_ID).isEmpty());
+    }
+
+    @Test(dataProvider = "stores")
+    public void remove_and_expire(AbstractExternalStateStore store) throws Exception
+    {
+        store.store(STATE_ID, changes("a", new byte[]{1}));
+        store.remove(STATE_ID);
+
+        assertTrue(store.load(STATE_ID).isEmpty());
+
+        store.store(STATE_ID, changes("a", new byte[]{1}));
+
+        store.removeExpired(System.currentTimeMillis() - 60 * 1000);
+
+        assertEquals(store.load(STATE_ID).size(), 1);
+
+        store.removeExpired(System.currentTimeMillis() + 60 * 1000);
+
+        assertTrue(store.load(STATE_ID).isEmpty());
+    }
+
+    @Test
+    public void off_heap_buffers_are_reused()
+    {
+        OffHeapExternalStateStore store = new OffHeapExternalStateStore(1024 * 1024);
+
+        // A block is replaced after its new buffer is filled, so two buffers alternate.
+
+        store.store(STATE_ID, changes("a", new byte[100]));
+        store.store(STATE_ID, changes("a", new byte[101]));
+
+        long offHeapBytes = store.getOffHeapBytes();
+
+        assertTrue(offHeapBytes > 0);
+
+        // The buffers of replaced blocks are reused for later blocks, including those of another state id.
+
+        for (int i = 0; i < 10; i++)
+        {
+            store.store(STATE_ID, changes("a", new byte[]{(byte) i}));
+        }
+
+        store.remove(STATE_ID);
+
+        store.store("AQIDBAUGBwgJCgsMDQ4PEA", changes("b", new byte[]{42}));
+
+        assertEquals(store.getOffHeapBytes(), offHeapBytes);
+        assertEquals(store.load("AQIDBAUGBwgJCgsMDQ4PEA").get("b"), new byte[]{42});
+    }
+
+    @Test
+    public void values_are_kept_on_the_heap_beyond_the_off_heap_limit()
+    {
+        OffHeapExternalStateStore store = new OffHeapExternalStateStore(1024);
+
+        store.store(STATE_ID, changes("a", new byte[200]));
+        store.store("AQIDBAUGBwgJCgsMDQ4PEA", changes("b", new byte[2000]));
+
+        assertTrue(store.getOffHeapBytes() <= 1024);
+        assertEquals(store.load(STATE_ID).get("a"), new byte[200]);
+        assertEquals(store.load("AQIDBAUGBwgJCgsMDQ4PEA").get("b"), new byte[2000]);
+    }
+
+    @Test
+    public void file_store_rejects_invalid_state_id() throws Exception
+    {
+        FileExternalStateStore store = new FileExternalStateStore(Files.createTempDirectory("external-state").toFile());
+
+        try
+        {
+            store.load("../secret");
+            fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException ex)
+        {
+            assertEquals(ex.getMessage(), "'../secret' is not a valid external state id.");
+        }
+    }
+}
@@ -0,0 +1,150 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.http.internal.services.InMemorySessionStore;
+import org.apache.tapestry5.http.services.SessionDelta;
+import org.apache.tapestry5.test.ioc.TestBase;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.List;
+
+public class InMemorySessionStoreTest extends TestBase
+{
+    @Test
+    public void idle_sessions_are_removed()
+    {
+        InMemorySessionStore store = new InMemorySessionStore(100);
+
+        store.write("session-id", "cart", changes(1));
+
+        store.removeExpired(System.currentTimeMillis() - 60 * 1000);
+
+        assertEquals(store.read("session-id", "cart", 0).size(), 1);
+
+        store.removeExpired(System.currentTimeMillis() + 1);
+
+        assertTrue(store.read("session-id", "cart", 0).isEmpty());
+    }
+
+    @Test
+    public void least_recently_accessed_sessions_are_removed_when_full() throws Exception
+    {
+        InMemorySessionStore store = new InMemorySessionStore(10);
+
+        store.write("oldest", "cart", changes(1));
+        store.write("read", "cart", changes(1));
+
+        for (int i = 0; i < 8; i++)
+        {
+            store.write("session-" + i, "cart", changes(1));
+        }
+
+        // Reading a session makes it the most recently accessed.
+
+        store.read("read", "cart", 0);
+
+        store.write("newest", "cart", changes(1));
+
+        assertTrue(store.read("oldest", "cart", 0).isEmpty());
+        assertEquals(store.read("read", "cart", 0).size(), 1);
+        assertEquals(store.read("session-0", "cart", 0).size(), 1);
+        assertEquals(store.read("newest", "cart", 0).size(), 1);
+    }
+
+    @Test
+    public void versions_keep_increasing_after_a_session_is_discarded() throws Exception
+    {
+        InMemorySessionStore store = new InMemorySessionStore(1);
+
+        assertEquals(store.write("session-id", "cart", changes(1)), 1);
+        assertEquals(store.write("session-id", "cart", changes(2)), 2);
+
+        store.removeExpired(System.currentTimeMillis() + 1);
+
+        assertEquals(store.write("session-id", "cart", changes(3)), 3);
+
+        // Discarded to make room for another session.
+
+        store.write("other", "cart", changes(1));
+
+        assertEquals(store.write("session-id", "cart", changes(4)), 5);
+
+        List<SessionDelta> deltas = store.read("session-id", "cart", 3);
+
+        assertEquals(deltas.size(), 1);
+        assertEquals(count(deltas.get(0)), 4);
+    }
+
+    @Test
+    public void repeated_changes_are_merged() throws Exception
+    {
+        InMemorySessionStore store = new InMemorySessionStore(100);
+
+        for (int i = 1; i <= InMemorySessionStore.MAX_DELTAS; i++)
+        {
+            assertEquals(store.write("session-id", "cart", changes(i)), i);
+        }
+
+        List<SessionDelta> deltas = store.read("session-id", "cart", 3);
+
+        assertEquals(deltas.size(), 1);
+        assertEquals(deltas.get(0).getVersion(), InMemorySessionStore.MAX_DELTAS);
+        assertEquals(count(deltas.get(0)), InMemorySessionStore.MAX_DELTAS);
+
+        assertTrue(store.read("session-id", "cart", InMemorySessionStore.MAX_DELTAS).isEmpty());
+
+        long version = store.write("session-id", "cart", changes(99));
+
+        assertEquals(version, InMemorySessionStore.MAX_DELTAS + 1);
+
+        deltas = store.read("session-id", "cart", InMemorySessionStore.MAX_DELTAS);
+
+        assertEquals(deltas.size(), 1);
+        assertEquals(count(deltas.get(0)), 99);
+    }
+
+    private static byte[] changes(int count)
+    {
+        HashMap<String, Integer> changes = new HashMap<String, Integer>();
+
+        changes.put("count", count);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos))
+        {
+            oos.writeObject(changes);
+        } catch (Exception ex)
+        {
+            throw new RuntimeException(ex);
+        }
+
+        return bos.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int count(SessionDelta delta) throws Exception
+    {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(delta.getChanges())))
+        {
+            return (Integer) ((HashMap<String, Object>) ois.readObject()).get("count");
+        }
+    }
+}
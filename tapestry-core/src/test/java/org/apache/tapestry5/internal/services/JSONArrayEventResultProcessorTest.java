@@ -19,6 +19,7 @@ import org.apache.tapestry5.internal.test.InternalBaseTestCase;
 import org.apache.tapestry5.json.JSONArray;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.CharArrayWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
@@ -28,13 +29,13 @@ public class JSONArrayEventResultProcessorTest extends InternalBaseTestCase
     @Test
     public void response_sent() throws IOException
     {
-        String encoding = "UTF-8";
+        String encoding = "ISO-8859-1";
         Response response = mockResponse();
 
         CharArrayWriter writer = new CharArrayWriter();
         PrintWriter pw = new PrintWriter(writer);
 
-        expect(response.getPrintWriter("application/json;charset=UTF-8")).andReturn(pw);
+        expect(response.getPrintWriter("application/json;charset=ISO-8859-1")).andReturn(pw);
 
         replay();
 
@@ -48,4 +49,24 @@ public class JSONArrayEventResultProcessorTest extends InternalBaseTestCase
 
         assertEquals(writer.toString(), "[\n  \"fred\",\n  \"barney\"\n]");
     }
+
+    @Test
+    public void utf8_response_encoded_directly() throws IOException
+    {
+        Response response = mockResponse();
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        expect(response.getOutputStream("application/json;charset=UTF-8")).andReturn(os);
+
+        replay();
+
+        JSONArray array = new JSONArray("fred", "b\u00e4rney");
+
+        new JSONArrayEventResultProcessor(response, "UTF-8", true).processResultValue(array);
+
+        verify();
+
+        assertEquals(os.toString("UTF-8"), "[\"fred\",\"b\u00e4rney\"]");
+    }
 }
@@ -0,0 +1,169 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.json.JSONArray;
+import org.apache.tapestry5.json.JSONObject;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+
+import static java.lang.String.format;
+import static java.lang.System.out;
+
+/**
+ * Compares the ways of sending a JSON reply as UTF-8 bytes: {@link JSONObject#toCompactString()} then encoding the
+ * String, printing to a PrintWriter over an OutputStreamWriter (as the response writer did), and encoding directly
+ * to bytes with {@link JSONObject#writeTo(OutputStream, boolean)}. Reports the time, in microseconds, and the memory
+ * allocated, in bytes, per reply (the latter only on JVMs that can report allocation per thread).
+ */
+public class JSONSerializationBench
+{
+    private static final int REPLIES = 50 * 1000;
+
+    /**
+     * Discards the content, counting the bytes.
+     */
+    private static class Sink extends OutputStream
+    {
+        long count;
+
+        @Override
+        public void write(int b)
+        {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len)
+        {
+            count += len;
+        }
+    }
+
+    private interface Serializer
+    {
+        void serialize(JSONObject reply, Sink sink) throws IOException;
+    }
+
+    private static final Serializer TO_COMPACT_STRING = new Serializer()
+    {
+        public void serialize(JSONObject reply, Sink sink) throws IOException
+        {
+            sink.write(reply.toCompactString().getBytes(StandardCharsets.UTF_8));
+        }
+    };
+
+    private static final Serializer PRINT_WRITER = new Serializer()
+    {
+        public void serialize(JSONObject reply, Sink sink)
+        {
+            PrintWriter pw = new PrintWriter(new BufferedWriter(new OutputStreamWriter(sink, StandardCharsets.UTF_8)));
+
+            reply.print(pw, true);
+
+            pw.close();
+        }
+    };
+
+    private static final Serializer WRITE_TO = new Serializer()
+    {
+        public void serialize(JSONObject reply, Sink sink) throws IOException
+        {
+            reply.writeTo(sink, true);
+        }
+    };
+
+    public static void main(String[] args) throws IOException
+    {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+        com.sun.management.ThreadMXBean allocationBean = threadBean instanceof com.sun.management.ThreadMXBean
+                ? (com.sun.management.ThreadMXBean) threadBean : null;
+
+        for (int rows : new int[]{ 10, 1000 })
+        {
+            for (boolean ascii : new boolean[]{ true, false })
+            {
+                JSONObject reply = createReply(rows, ascii);
+
+                out.println(format("%n%d rows, %s content (%d bytes):", rows, ascii ? "ASCII" : "non-ASCII",
+                        reply.toCompactString().getBytes(StandardCharsets.UTF_8).length));
+                out.println(format("%-20s %12s %12s", "path", "us/reply", "bytes/reply"));
+
+                int replies = REPLIES / rows * 10;
+
+                run("toCompactString", TO_COMPACT_STRING, reply, replies, allocationBean);
+                run("PrintWriter", PRINT_WRITER, reply, replies, allocationBean);
+                run("writeTo", WRITE_TO, reply, replies, allocationBean);
+            }
+        }
+    }
+
+    private static JSONObject createReply(int rows, boolean ascii)
+    {
+        JSONArray array = new JSONArray();
+
+        for (int i = 0; i < rows; i++)
+        {
+            array.put(new JSONObject("id", i, "name", ascii ? "Customer " + i : "Kunde Müller €" + i,
+                    "email", "customer" + i + "@example.com", "balance", i * 17.25d, "active", i % 3 == 0,
+                    "notes", "Line one\nLine \"two\" </script>"));
+        }
+
+        return new JSONObject("_tapestry", new JSONObject("content", "<div class=\"zone\">updated</div>"), "rows", array);
+    }
+
+    private static void run(String name, Serializer serializer, JSONObject reply, int replies,
+                            com.sun.management.ThreadMXBean allocationBean) throws IOException
+    {
+        // Warm up.
+
+        serialize(serializer, reply, replies / 2);
+
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = allocationBean == null ? 0 : allocationBean.getThreadAllocatedBytes(threadId);
+
+        double nanos = serialize(serializer, reply, replies);
+
+        long allocated = allocationBean == null ? 0 : allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        out.println(format("%-20s %12.2f %12d", name, nanos / 1000, allocated / replies));
+    }
+
+    private static double serialize(Serializer serializer, JSONObject reply, int replies) throws IOException
+    {
+        Sink sink = new Sink();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < replies; i++)
+        {
+            serializer.serialize(reply, sink);
+        }
+
+        double result = (System.nanoTime() - start) / (double) replies;
+
+        // Use the result, so that the serialization can't be eliminated.
+
+        return sink.count == 42 ? -result : result;
+    }
+}
@@ -0,0 +1,81 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.http.services.Response;
+import org.apache.tapestry5.internal.test.InternalBaseTestCase;
+import org.apache.tapestry5.json.JSONStreamable;
+import org.apache.tapestry5.json.JSONWriter;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+public class JSONStreamableEventResultProcessorTest extends InternalBaseTestCase
+{
+    @Test
+    public void response_sent() throws IOException
+    {
+        Response response = mockResponse();
+
+        CharArrayWriter writer = new CharArrayWriter();
+        PrintWriter pw = new PrintWriter(writer);
+
+        expect(response.getPrintWriter("application/json;charset=ISO-8859-1")).andReturn(pw);
+
+        replay();
+
+        JSONStreamable streamable = newStreamable();
+
+        JSONStreamableEventResultProcessor p = new JSONStreamableEventResultProcessor(response, "ISO-8859-1", true);
+
+        p.processResultValue(streamable);
+
+        verify();
+
+        assertEquals(writer.toString(), "{\"count\":2,\"names\":[\"fred\",\"barney\"]}");
+    }
+
+    @Test
+    public void utf8_response_encoded_directly() throws IOException
+    {
+        Response response = mockResponse();
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        expect(response.getOutputStream("application/json;charset=UTF-8")).andReturn(os);
+
+        replay();
+
+        new JSONStreamableEventResultProcessor(response, "UTF-8", true).processResultValue(newStreamable());
+
+        verify();
+
+        assertEquals(os.toString("UTF-8"), "{\"count\":2,\"names\":[\"fred\",\"barney\"]}");
+    }
+
+    private static JSONStreamable newStreamable()
+    {
+        return new JSONStreamable()
+        {
+            public void writeTo(JSONWriter writer)
+            {
+                writer.object().entry("count", 2).key("names").array().value("fred").value("barney").endArray().endObject();
+            }
+        };
+    }
+}
@@ -23,17 +23,24 @@ import org.apache.tapestry5.beanmodel.services.*;
 import org.apache.tapestry5.commons.services.TypeCoercer;
 import org.apache.tapestry5.commons.util.CollectionFactory;
 import org.apache.tapestry5.http.Link;
+import org.apache.tapestry5.http.LinkSecurity;
 import org.apache.tapestry5.http.services.RequestGlobals;
 import org.apache.tapestry5.internal.structure.Page;
 import org.apache.tapestry5.internal.test.InternalBaseTestCase;
+import org.apache.tapestry5.ioc.internal.services.PerthreadManagerImpl;
+import org.apache.tapestry5.ioc.services.PerthreadManager;
 import org.apache.tapestry5.services.ComponentClassResolver;
 import org.apache.tapestry5.services.ComponentEventLinkEncoder;
 import org.apache.tapestry5.services.ComponentEventRequestParameters;
 import org.apache.tapestry5.services.LinkCreationListener2;
 import org.apache.tapestry5.services.PageRenderRequestParameters;
+import org.apache.tapestry5.services.PersistentLocale;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.isA;
+
 public class LinkSourceImplTest extends InternalBaseTestCase
 {
     private List<LinkCreationListener2> emptyConfiguration = Collections.emptyList();
@@ -113,7 +120,7 @@ public class LinkSourceImplTest extends InternalBaseTestCase
         replay();
 
         LinkSource source = new LinkSourceImpl(null, collector, typeCoercer, resolver, linkEncoder, globals, null,
-                emptyConfiguration);
+                emptyConfiguration, null, null, false, 0);
 
         Link actual = source.createPageRenderLink(pageName, false);
 
@@ -154,7 +161,7 @@ public class LinkSourceImplTest extends InternalBaseTestCase
         replay();
 
         LinkSource source = new LinkSourceImpl(null, collector, typeCoercer, resolver, linkEncoder, globals, null,
-                emptyConfiguration);
+                emptyConfiguration, null, null, false, 0);
 
         source.getLinkCreationHub().addListener(listener);
 
@@ -197,7 +204,7 @@ public class LinkSourceImplTest extends InternalBaseTestCase
         replay();
 
         LinkSource source = new LinkSourceImpl(null, collector, typeCoercer, resolver, linkEncoder, globals, null,
-                emptyConfiguration);
+                emptyConfiguration, null, null, false, 0);
 
         source.getLinkCreationHub().addListener(listener);
 
@@ -264,7 +271,7 @@ public class LinkSourceImplTest extends InternalBaseTestCase
         replay();
 
         LinkSource source = new LinkSourceImpl(queue, collector, typeCoercer, null, linkEncoder, null, null,
-                emptyConfiguration);
+                emptyConfiguration, null, null, false, 0);
 
         assertSame(source.createComponentEventLink(primaryPage, "gnip.gnop", "myevent", true, 3, 5, 9), link);
 
@@ -301,7 +308,7 @@ public class LinkSourceImplTest extends InternalBaseTestCase
         replay();
 
         LinkSource source = new LinkSourceImpl(queue, collector, typeCoercer, null, linkEncoder, null, null,
-                emptyConfiguration);
+                emptyConfiguration, null, null, false, 0);
 
         source.getLinkCreationHub().addListener(listener);
 
@@ -346,7 +353,7 @@ public class LinkSourceImplTest extends InternalBaseTestCase
         replay();
 
         LinkSource source = new LinkSourceImpl(queue, collector, typeCoercer, null, linkEncoder, null, null,
-                configuration);
+                configuration, null, null, false, 0);
 
         Link returnedLink = source.createComponentEventLink(primaryPage, nestedId, eventType, forForm, context);
 
@@ -357,6 +364,213 @@ public class LinkSourceImplTest extends InternalBaseTestCase
         verify();
     }
 
+    @Test
+    public void page_render_links_are_cached_for_the_request()
+    {
+        PerthreadManager perthreadManager = new PerthreadManagerImpl(null);
+        ComponentEventLinkEncoder linkEncoder = mockComponentEventLinkEncoder();
+        LinkSource source = newCachingLinkSource(linkEncoder, perthreadManager, 0);
+
+        train_createPageRenderLink(linkEncoder, "/order/edit/99");
+        train_createPageRenderLink(linkEncoder, "/order/edit/99");
+
+        replay();
+
+        Link first = source.createPageRenderLink("order/Edit", true, 99);
+        Link second = source.createPageRenderLink("order/Edit", true, 99);
+
+        // Each link is a distinct copy, decorated separately by the listener.
+
+        assertNotSame(first, second);
+        assertDecorated(second, "/order/edit/99");
+
+        // A new request starts with an empty cache.
+
+        perthreadManager.cleanup();
+
+        assertDecorated(source.createPageRenderLink("order/Edit", true, 99), "/order/edit/99");
+
+        verify();
+    }
+
+    @Test
+    public void links_with_different_context_are_cached_separately()
+    {
+        ComponentEventLinkEncoder linkEncoder = mockComponentEventLinkEncoder();
+        LinkSource source = newCachingLinkSource(linkEncoder, new PerthreadManagerImpl(null), 0);
+
+        train_createPageRenderLink(linkEncoder, "/order/edit/99");
+        train_createPageRenderLink(linkEncoder, "/order/edit/99l");
+
+        replay();
+
+        source.createPageRenderLink("order/Edit", true, 99);
+        source.createPageRenderLink("order/Edit", true, 99L);
+        source.createPageRenderLink("order/Edit", true, 99);
+        source.createPageRenderLink("order/Edit", true, 99L);
+
+        verify();
+    }
+
+    @Test
+    public void links_with_mutable_context_are_not_cached()
+    {
+        ComponentEventLinkEncoder linkEncoder = mockComponentEventLinkEncoder();
+        LinkSource source = newCachingLinkSource(linkEncoder, new PerthreadManagerImpl(null), 0);
+
+        Object context = new StringBuilder("mutable");
+
+        train_createPageRenderLink(linkEncoder, "/order/edit/mutable");
+        train_createPageRenderLink(linkEncoder, "/order/edit/mutable");
+
+        replay();
+
+        source.createPageRenderLink("order/Edit", true, context);
+        source.createPageRenderLink("order/Edit", true, context);
+
+        verify();
+    }
+
+    @Test
+    public void absolute_links_are_not_cached()
+    {
+        ComponentEventLinkEncoder linkEncoder = mockComponentEventLinkEncoder();
+        LinkSource source = newCachingLinkSource(linkEncoder, new PerthreadManagerImpl(null), 10);
+
+        for (int i = 0; i < 2; i++)
+        {
+            expect(linkEncoder.createPageRenderLink(isA(PageRenderRequestParameters.class))).andReturn(
+                    new LinkImpl("/order/edit/1", false, LinkSecurity.FORCE_SECURE, null, null, null));
+            expect(linkEncoder.createPageRenderLink(isA(PageRenderRequestParameters.class))).andReturn(
+                    new LinkImpl("http://example.com/order/edit/2", false, LinkSecurity.INSECURE, null, null, null));
+        }
+
+        replay();
+
+        for (int i = 0; i < 2; i++)
+        {
+            source.createPageRenderLink("order/Edit", true, 1);
+            source.createPageRenderLink("order/Edit", true, 2);
+        }
+
+        verify();
+    }
+
+    @Test
+    public void shared_links_are_reused_by_later_requests()
+    {
+        PerthreadManager perthreadManager = new PerthreadManagerImpl(null);
+        ComponentEventLinkEncoder linkEncoder = mockComponentEventLinkEncoder();
+        LinkSource source = newCachingLinkSource(linkEncoder, perthreadManager, 1);
+
+        train_createPageRenderLink(linkEncoder, "/order/edit/1");
+        train_createPageRenderLink(linkEncoder, "/order/edit/2");
+        train_createPageRenderLink(linkEncoder, "/order/edit/1");
+
+        replay();
+
+        source.createPageRenderLink("order/Edit", true, 1);
+
+        perthreadManager.cleanup();
+
+        assertDecorated(source.createPageRenderLink("order/Edit", true, 1), "/order/edit/1");
+
+        // Exceeding the size of the shared cache discards the shared links.
+
+        source.createPageRenderLink("order/Edit", true, 2);
+
+        perthreadManager.cleanup();
+
+        source.createPageRenderLink("order/Edit", true, 1);
+
+        verify();
+    }
+
+    @Test
+    public void component_event_links_are_cached_by_component_and_event()
+    {
+        Page page = mockPage();
+        PageRenderQueue queue = mockPageRenderQueue();
+        PageActivationContextCollector collector = mockPageActivationContextCollector();
+        ComponentEventLinkEncoder linkEncoder = mockComponentEventLinkEncoder();
+        RequestGlobals globals = mockRequestGlobals();
+        PersistentLocale persistentLocale = newMock(PersistentLocale.class);
+
+        expect(queue.getRenderingPage()).andReturn(null).anyTimes();
+        expect(page.getName()).andReturn("order/Edit").anyTimes();
+        expect(collector.collectPageActivationContext("order/Edit")).andReturn(new Object[]{"a"}).anyTimes();
+        expect(globals.getRequest()).andReturn(null).anyTimes();
+        expect(persistentLocale.get()).andReturn(null).anyTimes();
+
+        train_createComponentEventLink(linkEncoder, "/order/edit.loop.delete/1");
+        train_createComponentEventLink(linkEncoder, "/order/edit.loop.delete/2");
+        train_createComponentEventLink(linkEncoder, "/order/edit.grid.delete/1");
+
+        replay();
+
+        LinkSource source = new LinkSourceImpl(queue, collector, typeCoercer, null, linkEncoder, globals, null,
+                emptyConfiguration, new PerthreadManagerImpl(null), persistentLocale, true, 0);
+
+        for (int i = 0; i < 3; i++)
+        {
+            assertEquals(source.createComponentEventLink(page, "loop", "delete", false, 1).getBasePath(),
+                    "/order/edit.loop.delete/1");
+            assertEquals(source.createComponentEventLink(page, "loop", "delete", false, 2).getBasePath(),
+                    "/order/edit.loop.delete/2");
+            assertEquals(source.createComponentEventLink(page, "grid", "delete", false, 1).getBasePath(),
+                    "/order/edit.grid.delete/1");
+        }
+
+        verify();
+    }
+
+    private LinkSource newCachingLinkSource(ComponentEventLinkEncoder linkEncoder, PerthreadManager perthreadManager,
+            int sharedLinkCacheSize)
+    {
+        ComponentClassResolver resolver = mockComponentClassResolver();
+        RequestGlobals globals = mockRequestGlobals();
+        PersistentLocale persistentLocale = newMock(PersistentLocale.class);
+
+        expect(resolver.canonicalizePageName("order/Edit")).andReturn("order/Edit").anyTimes();
+        expect(globals.getActivePageName()).andReturn("someOtherPage").anyTimes();
+        expect(globals.getRequest()).andReturn(null).anyTimes();
+        expect(persistentLocale.get()).andReturn(null).anyTimes();
+
+        LinkCreationListener2 listener = new LinkCreationListener2()
+        {
+            public void createdPageRenderLink(Link link, PageRenderRequestParameters parameters)
+            {
+                link.addParameter("decorated", "true");
+            }
+
+            public void createdComponentEventLink(Link link, ComponentEventRequestParameters parameters)
+            {
+                link.addParameter("decorated", "true");
+            }
+        };
+
+        return new LinkSourceImpl(null, null, typeCoercer, resolver, linkEncoder, globals, null,
+                CollectionFactory.newList(listener), perthreadManager, persistentLocale, true, sharedLinkCacheSize);
+    }
+
+    private void assertDecorated(Link link, String basePath)
+    {
+        assertEquals(link.getBasePath(), basePath);
+        assertEquals(link.getParameterValues("decorated"), new String[]{"true"});
+    }
+
+    private void train_createPageRenderLink(ComponentEventLinkEncoder linkEncoder, String basePath)
+    {
+        expect(linkEncoder.createPageRenderLink(isA(PageRenderRequestParameters.class))).andReturn(
+                new LinkImpl(basePath, false, LinkSecurity.INSECURE, null, null, null));
+    }
+
+    private void train_createComponentEventLink(ComponentEventLinkEncoder linkEncoder, String basePath)
+    {
+        expect(linkEncoder.createComponentEventLink(isA(ComponentEventRequestParameters.class), eq(false))).andReturn(
+                new LinkImpl(basePath, false, LinkSecurity.INSECURE, null, null, null));
+    }
+
     protected final void train_collectPageActivationContext(PageActivationContextCollector collector, String pageName,
             Object... context)
     {
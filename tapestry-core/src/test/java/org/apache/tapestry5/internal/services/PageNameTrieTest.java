@@ -0,0 +1,66 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.test.ioc.TestBase;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class PageNameTrieTest extends TestBase
+{
+    private PageNameTrie trie;
+
+    @BeforeMethod
+    public void setup()
+    {
+        trie = new PageNameTrie();
+
+        trie.add("");
+        trie.add("Index");
+        trie.add("admin/Index");
+        trie.add("admin");
+        trie.add("admin/user/Edit");
+    }
+
+    @Test
+    public void prefixes_are_longest_first()
+    {
+        assertEquals(trie.findPrefixes("admin/Index/12"), Arrays.asList("admin/Index", "admin"));
+    }
+
+    @Test
+    public void matching_is_case_insensitive()
+    {
+        assertEquals(trie.findPrefixes("ADMIN/user/edit"), Arrays.asList("ADMIN/user/edit", "ADMIN"));
+    }
+
+    @Test
+    public void only_complete_terms_match()
+    {
+        assertEquals(trie.findPrefixes("admin/Ind"), Arrays.asList("admin"));
+        assertEquals(trie.findPrefixes("adminx/Index"), Collections.emptyList());
+        assertEquals(trie.findPrefixes("admin/user"), Arrays.asList("admin"));
+    }
+
+    @Test
+    public void empty_page_name_never_matches()
+    {
+        assertEquals(trie.findPrefixes(""), Collections.emptyList());
+        assertEquals(trie.findPrefixes("/Index"), Collections.emptyList());
+    }
+}
@@ -0,0 +1,209 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.http.services.Request;
+import org.apache.tapestry5.ioc.services.ClassNameLocator;
+import org.apache.tapestry5.services.ComponentClassResolver;
+import org.apache.tapestry5.services.ComponentEventLinkEncoder;
+import org.apache.tapestry5.services.LibraryMapping;
+import org.apache.tapestry5.services.LocalizationSetter;
+import org.apache.tapestry5.services.MetaDataLocator;
+import org.apache.tapestry5.services.PageRenderRequestParameters;
+import org.apache.tapestry5.services.security.ClientWhitelist;
+import org.slf4j.helpers.NOPLogger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static java.lang.String.format;
+import static java.lang.System.out;
+
+/**
+ * Compares the cost of decoding a page render request
+ * ({@link ComponentEventLinkEncoder#decodePageRenderRequest(Request)}) when the page name is found by checking
+ * successively shorter prefixes of the path (the default {@link ComponentClassResolver#getPageNamePrefixes(String)})
+ * and when it is found with the resolver's {@link PageNameTrie}, for pages nested in increasingly deep folders (the
+ * depth is the number of folders). Each request path ends with a page activation context of {@value #CONTEXT_TERMS}
+ * values. Times are in nanoseconds per request.
+ */
+public class PageRenderRequestDecodeBench
+{
+    private static final int ITERATIONS = 2 * 1000 * 1000;
+
+    private static final int MAX_DEPTH = 6;
+
+    private static final int PAGES_PER_FOLDER = 50;
+
+    private static final int CONTEXT_TERMS = 4;
+
+    /**
+     * Finds page names as ComponentEventLinkEncoderImpl did before the page name trie.
+     */
+    static class ProbingComponentClassResolver extends ComponentClassResolverImpl
+    {
+        ProbingComponentClassResolver(ClassNameLocator locator)
+        {
+            super(NOPLogger.NOP_LOGGER, locator, "Index", Collections.singletonList(new LibraryMapping("", "bench")));
+        }
+
+        @Override
+        public List<String> getPageNamePrefixes(String path)
+        {
+            List<String> result = new ArrayList<String>(2);
+
+            int slashx = path.length();
+
+            while (slashx > 0)
+            {
+                String pageName = path.substring(0, slashx);
+
+                if (isPageName(pageName))
+                {
+                    result.add(pageName);
+                }
+
+                slashx = path.lastIndexOf('/', slashx - 1);
+            }
+
+            return result;
+        }
+    }
+
+    public static void main(String[] args)
+    {
+        final List<String> classNames = new ArrayList<String>();
+
+        for (int depth = 0; depth <= MAX_DEPTH; depth++)
+        {
+            for (int i = 0; i < PAGES_PER_FOLDER; i++)
+            {
+                classNames.add(format("bench.pages.%sPage%d", folders(depth, '.'), i));
+            }
+        }
+
+        ClassNameLocator locator = new ClassNameLocator()
+        {
+            @Override
+            public Collection<String> locateClassNames(String packageName)
+            {
+                return packageName.equals("bench.pages") ? classNames : Collections.<String>emptyList();
+            }
+        };
+
+        ComponentEventLinkEncoder probing = newEncoder(new ProbingComponentClassResolver(locator));
+        ComponentEventLinkEncoder trie = newEncoder(new ComponentClassResolverImpl(NOPLogger.NOP_LOGGER, locator,
+                "Index", Collections.singletonList(new LibraryMapping("", "bench"))));
+
+        out.println(format("%-12s %12s %12s", "depth", "probing", "trie"));
+
+        for (int depth = 0; depth <= MAX_DEPTH; depth++)
+        {
+            String pageName = folders(depth, '/') + "Page7";
+
+            StringBuilder path = new StringBuilder("/").append(pageName);
+
+            for (int i = 0; i < CONTEXT_TERMS; i++)
+            {
+                path.append("/").append(1000 + i);
+            }
+
+            Request request = newRequest(path.toString());
+
+            decode(probing, request, pageName, ITERATIONS / 2);
+            decode(trie, request, pageName, ITERATIONS / 2);
+
+            out.println(format("%-12d %12.2f %12.2f", depth,
+                    decode(probing, request, pageName, ITERATIONS),
+                    decode(trie, request, pageName, ITERATIONS)));
+        }
+    }
+
+    private static String folders(int depth, char separator)
+    {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 1; i <= depth; i++)
+        {
+            builder.append("section").append(i).append(separator);
+        }
+
+        return builder.toString();
+    }
+
+    private static double decode(ComponentEventLinkEncoder encoder, Request request, String pageName, int iterations)
+    {
+        long start = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++)
+        {
+            PageRenderRequestParameters parameters = encoder.decodePageRenderRequest(request);
+
+            if (parameters.getActivationContext().getCount() != CONTEXT_TERMS)
+            {
+                throw new IllegalStateException(format("Decoded %s as %s.", request.getPath(), parameters.getLogicalPageName()));
+            }
+        }
+
+        double nanos = (System.nanoTime() - start) / (double) iterations;
+
+        if (!encoder.decodePageRenderRequest(request).getLogicalPageName().equalsIgnoreCase(pageName))
+        {
+            throw new IllegalStateException(format("Decoded %s as the wrong page.", request.getPath()));
+        }
+
+        return nanos;
+    }
+
+    private static ComponentEventLinkEncoder newEncoder(ComponentClassResolver resolver)
+    {
+        return new ComponentEventLinkEncoderImpl(resolver, new ContextPathEncoderImpl(null, new URLEncoderImpl()),
+                stub(LocalizationSetter.class, false), null, null, null, null, false, "", "",
+                stub(MetaDataLocator.class, false), stub(ClientWhitelist.class, false));
+    }
+
+    private static Request newRequest(final String path)
+    {
+        return (Request) Proxy.newProxyInstance(Request.class.getClassLoader(), new Class[]{ Request.class },
+                new InvocationHandler()
+                {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args)
+                    {
+                        return method.getName().equals("getPath") ? path : null;
+                    }
+                });
+    }
+
+    /**
+     * Returns an implementation of the interface whose methods all return the same result.
+     */
+    private static <T> T stub(Class<T> type, final Object result)
+    {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class[]{ type }, new InvocationHandler()
+        {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args)
+            {
+                return result;
+            }
+        }));
+    }
+}
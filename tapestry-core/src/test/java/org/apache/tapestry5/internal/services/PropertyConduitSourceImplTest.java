@@ -14,20 +14,36 @@
 
 package org.apache.tapestry5.internal.services;
 
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.tapestry5.Block;
 import org.apache.tapestry5.beaneditor.NonVisual;
 import org.apache.tapestry5.beaneditor.Validate;
+import org.apache.tapestry5.beanmodel.PrimitivePropertyConduit;
 import org.apache.tapestry5.beanmodel.PropertyConduit;
 import org.apache.tapestry5.beanmodel.PropertyConduit2;
 import org.apache.tapestry5.beanmodel.internal.InternalPropertyConduit;
 import org.apache.tapestry5.beanmodel.internal.services.Invariant;
+import org.apache.tapestry5.beanmodel.internal.services.PropertyConduitSourceImpl;
+import org.apache.tapestry5.beanmodel.services.PropertyConduitCacheStatistics;
 import org.apache.tapestry5.beanmodel.services.PropertyConduitSource;
+import org.apache.tapestry5.commons.internal.services.StringInterner;
+import org.apache.tapestry5.commons.services.PlasticProxyFactory;
+import org.apache.tapestry5.commons.services.PropertyAccess;
+import org.apache.tapestry5.commons.services.TypeCoercer;
 import org.apache.tapestry5.commons.util.CollectionFactory;
 import org.apache.tapestry5.commons.util.IntegerRange;
 import org.apache.tapestry5.integration.app1.data.IntegerHolder;
@@ -962,6 +978,216 @@ public class PropertyConduitSourceImplTest extends InternalBaseTestCase
         }
     }
     
+    public static class PrimitiveHolder
+    {
+        public int count = 7;
+
+        private PrimitiveHolder next;
+
+        public PrimitiveHolder getNext()
+        {
+            return next;
+        }
+
+        public long getSize()
+        {
+            return 1234567890123L;
+        }
+
+        public double getRatio()
+        {
+            return 0.25;
+        }
+
+        public boolean isActive()
+        {
+            return true;
+        }
+
+        public String getText()
+        {
+            return "42";
+        }
+
+        public int sum(int a, int b)
+        {
+            return a + b;
+        }
+    }
+
+    @Test
+    public void primitive_accessors_read_primitive_properties()
+    {
+        PrimitiveHolder holder = new PrimitiveHolder();
+
+        assertEquals(primitive("count").getInt(holder), 7);
+        assertEquals(primitive("size").getLong(holder), 1234567890123L);
+        assertEquals(primitive("ratio").getDouble(holder), 0.25);
+        assertTrue(primitive("active").getBoolean(holder));
+        assertFalse(primitive("!active").getBoolean(holder));
+        assertEquals(primitive("sum(3, 4)").getInt(holder), 7);
+    }
+
+    @Test
+    public void primitive_accessors_coerce_other_types()
+    {
+        PrimitiveHolder holder = new PrimitiveHolder();
+
+        assertEquals(primitive("text").getInt(holder), 42);
+        assertEquals(primitive("count").getLong(holder), 7L);
+        assertEquals(primitive("count").getDouble(holder), 7.0);
+        assertEquals(primitive("ratio").getInt(holder), 0);
+        assertEquals(primitive("12").getInt(holder), 12);
+    }
+
+    @Test
+    public void primitive_accessors_return_default_for_null_in_path()
+    {
+        PrimitiveHolder holder = new PrimitiveHolder();
+
+        assertEquals(primitive("next?.count").getInt(holder), 0);
+        assertEquals(primitive("next?.size").getLong(holder), 0L);
+        assertFalse(primitive("next?.active").getBoolean(holder));
+        assertNull(source.create(PrimitiveHolder.class, "next?.count").get(holder));
+    }
+
+    @Test
+    public void only_null_safe_navigation_is_nullable()
+    {
+        assertTrue(primitive("next?.count").isNullable());
+        assertTrue(primitive("next?.next.count").isNullable());
+        assertFalse(primitive("count").isNullable());
+        assertFalse(primitive("next.count").isNullable());
+        assertFalse(primitive("!active").isNullable());
+    }
+
+    @Test
+    public void cache_is_bounded_and_keeps_recently_used_conduits()
+    {
+        PropertyConduitSource bounded = new PropertyConduitSourceImpl(getService(PropertyAccess.class),
+                getService("PlasticProxyFactory", PlasticProxyFactory.class), getService(TypeCoercer.class),
+                getService(StringInterner.class), 10);
+
+        PropertyConduit count = bounded.create(PrimitiveHolder.class, "count");
+
+        for (int i = 0; i < 30; i++)
+        {
+            bounded.create(PrimitiveHolder.class, Integer.toString(i));
+
+            assertSame(bounded.create(PrimitiveHolder.class, "count"), count);
+        }
+
+        PropertyConduitCacheStatistics statistics = bounded.getCacheStatistics();
+
+        assertEquals(statistics.getMisses(), 31L);
+        assertEquals(statistics.getHits(), 30L);
+        assertEquals(statistics.getMaxSize(), 10);
+        assertTrue(statistics.getSize() <= 10);
+        assertEquals(statistics.getEvictions(), 31L - statistics.getSize());
+        assertTrue(statistics.getBuildTime() > 0);
+    }
+
+    @Test
+    public void classes_of_evicted_conduits_are_unloaded()
+    {
+        PropertyConduitSource bounded = new PropertyConduitSourceImpl(getService(PropertyAccess.class),
+                getService("PlasticProxyFactory", PlasticProxyFactory.class), getService(TypeCoercer.class),
+                getService(StringInterner.class), 1);
+
+        WeakReference<ClassLoader> loader = new WeakReference<ClassLoader>(
+                bounded.create(PrimitiveHolder.class, "count").getClass().getClassLoader());
+
+        // Evicts the "count" conduit, and then the "active" conduit (generated in the same class loader).
+
+        bounded.create(PrimitiveHolder.class, "active");
+
+        PropertyConduit next = bounded.create(PrimitiveHolder.class, "next");
+
+        assertNotSame(next.getClass().getClassLoader(), loader.get());
+
+        for (int i = 0; i < 10 && loader.get() != null; i++)
+        {
+            System.gc();
+        }
+
+        assertNull(loader.get());
+    }
+
+    @Test
+    public void concurrent_requests_for_a_conduit_build_it_once() throws Exception
+    {
+        final PlasticProxyFactory proxyFactory = getService("PlasticProxyFactory", PlasticProxyFactory.class);
+
+        // Slows down class generation, so that all the threads request the conduit while it is being built.
+
+        PlasticProxyFactory slowProxyFactory = (PlasticProxyFactory) Proxy.newProxyInstance(
+                PlasticProxyFactory.class.getClassLoader(), new Class[]{PlasticProxyFactory.class},
+                new InvocationHandler()
+                {
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+                    {
+                        if (method.getName().equals("createProxy"))
+                        {
+                            Thread.sleep(200);
+                        }
+
+                        try
+                        {
+                            return method.invoke(proxyFactory, args);
+                        } catch (InvocationTargetException ex)
+                        {
+                            throw ex.getCause();
+                        }
+                    }
+                });
+
+        final PropertyConduitSource unbounded = new PropertyConduitSourceImpl(getService(PropertyAccess.class),
+                slowProxyFactory, getService(TypeCoercer.class), getService(StringInterner.class), 0);
+
+        final int threads = 8;
+        final CyclicBarrier barrier = new CyclicBarrier(threads);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try
+        {
+            List<Future<PropertyConduit>> futures = CollectionFactory.newList();
+
+            for (int i = 0; i < threads; i++)
+            {
+                futures.add(executor.submit(new Callable<PropertyConduit>()
+                {
+                    public PropertyConduit call() throws Exception
+                    {
+                        barrier.await();
+
+                        return unbounded.create(PrimitiveHolder.class, "count");
+                    }
+                }));
+            }
+
+            PropertyConduit conduit = futures.get(0).get();
+
+            for (Future<PropertyConduit> future : futures)
+            {
+                assertSame(future.get(), conduit);
+            }
+        } finally
+        {
+            executor.shutdownNow();
+        }
+
+        PropertyConduitCacheStatistics statistics = unbounded.getCacheStatistics();
+
+        assertEquals(statistics.getMisses(), 1L);
+        assertEquals(statistics.getHits(), (long) threads - 1);
+    }
+
+    private PrimitivePropertyConduit primitive(String expression)
+    {
+        return (PrimitivePropertyConduit) source.create(PrimitiveHolder.class, expression);
+    }
+
     private void assertConduitPropertyType(Class<?> origin, String property, Class<?> expectedType) {
         assertEquals(expectedType, source.create(origin, property).getPropertyType());
     }
@@ -0,0 +1,81 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static java.lang.String.format;
+import static java.lang.System.out;
+
+/**
+ * Measures the throughput of {@link PropertyExpressionParser} for a range of typical property expressions: the time,
+ * in nanoseconds, and the memory allocated, in bytes, per parse (the latter only on JVMs that can report
+ * allocation per thread).
+ */
+public class PropertyExpressionParserBench
+{
+    private static final int WARMUP_PARSES = 500 * 1000;
+
+    private static final int PARSES = 2 * 1000 * 1000;
+
+    private static final String[] EXPRESSIONS = { "value", "user.address.street", "order?.customer?.name",
+            "items.get(index).price", "format('%s: %d', label, count)", "1..10", "!active",
+            "[ 1, 2.0, 'three', this ]", "{ 'one': 1, 'two': user.name }" };
+
+    public static void main(String[] args)
+    {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+        com.sun.management.ThreadMXBean allocationBean = threadBean instanceof com.sun.management.ThreadMXBean
+                ? (com.sun.management.ThreadMXBean) threadBean : null;
+
+        out.println(format("%-36s %12s %12s", "expression", "ns/parse", "bytes/parse"));
+
+        for (String expression : EXPRESSIONS)
+        {
+            parse(expression, WARMUP_PARSES);
+
+            long threadId = Thread.currentThread().getId();
+
+            long allocatedBefore = allocationBean == null ? 0 : allocationBean.getThreadAllocatedBytes(threadId);
+
+            double nanos = parse(expression, PARSES);
+
+            long allocated = allocationBean == null ? 0 : allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+            out.println(format("%-36s %12.1f %12d", expression, nanos, allocated / PARSES));
+        }
+    }
+
+    private static double parse(String expression, int parses)
+    {
+        int nodes = 0;
+        long start = System.nanoTime();
+
+        for (int i = 0; i < parses; i++)
+        {
+            nodes += PropertyExpressionParser.parse(expression).getChildCount();
+        }
+
+        double result = (System.nanoTime() - start) / (double) parses;
+
+        // Use the result, so that the parsing can't be eliminated.
+
+        return nodes == 42 ? -result : result;
+    }
+}
@@ -0,0 +1,177 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.beanmodel.internal.parser.ExpressionNode;
+import org.apache.tapestry5.beanmodel.internal.parser.PropertyExpressionParser;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * The expected trees were produced by the ANTLR-based parser that {@link PropertyExpressionParser} replaced; each is
+ * rendered as "TYPE:text", with children in parentheses.
+ */
+public class PropertyExpressionParserTest extends Assert
+{
+    @DataProvider
+    public Object[][] valid_expressions()
+    {
+        return new Object[][]
+        {
+            {"value", "IDENTIFIER:value"},
+            {"stringField", "IDENTIFIER:stringField"},
+            {"bean.stringField", "(DEREF:. IDENTIFIER:bean IDENTIFIER:stringField)"},
+            {"simple.firstName", "(DEREF:. IDENTIFIER:simple IDENTIFIER:firstName)"},
+            {"next?.count", "(SAFEDEREF:?. IDENTIFIER:next IDENTIFIER:count)"},
+            {"a.b?.c.d", "(DEREF:. IDENTIFIER:a (SAFEDEREF:?. IDENTIFIER:b (DEREF:. IDENTIFIER:c IDENTIFIER:d)))"},
+            {"toString()", "(INVOKE:INVOKE IDENTIFIER:toString)"},
+            {"genericA()", "(INVOKE:INVOKE IDENTIFIER:genericA)"},
+            {"echoInt(storedInt, 3)", "(INVOKE:INVOKE IDENTIFIER:echoInt IDENTIFIER:storedInt INTEGER:3)"},
+            {"echoDouble(storedDouble, 2.0)", "(INVOKE:INVOKE IDENTIFIER:echoDouble IDENTIFIER:storedDouble DECIMAL:2.0)"},
+            {"echoString(storedString, 'B4', 'AFTER')", "(INVOKE:INVOKE IDENTIFIER:echoString IDENTIFIER:storedString STRING:B4 STRING:AFTER)"},
+            {"echoString(storedString, stringSource.value, 'beta')", "(INVOKE:INVOKE IDENTIFIER:echoString IDENTIFIER:storedString (DEREF:. IDENTIFIER:stringSource IDENTIFIER:value) STRING:beta)"},
+            {"echoList([ 1, 2.0, storedString ])", "(INVOKE:INVOKE IDENTIFIER:echoList (LIST:LIST INTEGER:1 DECIMAL:2.0 IDENTIFIER:storedString))"},
+            {"echoMap({ 1: 'one', 2.0: 'two', storedString: stringSource.value })", "(INVOKE:INVOKE IDENTIFIER:echoMap (MAP:MAP INTEGER:1 STRING:one DECIMAL:2.0 STRING:two IDENTIFIER:storedString (DEREF:. IDENTIFIER:stringSource IDENTIFIER:value)))"},
+            {"genericBeans.get(0).dates", "(DEREF:. IDENTIFIER:genericBeans (DEREF:. (INVOKE:INVOKE IDENTIFIER:get INTEGER:0) IDENTIFIER:dates))"},
+            {"get(nestedIndex).name", "(DEREF:. (INVOKE:INVOKE IDENTIFIER:get IDENTIFIER:nestedIndex) IDENTIFIER:name)"},
+            {"holder.get().firstName", "(DEREF:. IDENTIFIER:holder (DEREF:. (INVOKE:INVOKE IDENTIFIER:get) IDENTIFIER:firstName))"},
+            {"stringHolderMethod().stringValue()", "(DEREF:. (INVOKE:INVOKE IDENTIFIER:stringHolderMethod) (INVOKE:INVOKE IDENTIFIER:stringValue))"},
+            {"isThatRealBlood().value", "(DEREF:. (INVOKE:INVOKE IDENTIFIER:isThatRealBlood) IDENTIFIER:value)"},
+            {"label(! value)", "(INVOKE:INVOKE IDENTIFIER:label (NOT:NOT IDENTIFIER:value))"},
+            {"toName(false)", "(INVOKE:INVOKE IDENTIFIER:toName FALSE:false)"},
+            {"toName(true)", "(INVOKE:INVOKE IDENTIFIER:toName TRUE:true)"},
+            {"! value", "(NOT:NOT IDENTIFIER:value)"},
+            {"!!active", "(NOT:NOT (NOT:NOT IDENTIFIER:active))"},
+            {"10..value", "(RANGEOP:.. INTEGER:10 IDENTIFIER:value)"},
+            {"value..99", "(RANGEOP:.. IDENTIFIER:value INTEGER:99)"},
+            {"1..10", "(RANGEOP:.. INTEGER:1 INTEGER:10)"},
+            {"+7..+20", "(RANGEOP:.. INTEGER:7 INTEGER:20)"},
+            {" -20 .. -30 ", "(RANGEOP:.. INTEGER:-20 INTEGER:-30)"},
+            {"foo.bar..baz.size()", "(RANGEOP:.. (DEREF:. IDENTIFIER:foo IDENTIFIER:bar) (DEREF:. IDENTIFIER:baz (INVOKE:INVOKE IDENTIFIER:size)))"},
+            {"[  ]", "LIST:LIST"},
+            {"[ 1, 2.0, storedString ]", "(LIST:LIST INTEGER:1 DECIMAL:2.0 IDENTIFIER:storedString)"},
+            {"[this, null]", "(LIST:LIST THIS:this NULL:null)"},
+            {"[[1, 2], [3]]", "(LIST:LIST (LIST:LIST INTEGER:1 INTEGER:2) (LIST:LIST INTEGER:3))"},
+            {"{ }", "MAP:MAP"},
+            {"{'one': true, 'two': 2.0, stringSource.value: 3, 'four': storedString}", "(MAP:MAP STRING:one TRUE:true STRING:two DECIMAL:2.0 (DEREF:. IDENTIFIER:stringSource IDENTIFIER:value) INTEGER:3 STRING:four IDENTIFIER:storedString)"},
+            {"{null: this, true: false}", "(MAP:MAP NULL:null THIS:this TRUE:true FALSE:false)"},
+            {"{'range': 1..5, 'list': [1], 'not': !x}", "(MAP:MAP STRING:range (RANGEOP:.. INTEGER:1 INTEGER:5) STRING:list (LIST:LIST INTEGER:1) STRING:not (NOT:NOT IDENTIFIER:x))"},
+            {"true", "TRUE:true"},
+            {"True", "TRUE:True"},
+            {" true ", "TRUE:true"},
+            {"false", "FALSE:false"},
+            {"null", "NULL:null"},
+            {"NULL", "NULL:NULL"},
+            {"this", "THIS:this"},
+            {"THIS", "THIS:THIS"},
+            {"nullable", "IDENTIFIER:nullable"},
+            {"trueValue", "IDENTIFIER:trueValue"},
+            {"3", "INTEGER:3"},
+            {" 37 ", "INTEGER:37"},
+            {" -227", "INTEGER:-227"},
+            {" 5.", "DECIMAL:5."},
+            {" -100.", "DECIMAL:-100."},
+            {" -0.0 ", "DECIMAL:-0.0"},
+            {"+50", "INTEGER:50"},
+            {"+5.5", "DECIMAL:5.5"},
+            {"0.", "DECIMAL:0."},
+            {".5", "DECIMAL:.5"},
+            {"-.5", "DECIMAL:-.5"},
+            {" 227.75", "DECIMAL:227.75"},
+            {"'Hello World'", "STRING:Hello World"},
+            {" ' Inside ' ", "STRING: Inside "},
+            {"''", "STRING:"},
+            {"$value", "IDENTIFIER:$value"},
+            {"_private", "IDENTIFIER:_private"},
+            {"caf\u00e9", "IDENTIFIER:caf\u00e9"},
+            {"\u4e01\u4e02", "IDENTIFIER:\u4e01\u4e02"},
+            {"a1.b2", "(DEREF:. IDENTIFIER:a1 IDENTIFIER:b2)"},
+            {"sum(3, 4)", "(INVOKE:INVOKE IDENTIFIER:sum INTEGER:3 INTEGER:4)"},
+            {"sum(-1, +2.5, .5)", "(INVOKE:INVOKE IDENTIFIER:sum INTEGER:-1 DECIMAL:2.5 DECIMAL:.5)"},
+            {"lookup('key', [1, 2], {'a': 1})", "(INVOKE:INVOKE IDENTIFIER:lookup STRING:key (LIST:LIST INTEGER:1 INTEGER:2) (MAP:MAP STRING:a INTEGER:1))"},
+            {"a", "IDENTIFIER:a"},
+        };
+    }
+
+    @DataProvider
+    public Object[][] invalid_expressions()
+    {
+        return new Object[][]
+        {
+            {"", "line 1:0 no viable alternative at input '<EOF>'"},
+            {" .line", "line 1:1 no viable alternative at input '.'"},
+            {"..5", "line 1:0 no viable alternative at input '..'"},
+            {"getValue(", "line 1:8 no viable alternative at input '('"},
+            {"[1,", "line 1:0 no viable alternative at input '['"},
+            {"foo bar", "line 1:4 mismatched input 'bar' expecting EOF"},
+            {"this.foo", "line 1:4 mismatched input '.' expecting EOF"},
+            {"{'a' 1}", "line 1:5 mismatched input '1' expecting COLON"},
+            {"1..", "line 1:3 no viable alternative at input '<EOF>'"},
+            {"foo.\n  bar.", "line 2:6 no viable alternative at input '<EOF>'"},
+            {"fred #", "Unable to parse input at character position 6"},
+            {"-x", "Unable to parse input at character position 2"},
+            {"a ? b", "Unable to parse input at character position 4"},
+            {"'unterminated", "Unable to parse input at character position 14"},
+        };
+    }
+
+    @Test(dataProvider = "valid_expressions")
+    public void parse_valid_expression(String expression, String expectedTree)
+    {
+        assertEquals(render(PropertyExpressionParser.parse(expression)), expectedTree);
+    }
+
+    @Test(dataProvider = "invalid_expressions")
+    public void parse_invalid_expression(String expression, String expectedMessage)
+    {
+        try
+        {
+            PropertyExpressionParser.parse(expression);
+            fail("Expected a parse error.");
+        } catch (RuntimeException ex)
+        {
+            assertEquals(ex.getMessage(), expectedMessage);
+        }
+    }
+
+    @Test
+    public void to_string_tree()
+    {
+        ExpressionNode node = PropertyExpressionParser.parse("user?.address(1, 'x').street");
+
+        assertEquals(node.toStringTree(), "(?. user (. (INVOKE address 1 x) street))");
+    }
+
+    private static String render(ExpressionNode node)
+    {
+        StringBuilder builder = new StringBuilder();
+
+        if (node.getChildCount() > 0)
+            builder.append('(');
+
+        builder.append(PropertyExpressionParser.getTypeName(node.getType())).append(':').append(node.getText());
+
+        for (int i = 0; i < node.getChildCount(); i++)
+        {
+            builder.append(' ').append(render(node.getChild(i)));
+        }
+
+        if (node.getChildCount() > 0)
+            builder.append(')');
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,145 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.EventContext;
+import org.apache.tapestry5.http.services.Dispatcher;
+import org.apache.tapestry5.http.services.Request;
+import org.apache.tapestry5.http.services.Response;
+import org.apache.tapestry5.internal.EmptyEventContext;
+import org.apache.tapestry5.internal.test.InternalBaseTestCase;
+import org.apache.tapestry5.ioc.util.TimingHistogram;
+import org.apache.tapestry5.services.ComponentEventRequestHandler;
+import org.apache.tapestry5.services.ComponentEventRequestParameters;
+import org.apache.tapestry5.services.PageRenderRequestHandler;
+import org.apache.tapestry5.services.PageRenderRequestParameters;
+import org.apache.tapestry5.services.RequestMetrics;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+public class RequestMetricsCollectorImplTest extends InternalBaseTestCase
+{
+    private static final EventContext EMPTY = new EmptyEventContext();
+
+    @Test
+    public void disabled_collector_does_not_wrap_dispatchers()
+    {
+        Dispatcher dispatcher = newMock(Dispatcher.class);
+
+        replay();
+
+        RequestMetricsCollectorImpl collector = new RequestMetricsCollectorImpl(false);
+
+        assertFalse(collector.isEnabled());
+        assertSame(collector.track(RequestMetrics.ASSET, dispatcher), dispatcher);
+
+        verify();
+    }
+
+    @Test
+    public void only_handled_requests_are_timed() throws IOException
+    {
+        Dispatcher dispatcher = newMock(Dispatcher.class);
+        Request request = mockRequest();
+        Response response = mockResponse();
+
+        expect(dispatcher.dispatch(request, response)).andReturn(false);
+        expect(dispatcher.dispatch(request, response)).andReturn(true);
+        expect(dispatcher.dispatch(request, response)).andThrow(new IOException("Failed."));
+
+        replay();
+
+        RequestMetricsCollectorImpl collector = new RequestMetricsCollectorImpl(true);
+
+        Dispatcher tracked = collector.track(RequestMetrics.ASSET, dispatcher);
+
+        assertFalse(tracked.dispatch(request, response));
+        assertTrue(collector.getHandlerTimings().isEmpty());
+
+        assertTrue(tracked.dispatch(request, response));
+
+        try
+        {
+            tracked.dispatch(request, response);
+            unreachable();
+        } catch (IOException ex)
+        {
+            // Expected
+        }
+
+        assertEquals(collector.getHandlerTimings().get(RequestMetrics.ASSET).getCount(), 2L);
+
+        verify();
+    }
+
+    @Test
+    public void filter_records_pages_and_events() throws IOException
+    {
+        PageRenderRequestHandler pageRenderHandler = newMock(PageRenderRequestHandler.class);
+        ComponentEventRequestHandler componentEventHandler = newMock(ComponentEventRequestHandler.class);
+
+        PageRenderRequestParameters pageRender = new PageRenderRequestParameters("admin/Users", EMPTY);
+        ComponentEventRequestParameters componentEvent = new ComponentEventRequestParameters("admin/Users",
+                "admin/Users", "grid.delete", "action", EMPTY, EMPTY);
+
+        pageRenderHandler.handle(pageRender);
+        pageRenderHandler.handle(pageRender);
+        componentEventHandler.handle(componentEvent);
+
+        replay();
+
+        RequestMetricsCollectorImpl collector = new RequestMetricsCollectorImpl(true);
+
+        RequestMetricsFilter filter = new RequestMetricsFilter(collector);
+
+        filter.handle(pageRender, pageRenderHandler);
+        filter.handle(pageRender, pageRenderHandler);
+        filter.handle(componentEvent, componentEventHandler);
+
+        Map<String, TimingHistogram> handlers = collector.getHandlerTimings();
+
+        assertEquals(handlers.get(RequestMetrics.PAGE_RENDER).getCount(), 2L);
+        assertEquals(handlers.get(RequestMetrics.COMPONENT_EVENT).getCount(), 1L);
+
+        assertEquals(collector.getPageRenderTimings().get("admin/Users").getCount(), 2L);
+        assertEquals(collector.getComponentEventTimings().keySet(), Arrays.asList("admin/Users:action"));
+
+        collector.reset();
+
+        assertTrue(collector.getHandlerTimings().isEmpty());
+        assertTrue(collector.getPageRenderTimings().isEmpty());
+
+        verify();
+    }
+
+    @Test
+    public void number_of_names_is_bounded()
+    {
+        RequestMetricsCollectorImpl collector = new RequestMetricsCollectorImpl(true);
+
+        for (int i = 0; i < RequestMetricsCollectorImpl.MAX_KEYS + 10; i++)
+        {
+            collector.recordComponentEvent("Index", "event" + i, 1000);
+        }
+
+        Map<String, TimingHistogram> timings = collector.getComponentEventTimings();
+
+        assertEquals(timings.size(), RequestMetricsCollectorImpl.MAX_KEYS + 1);
+        assertEquals(timings.get(RequestMetricsCollectorImpl.OTHER).getCount(), 10L);
+    }
+}
@@ -0,0 +1,194 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.http.internal.gzip.DeflaterPool;
+import org.apache.tapestry5.http.internal.services.CompressionLevelSourceImpl;
+import org.apache.tapestry5.http.internal.services.ResponseCompressorImpl;
+import org.apache.tapestry5.http.services.CompressionAnalyzer;
+import org.apache.tapestry5.http.services.CompressionLevelSource;
+import org.apache.tapestry5.http.services.CompressionStatistics;
+import org.apache.tapestry5.internal.test.InternalBaseTestCase;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+public class ResponseCompressorImplTest extends InternalBaseTestCase
+{
+    private static final CompressionLevelSource DEFAULT_LEVEL = new CompressionLevelSourceImpl(
+            Collections.<String, Integer>emptyMap(), Deflater.DEFAULT_COMPRESSION);
+
+    private static String content()
+    {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < 500; i++)
+        {
+            builder.append("<li class='item'>Item #").append(i).append("</li>\n");
+        }
+
+        return builder.toString();
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException
+    {
+        GZIPInputStream stream = new GZIPInputStream(new ByteArrayInputStream(compressed));
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+
+        byte[] buffer = new byte[1024];
+
+        while (true)
+        {
+            int count = stream.read(buffer);
+
+            if (count < 0)
+            {
+                break;
+            }
+
+            result.write(buffer, 0, count);
+        }
+
+        return new String(result.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void compressed_output_is_valid_gzip() throws IOException
+    {
+        CompressionAnalyzer analyzer = newMock(CompressionAnalyzer.class);
+
+        replay();
+
+        ResponseCompressorImpl compressor = new ResponseCompressorImpl(analyzer, DEFAULT_LEVEL, 0);
+
+        String content = content();
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+
+        for (int i = 0; i < 3; i++)
+        {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            OutputStream stream = compressor.compress(out, "text/html;charset=utf-8");
+
+            stream.write(bytes, 0, 100);
+            stream.write(bytes, 100, bytes.length - 100);
+            stream.close();
+
+            assertEquals(gunzip(out.toByteArray()), content);
+        }
+
+        assertEquals(compressor.getCompressedResponses(), 3L);
+        assertEquals(compressor.getUncompressedBytes(), 3L * bytes.length);
+        assertTrue(compressor.getCompressedBytes() < compressor.getUncompressedBytes());
+        assertEquals(compressor.getCompressionTimes().getCount(), 3L);
+
+        compressor.reset();
+
+        assertEquals(compressor.getCompressedResponses(), 0L);
+        assertEquals(compressor.getCompressedBytes(), 0L);
+
+        verify();
+    }
+
+    @Test
+    public void compression_requires_compressable_content() throws IOException
+    {
+        CompressionAnalyzer analyzer = newMock(CompressionAnalyzer.class);
+
+        expect(analyzer.isCompressable("image/png")).andReturn(false);
+        expect(analyzer.isCompressable("text/html")).andReturn(true);
+
+        replay();
+
+        ResponseCompressorImpl compressor = new ResponseCompressorImpl(analyzer, DEFAULT_LEVEL, 0);
+
+        assertFalse(compressor.isCompressionEnabled("image/png"));
+        assertTrue(compressor.isCompressionEnabled("text/html"));
+        assertEquals(compressor.getSkippedResponses(), 0L);
+
+        verify();
+    }
+
+    @Test
+    public void deflaters_are_reused() throws IOException
+    {
+        DeflaterPool pool = new DeflaterPool(1);
+
+        Deflater deflater = pool.acquire(5);
+
+        assertEquals(pool.getIdleCount(5), 0);
+
+        pool.release(deflater, 5);
+
+        assertEquals(pool.getIdleCount(5), 1);
+        assertSame(pool.acquire(5), deflater);
+        assertNotSame(pool.acquire(Deflater.BEST_SPEED), deflater);
+
+        Deflater other = pool.acquire(5);
+
+        pool.release(deflater, 5);
+        pool.release(other, 5);
+
+        // The pool was already full, so the second Deflater was ended, rather than kept.
+
+        assertEquals(pool.getIdleCount(5), 1);
+        assertSame(pool.acquire(5), deflater);
+    }
+
+    @Test
+    public void compression_level_by_content_type()
+    {
+        Map<String, Integer> configuration = new HashMap<String, Integer>();
+
+        configuration.put("text/html", Deflater.BEST_COMPRESSION);
+        configuration.put("application/*", Deflater.BEST_SPEED);
+
+        CompressionLevelSource source = new CompressionLevelSourceImpl(configuration, 6);
+
+        assertEquals(source.getCompressionLevel("text/html;charset=utf-8"), Deflater.BEST_COMPRESSION);
+        assertEquals(source.getCompressionLevel("application/json"), Deflater.BEST_SPEED);
+        assertEquals(source.getCompressionLevel("text/css"), 6);
+    }
+
+    @Test
+    public void invalid_compression_level()
+    {
+        try
+        {
+            new CompressionLevelSourceImpl(Collections.singletonMap("text/html", 10), 6);
+            unreachable();
+        } catch (IllegalArgumentException ex)
+        {
+            assertEquals(ex.getMessage(),
+                    "Compression level 10 for content type 'text/html' is not valid; levels range from -1 to 9.");
+        }
+    }
+
+    @Test
+    public void statistics_service_is_injectable_by_type()
+    {
+        assertNotNull(getService(CompressionStatistics.class));
+    }
+}
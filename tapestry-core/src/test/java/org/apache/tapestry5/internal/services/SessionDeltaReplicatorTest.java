@@ -0,0 +1,221 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.http.DeltaSessionPersistedObject;
+import org.apache.tapestry5.http.internal.services.ClusteredSessionImpl;
+import org.apache.tapestry5.http.internal.services.InMemorySessionStore;
+import org.apache.tapestry5.http.internal.services.SessionDeltaReplicator;
+import org.apache.tapestry5.http.internal.services.SessionLock;
+import org.apache.tapestry5.http.services.Session;
+import org.apache.tapestry5.http.services.SessionPersistedObjectAnalyzer;
+import org.apache.tapestry5.http.services.SessionStore;
+import org.apache.tapestry5.internal.test.InternalBaseTestCase;
+import org.testng.annotations.Test;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class SessionDeltaReplicatorTest extends InternalBaseTestCase
+{
+    private static final SessionLock NO_OP_LOCK = new SessionLock()
+    {
+        public void acquireReadLock()
+        {
+        }
+
+        public void acquireWriteLock()
+        {
+        }
+
+        public void acquireAttributeReadLock()
+        {
+        }
+    };
+
+    public static class Cart implements DeltaSessionPersistedObject
+    {
+        private int count;
+
+        private boolean changed;
+
+        public synchronized int getCount()
+        {
+            return count;
+        }
+
+        public synchronized void setCount(int count)
+        {
+            this.count = count;
+            changed = true;
+        }
+
+        public synchronized boolean checkAndResetDirtyMarker()
+        {
+            boolean result = changed;
+
+            changed = false;
+
+            return result;
+        }
+
+        public synchronized Map<String, Serializable> extractChanges()
+        {
+            if (!changed)
+                return Collections.emptyMap();
+
+            changed = false;
+
+            Map<String, Serializable> result = new HashMap<String, Serializable>();
+
+            result.put("count", count);
+
+            return result;
+        }
+
+        public synchronized void applyChanges(Map<String, Serializable> changes)
+        {
+            if (changes.containsKey("count"))
+                count = (Integer) changes.get("count");
+        }
+    }
+
+    private Session newSession(HttpSession hs, SessionStore store)
+    {
+        HttpServletRequest request = mockHttpServletRequest();
+        SessionPersistedObjectAnalyzer analyzer = newMock(SessionPersistedObjectAnalyzer.class);
+
+        expect(request.getSession(false)).andReturn(hs).anyTimes();
+        expect(hs.getId()).andReturn("session-id").anyTimes();
+
+        return new ClusteredSessionImpl(request, hs, NO_OP_LOCK, analyzer, new SessionDeltaReplicator(store));
+    }
+
+    @Test
+    public void changes_are_replicated_instead_of_attribute()
+    {
+        SessionStore store = new InMemorySessionStore(100);
+        HttpSession hs = mockHttpSession();
+        Cart cart = new Cart();
+
+        expect(hs.getAttribute("cart")).andReturn(cart);
+
+        Session session = newSession(hs, store);
+
+        replay();
+
+        ((Cart) session.getAttribute("cart")).setCount(5);
+
+        // The HttpSession's setAttribute() is not invoked.
+
+        session.restoreDirtyObjects();
+
+        verify();
+
+        assertEquals(store.read("session-id", "cart", 0).size(), 1);
+    }
+
+    @Test
+    public void changes_from_other_server_are_applied_on_read()
+    {
+        SessionStore store = new InMemorySessionStore(100);
+        HttpSession hs1 = mockHttpSession();
+        HttpSession hs2 = mockHttpSession();
+        Cart cart1 = new Cart();
+        Cart cart2 = new Cart();
+
+        expect(hs1.getAttribute("cart")).andReturn(cart1).times(2);
+        expect(hs2.getAttribute("cart")).andReturn(cart2).times(2);
+
+        Session server1 = newSession(hs1, store);
+        Session server2 = newSession(hs2, store);
+
+        replay();
+
+        cart1.setCount(3);
+        server1.getAttribute("cart");
+        server1.restoreDirtyObjects();
+
+        assertEquals(((Cart) server2.getAttribute("cart")).getCount(), 3);
+
+        // Applying changes does not mark the object as changed.
+
+        server2.restoreDirtyObjects();
+
+        assertEquals(store.read("session-id", "cart", 0).size(), 1);
+
+        // Changes made by a server are not re-applied to its own copy.
+
+        cart1.setCount(7);
+        server1.restoreDirtyObjects();
+        cart1.setCount(8);
+
+        assertEquals(((Cart) server1.getAttribute("cart")).getCount(), 8);
+        assertEquals(((Cart) server2.getAttribute("cart")).getCount(), 7);
+
+        verify();
+    }
+
+    @Test
+    public void set_attribute_discards_changes()
+    {
+        SessionStore store = new InMemorySessionStore(100);
+        HttpSession hs = mockHttpSession();
+        Cart cart = new Cart();
+
+        store.write("session-id", "cart", new byte[0]);
+
+        hs.setAttribute("cart", cart);
+
+        Session session = newSession(hs, store);
+
+        replay();
+
+        session.setAttribute("cart", cart);
+
+        verify();
+
+        assertTrue(store.read("session-id", "cart", 0).isEmpty());
+
+        // Versions continue to increase.
+
+        assertEquals(store.write("session-id", "cart", new byte[0]), 2L);
+    }
+
+    @Test
+    public void invalidate_discards_session_changes()
+    {
+        SessionStore store = new InMemorySessionStore(100);
+        HttpSession hs = mockHttpSession();
+
+        store.write("session-id", "cart", new byte[0]);
+
+        hs.invalidate();
+
+        Session session = newSession(hs, store);
+
+        replay();
+
+        session.invalidate();
+
+        verify();
+
+        assertTrue(store.read("session-id", "cart", 0).isEmpty());
+    }
+}
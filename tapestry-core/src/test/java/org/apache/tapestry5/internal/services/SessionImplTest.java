@@ -169,7 +169,7 @@ public class SessionImplTest extends InternalBaseTestCase
         Object dirty = new Object();
         SessionLock lock = mockLock();
 
-        lock.acquireWriteLock();
+        lock.acquireAttributeReadLock();
 
         train_getAttribute(hs, "dirty", dirty);
 
@@ -0,0 +1,203 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.services;
+
+import org.apache.tapestry5.http.internal.services.InMemorySessionStore;
+import org.apache.tapestry5.http.internal.services.TapestrySessionFactoryImpl;
+import org.apache.tapestry5.http.services.Session;
+import org.apache.tapestry5.http.services.SessionLockStatistics;
+import org.apache.tapestry5.http.services.SessionPersistedObjectAnalyzer;
+import org.apache.tapestry5.http.services.SessionStore;
+import org.apache.tapestry5.internal.test.InternalBaseTestCase;
+import org.apache.tapestry5.ioc.annotations.Primary;
+import org.apache.tapestry5.ioc.internal.services.PerthreadManagerImpl;
+import org.apache.tapestry5.ioc.services.PerthreadManager;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class TapestrySessionFactoryImplTest extends InternalBaseTestCase
+{
+    private final PerthreadManager perthreadManager = new PerthreadManagerImpl(
+            LoggerFactory.getLogger(PerthreadManager.class));
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterClass
+    public void shutdownExecutor()
+    {
+        executor.shutdownNow();
+    }
+
+    // EasyMock mocks are not used, as the sessions are shared between threads.
+
+    @SuppressWarnings("unchecked")
+    private static <T> T newStub(Class<T> type, final Object result)
+    {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, new InvocationHandler()
+        {
+            public Object invoke(Object proxy, Method method, Object[] args)
+            {
+                if (method.getName().equals("hashCode"))
+                    return System.identityHashCode(proxy);
+
+                if (method.getName().equals("equals"))
+                    return proxy == args[0];
+
+                return method.getReturnType().isInstance(result) ? result : null;
+            }
+        });
+    }
+
+    private TapestrySessionFactoryImpl newFactory(boolean lockingEnabled, boolean optimisticReads)
+    {
+        HttpServletRequest request = newStub(HttpServletRequest.class, newStub(HttpSession.class, null));
+
+        return new TapestrySessionFactoryImpl(false, null, request, perthreadManager, lockingEnabled,
+                optimisticReads, new InMemorySessionStore(100), false);
+    }
+
+    private Future<?> readAttributeInOtherThread(final TapestrySessionFactoryImpl factory)
+    {
+        return executor.submit(new Runnable()
+        {
+            public void run()
+            {
+                try
+                {
+                    factory.getSession(true).getAttribute("value");
+                } finally
+                {
+                    perthreadManager.cleanup();
+                }
+            }
+        });
+    }
+
+    @Test
+    public void attribute_reads_are_exclusive() throws Exception
+    {
+        TapestrySessionFactoryImpl factory = newFactory(true, false);
+
+        Future<?> other;
+
+        try
+        {
+            Session session = factory.getSession(true);
+
+            session.getAttribute("value");
+
+            other = readAttributeInOtherThread(factory);
+
+            while (factory.getAcquisitions() < 2)
+            {
+                Thread.sleep(5);
+            }
+
+            Thread.sleep(50);
+
+            assertFalse(other.isDone());
+        } finally
+        {
+            perthreadManager.cleanup();
+        }
+
+        other.get(5, TimeUnit.SECONDS);
+
+        assertEquals(factory.getAcquisitions(), 2);
+        assertEquals(factory.getContendedAcquisitions(), 1);
+        assertEquals(factory.getWaitTimes().getCount(), 1);
+
+        factory.reset();
+
+        assertEquals(factory.getAcquisitions(), 0);
+        assertEquals(factory.getContendedAcquisitions(), 0);
+    }
+
+    @Test
+    public void optimistic_attribute_reads_are_shared() throws Exception
+    {
+        TapestrySessionFactoryImpl factory = newFactory(true, true);
+
+        try
+        {
+            Session session = factory.getSession(true);
+
+            session.getAttribute("value");
+
+            readAttributeInOtherThread(factory).get(5, TimeUnit.SECONDS);
+
+            // Setting an attribute still requires the exclusive lock.
+
+            session.setAttribute("value", "new value");
+        } finally
+        {
+            perthreadManager.cleanup();
+        }
+
+        assertEquals(factory.getAcquisitions(), 3);
+        assertEquals(factory.getContendedAcquisitions(), 0);
+    }
+
+    @Test
+    public void locking_disabled() throws Exception
+    {
+        TapestrySessionFactoryImpl factory = newFactory(false, false);
+
+        try
+        {
+            factory.getSession(true).getAttribute("value");
+
+            readAttributeInOtherThread(factory).get(5, TimeUnit.SECONDS);
+        } finally
+        {
+            perthreadManager.cleanup();
+        }
+
+        assertEquals(factory.getAcquisitions(), 0);
+    }
+
+    @Test
+    public void lock_statistics_service_is_injectable_by_type()
+    {
+        assertNotNull(getService(SessionLockStatistics.class));
+
+        // The lock statistics builder must not capture the master analyzer's marker.
+
+        assertNotNull(getService(SessionPersistedObjectAnalyzer.class, Primary.class));
+    }
+
+    @Test
+    public void default_session_store_is_built()
+    {
+        SessionStore store = getService(SessionStore.class);
+
+        store.write("session-id", "cart", new byte[0]);
+
+        assertEquals(store.read("session-id", "cart", 0).size(), 1);
+
+        store.removeSession("session-id");
+    }
+}
@@ -94,4 +94,20 @@ public class URLEncoderImplTest extends Assert
             assertEquals(ex.getMessage(), expectedMessage);
         }
     }
+
+    @Test(dataProvider = "encoder_inputs")
+    public void encode_into_builder(String input, String expectedOutput)
+    {
+        StringBuilder builder = new StringBuilder("prefix/");
+
+        encoder.encode(input, builder);
+
+        assertEquals(builder.toString(), "prefix/" + expectedOutput);
+    }
+
+    @Test
+    public void decode_upper_case_hex()
+    {
+        assertEquals(encoder.decode("unicode-$027C-$0041"), "unicode-\u027C-A");
+    }
 }
@@ -44,7 +44,7 @@ public class InternalComponentResourcesImplTest extends InternalBaseTestCase
         TypeCoercer typeCoercer = getService(TypeCoercer.class);
 
         elementResources = new ComponentPageElementResourcesImpl(null, null, typeCoercer, null, null, null, null, null,
-                null, null, perThreadManager, false, false, null);
+                null, null, perThreadManager, false, false, null, null);
     }
 
     @AfterMethod
@@ -65,6 +65,7 @@ import org.testng.annotations.BeforeSuite;
 
 import java.io.*;
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
 
 import static org.easymock.EasyMock.isA;
 
@@ -119,7 +120,7 @@ public class InternalBaseTestCase extends TapestryTestCase implements Registry
 
     public final <T> T getService(Class<T> serviceInterface, Class<? extends Annotation>... markerTypes)
     {
-        return registry.getService(serviceInterface);
+        return registry.getService(serviceInterface, markerTypes);
     }
 
     public final <T> T getService(String serviceId, Class<T> serviceInterface)
@@ -283,6 +284,11 @@ public class InternalBaseTestCase extends TapestryTestCase implements Registry
         expect(resolver.isPageName(pageName)).andReturn(result);
     }
 
+    protected final void train_getPageNamePrefixes(ComponentClassResolver resolver, String path, String... prefixes)
+    {
+        expect(resolver.getPageNamePrefixes(path)).andReturn(Arrays.asList(prefixes));
+    }
+
     protected final PageResponseRenderer mockPageResponseRenderer()
     {
         return newMock(PageResponseRenderer.class);
@@ -0,0 +1,304 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class CompactObjectStreamTest extends Assert
+{
+    static class Action implements CompactExternalizable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private String controlName;
+
+        private int index;
+
+        Action()
+        {
+        }
+
+        Action(String controlName, int index)
+        {
+            this.controlName = controlName;
+            this.index = index;
+        }
+
+        @Override
+        public void writeCompact(ObjectOutput out) throws IOException
+        {
+            out.writeObject(controlName);
+            out.writeInt(index);
+        }
+
+        @Override
+        public void readCompact(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            controlName = (String) in.readObject();
+            index = in.readInt();
+        }
+    }
+
+    private static byte[] compact(Object... values) throws IOException
+    {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        ObjectOutputStream os = new CompactObjectOutputStream(bos);
+
+        for (Object value : values)
+        {
+            os.writeObject(value);
+        }
+
+        os.close();
+
+        return bos.toByteArray();
+    }
+
+    private static byte[] serialize(Object... values) throws IOException
+    {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+
+        for (Object value : values)
+        {
+            os.writeObject(value);
+        }
+
+        os.close();
+
+        return bos.toByteArray();
+    }
+
+    private static ObjectInputStream open(byte[] data) throws IOException
+    {
+        return new CompactObjectInputStream(new ByteArrayInputStream(data), null);
+    }
+
+    @Test
+    public void objects_round_trip() throws Exception
+    {
+        List<Object> values = Arrays.<Object>asList(null, "", "fred", "Kunde Müller €\u0000\ud800", true, false, 0, -1,
+                Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, 1234567890123L, (short) -300, (byte) 0x80, 'x',
+                '\uffff', 1.5f, -0.0d, Double.NaN, TimeUnit.SECONDS, RetentionPolicy.RUNTIME, new Date(1234567L),
+                Arrays.asList("a", 1, TimeUnit.DAYS));
+
+        ObjectInputStream is = open(compact(values.toArray()));
+
+        for (Object expected : values)
+        {
+            assertEquals(is.readObject(), expected);
+        }
+
+        try
+        {
+            is.readObject();
+            fail("Expected EOFException.");
+        } catch (EOFException ex)
+        {
+            // Expected
+        }
+    }
+
+    @Test
+    public void primitives_and_objects_may_be_mixed() throws Exception
+    {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        ObjectOutputStream os = new CompactObjectOutputStream(bos);
+
+        for (int i = 0; i < 3; i++)
+        {
+            os.writeUTF("form:field");
+            os.writeBoolean(i == 1);
+            os.writeObject(new Date(i));
+            os.writeInt(-i);
+            os.writeLong(1L << (20 * i));
+            os.writeDouble(i / 3d);
+            os.writeShort(-i);
+            os.writeChar('a' + i);
+        }
+
+        os.close();
+
+        ObjectInputStream is = open(bos.toByteArray());
+
+        for (int i = 0; i < 3; i++)
+        {
+            assertEquals(is.readUTF(), "form:field");
+            assertEquals(is.readBoolean(), i == 1);
+            assertEquals(is.readObject(), new Date(i));
+            assertEquals(is.readInt(), -i);
+            assertEquals(is.readLong(), 1L << (20 * i));
+            assertEquals(is.readDouble(), i / 3d);
+            assertEquals(is.readShort(), (short) -i);
+            assertEquals(is.readChar(), (char) ('a' + i));
+        }
+
+        try
+        {
+            is.readUTF();
+            fail("Expected EOFException.");
+        } catch (EOFException ex)
+        {
+            // Expected
+        }
+    }
+
+    @Test
+    public void repeated_strings_are_written_once() throws Exception
+    {
+        Object[] values = new Object[100];
+
+        for (int i = 0; i < values.length; i++)
+        {
+            values[i] = i % 2 == 0 ? "form:loop:textfield" : TimeUnit.MILLISECONDS;
+        }
+
+        byte[] data = compact(values);
+
+        // After the first occurrences, each string is a tag and a one byte reference, and each enum is a tag and two
+        // one byte references (to the class name and the constant name).
+
+        assertEquals(data.length, 2 + 49 * 2 + 49 * 3 + (2 + 19) + (2 + 29 + 1 + 12));
+        assertTrue(data.length < serialize(values).length);
+    }
+
+    @Test
+    public void long_strings_are_not_limited() throws Exception
+    {
+        char[] chars = new char[100000];
+
+        Arrays.fill(chars, '€');
+
+        String value = new String(chars);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        ObjectOutputStream os = new CompactObjectOutputStream(bos);
+
+        os.writeUTF(value);
+        os.close();
+
+        assertEquals(open(bos.toByteArray()).readUTF(), value);
+    }
+
+    @Test
+    public void non_enum_class_is_rejected() throws Exception
+    {
+        byte[] data = compact(TimeUnit.SECONDS);
+
+        // Replace the enum's class name with another class name of the same length.
+
+        String data8859 = new String(data, "ISO-8859-1").replace("java.util.concurrent.TimeUnit", "java.util.concurrent.Executor");
+
+        try
+        {
+            open(data8859.getBytes("ISO-8859-1")).readObject();
+            fail("Expected InvalidClassException.");
+        } catch (InvalidClassException ex)
+        {
+            assertTrue(ex.getMessage().contains("Not an enum type"));
+        }
+    }
+
+    @Test
+    public void compact_externalizable_round_trip() throws Exception
+    {
+        byte[] data = compact(new Action("textfield", 97), new Action("textfield_0", -3));
+
+        // The class name is written once, and no class descriptors are written.
+
+        assertTrue(data.length < serialize(new Action("textfield", 97), new Action("textfield_0", -3)).length);
+
+        ObjectInputStream is = open(data);
+
+        Action first = (Action) is.readObject();
+        Action second = (Action) is.readObject();
+
+        assertEquals(first.controlName, "textfield");
+        assertEquals(first.index, 97);
+        assertEquals(second.controlName, "textfield_0");
+        assertEquals(second.index, -3);
+    }
+
+    @Test
+    public void repeated_objects_are_written_as_references() throws Exception
+    {
+        Action action = new Action("loop", 1);
+        Date date = new Date(1234567L);
+
+        byte[] once = compact(action, date);
+        byte[] data = compact(action, date, action, date, action, date);
+
+        // Each repeat is a tag and a one byte reference.
+
+        assertEquals(data.length, once.length + 4 * 2);
+
+        ObjectInputStream is = open(data);
+
+        Action first = (Action) is.readObject();
+        Date firstDate = (Date) is.readObject();
+
+        assertEquals(firstDate, date);
+
+        for (int i = 0; i < 2; i++)
+        {
+            assertSame(is.readObject(), first);
+            assertSame(is.readObject(), firstDate);
+        }
+    }
+
+    @Test
+    public void non_compact_externalizable_class_is_rejected() throws Exception
+    {
+        String className = Date.class.getName();
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        // Length of the main section, the EXTERNALIZABLE tag, then the class name token (length << 1).
+
+        bos.write(2 + className.length());
+        bos.write(13);
+        bos.write(className.length() << 1);
+        bos.write(className.getBytes("US-ASCII"));
+
+        try
+        {
+            open(bos.toByteArray()).readObject();
+            fail("Expected InvalidClassException.");
+        } catch (InvalidClassException ex)
+        {
+            assertTrue(ex.getMessage().contains("Does not implement CompactExternalizable"));
+        }
+    }
+}
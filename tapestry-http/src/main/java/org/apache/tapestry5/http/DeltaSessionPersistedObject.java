@@ -0,0 +1,54 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.http;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * An optional interface implemented by objects persisted in the {@link org.apache.tapestry5.http.services.Session}
+ * that track changes to their individual fields. When
+ * {@linkplain TapestryHttpSymbolConstants#SESSION_DELTA_REPLICATION delta replication} is enabled, the changes made
+ * during a request are written to the {@link org.apache.tapestry5.http.services.SessionStore} at the end of the
+ * request, rather than the entire object being re-stored into the session (which makes the servlet container
+ * replicate the entire object graph). Other servers apply the changes to their own copy of the object when it is
+ * next read from the session.
+ *
+ * When delta replication is not enabled, the object is treated as an {@link OptimizedSessionPersistedObject}.
+ *
+ * These methods are accessed concurrently.
+ *
+ * @since 5.8.0
+ */
+public interface DeltaSessionPersistedObject extends OptimizedSessionPersistedObject, Serializable
+{
+    /**
+     * Returns the changes made to the object since the last time this method was invoked, as the new values of the
+     * changed fields, keyed on field name. Change tracking is then reset.
+     *
+     * @return the changed field values, or an empty map if nothing changed
+     */
+    Map<String, Serializable> extractChanges();
+
+    /**
+     * Applies changes, as returned by {@link #extractChanges()} (usually, on a different server), to this object.
+     * Applying the same changes more than once must be harmless. Applying changes should not itself mark the object
+     * as changed.
+     *
+     * @param changes
+     *         new values of fields, keyed on field name
+     */
+    void applyChanges(Map<String, Serializable> changes);
+}
@@ -133,4 +133,73 @@ final public class TapestryHttpSymbolConstants {
      */
     public static final String GZIP_COMPRESSION_ENABLED = "tapestry.gzip-compression-enabled";
 
+    /**
+     * If "true", then (when {@linkplain #SESSION_LOCKING_ENABLED session locking} is enabled) reading a session
+     * attribute acquires only the shared read lock; the exclusive write lock is acquired only when an attribute is
+     * set. Requests that only read the session then proceed in parallel, rather than one at a time. This is only safe
+     * when the objects stored in the session are immutable or thread-safe, as they may be used by several threads at
+     * once.
+     *
+     * The default is {@code false}.
+     *
+     * @since 5.8.0
+     */
+    public static final String SESSION_LOCKING_OPTIMISTIC_READS = "tapestry.session-locking-optimistic-reads";
+
+    /**
+     * If "true" (and {@linkplain #CLUSTERED_SESSIONS clustered sessions} are enabled), then at the end of each request,
+     * only the changes to session attributes that implement {@link DeltaSessionPersistedObject} are replicated,
+     * by writing them to the {@link org.apache.tapestry5.http.services.SessionStore} service, rather than re-storing
+     * the entire attribute into the session. Other servers apply the changes when the attribute is next read. Override
+     * the SessionStore service with an implementation backed by a store shared by all servers.
+     *
+     * The default is {@code false}.
+     *
+     * @since 5.8.0
+     */
+    public static final String SESSION_DELTA_REPLICATION = "tapestry.session-delta-replication";
+
+    /**
+     * Time interval after which the changes kept by the default {@link org.apache.tapestry5.http.services.SessionStore}
+     * for a session that has not been accessed are discarded; this should be no less than the session timeout of the
+     * servlet container. The default is "30 m" (30 minutes).
+     *
+     * @since 5.8.0
+     */
+    public static final String SESSION_STORE_TIMEOUT = "tapestry.session-store-timeout";
+
+    /**
+     * Maximum number of sessions for which the default {@link org.apache.tapestry5.http.services.SessionStore} keeps
+     * changes; beyond that, the changes for the least recently accessed sessions are discarded. The default is 10000.
+     *
+     * @since 5.8.0
+     */
+    public static final String SESSION_STORE_MAX_SESSIONS = "tapestry.session-store-max-sessions";
+
+    /**
+     * The default compression level (0 - 9, or -1 for the default level of the underlying zlib library) used when
+     * compressing dynamic responses. The level for individual content types may be overridden by contributing to the
+     * {@link org.apache.tapestry5.http.services.CompressionLevelSource} service. Higher levels produce smaller responses
+     * at the cost of more CPU time.
+     *
+     * The default is "-1".
+     *
+     * @see #GZIP_COMPRESSION_ENABLED
+     * @since 5.8.0
+     */
+    public static final String COMPRESSION_LEVEL = "tapestry.compression-level";
+
+    /**
+     * When positive, dynamic responses are sent uncompressed while the system load average, divided by the number of
+     * available processors, is at or above this value; the CPU time is better spent handling requests than compressing
+     * them. The system load average is not available on all platforms (notably, Windows); there, responses are always
+     * compressed. The number of responses sent uncompressed is available from the
+     * {@link org.apache.tapestry5.http.services.CompressionStatistics} service.
+     *
+     * The default is "0", which disables the check.
+     *
+     * @since 5.8.0
+     */
+    public static final String COMPRESSION_LOAD_THRESHOLD = "tapestry.compression-load-threshold";
+
 }
@@ -18,13 +18,12 @@ import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.tapestry5.http.internal.TapestryHttpInternalConstants;
-import org.apache.tapestry5.http.services.CompressionAnalyzer;
+import org.apache.tapestry5.http.internal.services.ResponseCompressor;
 
 /**
  * A buffered output stream that, when a certain number of bytes is buffered (the cutover point) will open a compressed
@@ -36,7 +35,7 @@ public class BufferedGZipOutputStream extends ServletOutputStream
 
     private final HttpServletResponse response;
 
-    private final CompressionAnalyzer analyzer;
+    private final ResponseCompressor compressor;
 
     private final int cutover;
 
@@ -44,17 +43,17 @@ public class BufferedGZipOutputStream extends ServletOutputStream
 
     /**
      * Initially the ByteArrayOutputStream, later the response output stream (possibly wrapped with a
-     * GZIPOutputStream).
+     * compressing stream).
      */
     private OutputStream currentOutputStream;
 
     public BufferedGZipOutputStream(String contentType, HttpServletResponse response, int cutover,
-                                    CompressionAnalyzer analyzer)
+                                    ResponseCompressor compressor)
     {
         this.contentType = contentType;
         this.response = response;
         this.cutover = cutover;
-        this.analyzer = analyzer;
+        this.compressor = compressor;
 
         byteArrayOutputStream = new ByteArrayOutputStream(cutover);
 
@@ -75,10 +74,10 @@ public class BufferedGZipOutputStream extends ServletOutputStream
     {
         OutputStream responseOutputStream = response.getOutputStream();
 
-        boolean useCompression = gzip && analyzer.isCompressable(contentType);
+        boolean useCompression = gzip && compressor.isCompressionEnabled(contentType);
 
         OutputStream possiblyCompressed = useCompression
-                ? new GZIPOutputStream(responseOutputStream)
+                ? compressor.compress(responseOutputStream, contentType)
                 : responseOutputStream;
 
         if (useCompression)
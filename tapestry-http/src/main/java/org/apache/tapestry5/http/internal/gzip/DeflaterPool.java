@@ -0,0 +1,110 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.http.internal.gzip;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+/**
+ * A pool of {@link Deflater} instances, for raw ("nowrap") deflate. Each Deflater owns a native zlib stream that is
+ * relatively expensive to allocate, and is only released by {@link Deflater#end()} (or, eventually, garbage
+ * collection); reusing them avoids that cost for every compressed response. A separate pool is kept for each
+ * compression level; when a pool is full, released Deflaters are ended instead.
+ *
+ * @since 5.8.0
+ */
+public class DeflaterPool
+{
+    private static final int LEVELS = Deflater.BEST_COMPRESSION - Deflater.DEFAULT_COMPRESSION + 1;
+
+    private final int maxSize;
+
+    private final Queue<Deflater>[] pools;
+
+    private final AtomicInteger[] sizes;
+
+    /**
+     * @param maxSize
+     *         maximum number of idle Deflaters kept for each compression level
+     */
+    @SuppressWarnings("unchecked")
+    public DeflaterPool(int maxSize)
+    {
+        this.maxSize = maxSize;
+
+        pools = new Queue[LEVELS];
+        sizes = new AtomicInteger[LEVELS];
+
+        for (int i = 0; i < LEVELS; i++)
+        {
+            pools[i] = new ConcurrentLinkedQueue<Deflater>();
+            sizes[i] = new AtomicInteger();
+        }
+    }
+
+    /**
+     * Obtains a Deflater for the compression level, either from the pool, or newly created. The Deflater should be
+     * {@linkplain #release(Deflater, int) released} once the data has been compressed.
+     *
+     * @param level
+     *         from -1 (the default level) to 9
+     */
+    public Deflater acquire(int level)
+    {
+        int index = level - Deflater.DEFAULT_COMPRESSION;
+
+        Deflater deflater = pools[index].poll();
+
+        if (deflater == null)
+        {
+            return new Deflater(level, true);
+        }
+
+        sizes[index].decrementAndGet();
+
+        return deflater;
+    }
+
+    /**
+     * Returns the Deflater, obtained from {@link #acquire(int)} with the same level, to the pool.
+     */
+    public void release(Deflater deflater, int level)
+    {
+        int index = level - Deflater.DEFAULT_COMPRESSION;
+
+        if (sizes[index].incrementAndGet() > maxSize)
+        {
+            sizes[index].decrementAndGet();
+
+            deflater.end();
+
+            return;
+        }
+
+        deflater.reset();
+
+        pools[index].offer(deflater);
+    }
+
+    /**
+     * Returns the number of idle Deflaters in the pool for the level.
+     */
+    public int getIdleCount(int level)
+    {
+        return sizes[level - Deflater.DEFAULT_COMPRESSION].get();
+    }
+}
@@ -22,7 +22,7 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpServletResponseWrapper;
 
 import org.apache.tapestry5.http.TapestryHttpConstants;
-import org.apache.tapestry5.http.services.CompressionAnalyzer;
+import org.apache.tapestry5.http.internal.services.ResponseCompressor;
 
 public class GZIPEnabledResponse extends HttpServletResponseWrapper
 {
@@ -32,19 +32,19 @@ public class GZIPEnabledResponse extends HttpServletResponseWrapper
 
     private final HttpServletResponse response;
 
-    private final CompressionAnalyzer analyzer;
+    private final ResponseCompressor compressor;
 
     private boolean contentLengthSet = false;
 
     public GZIPEnabledResponse(HttpServletResponse response, HttpServletRequest request, int cutover,
-                               CompressionAnalyzer analyzer)
+                               ResponseCompressor compressor)
     {
         super(response);
 
         this.request = request;
         this.response = response;
         this.cutover = cutover;
-        this.analyzer = analyzer;
+        this.compressor = compressor;
     }
 
     public void setContentLength(int len)
@@ -62,7 +62,7 @@ public class GZIPEnabledResponse extends HttpServletResponseWrapper
 
         String contentType = getContentType();
 
-        return new BufferedGZipOutputStream(contentType, response, cutover, analyzer);
+        return new BufferedGZipOutputStream(contentType, response, cutover, compressor);
     }
 
     private boolean isCompressionDisabled()
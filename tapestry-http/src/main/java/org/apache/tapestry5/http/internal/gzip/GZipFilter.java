@@ -20,7 +20,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.tapestry5.http.TapestryHttpSymbolConstants;
-import org.apache.tapestry5.http.services.CompressionAnalyzer;
+import org.apache.tapestry5.http.internal.services.ResponseCompressor;
 import org.apache.tapestry5.http.services.HttpServletRequestFilter;
 import org.apache.tapestry5.http.services.HttpServletRequestHandler;
 import org.apache.tapestry5.http.services.ResponseCompressionAnalyzer;
@@ -35,7 +35,7 @@ public class GZipFilter implements HttpServletRequestFilter
 
     private final ResponseCompressionAnalyzer responseAnalyzer;
 
-    private final CompressionAnalyzer compressionAnalyzer;
+    private final ResponseCompressor compressor;
 
     public GZipFilter(
             @Symbol(TapestryHttpSymbolConstants.MIN_GZIP_SIZE)
@@ -43,18 +43,18 @@ public class GZipFilter implements HttpServletRequestFilter
 
             ResponseCompressionAnalyzer responseAnalyzer,
 
-            CompressionAnalyzer compressionAnalyzer)
+            ResponseCompressor compressor)
     {
         this.cutover = cutover;
         this.responseAnalyzer = responseAnalyzer;
-        this.compressionAnalyzer = compressionAnalyzer;
+        this.compressor = compressor;
     }
 
     public boolean service(HttpServletRequest request, HttpServletResponse response, HttpServletRequestHandler handler)
             throws IOException
     {
         HttpServletResponse newResponse = responseAnalyzer.isGZipSupported()
-                ? new GZIPEnabledResponse(response, request, cutover, compressionAnalyzer)
+                ? new GZIPEnabledResponse(response, request, cutover, compressor)
                 : response;
 
         return handler.service(request, newResponse);
@@ -0,0 +1,146 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.http.internal.gzip;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Equivalent to {@link java.util.zip.GZIPOutputStream}, but using a Deflater obtained from a {@link DeflaterPool}
+ * (GZIPOutputStream always allocates its own). The Deflater is returned to the pool when the stream is closed. The
+ * time spent compressing is tracked, and reported, along with the number of bytes in and out, to
+ * {@link #completed(long, long, long)}.
+ *
+ * @since 5.8.0
+ */
+public class PooledGZipOutputStream extends DeflaterOutputStream
+{
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private static final int HEADER_LENGTH = 10;
+
+    private static final int TRAILER_LENGTH = 8;
+
+    private final DeflaterPool pool;
+
+    private final int level;
+
+    private final CRC32 crc = new CRC32();
+
+    private long compressionTime;
+
+    private boolean finished, closed;
+
+    public PooledGZipOutputStream(OutputStream out, DeflaterPool pool, int level) throws IOException
+    {
+        super(out, pool.acquire(level), 512);
+
+        this.pool = pool;
+        this.level = level;
+
+        writeHeader();
+    }
+
+    private void writeHeader() throws IOException
+    {
+        out.write(new byte[]{(byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0});
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException
+    {
+        long startNanos = System.nanoTime();
+
+        super.write(b, off, len);
+
+        crc.update(b, off, len);
+
+        compressionTime += System.nanoTime() - startNanos;
+    }
+
+    @Override
+    public void finish() throws IOException
+    {
+        if (finished)
+        {
+            return;
+        }
+
+        finished = true;
+
+        long startNanos = System.nanoTime();
+
+        super.finish();
+
+        compressionTime += System.nanoTime() - startNanos;
+
+        byte[] trailer = new byte[TRAILER_LENGTH];
+
+        writeInt((int) crc.getValue(), trailer, 0);
+        writeInt((int) def.getBytesRead(), trailer, 4);
+
+        out.write(trailer);
+
+        completed(def.getBytesRead(), def.getBytesWritten() + HEADER_LENGTH + TRAILER_LENGTH, compressionTime);
+    }
+
+    private static void writeInt(int value, byte[] buffer, int offset)
+    {
+        // Little-endian, as per RFC 1952
+
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >> 8);
+        buffer[offset + 2] = (byte) (value >> 16);
+        buffer[offset + 3] = (byte) (value >> 24);
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if (closed)
+        {
+            return;
+        }
+
+        closed = true;
+
+        try
+        {
+            finish();
+
+            out.close();
+        } finally
+        {
+            pool.release(def, level);
+        }
+    }
+
+    /**
+     * Invoked once all output has been compressed. Does nothing; subclasses may override.
+     *
+     * @param uncompressedBytes
+     *         number of bytes written to the stream
+     * @param compressedBytes
+     *         number of bytes written to the underlying stream, including the GZIP header and trailer
+     * @param compressionTime
+     *         time, in nanoseconds, spent compressing the data
+     */
+    protected void completed(long uncompressedBytes, long compressedBytes, long compressionTime)
+    {
+    }
+}
@@ -15,8 +15,8 @@
 package org.apache.tapestry5.http.internal.services;
 
 import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.apache.tapestry5.http.DeltaSessionPersistedObject;
 import org.apache.tapestry5.http.services.SessionPersistedObjectAnalyzer;
-import org.apache.tapestry5.ioc.services.PerthreadManager;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
@@ -25,7 +25,10 @@ import java.util.Map;
 /**
  * A thin wrapper around {@link javax.servlet.http.HttpSession} that supports re-storing of mutable
  * session attributes at the end of the request (see {@link #restoreDirtyObjects()}). This is only
- * used when {@linkplain org.apache.tapestry5.SymbolConstants#CLUSTERED_SESSIONS clustering}.
+ * used when {@linkplain org.apache.tapestry5.SymbolConstants#CLUSTERED_SESSIONS clustering}. With
+ * {@linkplain org.apache.tapestry5.http.TapestryHttpSymbolConstants#SESSION_DELTA_REPLICATION delta replication},
+ * only the changes to {@link DeltaSessionPersistedObject} attributes are replicated, via the
+ * {@link SessionDeltaReplicator}.
  *
  * @since 5.3
  * @see SessionPersistedObjectAnalyzer
@@ -41,13 +44,33 @@ public class ClusteredSessionImpl extends SessionImpl
      */
     private final Map<String, Object> sessionAttributeCache = CollectionFactory.newMap();
 
+    private final HttpSession session;
+
+    /**
+     * Null unless {@linkplain org.apache.tapestry5.http.TapestryHttpSymbolConstants#SESSION_DELTA_REPLICATION delta
+     * replication} is enabled.
+     */
+    private final SessionDeltaReplicator replicator;
+
     public ClusteredSessionImpl(HttpServletRequest request,
             HttpSession session,
             SessionLock lock, SessionPersistedObjectAnalyzer analyzer)
+    {
+        this(request, session, lock, analyzer, null);
+    }
+
+    /**
+     * @since 5.8.0
+     */
+    public ClusteredSessionImpl(HttpServletRequest request,
+            HttpSession session,
+            SessionLock lock, SessionPersistedObjectAnalyzer analyzer, SessionDeltaReplicator replicator)
     {
         super(request, session, lock);
 
+        this.session = session;
         this.analyzer = analyzer;
+        this.replicator = replicator;
     }
 
     @Override
@@ -55,6 +78,11 @@ public class ClusteredSessionImpl extends SessionImpl
     {
         Object result = super.getAttribute(name);
 
+        if (replicator != null && result instanceof DeltaSessionPersistedObject)
+        {
+            replicator.update(session, name, (DeltaSessionPersistedObject) result);
+        }
+
         sessionAttributeCache.put(name, result);
 
         return result;
@@ -64,13 +92,25 @@ public class ClusteredSessionImpl extends SessionImpl
     {
         super.setAttribute(name, value);
 
+        if (replicator != null)
+        {
+            replicator.reset(session, name);
+        }
+
         sessionAttributeCache.put(name, value);
     }
 
     public void invalidate()
     {
+        String sessionId = replicator == null ? null : session.getId();
+
         super.invalidate();
 
+        if (replicator != null)
+        {
+            replicator.discard(sessionId);
+        }
+
         sessionAttributeCache.clear();
     }
 
@@ -97,6 +137,14 @@ public class ClusteredSessionImpl extends SessionImpl
                 continue;
             }
 
+            // Just the changes are replicated, rather than the entire object.
+
+            if (replicator != null && attributeValue instanceof DeltaSessionPersistedObject)
+            {
+                replicator.replicate(session, attributeName, (DeltaSessionPersistedObject) attributeValue);
+                continue;
+            }
+
             if (analyzer.checkAndResetDirtyState(attributeValue))
             {
                 super.setAttribute(attributeName, attributeValue);
@@ -0,0 +1,85 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.http.internal.services;
+
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import org.apache.tapestry5.http.TapestryHttpSymbolConstants;
+import org.apache.tapestry5.http.services.CompressionLevelSource;
+import org.apache.tapestry5.ioc.annotations.Symbol;
+
+/**
+ * @since 5.8.0
+ */
+public class CompressionLevelSourceImpl implements CompressionLevelSource
+{
+    private final Map<String, Integer> configuration;
+
+    private final int defaultLevel;
+
+    public CompressionLevelSourceImpl(Map<String, Integer> configuration,
+
+                                      @Symbol(TapestryHttpSymbolConstants.COMPRESSION_LEVEL)
+                                      int defaultLevel)
+    {
+        for (Map.Entry<String, Integer> entry : configuration.entrySet())
+        {
+            validate(entry.getValue(), "content type '" + entry.getKey() + "'");
+        }
+
+        validate(defaultLevel, "symbol " + TapestryHttpSymbolConstants.COMPRESSION_LEVEL);
+
+        this.configuration = configuration;
+        this.defaultLevel = defaultLevel;
+    }
+
+    private static void validate(int level, String description)
+    {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION)
+        {
+            throw new IllegalArgumentException(String.format("Compression level %d for %s is not valid; levels range from %d to %d.",
+                    level, description, Deflater.DEFAULT_COMPRESSION, Deflater.BEST_COMPRESSION));
+        }
+    }
+
+    public int getCompressionLevel(String contentType)
+    {
+        if (configuration.isEmpty())
+        {
+            return defaultLevel;
+        }
+
+        int x = contentType.indexOf(';');
+
+        String key = x < 0 ? contentType : contentType.substring(0, x);
+
+        Integer result = configuration.get(key);
+
+        if (result != null)
+        {
+            return result;
+        }
+
+        x = key.indexOf('/');
+
+        if (x > 0)
+        {
+            result = configuration.get(key.substring(0, x) + "/*");
+        }
+
+        return result == null ? defaultLevel : result;
+    }
+}
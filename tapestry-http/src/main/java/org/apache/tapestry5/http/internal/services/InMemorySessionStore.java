@@ -0,0 +1,293 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package org.apache.tapestry5.http.internal.services;
+
+import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.apache.tapestry5.http.services.SessionDelta;
+import org.apache.tapestry5.http.services.SessionStore;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Default implementation of {@link SessionStore}, which keeps changes in memory. As the changes are not shared with
+ * other servers, this is only useful for testing, or for a single server.
+ *
+ * Sessions whose changes have not been written or read for a while are discarded by {@link #removeExpired(long)},
+ * which is invoked periodically; this covers sessions that time out, rather than being invalidated. When the number
+ * of sessions exceeds the maximum, the least recently accessed is discarded. Once an attribute accumulates
+ * {@value #MAX_DELTAS} changes, they are merged into a single change.
+ *
+ * Discarding a session does not reset versions: the versions of attributes created afterwards start above the most
+ * recent version of any discarded attribute.
+ *
+ * @since 5.8.0
+ */
+public class InMemorySessionStore implements SessionStore
+{
+    public static final int MAX_DELTAS = 10;
+
+    private final int maxSessions;
+
+    /**
+     * Sessions, least recently accessed first. Guarded by itself.
+     */
+    private final Map<String, SessionChanges> sessions = new LinkedHashMap<String, SessionChanges>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SessionChanges> eldest)
+        {
+            if (size() <= maxSessions)
+                return false;
+
+            discarded(eldest.getValue());
+
+            return true;
+        }
+    };
+
+    /**
+     * The most recent version of any attribute of a discarded session.
+     */
+    private final AtomicLong versionFloor = new AtomicLong();
+
+    private static class SessionChanges
+    {
+        final Map<String, AttributeChanges> attributes = CollectionFactory.newConcurrentMap();
+
+        long lastAccess;
+
+        volatile boolean discarded;
+    }
+
+    private static class AttributeChanges
+    {
+        long lastVersion;
+
+        final List<SessionDelta> deltas = CollectionFactory.newList();
+
+        AttributeChanges(long lastVersion)
+        {
+            this.lastVersion = lastVersion;
+        }
+    }
+
+    /**
+     * @param maxSessions
+     *         maximum number of sessions for which changes are kept
+     */
+    public InMemorySessionStore(int maxSessions)
+    {
+        this.maxSessions = maxSessions;
+    }
+
+    public long write(String sessionId, String attributeName, byte[] changes)
+    {
+        while (true)
+        {
+            SessionChanges session = access(sessionId, true);
+
+            AttributeChanges attributeChanges = session.attributes.get(attributeName);
+
+            if (attributeChanges == null)
+            {
+                AttributeChanges newAttributeChanges = new AttributeChanges(versionFloor.get());
+
+                attributeChanges = session.attributes.putIfAbsent(attributeName, newAttributeChanges);
+
+                if (attributeChanges == null)
+                    attributeChanges = newAttributeChanges;
+            }
+
+            synchronized (attributeChanges)
+            {
+                // The session was discarded in the meantime; write to a new one, above the version floor.
+
+                if (session.discarded)
+                    continue;
+
+                long version = ++attributeChanges.lastVersion;
+
+                attributeChanges.deltas.add(new SessionDelta(version, changes));
+
+                if (attributeChanges.deltas.size() >= MAX_DELTAS)
+                    merge(attributeChanges.deltas);
+
+                return version;
+            }
+        }
+    }
+
+    /**
+     * Replaces the deltas with a single delta, with the version of the most recent one; where a field was changed
+     * more than once, the most recent value is kept.
+     */
+    private static void merge(List<SessionDelta> deltas)
+    {
+        Map<String, Serializable> merged = CollectionFactory.newMap();
+
+        for (SessionDelta delta : deltas)
+        {
+            merged.putAll(SessionDeltaReplicator.deserialize(delta.getChanges()));
+        }
+
+        long version = deltas.get(deltas.size() - 1).getVersion();
+
+        deltas.clear();
+
+        deltas.add(new SessionDelta(version, SessionDeltaReplicator.serialize(merged)));
+    }
+
+    public List<SessionDelta> read(String sessionId, String attributeName, long afterVersion)
+    {
+        AttributeChanges attributeChanges = find(sessionId, attributeName);
+
+        if (attributeChanges == null)
+            return Collections.emptyList();
+
+        synchronized (attributeChanges)
+        {
+            List<SessionDelta> result = null;
+
+            for (SessionDelta delta : attributeChanges.deltas)
+            {
+                if (delta.getVersion() > afterVersion)
+                {
+                    if (result == null)
+                        result = CollectionFactory.newList();
+
+                    result.add(delta);
+                }
+            }
+
+            return result == null ? Collections.<SessionDelta>emptyList() : result;
+        }
+    }
+
+    public void remove(String sessionId, String attributeName)
+    {
+        AttributeChanges attributeChanges = find(sessionId, attributeName);
+
+        if (attributeChanges != null)
+        {
+            // The version is retained, so that later versions are greater.
+
+            synchronized (attributeChanges)
+            {
+                attributeChanges.deltas.clear();
+            }
+        }
+    }
+
+    public void removeSession(String sessionId)
+    {
+        SessionChanges session;
+
+        synchronized (sessions)
+        {
+            session = sessions.remove(sessionId);
+        }
+
+        if (session != null)
+            discarded(session);
+    }
+
+    /**
+     * Discards the changes for sessions that have not been accessed since the cutoff time.
+     */
+    public void removeExpired(long cutoff)
+    {
+        synchronized (sessions)
+        {
+            Iterator<SessionChanges> iterator = sessions.values().iterator();
+
+            while (iterator.hasNext())
+            {
+                SessionChanges session = iterator.next();
+
+                // Sessions are in order of access, so the rest were accessed after the cutoff.
+
+                if (session.lastAccess >= cutoff)
+                    break;
+
+                iterator.remove();
+
+                discarded(session);
+            }
+        }
+    }
+
+    /**
+     * Raises the version floor above the versions of the discarded session's attributes, so that versions keep
+     * increasing if the session's attributes are written again.
+     */
+    private void discarded(SessionChanges session)
+    {
+        session.discarded = true;
+
+        for (AttributeChanges attributeChanges : session.attributes.values())
+        {
+            long lastVersion;
+
+            synchronized (attributeChanges)
+            {
+                lastVersion = attributeChanges.lastVersion;
+            }
+
+            long floor = versionFloor.get();
+
+            while (lastVersion > floor && !versionFloor.compareAndSet(floor, lastVersion))
+            {
+                floor = versionFloor.get();
+            }
+        }
+    }
+
+    /**
+     * Returns the session, marking it as accessed, or null if not found and not created.
+     */
+    private SessionChanges access(String sessionId, boolean create)
+    {
+        synchronized (sessions)
+        {
+            SessionChanges session = sessions.get(sessionId);
+
+            if (session == null)
+            {
+                if (!create)
+                    return null;
+
+                session = new SessionChanges();
+
+                sessions.put(sessionId, session);
+            }
+
+            session.lastAccess = System.currentTimeMillis();
+
+            return session;
+        }
+    }
+
+    private AttributeChanges find(String sessionId, String attributeName)
+    {
+        SessionChanges session = access(sessionId, false);
+
+        return session == null ? null : session.attributes.get(attributeName);
+    }
+}
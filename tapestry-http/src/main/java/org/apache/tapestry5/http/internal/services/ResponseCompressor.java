@@ -0,0 +1,52 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.http.internal.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.tapestry5.http.services.CompressionStatistics;
+
+/**
+ * Compresses dynamic responses for the {@link org.apache.tapestry5.http.internal.gzip.GZipFilter}, gathering the
+ * {@link CompressionStatistics} as it does so.
+ *
+ * @since 5.8.0
+ */
+public interface ResponseCompressor
+{
+    /**
+     * Returns the statistics gathered by this compressor.
+     */
+    CompressionStatistics getStatistics();
+
+    /**
+     * Determines if a response with the given content type should be compressed: the content type must be
+     * {@linkplain org.apache.tapestry5.http.services.CompressionAnalyzer compressable}, and the server must not be
+     * under too much load (in which case, the response is counted as
+     * {@linkplain CompressionStatistics#getSkippedResponses() skipped}).
+     *
+     * @param contentType
+     *         MIME content type, possibly including attributes such as encoding type
+     */
+    boolean isCompressionEnabled(String contentType);
+
+    /**
+     * Wraps the output stream with a stream that GZIP compresses the content, using the
+     * {@linkplain org.apache.tapestry5.http.services.CompressionLevelSource compression level} for the content type.
+     * The returned stream must be closed.
+     */
+    OutputStream compress(OutputStream out, String contentType) throws IOException;
+}
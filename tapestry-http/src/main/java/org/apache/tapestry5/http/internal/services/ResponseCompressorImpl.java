@@ -0,0 +1,174 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.http.internal.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.tapestry5.http.TapestryHttpSymbolConstants;
+import org.apache.tapestry5.http.internal.gzip.DeflaterPool;
+import org.apache.tapestry5.http.internal.gzip.PooledGZipOutputStream;
+import org.apache.tapestry5.http.services.CompressionAnalyzer;
+import org.apache.tapestry5.http.services.CompressionLevelSource;
+import org.apache.tapestry5.http.services.CompressionStatistics;
+import org.apache.tapestry5.ioc.annotations.Symbol;
+import org.apache.tapestry5.ioc.util.TimingHistogram;
+
+/**
+ * @since 5.8.0
+ */
+public class ResponseCompressorImpl implements ResponseCompressor, CompressionStatistics
+{
+    /**
+     * The system load average is only updated every few seconds, so there's no point in checking it more often.
+     */
+    private static final long LOAD_CHECK_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final CompressionAnalyzer analyzer;
+
+    private final CompressionLevelSource levelSource;
+
+    private final double loadThreshold;
+
+    private final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+
+    private final DeflaterPool pool = new DeflaterPool(2 * Runtime.getRuntime().availableProcessors());
+
+    private final LongAdder compressedResponses = new LongAdder();
+
+    private final LongAdder skippedResponses = new LongAdder();
+
+    private final LongAdder uncompressedBytes = new LongAdder();
+
+    private final LongAdder compressedBytes = new LongAdder();
+
+    private final TimingHistogram compressionTimes = new TimingHistogram();
+
+    private volatile long nextLoadCheck;
+
+    private volatile boolean overloaded;
+
+    public ResponseCompressorImpl(CompressionAnalyzer analyzer, CompressionLevelSource levelSource,
+
+                                  @Symbol(TapestryHttpSymbolConstants.COMPRESSION_LOAD_THRESHOLD)
+                                  double loadThreshold)
+    {
+        this.analyzer = analyzer;
+        this.levelSource = levelSource;
+        this.loadThreshold = loadThreshold;
+
+        nextLoadCheck = System.nanoTime();
+    }
+
+    public boolean isCompressionEnabled(String contentType)
+    {
+        if (!analyzer.isCompressable(contentType))
+        {
+            return false;
+        }
+
+        if (isOverloaded())
+        {
+            skippedResponses.increment();
+
+            return false;
+        }
+
+        return true;
+    }
+
+    private boolean isOverloaded()
+    {
+        if (loadThreshold <= 0)
+        {
+            return false;
+        }
+
+        long now = System.nanoTime();
+
+        if (now - nextLoadCheck >= 0)
+        {
+            // Racy, but harmless: at worst, a few threads check the load at once.
+
+            nextLoadCheck = now + LOAD_CHECK_INTERVAL;
+
+            double load = operatingSystem.getSystemLoadAverage();
+
+            // A negative load average means it is not available on this platform.
+
+            overloaded = load >= 0 && load / operatingSystem.getAvailableProcessors() >= loadThreshold;
+        }
+
+        return overloaded;
+    }
+
+    public OutputStream compress(OutputStream out, String contentType) throws IOException
+    {
+        return new PooledGZipOutputStream(out, pool, levelSource.getCompressionLevel(contentType))
+        {
+            @Override
+            protected void completed(long uncompressed, long compressed, long compressionTime)
+            {
+                compressedResponses.increment();
+                uncompressedBytes.add(uncompressed);
+                compressedBytes.add(compressed);
+                compressionTimes.record(compressionTime);
+            }
+        };
+    }
+
+    public CompressionStatistics getStatistics()
+    {
+        return this;
+    }
+
+    public long getCompressedResponses()
+    {
+        return compressedResponses.sum();
+    }
+
+    public long getSkippedResponses()
+    {
+        return skippedResponses.sum();
+    }
+
+    public long getUncompressedBytes()
+    {
+        return uncompressedBytes.sum();
+    }
+
+    public long getCompressedBytes()
+    {
+        return compressedBytes.sum();
+    }
+
+    public TimingHistogram getCompressionTimes()
+    {
+        return compressionTimes;
+    }
+
+    public void reset()
+    {
+        compressedResponses.reset();
+        skippedResponses.reset();
+        uncompressedBytes.reset();
+        compressedBytes.reset();
+        compressionTimes.reset();
+    }
+}
@@ -0,0 +1,180 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.http.internal.services;
+
+import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.apache.tapestry5.http.DeltaSessionPersistedObject;
+import org.apache.tapestry5.http.services.SessionDelta;
+import org.apache.tapestry5.http.services.SessionStore;
+
+import javax.servlet.http.HttpSession;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replicates the changes to the {@link DeltaSessionPersistedObject} attributes of one session through the
+ * {@link SessionStore}. There is one instance per session, per server; it tracks which changes have been applied
+ * to this server's copy of each attribute.
+ *
+ * @since 5.8.0
+ */
+public class SessionDeltaReplicator
+{
+    private final SessionStore store;
+
+    /**
+     * Version of the most recent change applied to (or made to) this server's copy of each attribute.
+     */
+    private final Map<String, Long> appliedVersions = CollectionFactory.newConcurrentMap();
+
+    public SessionDeltaReplicator(SessionStore store)
+    {
+        this.store = store;
+    }
+
+    /**
+     * Applies any changes written by other servers to the attribute value.
+     */
+    public void update(HttpSession session, String attributeName, DeltaSessionPersistedObject value)
+    {
+        List<SessionDelta> deltas = store.read(session.getId(), attributeName, appliedVersion(attributeName));
+
+        if (deltas.isEmpty())
+        {
+            return;
+        }
+
+        for (SessionDelta delta : deltas)
+        {
+            value.applyChanges(deserialize(delta.getChanges()));
+        }
+
+        appliedVersions.put(attributeName, deltas.get(deltas.size() - 1).getVersion());
+    }
+
+    /**
+     * Writes the changes made to the attribute value, if any, to the store.
+     */
+    public void replicate(HttpSession session, String attributeName, DeltaSessionPersistedObject value)
+    {
+        Map<String, Serializable> changes = value.extractChanges();
+
+        if (changes == null || changes.isEmpty())
+        {
+            return;
+        }
+
+        long version = store.write(session.getId(), attributeName, serialize(changes));
+
+        // If another server wrote changes in the meantime, they have not been applied to this server's copy yet.
+
+        if (version == appliedVersion(attributeName) + 1)
+        {
+            appliedVersions.put(attributeName, version);
+        }
+    }
+
+    /**
+     * Invoked when the attribute is stored into the session, in its entirety, making any previous changes redundant.
+     */
+    public void reset(HttpSession session, String attributeName)
+    {
+        store.remove(session.getId(), attributeName);
+    }
+
+    /**
+     * Invoked when the session is invalidated.
+     */
+    public void discard(String sessionId)
+    {
+        store.removeSession(sessionId);
+
+        appliedVersions.clear();
+    }
+
+    private long appliedVersion(String attributeName)
+    {
+        Long version = appliedVersions.get(attributeName);
+
+        return version == null ? 0 : version;
+    }
+
+    static byte[] serialize(Map<String, Serializable> changes)
+    {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos))
+        {
+            oos.writeObject(new HashMap<String, Serializable>(changes));
+        } catch (IOException ex)
+        {
+            throw new RuntimeException(String.format("Unable to serialize session attribute changes: %s", ex), ex);
+        }
+
+        return bos.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Serializable> deserialize(byte[] changes)
+    {
+        try (ObjectInputStream ois = new ContextClassLoaderObjectInputStream(new ByteArrayInputStream(changes)))
+        {
+            return (Map<String, Serializable>) ois.readObject();
+        } catch (Exception ex)
+        {
+            throw new RuntimeException(String.format("Unable to deserialize session attribute changes: %s", ex), ex);
+        }
+    }
+
+    /**
+     * Resolves the classes of field values (which are usually application classes) using the thread's context class
+     * loader.
+     */
+    private static class ContextClassLoaderObjectInputStream extends ObjectInputStream
+    {
+        ContextClassLoaderObjectInputStream(InputStream in) throws IOException
+        {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException
+        {
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+
+            if (loader != null)
+            {
+                try
+                {
+                    return Class.forName(desc.getName(), false, loader);
+                } catch (ClassNotFoundException ex)
+                {
+                    // Fall through to the default resolution.
+                }
+            }
+
+            return super.resolveClass(desc);
+        }
+    }
+}
@@ -47,7 +47,7 @@ public class SessionImpl implements Session
 
     public Object getAttribute(String name)
     {
-        lock.acquireWriteLock();
+        lock.acquireAttributeReadLock();
 
         return session.getAttribute(name);
     }
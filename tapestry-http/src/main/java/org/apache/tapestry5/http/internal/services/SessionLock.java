@@ -33,4 +33,14 @@ public interface SessionLock
      * this may block for a while. Does nothing if the write lock is already held by this thread.
      */
     void acquireWriteLock();
+
+    /**
+     * Acquires the lock needed to read an attribute value. This is normally the exclusive write lock, as the value may
+     * be a mutable object, but is just the shared read lock when
+     * {@linkplain org.apache.tapestry5.http.TapestryHttpSymbolConstants#SESSION_LOCKING_OPTIMISTIC_READS optimistic
+     * reads} are enabled.
+     *
+     * @since 5.8.0
+     */
+    void acquireAttributeReadLock();
 }
@@ -15,6 +15,7 @@
 package org.apache.tapestry5.http.internal.services;
 
 import org.apache.tapestry5.http.services.Session;
+import org.apache.tapestry5.http.services.SessionLockStatistics;
 
 /**
  * Encapsulates logic for accessing the Tapestry {@link Session} (a wrapper around the {@link javax.servlet.http.HttpSession}).
@@ -26,4 +27,11 @@ import org.apache.tapestry5.http.services.Session;
 public interface TapestrySessionFactory
 {
     Session getSession(boolean create);
+
+    /**
+     * Returns the statistics about the session locks used by this factory's sessions.
+     *
+     * @since 5.8.0
+     */
+    SessionLockStatistics getLockStatistics();
 }
@@ -16,8 +16,8 @@ package org.apache.tapestry5.http.internal.services;
 
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import javax.servlet.http.HttpServletRequest;
@@ -25,12 +25,20 @@ import javax.servlet.http.HttpSession;
 
 import org.apache.tapestry5.http.TapestryHttpSymbolConstants;
 import org.apache.tapestry5.http.services.Session;
+import org.apache.tapestry5.http.services.SessionLockStatistics;
 import org.apache.tapestry5.http.services.SessionPersistedObjectAnalyzer;
+import org.apache.tapestry5.http.services.SessionStore;
 import org.apache.tapestry5.ioc.annotations.Symbol;
 import org.apache.tapestry5.ioc.services.PerthreadManager;
+import org.apache.tapestry5.ioc.util.TimingHistogram;
 
-public class TapestrySessionFactoryImpl implements TapestrySessionFactory
+public class TapestrySessionFactoryImpl implements TapestrySessionFactory, SessionLockStatistics
 {
+    /**
+     * Number of independently locked maps of session state; a power of two.
+     */
+    private static final int STRIPES = 64;
+
     private boolean clustered;
 
     private final SessionPersistedObjectAnalyzer analyzer;
@@ -41,9 +49,24 @@ public class TapestrySessionFactoryImpl implements TapestrySessionFactory
 
     private final boolean sessionLockingEnabled;
 
-    private final Lock mapLock = new ReentrantLock();
+    private final boolean optimisticReads;
+
+    private final SessionStore sessionStore;
+
+    private final boolean deltaReplication;
+
+    /**
+     * The session state (locks, and delta replicators) is spread across a number of WeakHashMaps (which are not thread
+     * safe), each guarded by its own monitor, so that requests for different sessions rarely contend for the same
+     * monitor. The state is not stored as session attributes, as those may be replicated or serialized by the servlet
+     * container.
+     */
+    @SuppressWarnings("unchecked")
+    private final Map<HttpSession, LocalSessionState>[] sessionToState = new Map[STRIPES];
 
-    private final Map<HttpSession, SessionLock> sessionToLock = new WeakHashMap<HttpSession, SessionLock>();
+    private final LongAdder acquisitions = new LongAdder();
+
+    private final TimingHistogram waitTimes = new TimingHistogram();
 
     private final SessionLock NO_OP_LOCK = new SessionLock()
     {
@@ -54,8 +77,30 @@ public class TapestrySessionFactoryImpl implements TapestrySessionFactory
         public void acquireWriteLock()
         {
         }
+
+        public void acquireAttributeReadLock()
+        {
+        }
     };
 
+    /**
+     * State kept by this server for a session.
+     */
+    private static final class LocalSessionState
+    {
+        final SessionLock lock;
+
+        final SessionDeltaReplicator replicator;
+
+        LocalSessionState(SessionLock lock, SessionDeltaReplicator replicator)
+        {
+            this.lock = lock;
+            this.replicator = replicator;
+        }
+    }
+
+    private final LocalSessionState NO_STATE = new LocalSessionState(NO_OP_LOCK, null);
+
     private class SessionLockImpl implements SessionLock
     {
 
@@ -78,7 +123,7 @@ public class TapestrySessionFactoryImpl implements TapestrySessionFactory
                 return;
             }
 
-            lock.readLock().lock();
+            acquire(lock.readLock());
 
             perthreadManager.addThreadCleanupCallback(new Runnable()
             {
@@ -107,7 +152,7 @@ public class TapestrySessionFactoryImpl implements TapestrySessionFactory
 
             // During this window, no lock is held, and the next call may block.
 
-            lock.writeLock().lock();
+            acquire(lock.writeLock());
 
             perthreadManager.addThreadCleanupCallback(new Runnable()
             {
@@ -118,6 +163,33 @@ public class TapestrySessionFactoryImpl implements TapestrySessionFactory
                 }
             });
         }
+
+        public void acquireAttributeReadLock()
+        {
+            if (optimisticReads)
+            {
+                acquireReadLock();
+            } else
+            {
+                acquireWriteLock();
+            }
+        }
+    }
+
+    private void acquire(Lock lock)
+    {
+        acquisitions.increment();
+
+        if (lock.tryLock())
+        {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+
+        lock.lock();
+
+        waitTimes.record(System.nanoTime() - startNanos);
     }
 
     public TapestrySessionFactoryImpl(
@@ -127,13 +199,26 @@ public class TapestrySessionFactoryImpl implements TapestrySessionFactory
             HttpServletRequest request,
             PerthreadManager perthreadManager,
             @Symbol(TapestryHttpSymbolConstants.SESSION_LOCKING_ENABLED)
-            boolean sessionLockingEnabled)
+            boolean sessionLockingEnabled,
+            @Symbol(TapestryHttpSymbolConstants.SESSION_LOCKING_OPTIMISTIC_READS)
+            boolean optimisticReads,
+            SessionStore sessionStore,
+            @Symbol(TapestryHttpSymbolConstants.SESSION_DELTA_REPLICATION)
+            boolean deltaReplication)
     {
         this.clustered = clustered;
         this.analyzer = analyzer;
         this.request = request;
         this.perthreadManager = perthreadManager;
         this.sessionLockingEnabled = sessionLockingEnabled;
+        this.optimisticReads = optimisticReads;
+        this.sessionStore = sessionStore;
+        this.deltaReplication = clustered && deltaReplication;
+
+        for (int i = 0; i < STRIPES; i++)
+        {
+            sessionToState[i] = new WeakHashMap<HttpSession, LocalSessionState>();
+        }
     }
 
     public Session getSession(boolean create)
@@ -145,41 +230,61 @@ public class TapestrySessionFactoryImpl implements TapestrySessionFactory
             return null;
         }
 
-        SessionLock lock = lockForSession(httpSession);
+        LocalSessionState state = sessionLockingEnabled || deltaReplication ? stateForSession(httpSession) : NO_STATE;
 
         if (clustered)
         {
-            return new ClusteredSessionImpl(request, httpSession, lock, analyzer);
+            return new ClusteredSessionImpl(request, httpSession, state.lock, analyzer, state.replicator);
         }
 
-        return new SessionImpl(request, httpSession, lock);
+        return new SessionImpl(request, httpSession, state.lock);
     }
 
-    private SessionLock lockForSession(HttpSession session)
+    private LocalSessionState stateForSession(HttpSession session)
     {
-        if (!sessionLockingEnabled)
-        {
-            return NO_OP_LOCK;
-        }
+        int hash = session.hashCode();
 
-        // Because WeakHashMap does not look thread safe to me, we use an exclusive
-        // lock.
-        mapLock.lock();
+        Map<HttpSession, LocalSessionState> stripe = sessionToState[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
 
-        try
+        synchronized (stripe)
         {
-            SessionLock result = sessionToLock.get(session);
+            LocalSessionState result = stripe.get(session);
 
             if (result == null)
             {
-                result = new SessionLockImpl();
-                sessionToLock.put(session, result);
+                result = new LocalSessionState(sessionLockingEnabled ? new SessionLockImpl() : NO_OP_LOCK,
+                        deltaReplication ? new SessionDeltaReplicator(sessionStore) : null);
+
+                stripe.put(session, result);
             }
 
             return result;
-        } finally
-        {
-            mapLock.unlock();
         }
     }
+
+    public SessionLockStatistics getLockStatistics()
+    {
+        return this;
+    }
+
+    public long getAcquisitions()
+    {
+        return acquisitions.sum();
+    }
+
+    public long getContendedAcquisitions()
+    {
+        return waitTimes.getCount();
+    }
+
+    public TimingHistogram getWaitTimes()
+    {
+        return waitTimes;
+    }
+
+    public void reset()
+    {
+        acquisitions.reset();
+        waitTimes.reset();
+    }
 }
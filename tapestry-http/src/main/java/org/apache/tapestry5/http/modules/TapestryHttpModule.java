@@ -22,17 +22,22 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.apache.tapestry5.commons.MappedConfiguration;
 import org.apache.tapestry5.commons.OrderedConfiguration;
+import org.apache.tapestry5.commons.util.TimeInterval;
 import org.apache.tapestry5.http.OptimizedSessionPersistedObject;
 import org.apache.tapestry5.http.TapestryHttpSymbolConstants;
 import org.apache.tapestry5.http.internal.gzip.GZipFilter;
 import org.apache.tapestry5.http.internal.services.ApplicationGlobalsImpl;
 import org.apache.tapestry5.http.internal.services.BaseURLSourceImpl;
+import org.apache.tapestry5.http.internal.services.CompressionLevelSourceImpl;
 import org.apache.tapestry5.http.internal.services.ContextImpl;
 import org.apache.tapestry5.http.internal.services.DefaultSessionPersistedObjectAnalyzer;
+import org.apache.tapestry5.http.internal.services.InMemorySessionStore;
 import org.apache.tapestry5.http.internal.services.OptimizedSessionPersistedObjectAnalyzer;
 import org.apache.tapestry5.http.internal.services.RequestGlobalsImpl;
 import org.apache.tapestry5.http.internal.services.RequestImpl;
 import org.apache.tapestry5.http.internal.services.ResponseCompressionAnalyzerImpl;
+import org.apache.tapestry5.http.internal.services.ResponseCompressor;
+import org.apache.tapestry5.http.internal.services.ResponseCompressorImpl;
 import org.apache.tapestry5.http.internal.services.ResponseImpl;
 import org.apache.tapestry5.http.internal.services.TapestrySessionFactory;
 import org.apache.tapestry5.http.internal.services.TapestrySessionFactoryImpl;
@@ -40,6 +45,8 @@ import org.apache.tapestry5.http.services.ApplicationGlobals;
 import org.apache.tapestry5.http.services.ApplicationInitializer;
 import org.apache.tapestry5.http.services.ApplicationInitializerFilter;
 import org.apache.tapestry5.http.services.BaseURLSource;
+import org.apache.tapestry5.http.services.CompressionLevelSource;
+import org.apache.tapestry5.http.services.CompressionStatistics;
 import org.apache.tapestry5.http.services.Context;
 import org.apache.tapestry5.http.services.Dispatcher;
 import org.apache.tapestry5.http.services.HttpServletRequestFilter;
@@ -52,9 +59,12 @@ import org.apache.tapestry5.http.services.Response;
 import org.apache.tapestry5.http.services.ResponseCompressionAnalyzer;
 import org.apache.tapestry5.http.services.ServletApplicationInitializer;
 import org.apache.tapestry5.http.services.ServletApplicationInitializerFilter;
+import org.apache.tapestry5.http.services.SessionLockStatistics;
 import org.apache.tapestry5.http.services.SessionPersistedObjectAnalyzer;
+import org.apache.tapestry5.http.services.SessionStore;
 import org.apache.tapestry5.ioc.ServiceBinder;
 import org.apache.tapestry5.ioc.annotations.Autobuild;
+import org.apache.tapestry5.ioc.annotations.IntermediateType;
 import org.apache.tapestry5.ioc.annotations.Marker;
 import org.apache.tapestry5.ioc.annotations.Primary;
 import org.apache.tapestry5.ioc.annotations.Symbol;
@@ -62,6 +72,8 @@ import org.apache.tapestry5.ioc.services.ChainBuilder;
 import org.apache.tapestry5.ioc.services.PipelineBuilder;
 import org.apache.tapestry5.ioc.services.PropertyShadowBuilder;
 import org.apache.tapestry5.ioc.services.StrategyBuilder;
+import org.apache.tapestry5.ioc.services.cron.IntervalSchedule;
+import org.apache.tapestry5.ioc.services.cron.PeriodicExecutor;
 import org.slf4j.Logger;
 
 /**
@@ -91,6 +103,8 @@ public final class TapestryHttpModule {
         binder.bind(TapestrySessionFactory.class, TapestrySessionFactoryImpl.class);
         binder.bind(BaseURLSource.class, BaseURLSourceImpl.class);
         binder.bind(ResponseCompressionAnalyzer.class, ResponseCompressionAnalyzerImpl.class);
+        binder.bind(CompressionLevelSource.class, CompressionLevelSourceImpl.class);
+        binder.bind(ResponseCompressor.class, ResponseCompressorImpl.class);
     }
     
     /**
@@ -99,11 +113,17 @@ public final class TapestryHttpModule {
     public static void contributeFactoryDefaults(MappedConfiguration<String, Object> configuration)
     {
         configuration.add(TapestryHttpSymbolConstants.SESSION_LOCKING_ENABLED, true);
+        configuration.add(TapestryHttpSymbolConstants.SESSION_LOCKING_OPTIMISTIC_READS, false);
+        configuration.add(TapestryHttpSymbolConstants.SESSION_DELTA_REPLICATION, false);
+        configuration.add(TapestryHttpSymbolConstants.SESSION_STORE_TIMEOUT, "30 m");
+        configuration.add(TapestryHttpSymbolConstants.SESSION_STORE_MAX_SESSIONS, 10000);
         configuration.add(TapestryHttpSymbolConstants.CLUSTERED_SESSIONS, true);
         configuration.add(TapestryHttpSymbolConstants.CHARSET, "UTF-8");
         configuration.add(TapestryHttpSymbolConstants.APPLICATION_VERSION, "0.0.1");
         configuration.add(TapestryHttpSymbolConstants.GZIP_COMPRESSION_ENABLED, true);
         configuration.add(TapestryHttpSymbolConstants.MIN_GZIP_SIZE, 100);
+        configuration.add(TapestryHttpSymbolConstants.COMPRESSION_LEVEL, -1);
+        configuration.add(TapestryHttpSymbolConstants.COMPRESSION_LOAD_THRESHOLD, 0);
         
         // The default values denote "use values from request"
         configuration.add(TapestryHttpSymbolConstants.HOSTNAME, "");
@@ -160,6 +180,55 @@ public final class TapestryHttpModule {
         return chainBuilder.build(Dispatcher.class, configuration);
     }
     
+    /**
+     * Exposes the statistics gathered by the {@link TapestrySessionFactory}.
+     *
+     * @since 5.8.0
+     */
+    public static SessionLockStatistics buildSessionLockStatistics(TapestrySessionFactory sessionFactory)
+    {
+        return sessionFactory.getLockStatistics();
+    }
+
+    /**
+     * Exposes the statistics gathered by the {@link ResponseCompressor}.
+     *
+     * @since 5.8.0
+     */
+    public static CompressionStatistics buildCompressionStatistics(ResponseCompressor compressor)
+    {
+        return compressor.getStatistics();
+    }
+
+    /**
+     * Builds the default {@link SessionStore}, an {@link InMemorySessionStore}, and schedules the periodic removal of
+     * the changes for sessions that have not been accessed within the
+     * {@linkplain TapestryHttpSymbolConstants#SESSION_STORE_TIMEOUT timeout}.
+     *
+     * @since 5.8.0
+     */
+    public static SessionStore buildSessionStore(PeriodicExecutor periodicExecutor,
+
+                                                 @Symbol(TapestryHttpSymbolConstants.SESSION_STORE_TIMEOUT)
+                                                 @IntermediateType(TimeInterval.class)
+                                                 final long timeout,
+
+                                                 @Symbol(TapestryHttpSymbolConstants.SESSION_STORE_MAX_SESSIONS)
+                                                 int maxSessions)
+    {
+        final InMemorySessionStore store = new InMemorySessionStore(maxSessions);
+
+        periodicExecutor.addJob(new IntervalSchedule(Math.min(timeout, 60 * 1000)), "Expire session store changes", new Runnable()
+        {
+            public void run()
+            {
+                store.removeExpired(System.currentTimeMillis() - timeout);
+            }
+        });
+
+        return store;
+    }
+
     /**
      * The master SessionPersistedObjectAnalyzer.
      *
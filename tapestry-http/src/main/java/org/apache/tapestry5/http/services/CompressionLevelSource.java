@@ -0,0 +1,38 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.http.services;
+
+import org.apache.tapestry5.ioc.annotations.UsesMappedConfiguration;
+
+/**
+ * Identifies the compression level used when compressing dynamic responses of a given content type. The configuration
+ * maps content types (which may be wild-cards, such as "text/*", as with {@link CompressionAnalyzer}) to a level from
+ * 0 to 9, or -1 for the default level of the underlying zlib library. Content types that are not configured use the
+ * level from the {@link org.apache.tapestry5.http.TapestryHttpSymbolConstants#COMPRESSION_LEVEL} symbol.
+ *
+ * @since 5.8.0
+ */
+@UsesMappedConfiguration(Integer.class)
+public interface CompressionLevelSource
+{
+    /**
+     * Returns the compression level for the content type.
+     *
+     * @param contentType
+     *         MIME content type, possibly including attributes such as encoding type
+     * @return the level, from -1 to 9
+     */
+    int getCompressionLevel(String contentType);
+}
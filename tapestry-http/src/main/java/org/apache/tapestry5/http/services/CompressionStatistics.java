@@ -0,0 +1,58 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.http.services;
+
+import org.apache.tapestry5.ioc.util.TimingHistogram;
+
+/**
+ * Statistics about the compression of dynamic responses (see
+ * {@link org.apache.tapestry5.http.TapestryHttpSymbolConstants#GZIP_COMPRESSION_ENABLED}), used to weigh the bandwidth
+ * saved against the CPU time spent compressing.
+ *
+ * @since 5.8.0
+ */
+public interface CompressionStatistics
+{
+    /**
+     * Returns the number of responses that were compressed.
+     */
+    long getCompressedResponses();
+
+    /**
+     * Returns the number of responses that would have been compressed, but were sent uncompressed because the server
+     * was under load (see {@link org.apache.tapestry5.http.TapestryHttpSymbolConstants#COMPRESSION_LOAD_THRESHOLD}).
+     */
+    long getSkippedResponses();
+
+    /**
+     * Returns the total size, in bytes, of the compressed responses before compression.
+     */
+    long getUncompressedBytes();
+
+    /**
+     * Returns the total size, in bytes, of the compressed responses after compression.
+     */
+    long getCompressedBytes();
+
+    /**
+     * Returns the time spent compressing each response.
+     */
+    TimingHistogram getCompressionTimes();
+
+    /**
+     * Resets all statistics to zero.
+     */
+    void reset();
+}
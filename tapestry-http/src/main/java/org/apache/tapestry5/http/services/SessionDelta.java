@@ -0,0 +1,52 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.http.services;
+
+/**
+ * A change to a session attribute, as stored by the {@link SessionStore}.
+ *
+ * @since 5.8.0
+ */
+public final class SessionDelta
+{
+    private final long version;
+
+    private final byte[] changes;
+
+    public SessionDelta(long version, byte[] changes)
+    {
+        this.version = version;
+        this.changes = changes;
+    }
+
+    public long getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Returns the serialized changes; the returned array should not be modified.
+     */
+    public byte[] getChanges()
+    {
+        return changes;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("SessionDelta[%d: %d bytes]", version, changes.length);
+    }
+}
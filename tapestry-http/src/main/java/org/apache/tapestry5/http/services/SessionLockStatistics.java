@@ -0,0 +1,48 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.http.services;
+
+import org.apache.tapestry5.ioc.util.TimingHistogram;
+
+/**
+ * Statistics about the locks used to serialize access to the {@link javax.servlet.http.HttpSession}
+ * (see {@link org.apache.tapestry5.http.TapestryHttpSymbolConstants#SESSION_LOCKING_ENABLED}). High wait times
+ * indicate that concurrent requests for the same session (typically, Ajax requests) are waiting on each other.
+ *
+ * @since 5.8.0
+ */
+public interface SessionLockStatistics
+{
+    /**
+     * Returns the number of times a session lock has been acquired (each request acquires a lock at most twice: a
+     * read lock, possibly upgraded to a write lock).
+     */
+    long getAcquisitions();
+
+    /**
+     * Returns the number of acquisitions that had to wait for another thread to release the lock.
+     */
+    long getContendedAcquisitions();
+
+    /**
+     * Returns the time spent waiting to acquire session locks; only contended acquisitions are recorded.
+     */
+    TimingHistogram getWaitTimes();
+
+    /**
+     * Resets all statistics to zero.
+     */
+    void reset();
+}
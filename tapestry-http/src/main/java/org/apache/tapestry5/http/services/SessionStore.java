@@ -0,0 +1,73 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.http.services;
+
+import java.util.List;
+
+/**
+ * Stores changes to session attributes that implement {@link org.apache.tapestry5.http.DeltaSessionPersistedObject},
+ * when {@linkplain org.apache.tapestry5.http.TapestryHttpSymbolConstants#SESSION_DELTA_REPLICATION delta replication}
+ * is enabled. Each server writes the changes it makes to an attribute, and applies the changes written by other
+ * servers before the attribute is used. Production implementations are backed by a store shared by all servers (a
+ * database or distributed cache); the default implementation keeps changes in memory, for testing and for single
+ * server deployments.
+ *
+ * Changes are identified by a version number; for each attribute of a session, the versions must increase with each
+ * change written, even after {@link #remove(String, String)}, and even after the store discards changes on its own
+ * (for example, for idle sessions). Implementations must be thread safe.
+ *
+ * @since 5.8.0
+ */
+public interface SessionStore
+{
+    /**
+     * Writes a change to a session attribute.
+     *
+     * @param sessionId
+     *         identifies the session
+     * @param attributeName
+     *         name of the session attribute
+     * @param changes
+     *         the serialized changes
+     * @return the version of the change, greater than that of any change previously written for the attribute
+     */
+    long write(String sessionId, String attributeName, byte[] changes);
+
+    /**
+     * Returns the changes written for a session attribute after the given version. An implementation may merge
+     * several changes into one, with the version of the most recent; as applying the same changes more than once is
+     * harmless, the caller may then receive changes it has already applied.
+     *
+     * @param sessionId
+     *         identifies the session
+     * @param attributeName
+     *         name of the session attribute
+     * @param afterVersion
+     *         version of the most recent change already known to the caller, or 0
+     * @return the changes, in the order written (possibly empty)
+     */
+    List<SessionDelta> read(String sessionId, String attributeName, long afterVersion);
+
+    /**
+     * Discards the changes written for a session attribute; invoked when the attribute is stored into the session in
+     * its entirety, so that the changes are no longer needed.
+     */
+    void remove(String sessionId, String attributeName);
+
+    /**
+     * Discards all changes written for the session; invoked when the session is invalidated.
+     */
+    void removeSession(String sessionId);
+}
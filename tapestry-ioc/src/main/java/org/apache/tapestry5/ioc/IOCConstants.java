@@ -27,4 +27,34 @@ public class IOCConstants
      * @since 5.2.2
      */
     public static final String SERVICE_CLASS_RELOADING_ENABLED = "tapestry.service-reloading-enabled";
+
+    /**
+     * Name of a JVM System Property (the Registry is constructed before any configuration symbols are available)
+     * used to enable the {@link org.apache.tapestry5.ioc.services.StartupProfiler}. When "true", timing and
+     * dependency information is collected while services are realized, and a report is logged once
+     * {@linkplain Registry#performRegistryStartup() registry startup} completes. Defaults to "false".
+     *
+     * @since 5.8.0
+     */
+    public static final String STARTUP_PROFILING_ENABLED = "tapestry.startup-profiling-enabled";
+
+    /**
+     * Name of a JVM System Property used to put the {@link org.apache.tapestry5.ioc.OperationTracker} into a low
+     * overhead mode, suitable for production. When "true", operations are not logged at debug level (so
+     * {@linkplain OperationTracker#run(java.util.function.Supplier, Runnable) lazy descriptions} are only obtained when
+     * an operation fails) and each thread's operation stack is retained and reused, rather than discarded after each
+     * top-level operation. Defaults to "false".
+     *
+     * @since 5.8.0
+     */
+    public static final String OPERATION_TRACKER_LOW_OVERHEAD = "tapestry.operation-tracker-low-overhead";
+
+    /**
+     * Name of a JVM System Property used to enable the {@link org.apache.tapestry5.ioc.services.OperationTimings}.
+     * When "true", the duration of each successful operation is recorded in a histogram for its description.
+     * Defaults to "false".
+     *
+     * @since 5.8.0
+     */
+    public static final String OPERATION_TIMINGS_ENABLED = "tapestry.operation-timings-enabled";
 }
@@ -59,4 +59,56 @@ public class IOCSymbols
      * @since 5.1.0.3
      */
     public static final String THREAD_POOL_ENABLED = "tapestry.thread-pool-enabled";
+
+    /**
+     * If "true", and the JDK supports virtual threads, the {@link org.apache.tapestry5.ioc.services.ParallelExecutor}
+     * starts a new virtual thread for each task, rather than using a pool of platform threads (the other thread pool
+     * symbols are then ignored), and the {@link org.apache.tapestry5.ioc.services.cron.PeriodicExecutor} uses a
+     * virtual thread to schedule its jobs. On a JDK without virtual threads, a warning is logged and platform threads
+     * are used.
+     *
+     * The default is "false".
+     *
+     * @since 5.8.0
+     */
+    public static final String THREAD_POOL_VIRTUAL_THREADS = "tapestry.thread-pool.virtual-threads";
+
+    /**
+     * If "true", each task executed by the {@link org.apache.tapestry5.ioc.services.ParallelExecutor} sees a
+     * {@linkplain org.apache.tapestry5.ioc.services.PerthreadManager#copyContext() copy} of the per-thread values of
+     * the thread that submitted the task. Only immutable values, and instances of classes marked
+     * {@link org.apache.tapestry5.ioc.annotations.ThreadSafe}, are copied; these are shared by both threads. Perthread
+     * services, and other mutable values, are not: the task gets its own. If "false", tasks start with no per-thread
+     * values. In either case, the per-thread values of the task are cleaned up when the task completes.
+     *
+     * The default is "false".
+     *
+     * @since 5.8.0
+     */
+    public static final String THREAD_POOL_PROPAGATE_PERTHREAD = "tapestry.thread-pool.propagate-perthread";
+
+    /**
+     * If "true", {@linkplain org.apache.tapestry5.ioc.Registry#performRegistryStartup() registry startup} eager loads
+     * services and invokes module {@link org.apache.tapestry5.ioc.annotations.Startup} methods in parallel, using the
+     * {@link org.apache.tapestry5.ioc.services.ParallelExecutor}. An eager loaded service is only loaded once the other
+     * eager loaded services it is injected with have been loaded; services whose injected types can not be determined
+     * are loaded last. The ordered contributions to the RegistryStartup service are still executed sequentially.
+     * The first failure aborts startup with an exception that reports which startup tasks completed.
+     *
+     * The default is "false".
+     *
+     * @since 5.8.0
+     */
+    public static final String PARALLEL_STARTUP_ENABLED = "tapestry.parallel-startup-enabled";
+
+    /**
+     * If "true", then the coercions between all the types in the {@link org.apache.tapestry5.commons.services.TypeCoercer}
+     * configuration are computed as part of registry startup (see
+     * {@link org.apache.tapestry5.commons.services.TypeCoercer#precomputeCoercions()}), rather than on first use.
+     *
+     * The default is "false".
+     *
+     * @since 5.8.0
+     */
+    public static final String TYPE_COERCER_PRECOMPUTE = "tapestry.type-coercer.precompute";
 }
@@ -0,0 +1,82 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.ioc;
+
+import java.util.function.Supplier;
+
+/**
+ * A lazily formatted description of an operation, for use with the {@link OperationTracker}: the description is only
+ * formatted if it is needed. The format identifies the kind of operation; when
+ * {@linkplain org.apache.tapestry5.ioc.services.OperationTimings operation timings} are enabled, operations are timed
+ * per format, rather than per formatted description.
+ *
+ * @since 5.8.0
+ */
+public final class OperationDescription implements Supplier<String>
+{
+    private final String format;
+
+    private final Object[] arguments;
+
+    private OperationDescription(String format, Object[] arguments)
+    {
+        this.format = format;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Creates a description that will be formatted with {@link String#format(String, Object...)}. An argument that is
+     * itself a {@link Supplier} is only obtained when the description is formatted, so arguments that are costly to
+     * compute can be deferred.
+     */
+    public static OperationDescription format(String format, Object... arguments)
+    {
+        assert format != null;
+
+        return new OperationDescription(format, arguments);
+    }
+
+    public String getFormat()
+    {
+        return format;
+    }
+
+    @Override
+    public String get()
+    {
+        Object[] values = arguments;
+
+        for (int i = 0; arguments != null && i < arguments.length; i++)
+        {
+            if (arguments[i] instanceof Supplier)
+            {
+                if (values == arguments)
+                {
+                    values = arguments.clone();
+                }
+
+                values[i] = ((Supplier) arguments[i]).get();
+            }
+        }
+
+        return String.format(format, values);
+    }
+
+    @Override
+    public String toString()
+    {
+        return get();
+    }
+}
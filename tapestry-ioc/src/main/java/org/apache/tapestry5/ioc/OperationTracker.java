@@ -15,6 +15,7 @@
 package org.apache.tapestry5.ioc;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 /**
  * Used to track some set of operations in such a way that a failure (a thrown RuntimeException) will be logged along
@@ -55,4 +56,49 @@ public interface OperationTracker
      * @since 5.4
      */
     <T> T perform(String description, IOOperation<T> operation) throws IOException;
+
+    /**
+     * As with {@link #run(String, Runnable)}, but the description is only obtained if it is actually needed (typically,
+     * when the operation fails). This avoids formatting a description for each execution of an operation on a hot path.
+     *
+     * @param description
+     *         provides the description, if there is an exception
+     * @param operation
+     *         to execute
+     * @since 5.8.0
+     */
+    default void run(Supplier<String> description, Runnable operation)
+    {
+        run(description.get(), operation);
+    }
+
+    /**
+     * As with {@link #invoke(String, Invokable)}, but the description is only obtained if it is actually needed.
+     *
+     * @param description
+     *         provides the description, if there is an exception
+     * @param operation
+     *         to invoke
+     * @return result of operation
+     * @since 5.8.0
+     */
+    default <T> T invoke(Supplier<String> description, Invokable<T> operation)
+    {
+        return invoke(description.get(), operation);
+    }
+
+    /**
+     * As with {@link #perform(String, IOOperation)}, but the description is only obtained if it is actually needed.
+     *
+     * @param description
+     *         provides the description, if there is an exception (outside of IOException)
+     * @param operation
+     *         to perform
+     * @return result of operation
+     * @since 5.8.0
+     */
+    default <T> T perform(Supplier<String> description, IOOperation<T> operation) throws IOException
+    {
+        return perform(description.get(), operation);
+    }
 }
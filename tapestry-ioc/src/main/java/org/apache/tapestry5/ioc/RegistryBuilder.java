@@ -23,6 +23,7 @@ import org.apache.tapestry5.ioc.def.ModuleDef;
 import org.apache.tapestry5.ioc.def.ModuleDef2;
 import org.apache.tapestry5.ioc.internal.DefaultModuleDefImpl;
 import org.apache.tapestry5.ioc.internal.LoggerSourceImpl;
+import org.apache.tapestry5.ioc.internal.OperationTimingsImpl;
 import org.apache.tapestry5.ioc.internal.PerThreadOperationTracker;
 import org.apache.tapestry5.ioc.internal.RegistryImpl;
 import org.apache.tapestry5.ioc.internal.RegistryWrapper;
@@ -181,7 +182,11 @@ public final class RegistryBuilder
     {
         lock.lock();
 
-        PerThreadOperationTracker tracker = new PerThreadOperationTracker(loggerSource.getLogger(Registry.class));
+        OperationTimingsImpl timings = Boolean.getBoolean(IOCConstants.OPERATION_TIMINGS_ENABLED)
+                ? new OperationTimingsImpl(true) : OperationTimingsImpl.DISABLED;
+
+        PerThreadOperationTracker tracker = new PerThreadOperationTracker(loggerSource.getLogger(Registry.class),
+                Boolean.getBoolean(IOCConstants.OPERATION_TRACKER_LOW_OVERHEAD), timings);
 
         RegistryImpl registry = new RegistryImpl(modules, proxyFactory, loggerSource, tracker);
 
@@ -25,6 +25,7 @@ import org.apache.tapestry5.internal.plastic.asm.ClassReader;
 import org.apache.tapestry5.internal.plastic.asm.ClassVisitor;
 import org.apache.tapestry5.internal.plastic.asm.Opcodes;
 import org.apache.tapestry5.ioc.Invokable;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.ioc.ReloadAware;
 import org.apache.tapestry5.ioc.internal.util.InternalUtils;
@@ -123,7 +124,7 @@ public abstract class AbstractReloadableObjectCreator implements ObjectCreator,
 
     private Object createInstance()
     {
-        return tracker.invoke(String.format("Reloading class %s.", implementationClassName), new Invokable<Object>()
+        return tracker.invoke(OperationDescription.format("Reloading class %s.", implementationClassName), new Invokable<Object>()
         {
             @Override
             public Object invoke()
@@ -499,6 +499,12 @@ public class DefaultModuleDefImpl implements ModuleDef2, ServiceDefAccumulator
             {
                 return DefaultModuleDefImpl.this.toString(method);
             }
+
+            @Override
+            public Class[] getInjectedTypes()
+            {
+                return method.getParameterTypes();
+            }
         };
 
         Set<Class> markers = CollectionFactory.newSet(defaultMarkers);
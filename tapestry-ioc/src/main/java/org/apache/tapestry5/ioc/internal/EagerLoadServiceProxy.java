@@ -21,4 +21,11 @@ package org.apache.tapestry5.ioc.internal;
 public interface EagerLoadServiceProxy
 {
     void eagerLoadService();
+
+    /**
+     * Returns the id of the service to be eager loaded.
+     *
+     * @since 5.8.0
+     */
+    String getServiceId();
 }
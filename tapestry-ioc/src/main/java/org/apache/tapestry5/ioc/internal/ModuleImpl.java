@@ -61,6 +61,8 @@ public class ModuleImpl implements Module
 
     private final Logger logger;
 
+    private final StartupProfilerImpl startupProfiler;
+
     /**
      * Lazily instantiated. Access is guarded by BARRIER.
      */
@@ -94,8 +96,18 @@ public class ModuleImpl implements Module
 
     public ModuleImpl(InternalRegistry registry, ServiceActivityTracker tracker, ModuleDef moduleDef,
                       PlasticProxyFactory proxyFactory, Logger logger)
+    {
+        this(registry, tracker, moduleDef, proxyFactory, logger, StartupProfilerImpl.DISABLED);
+    }
+
+    /**
+     * @since 5.8.0
+     */
+    public ModuleImpl(InternalRegistry registry, ServiceActivityTracker tracker, ModuleDef moduleDef,
+                      PlasticProxyFactory proxyFactory, Logger logger, StartupProfilerImpl startupProfiler)
     {
         this.registry = registry;
+        this.startupProfiler = startupProfiler;
         this.tracker = tracker;
         this.proxyFactory = proxyFactory;
         this.moduleDef = InternalUtils.toModuleDef2(moduleDef);
@@ -329,10 +341,16 @@ public class ModuleImpl implements Module
 
                     creator = new OperationTrackingObjectCreator(registry, "Realizing service " + serviceId, creator);
 
+                    creator = startupProfiler.profileRealization(serviceId, def.isEagerLoad(), creator);
+
                     JustInTimeObjectCreator delegate = new JustInTimeObjectCreator(tracker, creator, serviceId);
 
+                    long startNanos = startupProfiler.start();
+
                     Object proxy = createProxy(resources, delegate, def.isPreventDecoration());
 
+                    startupProfiler.recordProxyCreation(serviceId, startNanos);
+
                     registry.addRegistryShutdownListener(delegate);
 
                     // Occasionally eager load service A may invoke service B from its service builder method; if
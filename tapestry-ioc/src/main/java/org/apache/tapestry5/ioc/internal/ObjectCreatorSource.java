@@ -33,4 +33,17 @@ public interface ObjectCreatorSource
      * Returns a description of the method or constructor that creates the service.
      */
     String getDescription();
+
+    /**
+     * Returns the types that will be injected into the service implementation (for example, the parameter types of
+     * the service builder method or of the implementation class' constructor). This allows dependencies between
+     * services to be determined without realizing them. The default implementation returns null, meaning that the
+     * injected types are not known.
+     *
+     * @since 5.8.0
+     */
+    default Class[] getInjectedTypes()
+    {
+        return null;
+    }
 }
@@ -0,0 +1,228 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.ioc.internal;
+
+import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.apache.tapestry5.ioc.OperationDescription;
+import org.apache.tapestry5.ioc.services.OperationTimings;
+import org.apache.tapestry5.ioc.util.TimingHistogram;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Collects the durations of operations on behalf of the {@link OperationTrackerImpl}.
+ *
+ * @since 5.8.0
+ */
+public class OperationTimingsImpl implements OperationTimings
+{
+    /**
+     * Shared instance used when timings are not enabled.
+     */
+    public static final OperationTimingsImpl DISABLED = new OperationTimingsImpl(false);
+
+    static final int MAX_DESCRIPTIONS = 1000;
+
+    static final String OTHER_OPERATIONS = "(other operations)";
+
+    private static final double NANOS_PER_MILLI = 1000000d;
+
+    private final boolean enabled;
+
+    /**
+     * Histograms, keyed on the label shown in the report.
+     */
+    private final ConcurrentMap<String, TimingHistogram> histograms = CollectionFactory.newConcurrentMap();
+
+    /**
+     * Histograms, keyed on the category of operation; several categories may share a label, and so a histogram.
+     */
+    private final ConcurrentMap<Object, TimingHistogram> categories = CollectionFactory.newConcurrentMap();
+
+    private static final Comparator<Map.Entry<String, TimingHistogram>> BY_DESCENDING_TOTAL_TIME = new Comparator<Map.Entry<String, TimingHistogram>>()
+    {
+        @Override
+        public int compare(Map.Entry<String, TimingHistogram> o1, Map.Entry<String, TimingHistogram> o2)
+        {
+            return Long.compare(o2.getValue().getTotalTime(), o1.getValue().getTotalTime());
+        }
+    };
+
+    public OperationTimingsImpl(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Records the duration of a completed operation. The description (a String, or a Supplier of a String) is never
+     * evaluated.
+     */
+    void record(Object description, long nanos)
+    {
+        Object category = categoryOf(description);
+
+        TimingHistogram histogram = categories.get(category);
+
+        if (histogram == null)
+        {
+            histogram = addCategory(category);
+        }
+
+        histogram.record(nanos);
+    }
+
+    /**
+     * Operations are timed per format for an {@link OperationDescription}, per Supplier class (that is, per call
+     * site) for other lazy descriptions, and per description otherwise.
+     */
+    private static Object categoryOf(Object description)
+    {
+        if (description instanceof OperationDescription)
+        {
+            return ((OperationDescription) description).getFormat();
+        }
+
+        return description instanceof Supplier ? description.getClass() : description;
+    }
+
+    /**
+     * A Supplier class is labeled with the method that defines it, when known (for anonymous and local classes), and
+     * with its name otherwise (for lambdas). Evaluating one of its descriptions would label every later operation
+     * of the category with the details of the first one.
+     */
+    private static String labelOf(Object category)
+    {
+        if (category instanceof String)
+        {
+            return (String) category;
+        }
+
+        Class supplierClass = (Class) category;
+
+        Method method = supplierClass.getEnclosingMethod();
+
+        return method == null ? supplierClass.getName() : String.format("%s.%s()", method.getDeclaringClass().getName(), method.getName());
+    }
+
+    private TimingHistogram addCategory(Object category)
+    {
+        // Once full, further categories are not stored, so that memory stays bounded.
+
+        if (categories.size() >= MAX_DESCRIPTIONS)
+        {
+            return histogram(OTHER_OPERATIONS);
+        }
+
+        String label = labelOf(category);
+
+        TimingHistogram histogram = histogram(label);
+
+        TimingHistogram existing = categories.putIfAbsent(category, histogram);
+
+        return existing == null ? histogram : existing;
+    }
+
+    private TimingHistogram histogram(String label)
+    {
+        TimingHistogram histogram = histograms.get(label);
+
+        if (histogram == null)
+        {
+            TimingHistogram newHistogram = new TimingHistogram();
+
+            histogram = histograms.putIfAbsent(label, newHistogram);
+
+            if (histogram == null)
+            {
+                histogram = newHistogram;
+            }
+        }
+
+        return histogram;
+    }
+
+    @Override
+    public Map<String, TimingHistogram> getTimings()
+    {
+        List<Map.Entry<String, TimingHistogram>> entries = new ArrayList<Map.Entry<String, TimingHistogram>>(histograms.entrySet());
+
+        Collections.sort(entries, BY_DESCENDING_TOTAL_TIME);
+
+        Map<String, TimingHistogram> result = new LinkedHashMap<String, TimingHistogram>();
+
+        for (Map.Entry<String, TimingHistogram> entry : entries)
+        {
+            result.put(entry.getKey(), entry.getValue());
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public String getReport(int limit)
+    {
+        if (!enabled)
+            return "Operation timings are not enabled.";
+
+        StringBuilder builder = new StringBuilder(String.format("Operation timings (times in milliseconds):%n  %10s %10s %10s %10s %10s  %s%n",
+                "Count", "Total", "Mean", "99%", "Max", "Operation"));
+
+        int count = 0;
+
+        for (Map.Entry<String, TimingHistogram> entry : getTimings().entrySet())
+        {
+            if (count++ == limit)
+                break;
+
+            TimingHistogram histogram = entry.getValue();
+
+            builder.append(String.format("  %10d %10.2f %10.2f %10.2f %10.2f  %s%n",
+                    histogram.getCount(),
+                    millis(histogram.getTotalTime()),
+                    millis(histogram.getMeanTime()),
+                    millis(histogram.getPercentile(99)),
+                    millis(histogram.getMaxTime()),
+                    entry.getKey()));
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public void reset()
+    {
+        categories.clear();
+        histograms.clear();
+    }
+
+    private static double millis(long nanos)
+    {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -14,7 +14,6 @@
 
 package org.apache.tapestry5.ioc.internal;
 
-import org.apache.tapestry5.commons.util.CollectionFactory;
 import org.apache.tapestry5.commons.util.ExceptionUtils;
 import org.apache.tapestry5.commons.util.Stack;
 import org.apache.tapestry5.ioc.IOOperation;
@@ -24,29 +23,99 @@ import org.apache.tapestry5.ioc.internal.util.InternalUtils;
 import org.slf4j.Logger;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 /**
  * Core implementation that manages a logger and catches and reports exception.
  *
+ * Descriptions are stored on the operation stack as provided (a String or a Supplier of a String), and only converted
+ * to a String when logged, when an operation fails, or when timings are first recorded for that kind of operation.
+ *
  * @see org.apache.tapestry5.ioc.internal.PerThreadOperationTracker
  */
 public class OperationTrackerImpl implements OperationTracker
 {
+    private static final int INITIAL_DEPTH = 32;
+
     private final Logger logger;
 
-    private final Stack<String> operations = CollectionFactory.newStack();
+    private final boolean lowOverhead;
+
+    private final OperationTimingsImpl timings;
+
+    private final Stack<Object> operations = new Stack<Object>(INITIAL_DEPTH);
 
     private boolean logged;
 
     public OperationTrackerImpl(Logger logger)
+    {
+        this(logger, false, OperationTimingsImpl.DISABLED);
+    }
+
+    /**
+     * @param lowOverhead
+     *         if true, operations are not logged at debug level
+     * @param timings
+     *         used to record the duration of each operation, if enabled
+     * @since 5.8.0
+     */
+    public OperationTrackerImpl(Logger logger, boolean lowOverhead, OperationTimingsImpl timings)
     {
         this.logger = logger;
+        this.lowOverhead = lowOverhead;
+        this.timings = timings;
     }
 
     @Override
     public void run(String description, final Runnable operation)
     {
         assert InternalUtils.isNonBlank(description);
+
+        doRun(description, operation);
+    }
+
+    @Override
+    public void run(Supplier<String> description, Runnable operation)
+    {
+        assert description != null;
+
+        doRun(description, operation);
+    }
+
+    @Override
+    public <T> T invoke(String description, Invokable<T> operation)
+    {
+        assert InternalUtils.isNonBlank(description);
+
+        return doInvoke(description, operation);
+    }
+
+    @Override
+    public <T> T invoke(Supplier<String> description, Invokable<T> operation)
+    {
+        assert description != null;
+
+        return doInvoke(description, operation);
+    }
+
+    @Override
+    public <T> T perform(String description, IOOperation<T> operation) throws IOException
+    {
+        InternalUtils.isNonBlank(description);
+
+        return doPerform(description, operation);
+    }
+
+    @Override
+    public <T> T perform(Supplier<String> description, IOOperation<T> operation) throws IOException
+    {
+        assert description != null;
+
+        return doPerform(description, operation);
+    }
+
+    private void doRun(Object description, final Runnable operation)
+    {
         assert operation != null;
 
         long startNanos = start(description);
@@ -69,10 +138,8 @@ public class OperationTrackerImpl implements OperationTracker
         }
     }
 
-    @Override
-    public <T> T invoke(String description, Invokable<T> operation)
+    private <T> T doInvoke(Object description, Invokable<T> operation)
     {
-        assert InternalUtils.isNonBlank(description);
         assert operation != null;
 
         long startNanos = start(description);
@@ -97,10 +164,8 @@ public class OperationTrackerImpl implements OperationTracker
         }
     }
 
-    @Override
-    public <T> T perform(String description, IOOperation<T> operation) throws IOException
+    private <T> T doPerform(Object description, IOOperation<T> operation) throws IOException
     {
-        InternalUtils.isNonBlank(description);
         assert operation != null;
 
         long startNanos = start(description);
@@ -150,31 +215,55 @@ public class OperationTrackerImpl implements OperationTracker
         throw error;
     }
 
-    private void finish(String description, long startNanos)
+    private boolean isDebugEnabled()
     {
-        if (logger.isDebugEnabled())
+        return !lowOverhead && logger.isDebugEnabled();
+    }
+
+    private void finish(Object description, long startNanos)
+    {
+        if (startNanos < 0)
+        {
+            return;
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        if (timings.isEnabled())
+        {
+            timings.record(description, elapsedNanos);
+        }
+
+        if (isDebugEnabled())
         {
-            long elapsedNanos = System.nanoTime() - startNanos;
             double elapsedMillis = ((double) elapsedNanos) / 1000000.d;
 
-            logger.debug(String.format("[%3d] <-- %s [%,.2f ms]", operations.getDepth(), description, elapsedMillis));
+            logger.debug(String.format("[%3d] <-- %s [%,.2f ms]", operations.getDepth(), toString(description), elapsedMillis));
         }
     }
 
-    private long start(String description)
+    private long start(Object description)
     {
         long startNanos = -1l;
 
-        if (logger.isDebugEnabled())
+        if (isDebugEnabled())
+        {
+            startNanos = System.nanoTime();
+            logger.debug(String.format("[%3d] --> %s", operations.getDepth() + 1, toString(description)));
+        } else if (timings.isEnabled())
         {
             startNanos = System.nanoTime();
-            logger.debug(String.format("[%3d] --> %s", operations.getDepth() + 1, description));
         }
 
         operations.push(description);
         return startNanos;
     }
 
+    private static String toString(Object description)
+    {
+        return description instanceof Supplier ? String.valueOf(((Supplier) description).get()) : description.toString();
+    }
+
     private <T> T logAndRethrow(RuntimeException ex)
     {
         if (!logged)
@@ -213,7 +302,7 @@ public class OperationTrackerImpl implements OperationTracker
 
         for (int i = 0; i < snapshot.length; i++)
         {
-            trace[i] = snapshot[i].toString();
+            trace[i] = toString(snapshot[i]);
 
             logger.error(String.format("[%2d] %s", i + 1, trace[i]));
         }
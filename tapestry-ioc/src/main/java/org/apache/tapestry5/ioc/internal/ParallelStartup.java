@@ -0,0 +1,282 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.ioc.internal;
+
+import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.apache.tapestry5.commons.util.ExceptionUtils;
+import org.apache.tapestry5.ioc.Invokable;
+import org.apache.tapestry5.ioc.internal.util.InternalUtils;
+import org.apache.tapestry5.ioc.services.ParallelExecutor;
+import org.slf4j.Logger;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Executes a set of startup tasks (such as eager loading of services) using the {@link ParallelExecutor}. Each task
+ * identifies the tasks it depends on; a task is started only once all of those tasks have completed, so independent
+ * tasks execute in parallel. Tasks that form a dependency cycle are executed sequentially, in the order in which they
+ * were added, by the calling thread.
+ *
+ * If any task fails, no further tasks are started, tasks that have not yet started are cancelled, and a
+ * RuntimeException is thrown identifying the failed task, the completed tasks and the tasks that never completed.
+ *
+ * @since 5.8.0
+ */
+public class ParallelStartup
+{
+    private final ParallelExecutor executor;
+
+    private final Logger logger;
+
+    private final Map<String, Task> tasks = CollectionFactory.newCaseInsensitiveMap();
+
+    private final List<Task> taskOrder = CollectionFactory.newList();
+
+    private final BlockingQueue<Task> finished = new LinkedBlockingQueue<Task>();
+
+    private static class Task
+    {
+        final String id;
+
+        final Runnable work;
+
+        final Set<String> dependencies = CollectionFactory.newSet();
+
+        final List<Task> dependents = CollectionFactory.newList();
+
+        int pendingDependencies;
+
+        Future<Void> future;
+
+        boolean started, completed;
+
+        volatile Throwable failure;
+
+        Task(String id, Runnable work)
+        {
+            this.id = id;
+            this.work = work;
+        }
+    }
+
+    public ParallelStartup(ParallelExecutor executor, Logger logger)
+    {
+        this.executor = executor;
+        this.logger = logger;
+    }
+
+    /**
+     * Adds a task.
+     *
+     * @param id
+     *         unique id of the task (for eager loading, the service id)
+     * @param dependencies
+     *         ids of other tasks that must complete before this task starts; ids that do not match any task are
+     *         ignored
+     * @param work
+     *         the work to execute
+     */
+    public void add(String id, Collection<String> dependencies, Runnable work)
+    {
+        assert id != null;
+        assert work != null;
+
+        Task task = new Task(id, work);
+
+        for (String dependency : dependencies)
+        {
+            if (!dependency.equalsIgnoreCase(id))
+                task.dependencies.add(dependency);
+        }
+
+        tasks.put(id, task);
+        taskOrder.add(task);
+    }
+
+    /**
+     * Executes all tasks, returning once they have all completed.
+     *
+     * @throws RuntimeException
+     *         if any task fails
+     */
+    public void run()
+    {
+        for (Task task : taskOrder)
+        {
+            for (String dependencyId : task.dependencies)
+            {
+                Task dependency = tasks.get(dependencyId);
+
+                if (dependency != null)
+                {
+                    dependency.dependents.add(task);
+                    task.pendingDependencies++;
+                }
+            }
+        }
+
+        int running = 0;
+        int remaining = taskOrder.size();
+
+        for (Task task : taskOrder)
+        {
+            if (task.pendingDependencies == 0)
+            {
+                start(task);
+                running++;
+            }
+        }
+
+        while (remaining > 0)
+        {
+            if (running == 0)
+            {
+                // Every remaining task is waiting on some other remaining task: a dependency cycle.
+                // Services in a cycle can only be realized sequentially, as the proxies break the cycle.
+
+                for (Task task : taskOrder)
+                {
+                    if (!task.started)
+                    {
+                        logger.debug("Executing startup task {} sequentially (dependency cycle).", task.id);
+
+                        task.started = true;
+
+                        execute(task);
+
+                        if (task.failure != null)
+                            fail(task);
+
+                        task.completed = true;
+                        remaining--;
+                    }
+                }
+
+                return;
+            }
+
+            Task task = takeFinished();
+
+            running--;
+            remaining--;
+
+            if (task.failure != null)
+                fail(task);
+
+            task.completed = true;
+
+            for (Task dependent : task.dependents)
+            {
+                if (--dependent.pendingDependencies == 0 && !dependent.started)
+                {
+                    start(dependent);
+                    running++;
+                }
+            }
+        }
+    }
+
+    private Task takeFinished()
+    {
+        try
+        {
+            return finished.take();
+        } catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new RuntimeException("Interrupted while waiting for parallel startup tasks to complete.", ex);
+        }
+    }
+
+    private void start(final Task task)
+    {
+        task.started = true;
+
+        Invokable<Void> invokable = new Invokable<Void>()
+        {
+            @Override
+            public Void invoke()
+            {
+                execute(task);
+
+                finished.add(task);
+
+                return null;
+            }
+        };
+
+        try
+        {
+            task.future = executor.invoke(invokable);
+        } catch (RejectedExecutionException ex)
+        {
+            // The thread pool is saturated; just do the work in this thread.
+
+            invokable.invoke();
+        }
+    }
+
+    private static void execute(Task task)
+    {
+        try
+        {
+            task.work.run();
+        } catch (Throwable ex)
+        {
+            task.failure = ex;
+        }
+    }
+
+    private void fail(Task failed)
+    {
+        List<String> completed = CollectionFactory.newList();
+        List<String> incomplete = CollectionFactory.newList();
+
+        for (Task task : taskOrder)
+        {
+            if (task == failed)
+                continue;
+
+            if (task.completed)
+            {
+                completed.add(task.id);
+                continue;
+            }
+
+            incomplete.add(task.id);
+
+            if (task.future != null)
+                task.future.cancel(false);
+        }
+
+        String message = String.format("Parallel startup task %s failed: %s%nCompleted tasks: %s%nIncomplete (cancelled or still running) tasks: %s",
+                failed.id,
+                ExceptionUtils.toMessage(failed.failure),
+                InternalUtils.join(completed),
+                InternalUtils.join(incomplete));
+
+        logger.error(message);
+
+        throw new RuntimeException(message, failed.failure);
+    }
+}
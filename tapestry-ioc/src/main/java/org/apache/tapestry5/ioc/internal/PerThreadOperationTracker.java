@@ -20,26 +20,43 @@ import org.apache.tapestry5.ioc.OperationTracker;
 import org.slf4j.Logger;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 /**
- * Manages a per-thread OperationTracker using a ThreadLocal.
+ * Manages a per-thread OperationTracker using a ThreadLocal. Normally, the per-thread tracker is discarded once
+ * its outermost operation completes; in low overhead mode, it is retained (with its operation stack) for reuse
+ * by the thread's next operation.
  */
 public class PerThreadOperationTracker implements OperationTracker
 {
     private final Logger logger;
 
+    private final boolean lowOverhead;
+
+    private final OperationTimingsImpl timings;
+
     private final ThreadLocal<OperationTrackerImpl> perThread = new ThreadLocal<OperationTrackerImpl>()
     {
         @Override
         protected OperationTrackerImpl initialValue()
         {
-            return new OperationTrackerImpl(logger);
+            return new OperationTrackerImpl(logger, lowOverhead, timings);
         }
     };
 
     public PerThreadOperationTracker(Logger logger)
+    {
+        this(logger, false, OperationTimingsImpl.DISABLED);
+    }
+
+    /**
+     * @since 5.8.0
+     */
+    public PerThreadOperationTracker(Logger logger, boolean lowOverhead, OperationTimingsImpl timings)
     {
         this.logger = logger;
+        this.lowOverhead = lowOverhead;
+        this.timings = timings;
     }
 
     OperationTracker get()
@@ -47,9 +64,17 @@ public class PerThreadOperationTracker implements OperationTracker
         return perThread.get();
     }
 
+    /**
+     * @since 5.8.0
+     */
+    public OperationTimingsImpl getTimings()
+    {
+        return timings;
+    }
+
     void cleanup()
     {
-        if (perThread.get().isEmpty()) perThread.remove();
+        if (!lowOverhead && perThread.get().isEmpty()) perThread.remove();
     }
 
     @Override
@@ -87,4 +112,40 @@ public class PerThreadOperationTracker implements OperationTracker
             cleanup();
         }
     }
+
+    @Override
+    public void run(Supplier<String> description, Runnable operation)
+    {
+        try
+        {
+            get().run(description, operation);
+        } finally
+        {
+            cleanup();
+        }
+    }
+
+    @Override
+    public <T> T invoke(Supplier<String> description, Invokable<T> operation)
+    {
+        try
+        {
+            return get().invoke(description, operation);
+        } finally
+        {
+            cleanup();
+        }
+    }
+
+    @Override
+    public <T> T perform(Supplier<String> description, IOOperation<T> operation) throws IOException
+    {
+        try
+        {
+            return get().perform(description, operation);
+        } finally
+        {
+            cleanup();
+        }
+    }
 }
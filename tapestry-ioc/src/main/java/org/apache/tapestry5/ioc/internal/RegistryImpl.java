@@ -27,6 +27,7 @@ import org.apache.tapestry5.func.Mapper;
 import org.apache.tapestry5.func.Predicate;
 import org.apache.tapestry5.ioc.AdvisorDef;
 import org.apache.tapestry5.ioc.IOCConstants;
+import org.apache.tapestry5.ioc.IOCSymbols;
 import org.apache.tapestry5.ioc.IOOperation;
 import org.apache.tapestry5.ioc.Invokable;
 import org.apache.tapestry5.ioc.LoggerSource;
@@ -52,6 +53,8 @@ import org.apache.tapestry5.ioc.internal.util.Orderer;
 import org.apache.tapestry5.ioc.modules.TapestryIOCModule;
 import org.apache.tapestry5.ioc.services.Builtin;
 import org.apache.tapestry5.ioc.services.MasterObjectProvider;
+import org.apache.tapestry5.ioc.services.OperationTimings;
+import org.apache.tapestry5.ioc.services.ParallelExecutor;
 import org.apache.tapestry5.ioc.services.PerthreadManager;
 import org.apache.tapestry5.ioc.services.RegistryShutdownHub;
 import org.apache.tapestry5.ioc.services.RegistryShutdownListener;
@@ -59,6 +62,7 @@ import org.apache.tapestry5.ioc.services.ServiceActivityScoreboard;
 import org.apache.tapestry5.ioc.services.ServiceConfigurationListener;
 import org.apache.tapestry5.ioc.services.ServiceConfigurationListenerHub;
 import org.apache.tapestry5.ioc.services.ServiceLifecycleSource;
+import org.apache.tapestry5.ioc.services.StartupProfiler;
 import org.apache.tapestry5.ioc.services.Status;
 import org.apache.tapestry5.ioc.services.SymbolSource;
 import org.apache.tapestry5.ioc.services.UpdateListenerHub;
@@ -72,6 +76,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Supplier;
 
 @SuppressWarnings("all")
 public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyProvider
@@ -99,6 +104,10 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
     static final String PLASTIC_PROXY_FACTORY_SERVICE_ID = "PlasticProxyFactory";
 
     static final String LOGGER_SOURCE_SERVICE_ID = "LoggerSource";
+
+    private static final String STARTUP_PROFILER_SERVICE_ID = "StartupProfiler";
+
+    private static final String OPERATION_TIMINGS_SERVICE_ID = "OperationTimings";
     
     private final OneShotLock lock = new OneShotLock();
 
@@ -143,6 +152,8 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
     private final Map<Class<? extends Annotation>, Annotation> cachedAnnotationProxies = CollectionFactory.newConcurrentMap();
 
     private final Set<Runnable> startups = CollectionFactory.newSet();
+
+    private final StartupProfilerImpl startupProfiler;
     
     private DelegatingServiceConfigurationListener serviceConfigurationListener;
     
@@ -165,6 +176,11 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
         assert loggerSource != null;
         assert operationTracker != null;
 
+        startupProfiler = Boolean.getBoolean(IOCConstants.STARTUP_PROFILING_ENABLED)
+                ? new StartupProfilerImpl(true) : StartupProfilerImpl.DISABLED;
+
+        long startNanos = startupProfiler.start();
+
         this.loggerSource = loggerSource;
         this.operationTracker = operationTracker;
 
@@ -203,7 +219,7 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
         {
             logger = this.loggerSource.getLogger(def.getLoggerName());
 
-            Module module = new ModuleImpl(this, tracker, def, proxyFactory, logger);
+            Module module = new ModuleImpl(this, tracker, def, proxyFactory, logger, startupProfiler);
 
             Set<ServiceDef2> moduleServiceDefs = CollectionFactory.newSet();
 
@@ -239,6 +255,11 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
         addBuiltin(PERTHREAD_MANAGER_SERVICE_ID, PerthreadManager.class, perthreadManager);
         addBuiltin(REGISTRY_SHUTDOWN_HUB_SERVICE_ID, RegistryShutdownHub.class, registryShutdownHub);
         addBuiltin(PLASTIC_PROXY_FACTORY_SERVICE_ID, PlasticProxyFactory.class, proxyFactory);
+        addBuiltin(STARTUP_PROFILER_SERVICE_ID, StartupProfiler.class, startupProfiler);
+        addBuiltin(OPERATION_TIMINGS_SERVICE_ID, OperationTimings.class,
+                operationTracker instanceof PerThreadOperationTracker
+                        ? ((PerThreadOperationTracker) operationTracker).getTimings()
+                        : OperationTimingsImpl.DISABLED);
 
         validateContributeDefs(moduleDefs);
         
@@ -247,7 +268,8 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
         scoreboardAndTracker.startup();
 
         SerializationSupport.setProvider(this);
-        
+
+        startupProfiler.recordPhase("Registry construction", startNanos);
     }
 
     private void addStartupsInModule(ModuleDef2 def, final Module module, final Logger logger)
@@ -262,6 +284,12 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
                 {
                     startup.invoke(module, RegistryImpl.this, RegistryImpl.this, logger);
                 }
+
+                @Override
+                public String toString()
+                {
+                    return startup.toString();
+                }
             });
         }
     }
@@ -378,29 +406,150 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
         }
         eagerLoadLock.lock();
 
+        long startNanos = startupProfiler.start();
+
         List<EagerLoadServiceProxy> proxies = CollectionFactory.newList();
 
         for (Module m : moduleToServiceDefs.keySet())
             m.collectEagerLoadServices(proxies);
 
+        boolean parallel = (!proxies.isEmpty() || !startups.isEmpty()) && isParallelStartupEnabled();
+
         // TAPESTRY-2267: Gather up all the proxies before instantiating any of them.
 
-        for (EagerLoadServiceProxy proxy : proxies)
+        if (parallel)
         {
-            proxy.eagerLoadService();
+            eagerLoadServicesInParallel(proxies);
+        } else
+        {
+            for (EagerLoadServiceProxy proxy : proxies)
+            {
+                eagerLoad(proxy);
+            }
         }
 
-        for (Runnable startup : startups) {
-            startup.run();
+        startupProfiler.recordPhase("Eager loading services", startNanos);
+
+        startNanos = startupProfiler.start();
+
+        if (parallel)
+        {
+            ParallelStartup parallelStartup = newParallelStartup();
+
+            int index = 0;
+
+            for (Runnable startup : startups)
+            {
+                parallelStartup.add(String.format("Startup #%d (%s)", ++index, startup), Collections.<String>emptyList(), startup);
+            }
+
+            parallelStartup.run();
+        } else
+        {
+            for (Runnable startup : startups) {
+                startup.run();
+            }
         }
 
         startups.clear();
 
+        startupProfiler.recordPhase("Module startup methods", startNanos);
+
+        startNanos = startupProfiler.start();
+
         getService("RegistryStartup", Runnable.class).run();
 
+        startupProfiler.recordPhase("RegistryStartup contributions", startNanos);
+
+        if (startupProfiler.isEnabled())
+        {
+            loggerForBuiltinService(STARTUP_PROFILER_SERVICE_ID).info(startupProfiler.getReport());
+        }
+
         cleanupThread();
     }
 
+    private boolean isParallelStartupEnabled()
+    {
+        return Boolean.parseBoolean(getSymbolSource().valueForSymbol(IOCSymbols.PARALLEL_STARTUP_ENABLED));
+    }
+
+    private ParallelStartup newParallelStartup()
+    {
+        return new ParallelStartup(getService(ParallelExecutor.class), loggerForBuiltinService("RegistryStartup"));
+    }
+
+    private void eagerLoad(EagerLoadServiceProxy proxy)
+    {
+        long startNanos = startupProfiler.start();
+
+        proxy.eagerLoadService();
+
+        startupProfiler.recordEagerLoad(proxy.getServiceId(), startNanos);
+    }
+
+    /**
+     * Eager loads services in parallel, such that each service is loaded after any other eager loaded services
+     * it is injected with. A service whose injected types are not known is treated as depending on every other eager
+     * loaded service.
+     */
+    private void eagerLoadServicesInParallel(List<EagerLoadServiceProxy> proxies)
+    {
+        Map<String, Class> eagerServiceInterfaces = CollectionFactory.newCaseInsensitiveMap();
+
+        for (EagerLoadServiceProxy proxy : proxies)
+        {
+            String serviceId = proxy.getServiceId();
+
+            eagerServiceInterfaces.put(serviceId, locateModuleForService(serviceId).getServiceDef(serviceId).getServiceInterface());
+        }
+
+        ParallelStartup parallelStartup = newParallelStartup();
+
+        for (final EagerLoadServiceProxy proxy : proxies)
+        {
+            String serviceId = proxy.getServiceId();
+
+            ServiceDef3 serviceDef = locateModuleForService(serviceId).getServiceDef(serviceId);
+
+            Class[] injectedTypes = serviceDef instanceof ServiceDefImpl ? ((ServiceDefImpl) serviceDef).getInjectedTypes() : null;
+
+            List<String> dependencies = CollectionFactory.newList();
+
+            for (Entry<String, Class> entry : eagerServiceInterfaces.entrySet())
+            {
+                if (injectedTypes == null || isInjectedWith(injectedTypes, entry.getValue()))
+                {
+                    dependencies.add(entry.getKey());
+                }
+            }
+
+            parallelStartup.add(serviceId, dependencies, new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    eagerLoad(proxy);
+                }
+            });
+        }
+
+        parallelStartup.run();
+    }
+
+    private static boolean isInjectedWith(Class[] injectedTypes, Class serviceInterface)
+    {
+        for (Class type : injectedTypes)
+        {
+            if (type != Object.class && type.isAssignableFrom(serviceInterface))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     @Override
     public Logger getServiceLogger(String serviceId)
     {
@@ -518,6 +667,8 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
     {
         lock.check();
 
+        startupProfiler.recordDependency(serviceId);
+
         T result = checkForBuiltinService(serviceId, serviceInterface);
         if (result != null)
             return result;
@@ -707,6 +858,8 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
 
             logger.debug(description);
 
+            long startNanos = startupProfiler.start();
+
             operationTracker.run(description, new Runnable()
             {
                 @Override
@@ -715,6 +868,8 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
                     def.contribute(module, resources, validating);
                 }
             });
+
+            startupProfiler.recordContribution(serviceId, startNanos);
         }
     }
 
@@ -740,6 +895,8 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
 
             logger.debug(description);
 
+            long startNanos = startupProfiler.start();
+
             operationTracker.run(description, new Runnable()
             {
                 @Override
@@ -748,6 +905,8 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
                     def.contribute(module, resources, validating);
                 }
             });
+
+            startupProfiler.recordContribution(serviceId, startNanos);
         }
     }
 
@@ -774,6 +933,8 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
 
             logger.debug(description);
 
+            long startNanos = startupProfiler.start();
+
             operationTracker.run(description, new Runnable()
             {
                 @Override
@@ -782,6 +943,8 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
                     def.contribute(module, resources, validating);
                 }
             });
+
+            startupProfiler.recordContribution(serviceId, startNanos);
         }
     }
 
@@ -1304,6 +1467,24 @@ public class RegistryImpl implements Registry, InternalRegistry, ServiceProxyPro
         return operationTracker.perform(description, operation);
     }
 
+    @Override
+    public void run(Supplier<String> description, Runnable operation)
+    {
+        operationTracker.run(description, operation);
+    }
+
+    @Override
+    public <T> T invoke(Supplier<String> description, Invokable<T> operation)
+    {
+        return operationTracker.invoke(description, operation);
+    }
+
+    @Override
+    public <T> T perform(Supplier<String> description, IOOperation<T> operation) throws IOException
+    {
+        return operationTracker.perform(description, operation);
+    }
+
     @Override
     public Set<Class> getMarkerAnnotations()
     {
@@ -17,8 +17,10 @@ package org.apache.tapestry5.ioc.internal;
 import org.apache.tapestry5.commons.ObjectCreator;
 import org.apache.tapestry5.commons.services.PlasticProxyFactory;
 import org.apache.tapestry5.ioc.ServiceBuilderResources;
+import org.apache.tapestry5.ioc.internal.util.InternalUtils;
 import org.apache.tapestry5.ioc.services.UpdateListenerHub;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 
 /**
@@ -74,6 +76,14 @@ public class ReloadableObjectCreatorSource implements ObjectCreatorSource
                 proxyFactory.getMethodLocation(bindMethod));
     }
 
+    @Override
+    public Class[] getInjectedTypes()
+    {
+        Constructor constructor = InternalUtils.findAutobuildConstructor(serviceImplementationClass);
+
+        return constructor == null ? null : InternalUtils.findInjectedTypes(constructor);
+    }
+
     private Object createReloadableProxy(ServiceBuilderResources resources)
     {
         ReloadableServiceImplementationObjectCreator reloadableCreator = new ReloadableServiceImplementationObjectCreator(proxyFactory,
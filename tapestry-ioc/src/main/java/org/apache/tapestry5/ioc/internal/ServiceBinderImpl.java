@@ -167,6 +167,12 @@ public class ServiceBinderImpl implements ServiceBinder, ServiceBindingOptions
                 return String.format("%s via %s", proxyFactory.getConstructorLocation(constructor),
                         proxyFactory.getMethodLocation(bindMethod));
             }
+
+            @Override
+            public Class[] getInjectedTypes()
+            {
+                return InternalUtils.findInjectedTypes(constructor);
+            }
         };
     }
 
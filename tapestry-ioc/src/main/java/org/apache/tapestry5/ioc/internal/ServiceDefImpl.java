@@ -109,6 +109,17 @@ public class ServiceDefImpl implements ServiceDef3
         return serviceImplementation;
     }
 
+    /**
+     * Returns the types injected into the service implementation, or null if not known.
+     *
+     * @see ObjectCreatorSource#getInjectedTypes()
+     * @since 5.8.0
+     */
+    public Class[] getInjectedTypes()
+    {
+        return source.getInjectedTypes();
+    }
+
     @Override
     public String getServiceScope()
     {
@@ -18,6 +18,7 @@ import org.apache.tapestry5.commons.ObjectCreator;
 import org.apache.tapestry5.commons.ObjectLocator;
 import org.apache.tapestry5.commons.util.CollectionFactory;
 import org.apache.tapestry5.ioc.ModuleBuilderSource;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.ioc.def.StartupDef;
 import org.apache.tapestry5.ioc.internal.util.InjectionResources;
@@ -45,7 +46,7 @@ public class StartupDefImpl implements StartupDef
                        final Logger logger)
     {
 
-        tracker.run(String.format("Invoking startup method %s.", InternalUtils.asString(startupMethod)),
+        tracker.run(OperationDescription.format("Invoking startup method %s.", InternalUtils.asString(startupMethod)),
                 new Runnable()
                 {
                     @Override
@@ -87,4 +88,10 @@ public class StartupDefImpl implements StartupDef
                     }
                 });
     }
+
+    @Override
+    public String toString()
+    {
+        return InternalUtils.asString(startupMethod);
+    }
 }
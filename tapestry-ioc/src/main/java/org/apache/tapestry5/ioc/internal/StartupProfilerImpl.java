@@ -0,0 +1,469 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.ioc.internal;
+
+import org.apache.tapestry5.commons.ObjectCreator;
+import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.apache.tapestry5.ioc.services.ServiceStartupTiming;
+import org.apache.tapestry5.ioc.services.StartupProfiler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Collects the data exposed by the {@link StartupProfiler} service. The RegistryImpl and ModuleImpl invoke the
+ * record methods at the interesting points of service realization; when profiling is disabled, each of those
+ * methods returns immediately.
+ *
+ * @since 5.8.0
+ */
+public class StartupProfilerImpl implements StartupProfiler
+{
+    /**
+     * Shared instance used when profiling is not enabled.
+     */
+    public static final StartupProfilerImpl DISABLED = new StartupProfilerImpl(false);
+
+    private static final double NANOS_PER_MILLI = 1000000d;
+
+    private final boolean enabled;
+
+    private final Map<String, Timing> timings = CollectionFactory.newConcurrentMap();
+
+    private final Map<String, Long> phases = Collections.synchronizedMap(new LinkedHashMap<String, Long>());
+
+    /**
+     * Services currently being realized by the current thread, innermost last.
+     */
+    private final ThreadLocal<Deque<Frame>> realizations = new ThreadLocal<Deque<Frame>>()
+    {
+        @Override
+        protected Deque<Frame> initialValue()
+        {
+            return new ArrayDeque<Frame>();
+        }
+    };
+
+    private static class Frame
+    {
+        final Timing timing;
+
+        long nestedTime;
+
+        Frame(Timing timing)
+        {
+            this.timing = timing;
+        }
+    }
+
+    private static class Timing implements ServiceStartupTiming
+    {
+        private final String serviceId;
+
+        private boolean eagerLoad;
+
+        private long realizationTime, selfRealizationTime, contributionTime, proxyCreationTime, eagerLoadTime;
+
+        private String realizedWithin;
+
+        private final Set<String> dependencies = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+
+        private final List<Timing> nested = CollectionFactory.newList();
+
+        Timing(String serviceId)
+        {
+            this.serviceId = serviceId;
+        }
+
+        @Override
+        public String getServiceId()
+        {
+            return serviceId;
+        }
+
+        @Override
+        public synchronized boolean isEagerLoad()
+        {
+            return eagerLoad;
+        }
+
+        @Override
+        public synchronized long getRealizationTime()
+        {
+            return realizationTime;
+        }
+
+        @Override
+        public synchronized long getSelfRealizationTime()
+        {
+            return selfRealizationTime;
+        }
+
+        @Override
+        public synchronized long getContributionTime()
+        {
+            return contributionTime;
+        }
+
+        @Override
+        public synchronized long getProxyCreationTime()
+        {
+            return proxyCreationTime;
+        }
+
+        @Override
+        public synchronized long getEagerLoadTime()
+        {
+            return eagerLoadTime;
+        }
+
+        @Override
+        public synchronized String getRealizedWithin()
+        {
+            return realizedWithin;
+        }
+
+        @Override
+        public synchronized Set<String> getDependencies()
+        {
+            return Collections.unmodifiableSet(new TreeSet<String>(dependencies));
+        }
+
+        synchronized List<Timing> getNested()
+        {
+            return new ArrayList<Timing>(nested);
+        }
+
+        synchronized void addDependency(String dependencyId)
+        {
+            if (!dependencyId.equalsIgnoreCase(serviceId))
+                dependencies.add(dependencyId);
+        }
+
+        synchronized void addNested(Timing timing)
+        {
+            nested.add(timing);
+        }
+
+        synchronized void realized(String within, long elapsed, long nestedTime, boolean eagerLoad)
+        {
+            this.realizedWithin = within;
+            this.realizationTime += elapsed;
+            this.selfRealizationTime += elapsed - nestedTime;
+            this.eagerLoad |= eagerLoad;
+        }
+
+        synchronized void addContributionTime(long elapsed)
+        {
+            contributionTime += elapsed;
+        }
+
+        synchronized void addProxyCreationTime(long elapsed)
+        {
+            proxyCreationTime += elapsed;
+        }
+
+        synchronized void addEagerLoadTime(long elapsed)
+        {
+            eagerLoad = true;
+            eagerLoadTime += elapsed;
+        }
+    }
+
+    private static final Comparator<ServiceStartupTiming> BY_DESCENDING_REALIZATION_TIME = new Comparator<ServiceStartupTiming>()
+    {
+        @Override
+        public int compare(ServiceStartupTiming o1, ServiceStartupTiming o2)
+        {
+            int result = Long.compare(o2.getRealizationTime(), o1.getRealizationTime());
+
+            return result != 0 ? result : o1.getServiceId().compareToIgnoreCase(o2.getServiceId());
+        }
+    };
+
+    public StartupProfilerImpl(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Returns the current time, in nanoseconds, to be passed to one of the record methods; returns 0 when profiling
+     * is disabled.
+     */
+    public long start()
+    {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Wraps the creator that realizes a service so that the realization is timed and any services obtained during
+     * the realization are recorded as dependencies. Returns the creator unchanged when profiling is disabled.
+     */
+    public <T> ObjectCreator<T> profileRealization(final String serviceId, final boolean eagerLoad,
+                                                   final ObjectCreator<T> creator)
+    {
+        if (!enabled)
+            return creator;
+
+        return new ObjectCreator<T>()
+        {
+            @Override
+            public T createObject()
+            {
+                Deque<Frame> stack = realizations.get();
+
+                Frame outer = stack.peekLast();
+
+                Timing timing = get(serviceId);
+                Frame frame = new Frame(timing);
+
+                if (outer != null)
+                {
+                    outer.timing.addDependency(serviceId);
+                    outer.timing.addNested(timing);
+                }
+
+                stack.addLast(frame);
+
+                long startNanos = System.nanoTime();
+
+                try
+                {
+                    return creator.createObject();
+                } finally
+                {
+                    long elapsed = System.nanoTime() - startNanos;
+
+                    stack.removeLast();
+
+                    if (outer != null)
+                        outer.nestedTime += elapsed;
+
+                    timing.realized(outer == null ? null : outer.timing.serviceId, elapsed, frame.nestedTime, eagerLoad);
+                }
+            }
+
+            @Override
+            public String toString()
+            {
+                return creator.toString();
+            }
+        };
+    }
+
+    /**
+     * Records that the service has been obtained; if another service is being realized by the current thread,
+     * this becomes one of its dependencies.
+     */
+    public void recordDependency(String serviceId)
+    {
+        if (!enabled)
+            return;
+
+        Frame frame = realizations.get().peekLast();
+
+        if (frame != null)
+            frame.timing.addDependency(serviceId);
+    }
+
+    public void recordContribution(String serviceId, long startNanos)
+    {
+        if (enabled)
+            get(serviceId).addContributionTime(System.nanoTime() - startNanos);
+    }
+
+    public void recordProxyCreation(String serviceId, long startNanos)
+    {
+        if (enabled)
+            get(serviceId).addProxyCreationTime(System.nanoTime() - startNanos);
+    }
+
+    public void recordEagerLoad(String serviceId, long startNanos)
+    {
+        if (enabled)
+            get(serviceId).addEagerLoadTime(System.nanoTime() - startNanos);
+    }
+
+    public void recordPhase(String phase, long startNanos)
+    {
+        if (enabled)
+            phases.put(phase, System.nanoTime() - startNanos);
+    }
+
+    private Timing get(String serviceId)
+    {
+        Timing timing = timings.get(serviceId);
+
+        if (timing == null)
+        {
+            Timing newTiming = new Timing(serviceId);
+
+            timing = timings.putIfAbsent(serviceId, newTiming);
+
+            if (timing == null)
+                timing = newTiming;
+        }
+
+        return timing;
+    }
+
+    @Override
+    public List<ServiceStartupTiming> getServiceTimings()
+    {
+        List<ServiceStartupTiming> result = new ArrayList<ServiceStartupTiming>(timings.values());
+
+        Collections.sort(result, BY_DESCENDING_REALIZATION_TIME);
+
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getPhaseTimings()
+    {
+        synchronized (phases)
+        {
+            return Collections.unmodifiableMap(new LinkedHashMap<String, Long>(phases));
+        }
+    }
+
+    @Override
+    public List<String> getCriticalPath()
+    {
+        List<String> result = CollectionFactory.newList();
+
+        Timing current = null;
+
+        for (Timing timing : timings.values())
+        {
+            if (timing.getRealizedWithin() == null && (current == null || timing.getRealizationTime() > current.getRealizationTime()))
+                current = timing;
+        }
+
+        while (current != null && current.getRealizationTime() > 0)
+        {
+            result.add(current.serviceId);
+
+            Timing next = null;
+
+            for (Timing nested : current.getNested())
+            {
+                if (next == null || nested.getRealizationTime() > next.getRealizationTime())
+                    next = nested;
+            }
+
+            current = next;
+        }
+
+        return result;
+    }
+
+    @Override
+    public String getReport()
+    {
+        if (!enabled)
+            return "Startup profiling is not enabled.";
+
+        StringBuilder builder = new StringBuilder("Registry startup profile (times in milliseconds):\n");
+
+        builder.append("\nPhases:\n");
+
+        for (Map.Entry<String, Long> entry : getPhaseTimings().entrySet())
+        {
+            builder.append(String.format("  %-40s %10.2f%n", entry.getKey(), millis(entry.getValue())));
+        }
+
+        List<ServiceStartupTiming> serviceTimings = getServiceTimings();
+
+        List<ServiceStartupTiming> eagerLoaded = CollectionFactory.newList();
+
+        for (ServiceStartupTiming timing : serviceTimings)
+        {
+            if (timing.getEagerLoadTime() > 0)
+                eagerLoaded.add(timing);
+        }
+
+        Collections.sort(eagerLoaded, new Comparator<ServiceStartupTiming>()
+        {
+            @Override
+            public int compare(ServiceStartupTiming o1, ServiceStartupTiming o2)
+            {
+                return Long.compare(o2.getEagerLoadTime(), o1.getEagerLoadTime());
+            }
+        });
+
+        builder.append("\nEager loaded services:\n");
+
+        for (ServiceStartupTiming timing : eagerLoaded)
+        {
+            builder.append(String.format("  %-40s %10.2f%n", timing.getServiceId(), millis(timing.getEagerLoadTime())));
+        }
+
+        builder.append(String.format("%nServices:%n  %-40s %10s %10s %10s %10s%n", "Service id", "Realize", "Self",
+                "Contribute", "Proxy"));
+
+        for (ServiceStartupTiming timing : serviceTimings)
+        {
+            builder.append(String.format("  %-40s %10.2f %10.2f %10.2f %10.2f%s%n", timing.getServiceId(),
+                    millis(timing.getRealizationTime()),
+                    millis(timing.getSelfRealizationTime()),
+                    millis(timing.getContributionTime()),
+                    millis(timing.getProxyCreationTime()),
+                    timing.isEagerLoad() ? " (eager)" : ""));
+        }
+
+        builder.append("\nCritical path:\n");
+
+        for (String serviceId : getCriticalPath())
+        {
+            Timing timing = timings.get(serviceId);
+
+            builder.append(String.format("  %-40s %10.2f%n", serviceId, millis(timing.getRealizationTime())));
+        }
+
+        builder.append("\nDependencies:\n");
+
+        for (ServiceStartupTiming timing : serviceTimings)
+        {
+            Set<String> dependencies = timing.getDependencies();
+
+            if (!dependencies.isEmpty())
+            {
+                builder.append("  ").append(timing.getServiceId()).append(" -> ");
+                builder.append(String.join(", ", dependencies)).append('\n');
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static double millis(long nanos)
+    {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
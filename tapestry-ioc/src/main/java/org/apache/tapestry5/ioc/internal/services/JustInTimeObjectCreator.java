@@ -89,6 +89,12 @@ public class JustInTimeObjectCreator<T> implements ObjectCreator<T>, EagerLoadSe
         createObject();
     }
 
+    @Override
+    public String getServiceId()
+    {
+        return serviceId;
+    }
+
     /**
      * Invoked when the Registry is shutdown; deletes the instantiated object (if it exists) and replaces
      * the ObjectCreator with one that throws an IllegalStateException.
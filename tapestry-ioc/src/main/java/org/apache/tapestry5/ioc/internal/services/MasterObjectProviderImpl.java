@@ -17,12 +17,14 @@ package org.apache.tapestry5.ioc.internal.services;
 import org.apache.tapestry5.commons.*;
 import org.apache.tapestry5.commons.util.CollectionFactory;
 import org.apache.tapestry5.ioc.Invokable;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.ioc.annotations.PreventServiceDecoration;
 import org.apache.tapestry5.ioc.services.MasterObjectProvider;
 import org.apache.tapestry5.plastic.PlasticUtils;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 @PreventServiceDecoration
 public class MasterObjectProviderImpl implements MasterObjectProvider
@@ -45,8 +47,8 @@ public class MasterObjectProviderImpl implements MasterObjectProvider
                          final ObjectLocator locator,
                          final boolean required)
     {
-        return tracker.invoke(String.format("Resolving object of type %s using MasterObjectProvider",
-                PlasticUtils.toTypeName(objectType)), new Invokable<T>()
+        return tracker.invoke(OperationDescription.format("Resolving object of type %s using MasterObjectProvider",
+                (Supplier<String>) () -> PlasticUtils.toTypeName(objectType)), new Invokable<T>()
         {
             @Override
             public T invoke()
@@ -15,6 +15,7 @@
 package org.apache.tapestry5.ioc.internal.services;
 
 import org.apache.tapestry5.ioc.MethodAdviceReceiver;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.ioc.annotations.Operation;
 import org.apache.tapestry5.ioc.annotations.PreventServiceDecoration;
@@ -75,11 +76,11 @@ public class OperationAdvisorImpl implements OperationAdvisor
         @Override
         public void advise(MethodInvocation invocation)
         {
-            Object[] parameters = extractParameters(invocation);
+            final Object[] parameters = extractParameters(invocation);
 
-            String description = String.format(format, parameters);
+            // The description is only formatted if it is needed.
 
-            tracker.run(description, toRunnable(invocation));
+            tracker.run(OperationDescription.format(format, parameters), toRunnable(invocation));
         }
 
         private Object[] extractParameters(MethodInvocation invocation)
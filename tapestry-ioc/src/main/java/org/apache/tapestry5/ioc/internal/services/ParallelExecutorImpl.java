@@ -21,6 +21,7 @@ import java.util.concurrent.Future;
 import org.apache.tapestry5.commons.ObjectCreator;
 import org.apache.tapestry5.ioc.Invokable;
 import org.apache.tapestry5.ioc.services.ParallelExecutor;
+import org.apache.tapestry5.ioc.services.PerthreadContext;
 import org.apache.tapestry5.ioc.services.PerthreadManager;
 import org.apache.tapestry5.ioc.services.ThunkCreator;
 
@@ -32,12 +33,27 @@ public class ParallelExecutorImpl implements ParallelExecutor
 
     private final PerthreadManager perthreadManager;
 
+    private final boolean propagatePerthread;
+
     public ParallelExecutorImpl(ExecutorService executorService, ThunkCreator thunkCreator,
             PerthreadManager perthreadManager)
+    {
+        this(executorService, thunkCreator, perthreadManager, false);
+    }
+
+    /**
+     * @param propagatePerthread
+     *         if true, each task executes with a {@linkplain PerthreadManager#copyContext() copy} of the shareable
+     *         per-thread values of the thread that submitted it; otherwise, tasks start with no per-thread values
+     * @since 5.8.0
+     */
+    public ParallelExecutorImpl(ExecutorService executorService, ThunkCreator thunkCreator,
+            PerthreadManager perthreadManager, boolean propagatePerthread)
     {
         this.executorService = executorService;
         this.thunkCreator = thunkCreator;
         this.perthreadManager = perthreadManager;
+        this.propagatePerthread = propagatePerthread;
     }
 
     @Override
@@ -50,23 +66,42 @@ public class ParallelExecutorImpl implements ParallelExecutor
 
     private <T> Callable<T> toCallable(final Invokable<T> invocable)
     {
+        final PerthreadContext context = propagatePerthread ? perthreadManager.copyContext() : null;
+
         return new Callable<T>()
         {
             @Override
             public T call() throws Exception
             {
-                try
+                if (context == null)
                 {
-                    return invocable.invoke();
+                    return invokeAndCleanup(invocable);
                 }
-                finally
+
+                return perthreadManager.invokeWithContext(context, new Invokable<T>()
                 {
-                    perthreadManager.cleanup();
-                }
+                    @Override
+                    public T invoke()
+                    {
+                        return invokeAndCleanup(invocable);
+                    }
+                });
             }
         };
     }
 
+    private <T> T invokeAndCleanup(Invokable<T> invocable)
+    {
+        try
+        {
+            return invocable.invoke();
+        }
+        finally
+        {
+            perthreadManager.cleanup();
+        }
+    }
+
     @Override
     public <T> T invoke(Class<T> proxyType, Invokable<T> invocable)
     {
@@ -12,15 +12,21 @@
 
 package org.apache.tapestry5.ioc.internal.services;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.tapestry5.commons.ObjectCreator;
 import org.apache.tapestry5.commons.util.CollectionFactory;
 import org.apache.tapestry5.ioc.Invokable;
+import org.apache.tapestry5.ioc.annotations.ThreadSafe;
 import org.apache.tapestry5.ioc.services.PerThreadValue;
+import org.apache.tapestry5.ioc.services.PerthreadContext;
 import org.apache.tapestry5.ioc.services.PerthreadManager;
 import org.apache.tapestry5.ioc.services.RegistryShutdownHub;
 import org.apache.tapestry5.ioc.services.ThreadCleanupListener;
@@ -29,22 +35,155 @@ import org.slf4j.Logger;
 @SuppressWarnings("all")
 public class PerthreadManagerImpl implements PerthreadManager
 {
-    private final PerThreadValue<List<Runnable>> callbacksValue;
+    private final DefaultPerThreadValue<List<Runnable>> callbacksValue;
 
-    private static class MapHolder extends ThreadLocal<Map>
+    /**
+     * The per-thread values. Each value created by the manager is assigned a slot index when it is created, so
+     * reading or updating a value is an array access, rather than a map lookup. Slots are grouped into pages which
+     * are allocated as needed, so a thread only pays (in memory) for the pages it actually uses.
+     */
+    static final class Context implements PerthreadContext
+    {
+        private static final int PAGE_SHIFT = 5;
+
+        private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+        private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+        private Object[][] pages;
+
+        /**
+         * One past the highest page index that may contain values.
+         */
+        private int pageLimit;
+
+        Context(int slotCount)
+        {
+            pages = new Object[(slotCount >>> PAGE_SHIFT) + 1][];
+        }
+
+        Object get(int slot)
+        {
+            int page = slot >>> PAGE_SHIFT;
+
+            Object[][] pages = this.pages;
+
+            if (page >= pages.length)
+            {
+                return null;
+            }
+
+            Object[] values = pages[page];
+
+            return values == null ? null : values[slot & PAGE_MASK];
+        }
+
+        void put(int slot, Object value)
+        {
+            int page = slot >>> PAGE_SHIFT;
+
+            if (page >= pages.length)
+            {
+                pages = Arrays.copyOf(pages, Math.max(page + 1, pages.length * 2));
+            }
+
+            Object[] values = pages[page];
+
+            if (values == null)
+            {
+                values = new Object[PAGE_SIZE];
+                pages[page] = values;
+            }
+
+            values[slot & PAGE_MASK] = value;
+
+            if (page >= pageLimit)
+            {
+                pageLimit = page + 1;
+            }
+        }
+
+        /**
+         * Returns a new, unshared, context containing the values of this one that may be shared between threads.
+         */
+        Context copy(Set<Integer> excludedSlots)
+        {
+            Context result = new Context(0);
+
+            result.pages = new Object[pages.length][];
+            result.pageLimit = pageLimit;
+
+            for (int i = 0; i < pageLimit; i++)
+            {
+                Object[] values = pages[i];
+
+                if (values == null)
+                {
+                    continue;
+                }
+
+                Object[] copied = null;
+
+                for (int j = 0; j < PAGE_SIZE; j++)
+                {
+                    Object value = values[j];
+
+                    if (value != null && isShareable(value) && !excludedSlots.contains((i << PAGE_SHIFT) + j))
+                    {
+                        if (copied == null)
+                        {
+                            copied = new Object[PAGE_SIZE];
+                        }
+
+                        copied[j] = value;
+                    }
+                }
+
+                result.pages[i] = copied;
+            }
+
+            return result;
+        }
+    }
+
+    private static final Set<Class> IMMUTABLE_TYPES = CollectionFactory.newSet(String.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, Locale.class, Class.class);
+
+    private static final ClassValue<Boolean> SHAREABLE = new ClassValue<Boolean>()
+    {
+        @Override
+        protected Boolean computeValue(Class<?> type)
+        {
+            return IMMUTABLE_TYPES.contains(type) || type.isAnnotationPresent(ThreadSafe.class);
+        }
+    };
+
+    private static boolean isShareable(Object value)
+    {
+        return value == NULL_VALUE || value instanceof Enum || SHAREABLE.get(value.getClass());
+    }
+
+    private final class ContextHolder extends ThreadLocal<Context>
     {
         @Override
-        protected Map initialValue()
+        protected Context initialValue()
         {
-            return CollectionFactory.newMap();
+            return newContext();
         }
     }
 
     private final Logger logger;
 
-    private final MapHolder holder = new MapHolder();
+    private final ContextHolder holder = new ContextHolder();
+
+    private final AtomicInteger slotGenerator = new AtomicInteger();
 
-    private final AtomicInteger uuidGenerator = new AtomicInteger();
+    /**
+     * Slots that are never copied: the cleanup callbacks, and the values created by {@link ObjectCreator}s (that is,
+     * the targets of perthread services).
+     */
+    private final Set<Integer> unshareableSlots = ConcurrentHashMap.newKeySet();
 
     private volatile boolean shutdown = false;
 
@@ -52,7 +191,9 @@ public class PerthreadManagerImpl implements PerthreadManager
     {
         this.logger = logger;
 
-        callbacksValue = createValue();
+        callbacksValue = new DefaultPerThreadValue<List<Runnable>>(slotGenerator.getAndIncrement());
+
+        unshareableSlots.add(callbacksValue.slot);
     }
 
     public void registerForShutdown(RegistryShutdownHub hub)
@@ -68,14 +209,19 @@ public class PerthreadManagerImpl implements PerthreadManager
         });
     }
 
-    private Map getPerthreadMap()
+    private Context newContext()
+    {
+        return new Context(slotGenerator.get());
+    }
+
+    private Context getPerthreadContext()
     {
         // This is a degenerate case; it may not even exist; but if during registry shutdown somehow code executes
-        // that attempts to create new values or add new listeners, those go into a new map instance that is
+        // that attempts to create new values or add new listeners, those go into a new context instance that is
         // not referenced (and so immediately GCed).
         if (shutdown)
         {
-            return CollectionFactory.newMap();
+            return newContext();
         }
 
         return holder.get();
@@ -142,7 +288,7 @@ public class PerthreadManagerImpl implements PerthreadManager
         // Listeners should not re-add themselves or store any per-thread state
         // here, it will be lost.
 
-        // Discard the per-thread map of values, including the key that stores
+        // Discard the per-thread values, including the slot that stores
         // the listeners. This means that if a listener attempts to register
         // new listeners, the new listeners will not be triggered and will be
         // released to the GC.
@@ -152,25 +298,19 @@ public class PerthreadManagerImpl implements PerthreadManager
 
     private static Object NULL_VALUE = new Object();
 
-    <T> ObjectCreator<T> createValue(final Object key, final ObjectCreator<T> delegate)
-    {
-        return new DefaultObjectCreator<T>(key, delegate);
-    }
-
     public <T> ObjectCreator<T> createValue(ObjectCreator<T> delegate)
     {
-        return createValue(uuidGenerator.getAndIncrement(), delegate);
-    }
+        int slot = slotGenerator.getAndIncrement();
 
-    <T> PerThreadValue<T> createValue(final Object key)
-    {
-        return new DefaultPerThreadValue(key);
+        unshareableSlots.add(slot);
+
+        return new DefaultObjectCreator<T>(slot, delegate);
     }
 
     @Override
     public <T> PerThreadValue<T> createValue()
     {
-        return createValue(uuidGenerator.getAndIncrement());
+        return new DefaultPerThreadValue(slotGenerator.getAndIncrement());
     }
 
     @Override
@@ -199,13 +339,49 @@ public class PerthreadManagerImpl implements PerthreadManager
         }
     }
 
+    @Override
+    public PerthreadContext getContext()
+    {
+        return getPerthreadContext();
+    }
+
+    @Override
+    public PerthreadContext copyContext()
+    {
+        return getPerthreadContext().copy(unshareableSlots);
+    }
+
+    @Override
+    public <T> T invokeWithContext(PerthreadContext context, Invokable<T> invokable)
+    {
+        assert context != null;
+        assert invokable != null;
+
+        if (!(context instanceof Context))
+        {
+            throw new IllegalArgumentException(String.format("Context %s was not obtained from the PerthreadManager.", context));
+        }
+
+        Context previous = holder.get();
+
+        holder.set((Context) context);
+
+        try
+        {
+            return invokable.invoke();
+        } finally
+        {
+            holder.set(previous);
+        }
+    }
+
     private final class DefaultPerThreadValue<T> implements PerThreadValue<T>
     {
-        private final Object key;
+        private final int slot;
 
-        DefaultPerThreadValue(final Object key)
+        DefaultPerThreadValue(final int slot)
         {
-            this.key = key;
+            this.slot = slot;
 
         }
         @Override
@@ -217,9 +393,7 @@ public class PerthreadManagerImpl implements PerthreadManager
         @Override
         public T get(T defaultValue)
         {
-            Map map = getPerthreadMap();
-
-            Object storedValue = map.get(key);
+            Object storedValue = getPerthreadContext().get(slot);
 
             if (storedValue == null)
             {
@@ -237,7 +411,7 @@ public class PerthreadManagerImpl implements PerthreadManager
         @Override
         public T set(T newValue)
         {
-            getPerthreadMap().put(key, newValue == null ? NULL_VALUE : newValue);
+            getPerthreadContext().put(slot, newValue == null ? NULL_VALUE : newValue);
 
             return newValue;
         }
@@ -245,26 +419,26 @@ public class PerthreadManagerImpl implements PerthreadManager
         @Override
         public boolean exists()
         {
-            return getPerthreadMap().containsKey(key);
+            return getPerthreadContext().get(slot) != null;
         }
     }
 
     private final class DefaultObjectCreator<T> implements ObjectCreator<T>
     {
 
-        private final Object key;
+        private final int slot;
         private final ObjectCreator<T> delegate;
 
-        DefaultObjectCreator(final Object key, final ObjectCreator<T> delegate)
+        DefaultObjectCreator(final int slot, final ObjectCreator<T> delegate)
         {
-            this.key = key;
+            this.slot = slot;
             this.delegate = delegate;
         }
 
         public T createObject()
         {
-            Map map = getPerthreadMap();
-            T storedValue = (T) map.get(key);
+            Context context = getPerthreadContext();
+            T storedValue = (T) context.get(slot);
 
             if (storedValue != null)
             {
@@ -273,7 +447,7 @@ public class PerthreadManagerImpl implements PerthreadManager
 
             T newValue = delegate.createObject();
 
-            map.put(key, newValue == null ? NULL_VALUE : newValue);
+            context.put(slot, newValue == null ? NULL_VALUE : newValue);
 
             return newValue;
         }
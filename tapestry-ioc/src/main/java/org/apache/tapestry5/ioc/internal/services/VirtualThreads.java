@@ -0,0 +1,120 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.ioc.internal.services;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates virtual threads, when running on a JDK that supports them. Tapestry is compiled for older JDKs, so the
+ * virtual thread APIs are accessed reflectively.
+ *
+ * @since 5.8.0
+ */
+public final class VirtualThreads
+{
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+
+    private VirtualThreads()
+    {
+    }
+
+    private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes)
+    {
+        try
+        {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException ex)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if the JDK supports virtual threads.
+     */
+    public static boolean isSupported()
+    {
+        return createFactory("Tapestry virtual thread probe") != null;
+    }
+
+    /**
+     * Returns an executor service that starts a new virtual thread for each task, or null if virtual threads are not
+     * supported. Threads are named with the prefix, followed by a number.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix)
+    {
+        ThreadFactory factory = createFactory(namePrefix);
+
+        if (factory == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (Exception ex)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a new, unstarted, virtual thread, or null if virtual threads are not supported.
+     */
+    public static Thread newThread(String name, Runnable runnable)
+    {
+        ThreadFactory factory = createFactory(name);
+
+        if (factory == null)
+        {
+            return null;
+        }
+
+        Thread thread = factory.newThread(runnable);
+
+        thread.setName(name);
+
+        return thread;
+    }
+
+    private static ThreadFactory createFactory(String namePrefix)
+    {
+        if (OF_VIRTUAL == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            Object builder = OF_VIRTUAL.invoke(null);
+
+            Class<?> builderType = OF_VIRTUAL.getReturnType();
+
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (Exception ex)
+        {
+            // Typically, virtual threads are a preview feature of the JDK, and preview features are not enabled.
+
+            return null;
+        }
+    }
+}
@@ -13,8 +13,12 @@
 package org.apache.tapestry5.ioc.internal.services.cron;
 
 import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.apache.tapestry5.ioc.IOCSymbols;
 import org.apache.tapestry5.ioc.Invokable;
+import org.apache.tapestry5.ioc.annotations.Inject;
 import org.apache.tapestry5.ioc.annotations.PostInjection;
+import org.apache.tapestry5.ioc.annotations.Symbol;
+import org.apache.tapestry5.ioc.internal.services.VirtualThreads;
 import org.apache.tapestry5.ioc.services.ParallelExecutor;
 import org.apache.tapestry5.ioc.services.RegistryShutdownHub;
 import org.apache.tapestry5.ioc.services.cron.PeriodicExecutor;
@@ -39,10 +43,12 @@ public class PeriodicExecutorImpl implements PeriodicExecutor, Runnable
     // Synchronized by jobLock
     private final List<Job> jobs = CollectionFactory.newList();
 
-    private final Thread thread = new Thread(this, "Tapestry PeriodicExecutor");
+    private final Thread thread;
 
     private transient boolean shutdown;
 
+    private static final String THREAD_NAME = "Tapestry PeriodicExecutor";
+
     private static final long FIVE_MINUTES = 5 * 60 * 1000;
 
     private final AtomicInteger jobIdAllocator = new AtomicInteger();
@@ -236,9 +242,27 @@ public class PeriodicExecutorImpl implements PeriodicExecutor, Runnable
     }
 
     public PeriodicExecutorImpl(ParallelExecutor parallelExecutor, Logger logger)
+    {
+        this(parallelExecutor, logger, false);
+    }
+
+    /**
+     * @param virtualThreads
+     *         if true, and the JDK supports virtual threads, jobs are scheduled by a virtual thread, rather than a
+     *         platform thread
+     * @since 5.8.0
+     */
+    @Inject
+    public PeriodicExecutorImpl(ParallelExecutor parallelExecutor, Logger logger,
+                                @Symbol(IOCSymbols.THREAD_POOL_VIRTUAL_THREADS)
+                                boolean virtualThreads)
     {
         this.parallelExecutor = parallelExecutor;
         this.logger = logger;
+
+        Thread virtualThread = virtualThreads ? VirtualThreads.newThread(THREAD_NAME, this) : null;
+
+        thread = virtualThread != null ? virtualThread : new Thread(this, THREAD_NAME);
     }
 
     @PostInjection
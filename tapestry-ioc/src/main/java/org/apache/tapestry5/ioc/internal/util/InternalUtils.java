@@ -30,6 +30,7 @@ import org.apache.tapestry5.ioc.AdvisorDef2;
 import org.apache.tapestry5.ioc.IOCConstants;
 import org.apache.tapestry5.ioc.Invokable;
 import org.apache.tapestry5.ioc.ModuleBuilderSource;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.ioc.ServiceAdvisor;
 import org.apache.tapestry5.ioc.ServiceBuilderResources;
@@ -262,7 +263,7 @@ public class InternalUtils
             final Type genericType = genericTypes[i];
             final Annotation[] annotations = parameterAnnotations[i];
 
-            String description = String.format("Determining injection value for parameter #%d (%s)", i + 1,
+            OperationDescription description = OperationDescription.format("Determining injection value for parameter #%d (%s)", i + 1,
                     PlasticUtils.toTypeName(type));
 
             final Invokable<ObjectCreator> operation = new Invokable<ObjectCreator>()
@@ -320,7 +321,7 @@ public class InternalUtils
                     }
                 };
 
-                String description = String.format("Calculating possible injection value for field %s.%s (%s)",
+                OperationDescription description = OperationDescription.format("Calculating possible injection value for field %s.%s (%s)",
                         clazz.getName(), f.getName(),
                         PlasticUtils.toTypeName(f.getType()));
 
@@ -561,6 +562,44 @@ public class InternalUtils
         return InternalCommonsUtils.lastTerm(input);
     }
 
+    /**
+     * Determines the types that will be injected when autobuilding an instance of a class: the parameter types of the
+     * constructor, plus the types of any fields annotated with {@link Inject}, {@link InjectService} or
+     * {@link javax.inject.Inject}.
+     *
+     * @param constructor
+     *         the constructor that will be used to instantiate the class
+     * @return the injected types
+     * @since 5.8.0
+     */
+    public static Class[] findInjectedTypes(Constructor constructor)
+    {
+        List<Class> result = CollectionFactory.newList(constructor.getParameterTypes());
+
+        Class clazz = constructor.getDeclaringClass();
+
+        while (clazz != Object.class)
+        {
+            for (Field f : clazz.getDeclaredFields())
+            {
+                int fieldModifiers = f.getModifiers();
+
+                if (Modifier.isStatic(fieldModifiers) || Modifier.isFinal(fieldModifiers))
+                    continue;
+
+                if (f.isAnnotationPresent(Inject.class) || f.isAnnotationPresent(InjectService.class)
+                        || f.isAnnotationPresent(javax.inject.Inject.class))
+                {
+                    result.add(f.getType());
+                }
+            }
+
+            clazz = clazz.getSuperclass();
+        }
+
+        return result.toArray(new Class[result.size()]);
+    }
+
     /**
      * Searches a class for the "best" constructor, the public constructor with the most parameters. Returns null if
      * there are no public constructors. If there is more than one constructor with the maximum number of parameters, it
@@ -1375,7 +1414,7 @@ public class InternalUtils
                                                                          final String description,
                                                                          final Constructor<T> constructor)
     {
-        return tracker.invoke(String.format("Creating plan to instantiate %s via %s",
+        return tracker.invoke(OperationDescription.format("Creating plan to instantiate %s via %s",
                 constructor.getDeclaringClass().getName(),
                 constructor), new Invokable<ObjectCreator<T>>()
         {
@@ -1427,7 +1466,7 @@ public class InternalUtils
                     }
                 };
 
-                String description = String.format("Calculating possible injection value for field %s.%s (%s)",
+                OperationDescription description = OperationDescription.format("Calculating possible injection value for field %s.%s (%s)",
                         clazz.getName(), f.getName(),
                         PlasticUtils.toTypeName(f.getType()));
 
@@ -1523,7 +1562,7 @@ public class InternalUtils
 
     private static void extendPlanForPostInjectionMethod(final ConstructionPlan<?> plan, final OperationTracker tracker, final ObjectLocator locator, final InjectionResources resources, final Method method)
     {
-        tracker.run("Computing parameters for post-injection method " + method,
+        tracker.run(OperationDescription.format("Computing parameters for post-injection method %s", method),
                 new Runnable()
                 {
                     @Override
@@ -1578,7 +1617,7 @@ public class InternalUtils
                                                                   final Method method)
     {
 
-        return tracker.invoke("Creating plan to invoke " + method, new Invokable<ObjectCreator<T>>()
+        return tracker.invoke(OperationDescription.format("Creating plan to invoke %s", method), new Invokable<ObjectCreator<T>>()
         {
             @Override
             public ObjectCreator<T> invoke()
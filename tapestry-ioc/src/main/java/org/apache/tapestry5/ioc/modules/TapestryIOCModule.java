@@ -59,6 +59,7 @@ import org.apache.tapestry5.ioc.internal.services.ThreadLocaleImpl;
 import org.apache.tapestry5.ioc.internal.services.ThunkCreatorImpl;
 import org.apache.tapestry5.ioc.internal.services.UpdateListenerHubImpl;
 import org.apache.tapestry5.ioc.internal.services.ValueObjectProvider;
+import org.apache.tapestry5.ioc.internal.services.VirtualThreads;
 import org.apache.tapestry5.ioc.internal.services.cron.PeriodicExecutorImpl;
 import org.apache.tapestry5.ioc.internal.util.InternalUtils;
 import org.apache.tapestry5.ioc.services.ApplicationDefaults;
@@ -92,6 +93,7 @@ import org.apache.tapestry5.ioc.services.ThreadLocale;
 import org.apache.tapestry5.ioc.services.ThunkCreator;
 import org.apache.tapestry5.ioc.services.UpdateListenerHub;
 import org.apache.tapestry5.ioc.services.cron.PeriodicExecutor;
+import org.slf4j.Logger;
 
 import java.io.File;
 import java.lang.reflect.Array;
@@ -99,6 +101,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -354,6 +357,14 @@ public final class TapestryIOCModule
                                                           @Symbol(IOCSymbols.THREAD_POOL_QUEUE_SIZE)
                                                           int queueSize,
 
+                                                          @Symbol(IOCSymbols.THREAD_POOL_VIRTUAL_THREADS)
+                                                          boolean virtualThreads,
+
+                                                          @Symbol(IOCSymbols.THREAD_POOL_PROPAGATE_PERTHREAD)
+                                                          boolean propagatePerthread,
+
+                                                          Logger logger,
+
                                                           PerthreadManager perthreadManager,
 
                                                           RegistryShutdownHub shutdownHub,
@@ -364,10 +375,20 @@ public final class TapestryIOCModule
         if (!threadPoolEnabled)
             return new NonParallelExecutor();
 
-        LinkedBlockingQueue<Runnable> workQueue = new LinkedBlockingQueue<Runnable>(queueSize);
+        ExecutorService virtualThreadExecutor = null;
+
+        if (virtualThreads)
+        {
+            virtualThreadExecutor = VirtualThreads.newThreadPerTaskExecutor("Tapestry ParallelExecutor-");
+
+            if (virtualThreadExecutor == null)
+                logger.warn("Virtual threads are not supported by this JDK; the ParallelExecutor will use a thread pool.");
+        }
 
-        final ThreadPoolExecutor executorService = new ThreadPoolExecutor(coreSize, maxSize, keepAliveMillis,
-                TimeUnit.MILLISECONDS, workQueue);
+        final ExecutorService executorService = virtualThreadExecutor != null
+                ? virtualThreadExecutor
+                : new ThreadPoolExecutor(coreSize, maxSize, keepAliveMillis, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(queueSize));
 
         shutdownHub.addRegistryShutdownListener(new Runnable()
         {
@@ -378,7 +399,7 @@ public final class TapestryIOCModule
             }
         });
 
-        return new ParallelExecutorImpl(executorService, thunkCreator, perthreadManager);
+        return new ParallelExecutorImpl(executorService, thunkCreator, perthreadManager, propagatePerthread);
     }
 
     @Contribute(SymbolProvider.class)
@@ -390,13 +411,25 @@ public final class TapestryIOCModule
         configuration.add(IOCSymbols.THREAD_POOL_KEEP_ALIVE, "1 m");
         configuration.add(IOCSymbols.THREAD_POOL_ENABLED, true);
         configuration.add(IOCSymbols.THREAD_POOL_QUEUE_SIZE, 100);
+        configuration.add(IOCSymbols.THREAD_POOL_VIRTUAL_THREADS, false);
+        configuration.add(IOCSymbols.THREAD_POOL_PROPAGATE_PERTHREAD, false);
+        configuration.add(IOCSymbols.PARALLEL_STARTUP_ENABLED, false);
+        configuration.add(IOCSymbols.TYPE_COERCER_PRECOMPUTE, false);
     }
     
     public static void contributeRegistryStartup(OrderedConfiguration<Runnable> configuration, 
-            PeriodicExecutor periodicExecutor)
+            PeriodicExecutor periodicExecutor,
+            final TypeCoercer typeCoercer,
+            @Symbol(IOCSymbols.TYPE_COERCER_PRECOMPUTE)
+            boolean precomputeCoercions)
     {
         configuration.add(PeriodicExecutor.class.getSimpleName(), 
                 () ->  periodicExecutor.init());
+
+        if (precomputeCoercions)
+        {
+            configuration.add("PrecomputeCoercions", () -> typeCoercer.precomputeCoercions());
+        }
     }
     
 }
@@ -0,0 +1,63 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.ioc.services;
+
+import org.apache.tapestry5.ioc.util.TimingHistogram;
+
+import java.util.Map;
+
+/**
+ * Exposes the durations of the operations executed via the {@link org.apache.tapestry5.ioc.OperationTracker},
+ * aggregated by kind of operation, so that the tracker doubles as a simple profiler. Timings are only collected
+ * when the {@link org.apache.tapestry5.ioc.IOCConstants#OPERATION_TIMINGS_ENABLED} JVM system property is "true".
+ * Operations that fail are not timed.
+ *
+ * Operations described by an {@link org.apache.tapestry5.ioc.OperationDescription} are aggregated by format, and
+ * reported under the format itself. Operations with some other lazy description are aggregated by the class of the
+ * Supplier (in effect, by call site), and reported under that call site: the method defining the Supplier or, for
+ * a lambda, the name of its class. Such descriptions are never obtained for timing. Other operations are aggregated
+ * by description.
+ *
+ * To keep memory bounded, only a limited number of kinds of operation are tracked; further operations are aggregated
+ * together under the description "(other operations)".
+ *
+ * @since 5.8.0
+ */
+public interface OperationTimings
+{
+    /**
+     * Returns true if operation timings are being collected.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the histogram of durations for each kind of operation, keyed on description and ordered from longest to
+     * shortest total time.
+     */
+    Map<String, TimingHistogram> getTimings();
+
+    /**
+     * Returns a readable report of the timings (in milliseconds) of the operations with the longest total time.
+     *
+     * @param limit
+     *         maximum number of operations to include in the report
+     */
+    String getReport(int limit);
+
+    /**
+     * Discards all collected timings.
+     */
+    void reset();
+}
@@ -0,0 +1,34 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.ioc.services;
+
+/**
+ * An opaque handle to the per-thread data of a thread, as managed by the {@link PerthreadManager}. A context is
+ * obtained from {@link PerthreadManager#getContext()} and can then be attached to another thread (such as a thread
+ * executing a {@link java.util.concurrent.Future} on behalf of a request) using
+ * {@link PerthreadManager#runWithContext(PerthreadContext, Runnable)} or
+ * {@link PerthreadManager#invokeWithContext(PerthreadContext, org.apache.tapestry5.ioc.Invokable)}, so that
+ * {@link PerThreadValue}s and perthread services see the same values in both threads.
+ *
+ * A context is not thread safe; it is handed off from thread to thread, and should not be used by two threads
+ * simultaneously. {@linkplain PerthreadManager#cleanup() Cleanup} remains the responsibility of the thread that
+ * created the context. A {@linkplain PerthreadManager#copyContext() copy} of a context holds only the values that
+ * may be shared between threads, and may be used while the original thread continues.
+ *
+ * @since 5.8.0
+ */
+public interface PerthreadContext
+{
+}
@@ -73,4 +73,80 @@ public interface PerthreadManager
      * Returns the result from the invocation, providing a try...finally to {@linkplain #cleanup() cleanup} after.
      */
     <T> T invoke(Invokable<T> invokable);
+
+    /**
+     * Returns the per-thread context of the current thread, so that it may be attached to some other thread.
+     *
+     * The default implementation, for managers that can not transfer their per-thread data, returns an empty context;
+     * attaching it to a thread leaves that thread's own values in place.
+     *
+     * @since 5.8.0
+     */
+    default PerthreadContext getContext()
+    {
+        return new PerthreadContext()
+        {
+        };
+    }
+
+    /**
+     * Returns a copy of the per-thread context of the current thread, for use by another thread while the current
+     * thread continues. The copy only contains the values, stored at the time of the copy, that may be shared between
+     * threads: immutable values (strings, numbers, booleans, characters, enums, locales and classes), and instances of
+     * classes marked {@link org.apache.tapestry5.ioc.annotations.ThreadSafe}. These value objects are shared, not
+     * cloned, by both contexts. Other values, the targets of perthread services, and the current thread's cleanup
+     * callbacks are left out; in the other thread, those start out unset. Storing a new value in either context is not
+     * visible in the other.
+     *
+     * The default implementation returns {@link #getContext()}.
+     *
+     * @since 5.8.0
+     */
+    default PerthreadContext copyContext()
+    {
+        return getContext();
+    }
+
+    /**
+     * Attaches the context to the current thread, invokes {@link Runnable#run()}, then restores the current thread's
+     * own context. No {@linkplain #cleanup() cleanup} occurs.
+     *
+     * The default implementation delegates to {@link #invokeWithContext(PerthreadContext, Invokable)}.
+     *
+     * @param context
+     *         obtained from {@link #getContext()} or {@link #copyContext()}, possibly in a different thread
+     * @since 5.8.0
+     */
+    default void runWithContext(PerthreadContext context, final Runnable runnable)
+    {
+        assert runnable != null;
+
+        invokeWithContext(context, new Invokable<Void>()
+        {
+            @Override
+            public Void invoke()
+            {
+                runnable.run();
+
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Attaches the context to the current thread, returns the result from the invocation, then restores the current
+     * thread's own context. No {@linkplain #cleanup() cleanup} occurs.
+     *
+     * The default implementation ignores the context, and simply returns the result from the invocation.
+     *
+     * @param context
+     *         obtained from {@link #getContext()} or {@link #copyContext()}, possibly in a different thread
+     * @since 5.8.0
+     */
+    default <T> T invokeWithContext(PerthreadContext context, Invokable<T> invokable)
+    {
+        assert invokable != null;
+
+        return invokable.invoke();
+    }
 }
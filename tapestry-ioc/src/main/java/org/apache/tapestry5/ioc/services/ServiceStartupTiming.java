@@ -0,0 +1,74 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.ioc.services;
+
+import java.util.Set;
+
+/**
+ * Startup timing information about a single service, as collected by the {@link StartupProfiler}. All times are in
+ * nanoseconds.
+ *
+ * @since 5.8.0
+ */
+public interface ServiceStartupTiming
+{
+    /**
+     * The unique id of the service.
+     */
+    String getServiceId();
+
+    /**
+     * True if the service is marked for eager loading.
+     */
+    boolean isEagerLoad();
+
+    /**
+     * Time needed to realize the service (instantiate, configure, decorate and advise it), including the time needed
+     * to realize any other services it triggered.
+     */
+    long getRealizationTime();
+
+    /**
+     * Realization time, less the realization time of other services realized from within this service's realization.
+     */
+    long getSelfRealizationTime();
+
+    /**
+     * Time spent invoking the contribution methods that build up the service's configuration.
+     */
+    long getContributionTime();
+
+    /**
+     * Time spent generating and instantiating the service's proxy class.
+     */
+    long getProxyCreationTime();
+
+    /**
+     * Time spent eager loading the service during registry startup, or 0 if the service was not eager loaded (or
+     * had already been realized by the time it was eager loaded).
+     */
+    long getEagerLoadTime();
+
+    /**
+     * The id of the service inside whose realization this service was realized, or null if this service was realized
+     * directly.
+     */
+    String getRealizedWithin();
+
+    /**
+     * The ids of the services obtained while this service was being realized.
+     */
+    Set<String> getDependencies();
+}
@@ -0,0 +1,68 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.ioc.services;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builtin service that exposes where time went while the {@link org.apache.tapestry5.ioc.Registry} started up. The
+ * profiler is opt-in: unless the {@link org.apache.tapestry5.ioc.IOCConstants#STARTUP_PROFILING_ENABLED} JVM system
+ * property is "true", nothing is recorded and all the methods return empty results.
+ *
+ * When enabled, the registry records, for each service, the time needed to realize it, the time spent invoking
+ * contribution methods for its configuration, the time spent generating its proxy class, and the services that were
+ * obtained while it was being realized (its dependencies). The time needed to eager load each
+ * {@link org.apache.tapestry5.ioc.annotations.EagerLoad} service is tracked separately, as these services directly
+ * delay the point at which the registry is ready.
+ *
+ * All times are in nanoseconds.
+ *
+ * @since 5.8.0
+ */
+public interface StartupProfiler
+{
+    /**
+     * Returns true if startup profiling is enabled for this registry.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the timing for each service that has been realized (or had its proxy created), sorted by descending
+     * realization time.
+     */
+    List<ServiceStartupTiming> getServiceTimings();
+
+    /**
+     * Returns the elapsed time of each phase of registry startup (registry construction, eager loading of services,
+     * module startup methods and the RegistryStartup service), in the order in which the phases executed.
+     */
+    Map<String, Long> getPhaseTimings();
+
+    /**
+     * Returns the critical path: the chain of nested service realizations that took the most time, starting from a
+     * service that was realized directly (not from inside another service's realization). Each service in the
+     * path was realized while the previous one was being realized.
+     *
+     * @return service ids along the critical path, possibly empty
+     */
+    List<String> getCriticalPath();
+
+    /**
+     * Returns a human readable report of the startup phases, the eager loaded services, per-service timings,
+     * the critical path and the service dependency graph.
+     */
+    String getReport();
+}
@@ -144,7 +144,7 @@ public final class IdAllocator
      */
     public String allocateId(String name)
     {
-        String key = name + namespace;
+        String key = namespace.isEmpty() ? name : name + namespace;
 
         NameGenerator g = generatorMap.get(key);
         String result;
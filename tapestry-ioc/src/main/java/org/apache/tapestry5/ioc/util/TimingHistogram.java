@@ -0,0 +1,185 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.ioc.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Accumulates durations (in nanoseconds) into a histogram of power-of-two buckets: bucket <em>n</em> counts the
+ * durations from 2<sup>n</sup> up to (but not including) 2<sup>n+1</sup> nanoseconds. Recording a duration is
+ * lock-free and does not allocate, so a histogram may be updated on hot paths by any number of threads. Percentiles
+ * are approximate; they are reported as the upper bound of the bucket containing the percentile.
+ *
+ * This class is threadsafe.
+ *
+ * @since 5.8.0
+ */
+public final class TimingHistogram
+{
+    private static final int BUCKET_COUNT = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final AtomicLong totalTime = new AtomicLong();
+
+    private final AtomicLong maxTime = new AtomicLong();
+
+    /**
+     * Records a duration; negative durations are recorded as zero.
+     */
+    public void record(long nanos)
+    {
+        long duration = Math.max(nanos, 0);
+
+        buckets.incrementAndGet(bucketFor(duration));
+        count.incrementAndGet();
+        totalTime.addAndGet(duration);
+
+        while (true)
+        {
+            long current = maxTime.get();
+
+            if (duration <= current || maxTime.compareAndSet(current, duration))
+            {
+                return;
+            }
+        }
+    }
+
+    private static int bucketFor(long nanos)
+    {
+        return 63 - Long.numberOfLeadingZeros(nanos | 1);
+    }
+
+    /**
+     * Returns the number of durations recorded.
+     */
+    public long getCount()
+    {
+        return count.get();
+    }
+
+    /**
+     * Returns the sum of all durations recorded, in nanoseconds.
+     */
+    public long getTotalTime()
+    {
+        return totalTime.get();
+    }
+
+    /**
+     * Returns the longest duration recorded, in nanoseconds.
+     */
+    public long getMaxTime()
+    {
+        return maxTime.get();
+    }
+
+    /**
+     * Returns the mean duration, in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long getMeanTime()
+    {
+        long count = getCount();
+
+        return count == 0 ? 0 : getTotalTime() / count;
+    }
+
+    /**
+     * Returns the approximate duration, in nanoseconds, at or below which the given percentage of recorded durations
+     * fall. The result is the upper bound of a bucket, but never more than the {@linkplain #getMaxTime() longest
+     * duration}.
+     *
+     * @param percentile
+     *         from 0 to 100
+     */
+    public long getPercentile(double percentile)
+    {
+        assert percentile >= 0 && percentile <= 100;
+
+        long[] counts = getBuckets();
+
+        long total = 0;
+
+        for (long c : counts)
+        {
+            total += c;
+        }
+
+        if (total == 0)
+        {
+            return 0;
+        }
+
+        long threshold = (long) Math.ceil(total * percentile / 100d);
+
+        long seen = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            seen += counts[i];
+
+            if (seen >= threshold && counts[i] > 0)
+            {
+                long upperBound = i == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+
+                return Math.min(upperBound, getMaxTime());
+            }
+        }
+
+        return getMaxTime();
+    }
+
+    /**
+     * Returns a snapshot of the bucket counts; element <em>n</em> is the number of durations from 2<sup>n</sup> up
+     * to (but not including) 2<sup>n+1</sup> nanoseconds.
+     */
+    public long[] getBuckets()
+    {
+        long[] result = new long[BUCKET_COUNT];
+
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            result[i] = buckets.get(i);
+        }
+
+        return result;
+    }
+
+    /**
+     * Discards all recorded durations.
+     */
+    public void reset()
+    {
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            buckets.set(i, 0);
+        }
+
+        count.set(0);
+        totalTime.set(0);
+        maxTime.set(0);
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("TimingHistogram[count=%d, mean=%dns, p50=%dns, p99=%dns, max=%dns]",
+                getCount(), getMeanTime(), getPercentile(50), getPercentile(99), getMaxTime());
+    }
+}
@@ -27,6 +27,52 @@ class MessageFormatterImplSpec extends Specification {
         "%s failed: %s"           | ["Another", new NullPointerException()]         | "Another failed: java.lang.NullPointerException" | "expansion of exception without message is exception class name"
     }
 
+    @Unroll
+    def "formatting matches String.format(): #format"() {
+
+        def mf = new MessageFormatterImpl(format, locale)
+
+        expect:
+
+        mf.format(* args) == String.format(locale, format, * args)
+
+        where:
+
+        format                   | args                              | locale
+        "%2\$s before %1\$s"     | ["first", "second"]               | null
+        "%s %0\$s %s"            | ["a", "b", "c"]                   | null
+        "100%% at %d%n"          | [5]                               | Locale.ENGLISH
+        "%d and %d"              | [-5L, (short) 7]                  | Locale.GERMAN
+        "%s, %d"                 | [null, null]                      | Locale.ENGLISH
+        "%,d units"              | [1234567]                         | Locale.GERMAN
+        "%d"                     | [1234]                            | new Locale("th", "TH", "TH")
+        "%d"                     | [new BigInteger("12345678901234567890")] | Locale.ENGLISH
+        "%-10s|%.2f|%x|%S"       | ["left", 3.14159d, 255, "upper"]  | Locale.ENGLISH
+        "no specifiers"          | []                                | null
+        "%s"                     | [[toString: { "custom" }] as Object] | null
+    }
+
+    def "errors are reported as by String.format()"() {
+
+        def mf = new MessageFormatterImpl(format, null)
+
+        when:
+
+        mf.format(* args)
+
+        then:
+
+        thrown(expected)
+
+        where:
+
+        format     | args    | expected
+        "%s %s"    | ["one"] | MissingFormatArgumentException
+        "%d"       | ["one"] | IllegalFormatConversionException
+        "bad %q"   | []      | UnknownFormatConversionException
+        "trailing %" | []    | UnknownFormatConversionException
+    }
+
     def "toString() of a MessageFormatter is the format"() {
 
         when:
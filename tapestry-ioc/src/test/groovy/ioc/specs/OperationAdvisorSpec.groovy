@@ -14,6 +14,8 @@ import spock.lang.AutoCleanup
 import spock.lang.Shared
 import spock.lang.Specification
 
+import java.util.function.Supplier
+
 class OperationAdvisorSpec extends Specification {
 
   @Shared @AutoCleanup("shutdown")
@@ -35,7 +37,7 @@ class OperationAdvisorSpec extends Specification {
     def simpleOperationTracker = [
 
         run: { description, operation ->
-          operations << description
+          operations << (description instanceof Supplier ? description.get() : description)
           operation.run()
         },
 
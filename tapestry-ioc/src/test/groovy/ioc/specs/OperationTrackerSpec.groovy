@@ -1,12 +1,19 @@
 package ioc.specs
 
+import org.apache.tapestry5.ioc.Invokable
+import org.apache.tapestry5.ioc.OperationDescription
 import org.apache.tapestry5.ioc.OperationTracker
 import org.apache.tapestry5.ioc.internal.OperationException;
+import org.apache.tapestry5.ioc.internal.OperationTimingsImpl
 import org.apache.tapestry5.ioc.internal.OperationTrackerImpl;
+import org.apache.tapestry5.ioc.internal.PerThreadOperationTracker
 import org.slf4j.LoggerFactory;
 
 import spock.lang.Issue;
 import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.Supplier
 
 class OperationTrackerSpec extends Specification {
 
@@ -28,5 +35,152 @@ class OperationTrackerSpec extends Specification {
     
   }
 
+  def "a lazy description is not obtained when the operation succeeds in low overhead mode"() {
+    def operationTracker = new OperationTrackerImpl(LoggerFactory.getLogger(OperationTracker), true, OperationTimingsImpl.DISABLED)
+    def described = false
+
+    when:
+
+    def result = operationTracker.invoke({ described = true; "Lazy operation" } as Supplier, { "done" } as Invokable)
+
+    then:
+
+    result == "done"
+    !described
+  }
+
+  def "a lazy description is reported when the operation fails"() {
+    def operationTracker = new OperationTrackerImpl(LoggerFactory.getLogger(OperationTracker), true, OperationTimingsImpl.DISABLED)
+
+    when:
+
+    operationTracker.run("Outer operation", {
+      operationTracker.run({ "Inner operation" } as Supplier, { throw new IllegalStateException("Boom") } as Runnable)
+    } as Runnable)
+
+    then:
+
+    OperationException ex = thrown()
+    ex.trace == ["Outer operation", "Inner operation"]
+  }
+
+  def "operation timings are recorded by description"() {
+    def timings = new OperationTimingsImpl(true)
+    def operationTracker = new OperationTrackerImpl(LoggerFactory.getLogger(OperationTracker), true, timings)
+
+    when:
+
+    3.times { operationTracker.run(OperationDescription.format("Timed operation"), { Thread.sleep 1 } as Runnable) }
+    operationTracker.invoke("Other operation", { null } as Invokable)
+
+    def timing = timings.timings["Timed operation"]
+
+    then:
+
+    timings.timings.keySet() as List == ["Timed operation", "Other operation"]
+    timing.count == 3
+    timing.totalTime >= 3000000
+    timing.maxTime >= 1000000
+    timings.getReport(10).contains("Timed operation")
+
+    when:
+
+    timings.reset()
+
+    then:
+
+    timings.timings.isEmpty()
+  }
+
+  def "operations are timed per format, not per formatted description"() {
+    def timings = new OperationTimingsImpl(true)
+    def operationTracker = new OperationTrackerImpl(LoggerFactory.getLogger(OperationTracker), true, timings)
+
+    when:
+
+    ["Index", "Login", "Admin"].each { page ->
+      operationTracker.run(OperationDescription.format("Loading page %s", page), {} as Runnable)
+    }
+
+    then:
+
+    timings.timings.keySet() as List == ["Loading page %s"]
+    timings.timings["Loading page %s"].count == 3
+  }
+
+  def "a lazy description is not obtained to time its operation, which is reported by call site"() {
+    def timings = new OperationTimingsImpl(true)
+    def operationTracker = new OperationTrackerImpl(LoggerFactory.getLogger(OperationTracker), true, timings)
+    def obtained = []
+
+    when:
+
+    ["Index", "Login", "Admin"].each { page -> operationTracker.run(describeLoading(page, obtained), {} as Runnable) }
+
+    then:
+
+    obtained.isEmpty()
+    timings.timings.keySet() as List == ["${OperationTrackerSpec.name}.describeLoading()".toString()]
+    timings.timings.values().first().count == 3
+  }
+
+  def "a Supplier argument of an OperationDescription is only obtained when the description is formatted"() {
+    def obtained = 0
+    def description = OperationDescription.format("Loading page %s in %s", { obtained++; "Index" } as Supplier, "en")
+
+    expect:
+
+    obtained == 0
+    description.get() == "Loading page Index in en"
+    obtained == 1
+  }
+
+  private static Supplier<String> describeLoading(String page, List obtained) {
+    return new Supplier<String>() {
+      @Override
+      String get() {
+        obtained << page
+        return "Loading page $page".toString()
+      }
+    }
+  }
 
+  def "once the limit is reached, further kinds of operation are timed together, without obtaining their descriptions"() {
+    def timings = new OperationTimingsImpl(true)
+    def operationTracker = new OperationTrackerImpl(LoggerFactory.getLogger(OperationTracker), true, timings)
+    def obtained = false
+
+    OperationTimingsImpl.MAX_DESCRIPTIONS.times { operationTracker.run("Operation $it".toString(), {} as Runnable) }
+
+    when:
+
+    operationTracker.run({ obtained = true; "Lazy operation" } as Supplier, {} as Runnable)
+    operationTracker.run(OperationDescription.format("Formatted operation %d", 1), {} as Runnable)
+
+    then:
+
+    !obtained
+    timings.timings.size() == OperationTimingsImpl.MAX_DESCRIPTIONS + 1
+    timings.timings[OperationTimingsImpl.OTHER_OPERATIONS].count == 2
+  }
+
+  @Unroll
+  def "in low overhead mode, the per-thread tracker is retained between operations"() {
+    def tracker = new PerThreadOperationTracker(LoggerFactory.getLogger(OperationTracker), lowOverhead, OperationTimingsImpl.DISABLED)
+    def first = null
+    def second = null
+
+    when:
+
+    tracker.run("First", { first = tracker.get() } as Runnable)
+    tracker.run("Second", { second = tracker.get() } as Runnable)
+
+    then:
+
+    first.is(second) == lowOverhead
+
+    where:
+
+    lowOverhead << [true, false]
+  }
 }
@@ -1,12 +1,20 @@
 package ioc.specs
 
 import org.apache.tapestry5.ioc.Invokable
+import org.apache.tapestry5.ioc.internal.services.ParallelExecutorImpl
+import org.apache.tapestry5.ioc.internal.services.PerthreadManagerImpl
+import org.apache.tapestry5.ioc.internal.services.VirtualThreads
+import org.apache.tapestry5.ioc.services.ThunkCreator
 import org.apache.tapestry5.ioc.services.ParallelExecutor
 import org.apache.tapestry5.ioc.test.StringHolder
 import org.apache.tapestry5.ioc.test.StringHolderImpl
+import org.slf4j.LoggerFactory
 
 import spock.lang.Shared
 
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
 class ParallelExecutorSpec extends AbstractSharedRegistrySpecification {
 
   @Shared ParallelExecutor executor
@@ -101,5 +109,80 @@ class ParallelExecutorSpec extends AbstractSharedRegistrySpecification {
     e.message.contains "Future failure!"
   }
 
+  def "per-thread values are not propagated to tasks by default"() {
+    def manager = new PerthreadManagerImpl(LoggerFactory.getLogger(ParallelExecutorSpec))
+    def executorService = Executors.newSingleThreadExecutor()
+    def executor = new ParallelExecutorImpl(executorService, Mock(ThunkCreator), manager)
+    def value = manager.createValue()
+
+    value.set "request"
+
+    when:
+
+    def seen = executor.invoke({ value.get("none") } as Invokable).get()
+
+    then:
+
+    seen == "none"
+
+    cleanup:
+
+    executorService.shutdown()
+  }
+
+  def "when enabled, tasks see a copy of the submitting thread's per-thread values"() {
+    def manager = new PerthreadManagerImpl(LoggerFactory.getLogger(ParallelExecutorSpec))
+    def executorService = Executors.newSingleThreadExecutor()
+    def executor = new ParallelExecutorImpl(executorService, Mock(ThunkCreator), manager, true)
+    def value = manager.createValue()
+    def requestCleanups = 0
+    def taskCleanups = 0
+
+    manager.addThreadCleanupCallback({ requestCleanups++ } as Runnable)
+    value.set "request"
+
+    when:
+
+    def seen = executor.invoke({
+      manager.addThreadCleanupCallback({ taskCleanups++ } as Runnable)
+      def result = value.get()
+      value.set "task"
+      return result
+    } as Invokable).get()
+
+    then:
+
+    seen == "request"
+    value.get() == "request"
+    taskCleanups == 1
+    requestCleanups == 0
+
+    when: "the worker thread has no leftover values"
+
+    def leftover = executorService.submit({ value.exists() } as Callable)
+
+    then:
+
+    !leftover.get()
+
+    cleanup:
+
+    executorService.shutdown()
+  }
+
+  def "a virtual thread executor is only available when the JDK supports virtual threads"() {
+    when:
+
+    def executorService = VirtualThreads.newThreadPerTaskExecutor("Test-")
+
+    then:
 
+    (executorService != null) == VirtualThreads.supported
+
+    executorService == null || executorService.submit({ Thread.currentThread().virtual } as Callable).get()
+
+    cleanup:
+
+    executorService?.shutdown()
+  }
 }
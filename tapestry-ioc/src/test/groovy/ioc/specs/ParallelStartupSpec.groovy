@@ -0,0 +1,132 @@
+package ioc.specs
+
+import org.apache.tapestry5.ioc.RegistryBuilder
+import org.apache.tapestry5.ioc.internal.ParallelStartup
+import org.apache.tapestry5.ioc.internal.services.ParallelExecutorImpl
+import org.apache.tapestry5.ioc.services.PerthreadManager
+import org.apache.tapestry5.ioc.services.ThunkCreator
+import org.apache.tapestry5.ioc.test.ParallelStartupModule
+import org.slf4j.Logger
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class ParallelStartupSpec extends Specification {
+
+  @AutoCleanup("shutdownNow")
+  ExecutorService executorService = Executors.newFixedThreadPool(4)
+
+  Logger logger = Mock()
+
+  ParallelStartup startup = new ParallelStartup(
+      new ParallelExecutorImpl(executorService, Mock(ThunkCreator), Mock(PerthreadManager)), logger)
+
+  def order = new ConcurrentLinkedQueue<String>()
+
+  def task(String name, long sleep = 0) {
+    return { Thread.sleep(sleep); order.add(name) } as Runnable
+  }
+
+  def "independent tasks run concurrently"() {
+    def latch = new CountDownLatch(3)
+
+    3.times { i ->
+      startup.add("task$i", [], {
+        latch.countDown()
+        // Only completes if all three tasks are running at the same time
+        assert latch.await(5, TimeUnit.SECONDS)
+      } as Runnable)
+    }
+
+    when:
+
+    startup.run()
+
+    then:
+
+    latch.count == 0
+  }
+
+  def "a task starts only after its dependencies complete"() {
+    startup.add("c", ["a", "b"], task("c"))
+    startup.add("a", [], task("a", 50))
+    startup.add("b", ["a"], task("b", 20))
+    startup.add("d", ["unknown"], task("d", 100))
+
+    when:
+
+    startup.run()
+
+    def list = order as List
+
+    then:
+
+    list.size() == 4
+    list.indexOf("a") < list.indexOf("b")
+    list.indexOf("b") < list.indexOf("c")
+  }
+
+  def "tasks in a dependency cycle are executed sequentially"() {
+    startup.add("a", ["b"], task("a"))
+    startup.add("b", ["a"], task("b"))
+    startup.add("c", [], task("c"))
+
+    when:
+
+    startup.run()
+
+    then:
+
+    order.size() == 3
+    (order as List).containsAll(["a", "b", "c"])
+  }
+
+  def "first failure is reported and prevents dependent tasks from starting"() {
+    startup.add("ok", [], task("ok"))
+    startup.add("broken", ["ok"], { throw new IllegalStateException("Kaboom!") } as Runnable)
+    startup.add("after", ["broken"], task("after"))
+
+    when:
+
+    startup.run()
+
+    then:
+
+    RuntimeException e = thrown()
+
+    e.message.contains "Parallel startup task broken failed: Kaboom!"
+    e.message.contains "Completed tasks: ok"
+    e.message.contains "Incomplete (cancelled or still running) tasks: after"
+    e.cause.message == "Kaboom!"
+
+    !order.contains("after")
+  }
+
+  def "eager loaded services and startup methods run in parallel when enabled"() {
+    ParallelStartupModule.loaded.clear()
+    ParallelStartupModule.threads.clear()
+
+    def registry = new RegistryBuilder().add(ParallelStartupModule).build()
+
+    when:
+
+    registry.performRegistryStartup()
+
+    def loaded = ParallelStartupModule.loaded
+
+    then:
+
+    loaded.containsAll(["First", "Second", "Startup"])
+    loaded.indexOf("First") < loaded.indexOf("Second")
+    ParallelStartupModule.threads.values().every { it != Thread.currentThread().name }
+
+    cleanup:
+
+    registry.shutdown()
+  }
+}
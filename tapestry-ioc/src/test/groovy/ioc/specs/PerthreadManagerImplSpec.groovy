@@ -1,7 +1,11 @@
 package ioc.specs
 
+import org.apache.tapestry5.commons.ObjectCreator
 import org.apache.tapestry5.ioc.Invokable
+import org.apache.tapestry5.ioc.annotations.ThreadSafe
 import org.apache.tapestry5.ioc.internal.services.PerthreadManagerImpl
+import org.apache.tapestry5.ioc.services.PerthreadContext
+import org.apache.tapestry5.ioc.services.PerthreadManager
 import org.apache.tapestry5.ioc.services.ThreadCleanupListener
 import org.slf4j.Logger
 import spock.lang.Specification
@@ -179,5 +183,211 @@ class PerthreadManagerImplSpec extends Specification {
 
   }
 
+  def "values in many slots are stored and cleared independently"() {
+    def manager = new PerthreadManagerImpl(Mock(Logger))
+    def values = (0..<200).collect { manager.createValue() }
 
+    when:
+
+    values.eachWithIndex { value, i -> if (i % 3 == 0) value.set(i) }
+
+    then:
+
+    values.every { it.exists() == (values.indexOf(it) % 3 == 0) }
+    values[150].get() == 150
+    values[151].get() == null
+
+    when:
+
+    manager.cleanup()
+
+    then:
+
+    values.every { !it.exists() }
+  }
+
+  def "a context may be attached to another thread"() {
+    def manager = new PerthreadManagerImpl(Mock(Logger))
+    def value = manager.createValue()
+    def other = manager.createValue()
+    def seen = null
+
+    value.set "request"
+
+    def context = manager.getContext()
+
+    when:
+
+    def thread = new Thread({
+      other.set "worker"
+
+      manager.runWithContext(context, {
+        seen = value.get()
+        value.set "updated"
+      } as Runnable)
+
+      assert other.get() == "worker"
+      assert !value.exists()
+    })
+
+    thread.start()
+    thread.join()
+
+    then:
+
+    seen == "request"
+    value.get() == "updated"
+    !other.exists()
+  }
+
+  def "invokeWithContext() restores the thread's own context"() {
+    def manager = new PerthreadManagerImpl(Mock(Logger))
+    def value = manager.createValue()
+
+    def context = manager.getContext()
+
+    manager.cleanup()
+
+    value.set "own"
+
+    when:
+
+    def result = manager.invokeWithContext(context, { value.get("none") } as Invokable)
+
+    then:
+
+    result == "none"
+    value.get() == "own"
+  }
+
+  def "cleanup of a shared context does not clear values seen by another thread"() {
+    def manager = new PerthreadManagerImpl(Mock(Logger))
+    def value = manager.createValue()
+
+    value.set "request"
+
+    def context = manager.getContext()
+
+    when:
+
+    manager.cleanup()
+
+    then:
+
+    !value.exists()
+    manager.invokeWithContext(context, { value.get() } as Invokable) == "request"
+  }
+
+  def "cleanup within an attached context leaves that context intact"() {
+    def manager = new PerthreadManagerImpl(Mock(Logger))
+    def value = manager.createValue()
+
+    value.set "request"
+
+    def copy = manager.copyContext()
+
+    when:
+
+    manager.invokeWithContext(copy, { manager.cleanup() } as Invokable)
+
+    then:
+
+    value.get() == "request"
+    manager.invokeWithContext(copy, { value.get() } as Invokable) == "request"
+  }
+
+  def "a foreign context is rejected"() {
+    def manager = new PerthreadManagerImpl(Mock(Logger))
+
+    when:
+
+    manager.runWithContext(new PerthreadContext() {}, {} as Runnable)
+
+    then:
+
+    thrown(IllegalArgumentException)
+  }
+
+  def "a copied context is independent of the original, and omits cleanup callbacks"() {
+    def manager = new PerthreadManagerImpl(Mock(Logger))
+    def value = manager.createValue()
+    ThreadCleanupListener listener = Mock()
+
+    manager.addThreadCleanupListener listener
+    value.set "original"
+
+    def copy = manager.copyContext()
+
+    when:
+
+    value.set "changed"
+
+    then:
+
+    manager.invokeWithContext(copy, { value.get() } as Invokable) == "original"
+
+    when:
+
+    manager.runWithContext(copy, { manager.cleanup() } as Runnable)
+
+    then:
+
+    0 * listener.threadDidCleanup()
+    value.get() == "changed"
+  }
+
+  def "a copied context holds only the values that may be shared between threads"() {
+    def manager = new PerthreadManagerImpl(Mock(Logger))
+    def immutable = manager.createValue()
+    def threadSafe = manager.createValue()
+    def mutable = manager.createValue()
+    def nullValue = manager.createValue()
+    def service = manager.createValue({ new ArrayList() } as ObjectCreator)
+
+    def safe = new SharedCounter()
+    def list = []
+
+    immutable.set 42
+    threadSafe.set safe
+    mutable.set list
+    nullValue.set null
+    def target = service.createObject()
+
+    when:
+
+    def copy = manager.copyContext()
+
+    then:
+
+    manager.invokeWithContext(copy, {
+      [immutable.get(), threadSafe.get(), mutable.exists(), nullValue.exists(), nullValue.get()]
+    } as Invokable) == [42, safe, false, true, null]
+
+    !manager.invokeWithContext(copy, { service.createObject() } as Invokable).is(target)
+    service.createObject().is(target)
+  }
+
+  def "other implementations run with a context in place of the thread's own values"() {
+    PerthreadManager manager = Spy(MinimalPerthreadManager)
+
+    when:
+
+    def context = manager.copyContext()
+
+    then:
+
+    1 * manager.getContext()
+    context != null
+
+    expect:
+
+    manager.invokeWithContext(context, { "result" } as Invokable) == "result"
+  }
+}
+
+abstract class MinimalPerthreadManager implements PerthreadManager {
+}
+
+@ThreadSafe
+class SharedCounter {
 }
@@ -0,0 +1,75 @@
+package ioc.specs
+
+import org.apache.tapestry5.ioc.IOCConstants
+import org.apache.tapestry5.ioc.services.StartupProfiler
+import org.apache.tapestry5.ioc.test.StartupProfilerModule
+
+class StartupProfilerSpec extends AbstractRegistrySpecification {
+
+  def cleanup() {
+    System.clearProperty(IOCConstants.STARTUP_PROFILING_ENABLED)
+  }
+
+  def "profiling is disabled by default"() {
+    buildRegistry StartupProfilerModule
+    performRegistryStartup()
+
+    when:
+
+    def profiler = getService StartupProfiler
+
+    then:
+
+    !profiler.enabled
+    profiler.serviceTimings.empty
+    profiler.phaseTimings.isEmpty()
+    profiler.criticalPath.empty
+  }
+
+  def "records realization, contributions, eager loading and dependencies"() {
+    System.setProperty(IOCConstants.STARTUP_PROFILING_ENABLED, "true")
+
+    buildRegistry StartupProfilerModule
+    performRegistryStartup()
+
+    when:
+
+    def profiler = getService StartupProfiler
+
+    def timings = profiler.serviceTimings.collectEntries { [it.serviceId, it] }
+
+    def outer = timings["Outer"]
+    def inner = timings["Inner"]
+
+    then:
+
+    profiler.enabled
+
+    profiler.phaseTimings.keySet() as List == ["Registry construction", "Eager loading services",
+        "Module startup methods", "RegistryStartup contributions"]
+
+    outer.eagerLoad
+    outer.eagerLoadTime > 0
+    outer.realizationTime >= inner.realizationTime
+    outer.selfRealizationTime <= outer.realizationTime
+    outer.proxyCreationTime > 0
+    outer.dependencies.contains("Inner")
+    outer.realizedWithin == null
+
+    !inner.eagerLoad
+    inner.realizedWithin == "Outer"
+    inner.contributionTime > 0
+
+    when:
+
+    def path = profiler.criticalPath
+
+    then:
+
+    !path.empty
+    timings[path.first()].realizedWithin == null
+    (1..<path.size()).every { timings[path[it]].realizedWithin == path[it - 1] }
+
+    profiler.report.contains("Outer")
+  }
+}
@@ -0,0 +1,58 @@
+package ioc.specs
+
+import org.apache.tapestry5.ioc.util.TimingHistogram
+import spock.lang.Specification
+
+class TimingHistogramSpec extends Specification {
+
+  def "durations are counted in power-of-two buckets"() {
+    def histogram = new TimingHistogram()
+
+    when:
+
+    [0, 1, 2, 3, 1000, 1023, 1024].each { histogram.record it }
+
+    def buckets = histogram.buckets
+
+    then:
+
+    histogram.count == 7
+    histogram.totalTime == 3053
+    histogram.maxTime == 1024
+    buckets[0] == 2
+    buckets[1] == 2
+    buckets[9] == 2
+    buckets[10] == 1
+  }
+
+  def "percentiles are the upper bound of the containing bucket, limited by the maximum"() {
+    def histogram = new TimingHistogram()
+
+    when:
+
+    90.times { histogram.record 100 }
+    10.times { histogram.record 5000 }
+
+    then:
+
+    histogram.getPercentile(50) == 127
+    histogram.getPercentile(90) == 127
+    histogram.getPercentile(99) == 5000
+    histogram.getPercentile(100) == 5000
+    histogram.meanTime == 590
+  }
+
+  def "an empty histogram reports zeros"() {
+    def histogram = new TimingHistogram()
+
+    histogram.record 10
+    histogram.reset()
+
+    expect:
+
+    histogram.count == 0
+    histogram.maxTime == 0
+    histogram.meanTime == 0
+    histogram.getPercentile(99) == 0
+  }
+}
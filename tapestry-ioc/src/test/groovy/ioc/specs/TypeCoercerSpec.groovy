@@ -17,6 +17,7 @@ import java.time.ZoneId
 import java.time.ZoneOffset
 import java.time.ZonedDateTime
 
+import org.apache.tapestry5.commons.internal.services.CoercionChain
 import org.apache.tapestry5.commons.services.TypeCoercer
 import org.apache.tapestry5.commons.util.TimeInterval
 import org.apache.tapestry5.func.F
@@ -270,4 +271,72 @@ class TypeCoercerSpec extends AbstractSharedRegistrySpecification {
 
     !c1.is(c3)
   }
+
+  def "concurrent coercions all share a single cached coercion"() {
+    def threads = 32
+    def latch = new java.util.concurrent.CountDownLatch(1)
+    def coercions = Collections.synchronizedList([])
+    def failures = Collections.synchronizedList([])
+
+    when:
+
+    def workers = (1..threads).collect {
+      Thread.start {
+        try {
+          latch.await()
+
+          for (int i = 0; i < 1000; i++) {
+            assert coercer.coerce(new StringBuilder("${i}"), Integer) == i
+          }
+
+          coercions << coercer.getCoercion(StringBuilder, Integer)
+        } catch (Throwable t) {
+          failures << t
+        }
+      }
+    }
+
+    latch.countDown()
+    workers*.join()
+
+    then:
+
+    failures.empty
+    coercions.size() == threads
+    coercions.every { it.is(coercions[0]) }
+  }
+
+  def "indirect coercions are flattened into a single chain"() {
+    def coercion = coercer.getCoercion(StringBuilder, Integer)
+
+    expect:
+
+    coercion instanceof CoercionChain
+    coercion.length == coercer.explain(StringBuilder, Integer).split(", ").length
+    coercion.length > 1
+    coercion.coerce(new StringBuilder("42")) == 42
+  }
+
+  def "precomputed coercions are cached and used"() {
+    coercer.clearCache()
+
+    when:
+
+    def count = coercer.precomputeCoercions()
+    def c1 = coercer.getCoercion(Double, Integer)
+
+    then:
+
+    count > 0
+    c1 instanceof CoercionChain
+
+    when:
+
+    coercer.precomputeCoercions()
+
+    then:
+
+    coercer.getCoercion(Double, Integer).is(c1)
+    coercer.coerce(2.0d, Integer) == 2
+  }
 }
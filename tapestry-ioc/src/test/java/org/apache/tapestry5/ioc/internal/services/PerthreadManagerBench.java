@@ -0,0 +1,187 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.ioc.internal.services;
+
+import org.apache.tapestry5.commons.util.CollectionFactory;
+import org.apache.tapestry5.ioc.services.PerThreadValue;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+import static java.lang.String.format;
+import static java.lang.System.out;
+
+/**
+ * Compares the cost of reading per-thread values, and of the cleanup at the end of each request, for the
+ * {@link PerthreadManagerImpl} against the ThreadLocal-of-HashMap approach it previously used. Each "request"
+ * sets a handful of values, reads each of them many times, then cleans up; times are in nanoseconds per request.
+ */
+public class PerthreadManagerBench
+{
+    private static final int VALUE_COUNT = 500;
+
+    private static final int VALUES_PER_REQUEST = 50;
+
+    private static final int READS_PER_VALUE = 20;
+
+    private static final int WARMUP_REQUESTS = 20 * 1000;
+
+    private static final int REQUESTS = 200 * 1000;
+
+    interface Strategy
+    {
+        void set(int index, Object value);
+
+        Object get(int index);
+
+        void cleanup();
+    }
+
+    static class ManagerStrategy implements Strategy
+    {
+        private final PerthreadManagerImpl manager = new PerthreadManagerImpl(LoggerFactory.getLogger(PerthreadManagerBench.class));
+
+        private final PerThreadValue[] values = new PerThreadValue[VALUE_COUNT];
+
+        ManagerStrategy()
+        {
+            for (int i = 0; i < VALUE_COUNT; i++)
+            {
+                values[i] = manager.createValue();
+            }
+        }
+
+        public void set(int index, Object value)
+        {
+            values[index].set(value);
+        }
+
+        public Object get(int index)
+        {
+            return values[index].get();
+        }
+
+        public void cleanup()
+        {
+            manager.cleanup();
+        }
+    }
+
+    static class MapStrategy implements Strategy
+    {
+        private final ThreadLocal<Map<Integer, Object>> holder = new ThreadLocal<Map<Integer, Object>>()
+        {
+            @Override
+            protected Map<Integer, Object> initialValue()
+            {
+                return CollectionFactory.newMap();
+            }
+        };
+
+        private final Integer[] keys = new Integer[VALUE_COUNT];
+
+        MapStrategy()
+        {
+            for (int i = 0; i < VALUE_COUNT; i++)
+            {
+                keys[i] = i;
+            }
+        }
+
+        public void set(int index, Object value)
+        {
+            holder.get().put(keys[index], value);
+        }
+
+        public Object get(int index)
+        {
+            return holder.get().get(keys[index]);
+        }
+
+        public void cleanup()
+        {
+            holder.remove();
+        }
+    }
+
+    public static void main(String[] args)
+    {
+        Strategy manager = new ManagerStrategy();
+        Strategy map = new MapStrategy();
+
+        out.println(format("%20s %12s %12s %12s %12s", "", "array get", "array clean", "map get", "map clean"));
+
+        stage("warmup");
+        go(WARMUP_REQUESTS, manager);
+        go(WARMUP_REQUESTS, map);
+        out.println();
+
+        for (int i = 0; i < 5; i++)
+        {
+            System.gc();
+
+            stage(format("stage #%d", i + 1));
+            go(REQUESTS, manager);
+            go(REQUESTS, map);
+            out.println();
+        }
+    }
+
+    private static void stage(String name)
+    {
+        out.print(format("%20s", name));
+    }
+
+    private static void go(int requests, Strategy strategy)
+    {
+        long accessTime = 0;
+        long cleanupTime = 0;
+        int hash = 0;
+
+        for (int r = 0; r < requests; r++)
+        {
+            int offset = r % (VALUE_COUNT - VALUES_PER_REQUEST);
+
+            long tick = System.nanoTime();
+
+            for (int i = 0; i < VALUES_PER_REQUEST; i++)
+            {
+                strategy.set(offset + i, strategy);
+            }
+
+            for (int j = 0; j < READS_PER_VALUE; j++)
+            {
+                for (int i = 0; i < VALUES_PER_REQUEST; i++)
+                {
+                    hash += strategy.get(offset + i) == null ? 0 : 1;
+                }
+            }
+
+            long tock = System.nanoTime();
+
+            strategy.cleanup();
+
+            cleanupTime += System.nanoTime() - tock;
+            accessTime += tock - tick;
+        }
+
+        if (hash == 0)
+        {
+            throw new IllegalStateException();
+        }
+
+        out.print(format(" %12.1f %12.1f", (double) accessTime / requests, (double) cleanupTime / requests));
+    }
+}
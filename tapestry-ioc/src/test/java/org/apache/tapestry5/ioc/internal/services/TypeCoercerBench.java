@@ -0,0 +1,128 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.ioc.internal.services;
+
+import org.apache.tapestry5.commons.services.TypeCoercer;
+import org.apache.tapestry5.ioc.Registry;
+import org.apache.tapestry5.ioc.RegistryBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+import static java.lang.System.out;
+
+/**
+ * Measures the throughput of {@link TypeCoercer#coerce(Object, Class)} as the number of threads increases. Each thread
+ * repeatedly performs a mix of coercions (all of which are cached after the first use), so the measurement is
+ * dominated by the cost of locating the cached coercion. Results are in millions of coercions per second, across
+ * all threads.
+ */
+public class TypeCoercerBench
+{
+    private static final int[] THREAD_COUNTS = { 1, 2, 4, 8, 16, 32, 64 };
+
+    private static final long DURATION_MILLIS = 2000;
+
+    private static final Object[] INPUTS = { "123", 456, 789L, "true", 1.5d, new BigDecimal("2.5"), "x" };
+
+    private static final Class[] TARGETS = { Integer.class, String.class, Double.class, Boolean.class, long.class,
+            String.class, List.class };
+
+    public static void main(String[] args) throws Exception
+    {
+        Registry registry = RegistryBuilder.buildAndStartupRegistry();
+
+        try
+        {
+            TypeCoercer coercer = registry.getService(TypeCoercer.class);
+
+            out.println(format("%10s %20s", "threads", "M coercions/sec"));
+
+            // Warm up
+
+            run(coercer, 4, DURATION_MILLIS);
+
+            for (int threads : THREAD_COUNTS)
+            {
+                out.println(format("%10d %20.2f", threads, run(coercer, threads, DURATION_MILLIS)));
+            }
+        } finally
+        {
+            registry.shutdown();
+        }
+    }
+
+    private static double run(final TypeCoercer coercer, int threadCount, long durationMillis) throws InterruptedException
+    {
+        final AtomicLong total = new AtomicLong();
+        final CountDownLatch start = new CountDownLatch(1);
+        final long deadline = System.currentTimeMillis() + durationMillis;
+
+        Thread[] threads = new Thread[threadCount];
+
+        for (int i = 0; i < threadCount; i++)
+        {
+            threads[i] = new Thread(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        start.await();
+                    } catch (InterruptedException ex)
+                    {
+                        return;
+                    }
+
+                    long count = 0;
+                    int hash = 0;
+
+                    while (System.currentTimeMillis() < deadline)
+                    {
+                        for (int j = 0; j < 1000; j++)
+                        {
+                            int k = j % INPUTS.length;
+
+                            hash += coercer.coerce(INPUTS[k], TARGETS[k]).hashCode();
+                        }
+
+                        count += 1000;
+                    }
+
+                    total.addAndGet(count + (hash == 42 ? 1 : 0));
+                }
+            });
+
+            threads[i].start();
+        }
+
+        long startNanos = System.nanoTime();
+
+        start.countDown();
+
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+
+        return total.get() / seconds / 1e6;
+    }
+}
@@ -0,0 +1,78 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.ioc.test;
+
+import org.apache.tapestry5.commons.MappedConfiguration;
+import org.apache.tapestry5.ioc.IOCSymbols;
+import org.apache.tapestry5.ioc.annotations.EagerLoad;
+import org.apache.tapestry5.ioc.annotations.Startup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Used to test parallel eager loading: Second is injected with First, so must be loaded after it.
+ */
+public class ParallelStartupModule
+{
+    public static final List<String> loaded = Collections.synchronizedList(new ArrayList<String>());
+
+    public static final Map<String, String> threads = new ConcurrentHashMap<String, String>();
+
+    public static void contributeApplicationDefaults(MappedConfiguration<String, Object> configuration)
+    {
+        configuration.add(IOCSymbols.PARALLEL_STARTUP_ENABLED, true);
+    }
+
+    private static void record(String name)
+    {
+        loaded.add(name);
+        threads.put(name, Thread.currentThread().getName());
+    }
+
+    @EagerLoad
+    public static StringHolder buildFirst() throws InterruptedException
+    {
+        Thread.sleep(50);
+
+        record("First");
+
+        return new StringHolderImpl();
+    }
+
+    @EagerLoad
+    public static NameListHolder buildSecond(final StringHolder first)
+    {
+        record("Second");
+
+        return new NameListHolder()
+        {
+            @Override
+            public List<String> getNames()
+            {
+                return Collections.singletonList(first.getValue());
+            }
+        };
+    }
+
+    @Startup
+    public static void startup()
+    {
+        record("Startup");
+    }
+}
@@ -0,0 +1,53 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.ioc.test;
+
+import org.apache.tapestry5.commons.OrderedConfiguration;
+import org.apache.tapestry5.ioc.annotations.EagerLoad;
+
+import java.util.List;
+
+/**
+ * Used to test the StartupProfiler: an eager loaded service that depends on a configured service.
+ */
+public class StartupProfilerModule
+{
+    public static NameListHolder buildInner(final List<String> configuration)
+    {
+        return new NameListHolder()
+        {
+            @Override
+            public List<String> getNames()
+            {
+                return configuration;
+            }
+        };
+    }
+
+    public static void contributeInner(OrderedConfiguration<String> configuration)
+    {
+        configuration.add("fred", "Fred");
+    }
+
+    @EagerLoad
+    public static StringHolder buildOuter(NameListHolder inner)
+    {
+        StringHolder holder = new StringHolderImpl();
+
+        holder.setValue(inner.getNames().get(0));
+
+        return holder;
+    }
+}
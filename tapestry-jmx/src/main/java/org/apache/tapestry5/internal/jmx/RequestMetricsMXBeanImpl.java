@@ -0,0 +1,88 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.internal.jmx;
+
+import org.apache.tapestry5.ioc.util.TimingHistogram;
+import org.apache.tapestry5.jmx.LatencySummary;
+import org.apache.tapestry5.jmx.RequestMetricsMXBean;
+import org.apache.tapestry5.services.RequestMetrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @since 5.8.0
+ */
+public class RequestMetricsMXBeanImpl implements RequestMetricsMXBean
+{
+    private static final double NANOS_PER_MILLI = 1000000d;
+
+    private final RequestMetrics metrics;
+
+    public RequestMetricsMXBeanImpl(RequestMetrics metrics)
+    {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Map<String, LatencySummary> getHandlerTimings()
+    {
+        return summarize(metrics.getHandlerTimings());
+    }
+
+    @Override
+    public Map<String, LatencySummary> getPageRenderTimings()
+    {
+        return summarize(metrics.getPageRenderTimings());
+    }
+
+    @Override
+    public Map<String, LatencySummary> getComponentEventTimings()
+    {
+        return summarize(metrics.getComponentEventTimings());
+    }
+
+    @Override
+    public void reset()
+    {
+        metrics.reset();
+    }
+
+    private static Map<String, LatencySummary> summarize(Map<String, TimingHistogram> timings)
+    {
+        Map<String, LatencySummary> result = new LinkedHashMap<String, LatencySummary>();
+
+        for (Map.Entry<String, TimingHistogram> entry : timings.entrySet())
+        {
+            TimingHistogram histogram = entry.getValue();
+
+            result.put(entry.getKey(), new LatencySummary(histogram.getCount(),
+                    millis(histogram.getTotalTime()),
+                    millis(histogram.getMeanTime()),
+                    millis(histogram.getPercentile(50)),
+                    millis(histogram.getPercentile(90)),
+                    millis(histogram.getPercentile(99)),
+                    millis(histogram.getMaxTime())));
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static double millis(long nanos)
+    {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
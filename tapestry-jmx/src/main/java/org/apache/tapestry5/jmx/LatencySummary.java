@@ -0,0 +1,78 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.jmx;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * A summary of a {@link org.apache.tapestry5.ioc.util.TimingHistogram}, with all times in milliseconds, as exposed by
+ * the {@link RequestMetricsMXBean}.
+ *
+ * @since 5.8.0
+ */
+public class LatencySummary
+{
+    private final long count;
+
+    private final double totalTime, meanTime, medianTime, percentile90Time, percentile99Time, maxTime;
+
+    @ConstructorProperties({"count", "totalTime", "meanTime", "medianTime", "percentile90Time", "percentile99Time", "maxTime"})
+    public LatencySummary(long count, double totalTime, double meanTime, double medianTime, double percentile90Time,
+                          double percentile99Time, double maxTime)
+    {
+        this.count = count;
+        this.totalTime = totalTime;
+        this.meanTime = meanTime;
+        this.medianTime = medianTime;
+        this.percentile90Time = percentile90Time;
+        this.percentile99Time = percentile99Time;
+        this.maxTime = maxTime;
+    }
+
+    public long getCount()
+    {
+        return count;
+    }
+
+    public double getTotalTime()
+    {
+        return totalTime;
+    }
+
+    public double getMeanTime()
+    {
+        return meanTime;
+    }
+
+    public double getMedianTime()
+    {
+        return medianTime;
+    }
+
+    public double getPercentile90Time()
+    {
+        return percentile90Time;
+    }
+
+    public double getPercentile99Time()
+    {
+        return percentile99Time;
+    }
+
+    public double getMaxTime()
+    {
+        return maxTime;
+    }
+}
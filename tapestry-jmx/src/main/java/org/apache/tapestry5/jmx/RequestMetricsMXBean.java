@@ -0,0 +1,55 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.jmx;
+
+import java.util.Map;
+
+/**
+ * Exposes the {@link org.apache.tapestry5.services.RequestMetrics} service as an MXBean, named
+ * {@value #OBJECT_NAME}. The MXBean is only registered when
+ * {@linkplain org.apache.tapestry5.SymbolConstants#REQUEST_METRICS_ENABLED request metrics} are enabled.
+ *
+ * @since 5.8.0
+ */
+public interface RequestMetricsMXBean
+{
+    String OBJECT_NAME = "org.apache.tapestry5:type=RequestMetrics";
+
+    /**
+     * Request durations by kind of request.
+     *
+     * @see org.apache.tapestry5.services.RequestMetrics#getHandlerTimings()
+     */
+    Map<String, LatencySummary> getHandlerTimings();
+
+    /**
+     * Page render request durations by page name.
+     *
+     * @see org.apache.tapestry5.services.RequestMetrics#getPageRenderTimings()
+     */
+    Map<String, LatencySummary> getPageRenderTimings();
+
+    /**
+     * Component event request durations by page name and event type.
+     *
+     * @see org.apache.tapestry5.services.RequestMetrics#getComponentEventTimings()
+     */
+    Map<String, LatencySummary> getComponentEventTimings();
+
+    /**
+     * Discards all recorded metrics.
+     */
+    void reset();
+}
@@ -15,8 +15,12 @@
 package org.apache.tapestry5.jmx.modules;
 
 import org.apache.tapestry5.internal.jmx.MBeanSupportImpl;
+import org.apache.tapestry5.internal.jmx.RequestMetricsMXBeanImpl;
 import org.apache.tapestry5.ioc.ServiceBinder;
+import org.apache.tapestry5.ioc.annotations.Startup;
 import org.apache.tapestry5.jmx.MBeanSupport;
+import org.apache.tapestry5.jmx.RequestMetricsMXBean;
+import org.apache.tapestry5.services.RequestMetrics;
 
 /**
  * Module for JMX services.
@@ -27,4 +31,18 @@ public class JmxModule
     {
         binder.bind(MBeanSupport.class, MBeanSupportImpl.class);
     }
+
+    /**
+     * Registers the {@link RequestMetricsMXBean}, if request metrics are enabled.
+     *
+     * @since 5.8.0
+     */
+    @Startup
+    public static void registerRequestMetrics(MBeanSupport mbeanSupport, RequestMetrics metrics)
+    {
+        if (metrics.isEnabled())
+        {
+            mbeanSupport.register(new RequestMetricsMXBeanImpl(metrics), RequestMetricsMXBean.OBJECT_NAME);
+        }
+    }
 }
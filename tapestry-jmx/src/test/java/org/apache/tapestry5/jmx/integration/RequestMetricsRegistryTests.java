@@ -0,0 +1,87 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.jmx.integration;
+
+import org.apache.tapestry5.SymbolConstants;
+import org.apache.tapestry5.ioc.Registry;
+import org.apache.tapestry5.jmx.RequestMetricsMXBean;
+import org.apache.tapestry5.services.ComponentSource;
+import org.apache.tapestry5.services.RequestMetrics;
+import org.apache.tapestry5.test.PageTester;
+import org.apache.tapestry5.test.ioc.TestBase;
+import org.testng.annotations.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Starts the registry of the test application, with the tapestry-jmx module, to check that the request metrics
+ * are available to the module and to the dashboard.
+ */
+public class RequestMetricsRegistryTests extends TestBase
+{
+    @Test
+    public void registry_starts_with_request_metrics_disabled() throws Exception
+    {
+        PageTester tester = new PageTester("org.example.testapp", "app", "src/test/webapp");
+
+        try
+        {
+            Registry registry = tester.getRegistry();
+
+            assertFalse(registry.getService(RequestMetrics.class).isEnabled());
+            assertFalse(getMBeanServer().isRegistered(new ObjectName(RequestMetricsMXBean.OBJECT_NAME)));
+
+            // The Metrics page of the dashboard injects the RequestMetrics service.
+
+            assertNotNull(registry.getService(ComponentSource.class).getPage("core/Metrics"));
+        } finally
+        {
+            tester.shutdown();
+        }
+    }
+
+    @Test
+    public void request_metrics_mxbean_is_registered_when_enabled() throws Exception
+    {
+        System.setProperty(SymbolConstants.REQUEST_METRICS_ENABLED, "true");
+
+        PageTester tester = null;
+
+        try
+        {
+            tester = new PageTester("org.example.testapp", "app", "src/test/webapp");
+
+            assertTrue(tester.getRegistry().getService(RequestMetrics.class).isEnabled());
+            assertTrue(getMBeanServer().isRegistered(new ObjectName(RequestMetricsMXBean.OBJECT_NAME)));
+        } finally
+        {
+            System.clearProperty(SymbolConstants.REQUEST_METRICS_ENABLED);
+
+            if (tester != null)
+            {
+                tester.shutdown();
+            }
+        }
+
+        assertFalse(getMBeanServer().isRegistered(new ObjectName(RequestMetricsMXBean.OBJECT_NAME)));
+    }
+
+    private static MBeanServer getMBeanServer()
+    {
+        return ManagementFactory.getPlatformMBeanServer();
+    }
+}
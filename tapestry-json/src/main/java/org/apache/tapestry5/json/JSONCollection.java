@@ -13,6 +13,8 @@
 package org.apache.tapestry5.json;
 
 import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.Serializable;
 
@@ -110,6 +112,28 @@ public abstract class JSONCollection implements Serializable
         print(writer, false);
     }
 
+    /**
+     * Writes the collection to the stream (compactly or not), encoded as UTF-8. The content is encoded directly into
+     * a reusable byte buffer, without the intermediate character buffers and copying of printing to a Writer. The
+     * stream is flushed, but not closed.
+     *
+     * @param out
+     *            to write content to
+     * @param compact
+     *            if true, then write compactly, if false, write with pretty printing
+     * @throws IOException
+     *            if writing to the stream fails
+     * @since 5.8.0
+     */
+    public void writeTo(OutputStream out, boolean compact) throws IOException
+    {
+        UTF8Session session = new UTF8Session(out, compact);
+
+        print(session);
+
+        session.finish();
+    }
+
     /**
      * Print the collection in a parsable format using the session to (optionally) inject extra
      * whitespace (for "pretty printing").
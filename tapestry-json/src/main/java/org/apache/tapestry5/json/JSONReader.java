@@ -0,0 +1,883 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+import org.apache.tapestry5.json.exceptions.JSONSyntaxException;
+
+/**
+ * Reads JSON content from a {@link Reader} one token at a time, so that large content can be processed without
+ * first being parsed into a {@link JSONObject} or {@link JSONArray}. Individual values (including nested objects
+ * and arrays) can still be materialized using {@link #nextValue()}. Example:
+ *
+ * <pre>
+ * JSONReader reader = new JSONReader(request.getReader());
+ *
+ * reader.beginArray();
+ *
+ * while (reader.hasNext())
+ * {
+ *     reader.beginObject();
+ *
+ *     while (reader.hasNext())
+ *     {
+ *         String name = reader.nextName();
+ *
+ *         if (name.equals("id"))
+ *             process(reader.nextLong());
+ *         else
+ *             reader.skipValue();
+ *     }
+ *
+ *     reader.endObject();
+ * }
+ *
+ * reader.endArray();</pre>
+ *
+ * Unlike the parsing done by the {@link JSONObject} and {@link JSONArray} constructors, the reader is strict: the
+ * input must be a single JSON value as defined by RFC 8259 (optionally preceded by a byte order mark). Malformed
+ * input results in a {@link JSONSyntaxException} identifying the character position of the error; invoking a
+ * method that does not match the next token results in an {@link IllegalStateException}. Errors reading from the
+ * underlying reader are rethrown as {@link UncheckedIOException}.
+ *
+ * Instances of this class are not thread safe.
+ *
+ * @since 5.8.0
+ */
+public final class JSONReader implements Closeable
+{
+    /**
+     * The kinds of token that may be read.
+     */
+    public enum Token
+    {
+        START_OBJECT, END_OBJECT, START_ARRAY, END_ARRAY,
+
+        /**
+         * A key within an object.
+         */
+        NAME,
+
+        STRING, NUMBER, BOOLEAN, NULL,
+
+        /**
+         * The end of the input, after the single top-level value.
+         */
+        END_DOCUMENT
+    }
+
+    private static final int EMPTY_ARRAY = 0, NONEMPTY_ARRAY = 1, EMPTY_OBJECT = 2, DANGLING_NAME = 3,
+            NONEMPTY_OBJECT = 4, EMPTY_DOCUMENT = 5, NONEMPTY_DOCUMENT = 6;
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+
+    private final char[] buffer = new char[1024];
+
+    /**
+     * Position of the next character within the buffer, and the number of characters in the buffer.
+     */
+    private int pos, limit;
+
+    /**
+     * Number of characters read before the current buffer.
+     */
+    private int offset;
+
+    private int[] stack = new int[16];
+
+    private int depth;
+
+    private Token peeked;
+
+    /**
+     * The text of a peeked NAME, STRING or NUMBER, or "true" or "false" for a peeked BOOLEAN.
+     */
+    private String peekedText;
+
+    private final StringBuilder builder = new StringBuilder();
+
+    public JSONReader(Reader reader)
+    {
+        assert reader != null;
+
+        this.reader = reader;
+
+        stack[depth++] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Returns the type of the next token, without consuming it.
+     */
+    public Token peek()
+    {
+        if (peeked != null)
+        {
+            return peeked;
+        }
+
+        int c;
+
+        switch (stack[depth - 1])
+        {
+            case EMPTY_ARRAY:
+                stack[depth - 1] = NONEMPTY_ARRAY;
+
+                c = nextNonWhitespace();
+
+                if (c == ']')
+                {
+                    return pop(Token.END_ARRAY);
+                }
+
+                return readValue(c);
+
+            case NONEMPTY_ARRAY:
+                c = nextNonWhitespace();
+
+                if (c == ']')
+                {
+                    return pop(Token.END_ARRAY);
+                }
+
+                if (c != ',')
+                {
+                    throw unexpected(c, "',' or ']'");
+                }
+
+                return readValue(nextNonWhitespace());
+
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                boolean empty = stack[depth - 1] == EMPTY_OBJECT;
+
+                c = nextNonWhitespace();
+
+                if (c == '}')
+                {
+                    return pop(Token.END_OBJECT);
+                }
+
+                if (!empty)
+                {
+                    if (c != ',')
+                    {
+                        throw unexpected(c, "',' or '}'");
+                    }
+
+                    c = nextNonWhitespace();
+                }
+
+                if (c != '"')
+                {
+                    throw unexpected(c, empty ? "a quoted name or '}'" : "a quoted name");
+                }
+
+                stack[depth - 1] = DANGLING_NAME;
+                peekedText = readString();
+
+                return peeked = Token.NAME;
+
+            case DANGLING_NAME:
+                c = nextNonWhitespace();
+
+                if (c != ':')
+                {
+                    throw unexpected(c, "':'");
+                }
+
+                stack[depth - 1] = NONEMPTY_OBJECT;
+
+                return readValue(nextNonWhitespace());
+
+            case EMPTY_DOCUMENT:
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+
+                c = nextNonWhitespace();
+
+                if (c == '\uFEFF' && offset + pos == 1)
+                {
+                    c = nextNonWhitespace();
+                }
+
+                return readValue(c);
+
+            default:
+                c = nextNonWhitespace();
+
+                if (c != EOF)
+                {
+                    throw new JSONSyntaxException(position() - 1, "Unexpected content after the end of the JSON document.");
+                }
+
+                return peeked = Token.END_DOCUMENT;
+        }
+    }
+
+    /**
+     * Returns true if the current object or array has another element (or, at the top level, if the top-level
+     * value has not yet been read).
+     */
+    public boolean hasNext()
+    {
+        Token token = peek();
+
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    /**
+     * Consumes the start of an object.
+     */
+    public void beginObject()
+    {
+        consume(Token.START_OBJECT);
+    }
+
+    /**
+     * Consumes the end of an object.
+     */
+    public void endObject()
+    {
+        consume(Token.END_OBJECT);
+    }
+
+    /**
+     * Consumes the start of an array.
+     */
+    public void beginArray()
+    {
+        consume(Token.START_ARRAY);
+    }
+
+    /**
+     * Consumes the end of an array.
+     */
+    public void endArray()
+    {
+        consume(Token.END_ARRAY);
+    }
+
+    /**
+     * Consumes and returns the next key within an object.
+     */
+    public String nextName()
+    {
+        return consume(Token.NAME);
+    }
+
+    /**
+     * Consumes and returns a string value.
+     */
+    public String nextString()
+    {
+        return consume(Token.STRING);
+    }
+
+    /**
+     * Consumes and returns a boolean value.
+     */
+    public boolean nextBoolean()
+    {
+        return Boolean.parseBoolean(consume(Token.BOOLEAN));
+    }
+
+    /**
+     * Consumes a null value.
+     */
+    public void nextNull()
+    {
+        consume(Token.NULL);
+    }
+
+    /**
+     * Consumes a number, returning it as an Integer, Long or Double (the first that can represent it), as with
+     * the values of a parsed {@link JSONObject}.
+     */
+    public Number nextNumber()
+    {
+        String text = consume(Token.NUMBER);
+
+        if (isIntegral(text))
+        {
+            try
+            {
+                long value = Long.parseLong(text);
+
+                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE)
+                {
+                    return (int) value;
+                }
+
+                return value;
+            } catch (NumberFormatException ex)
+            {
+                // Too large for a long; fall through.
+            }
+        }
+
+        return Double.valueOf(text);
+    }
+
+    /**
+     * Consumes a number that must be an integer within the range of an int.
+     */
+    public int nextInt()
+    {
+        int position = position();
+        long value = nextLong();
+
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+        {
+            throw new JSONSyntaxException(position, String.format("Number %d is out of range for an int.", value));
+        }
+
+        return (int) value;
+    }
+
+    /**
+     * Consumes a number that must be an integer within the range of a long.
+     */
+    public long nextLong()
+    {
+        int position = position();
+        String text = consume(Token.NUMBER);
+
+        if (isIntegral(text))
+        {
+            try
+            {
+                return Long.parseLong(text);
+            } catch (NumberFormatException ex)
+            {
+                // Fall through.
+            }
+        }
+
+        double value = Double.parseDouble(text);
+
+        if (value != Math.rint(value) || Math.abs(value) >= 0x1p63)
+        {
+            throw new JSONSyntaxException(position, String.format("Number %s is not an integer within the range of a long.", text));
+        }
+
+        return (long) value;
+    }
+
+    /**
+     * Consumes a number, as a double.
+     */
+    public double nextDouble()
+    {
+        return Double.parseDouble(consume(Token.NUMBER));
+    }
+
+    /**
+     * Consumes the next value, which may be an object or array (returned as a {@link JSONObject} or
+     * {@link JSONArray}), a String, a Boolean, a Number (as with {@link #nextNumber()}), or {@link JSONObject#NULL}.
+     */
+    public Object nextValue()
+    {
+        switch (peek())
+        {
+            case START_OBJECT:
+                JSONObject object = new JSONObject();
+
+                beginObject();
+
+                while (hasNext())
+                {
+                    String name = nextName();
+
+                    object.put(name, nextValue());
+                }
+
+                endObject();
+
+                return object;
+
+            case START_ARRAY:
+                JSONArray array = new JSONArray();
+
+                beginArray();
+
+                while (hasNext())
+                {
+                    array.put(nextValue());
+                }
+
+                endArray();
+
+                return array;
+
+            case STRING:
+                return nextString();
+
+            case NUMBER:
+                return nextNumber();
+
+            case BOOLEAN:
+                return nextBoolean();
+
+            case NULL:
+                nextNull();
+
+                return JSONObject.NULL;
+
+            default:
+                throw new IllegalStateException(String.format("Expected a JSON value but was %s.", peeked));
+        }
+    }
+
+    /**
+     * Consumes and discards the next value, including all the content of an object or array.
+     */
+    public void skipValue()
+    {
+        int nesting = 0;
+
+        do
+        {
+            Token token = peek();
+
+            switch (token)
+            {
+                case START_OBJECT:
+                case START_ARRAY:
+                    nesting++;
+                    break;
+
+                case END_OBJECT:
+                case END_ARRAY:
+                    nesting--;
+                    break;
+
+                case END_DOCUMENT:
+                    throw new IllegalStateException("Expected a JSON value but was END_DOCUMENT.");
+
+                default:
+                    break;
+            }
+
+            if (nesting < 0)
+            {
+                throw new IllegalStateException(String.format("Expected a JSON value but was %s.", token));
+            }
+
+            peeked = null;
+        } while (nesting > 0);
+    }
+
+    /**
+     * Returns the number of characters consumed so far.
+     */
+    public int getPosition()
+    {
+        return position();
+    }
+
+    /**
+     * Closes the underlying reader.
+     */
+    @Override
+    public void close()
+    {
+        try
+        {
+            reader.close();
+        } catch (IOException ex)
+        {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private int position()
+    {
+        return offset + pos;
+    }
+
+    private String consume(Token expected)
+    {
+        Token token = peek();
+
+        if (token != expected)
+        {
+            throw new IllegalStateException(String.format("Expected %s but was %s at character position %d.",
+                    expected, token, position()));
+        }
+
+        peeked = null;
+
+        return peekedText;
+    }
+
+    private Token pop(Token token)
+    {
+        depth--;
+
+        return peeked = token;
+    }
+
+    private void push(int scope)
+    {
+        if (depth == stack.length)
+        {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+
+        stack[depth++] = scope;
+    }
+
+    /**
+     * Reads the value that starts with the character (which has already been consumed).
+     */
+    private Token readValue(int c)
+    {
+        switch (c)
+        {
+            case '{':
+                push(EMPTY_OBJECT);
+                return peeked = Token.START_OBJECT;
+
+            case '[':
+                push(EMPTY_ARRAY);
+                return peeked = Token.START_ARRAY;
+
+            case '"':
+                peekedText = readString();
+                return peeked = Token.STRING;
+
+            case 't':
+                readLiteral("true");
+                peekedText = "true";
+                return peeked = Token.BOOLEAN;
+
+            case 'f':
+                readLiteral("false");
+                peekedText = "false";
+                return peeked = Token.BOOLEAN;
+
+            case 'n':
+                readLiteral("null");
+                peekedText = null;
+                return peeked = Token.NULL;
+
+            default:
+                if (c == '-' || (c >= '0' && c <= '9'))
+                {
+                    peekedText = readNumber(c);
+                    return peeked = Token.NUMBER;
+                }
+
+                throw unexpected(c, "a JSON value");
+        }
+    }
+
+    private void readLiteral(String literal)
+    {
+        for (int i = 1; i < literal.length(); i++)
+        {
+            int c = read();
+
+            if (c != literal.charAt(i))
+            {
+                throw new JSONSyntaxException(c == EOF ? position() : position() - 1,
+                        String.format("Expected '%s'.", literal));
+            }
+        }
+    }
+
+    private String readNumber(int first)
+    {
+        builder.setLength(0);
+
+        int c = first;
+
+        if (c == '-')
+        {
+            builder.append('-');
+            c = read();
+        }
+
+        return readDigits(c);
+    }
+
+    private String readDigits(int c)
+    {
+        if (c == '0')
+        {
+            builder.append('0');
+            c = peekChar();
+
+            if (c >= '0' && c <= '9')
+            {
+                throw syntaxError("Numbers may not have leading zeros.");
+            }
+        } else if (c >= '1' && c <= '9')
+        {
+            builder.append((char) c);
+            appendDigits();
+        } else
+        {
+            throw unexpected(c, "a digit");
+        }
+
+        if (peekChar() == '.')
+        {
+            builder.append((char) read());
+            requireDigits();
+        }
+
+        c = peekChar();
+
+        if (c == 'e' || c == 'E')
+        {
+            builder.append((char) read());
+
+            c = peekChar();
+
+            if (c == '+' || c == '-')
+            {
+                builder.append((char) read());
+            }
+
+            requireDigits();
+        }
+
+        return builder.toString();
+    }
+
+    private void requireDigits()
+    {
+        int c = read();
+
+        if (c < '0' || c > '9')
+        {
+            throw unexpected(c, "a digit");
+        }
+
+        builder.append((char) c);
+        appendDigits();
+    }
+
+    private void appendDigits()
+    {
+        while (true)
+        {
+            int c = peekChar();
+
+            if (c < '0' || c > '9')
+            {
+                return;
+            }
+
+            builder.append((char) c);
+            pos++;
+        }
+    }
+
+    /**
+     * Reads the remainder of a string, the opening quote having been consumed.
+     */
+    private String readString()
+    {
+        builder.setLength(0);
+
+        while (true)
+        {
+            int start = pos;
+
+            // Fast path: scan the buffer for the closing quote, with no escapes.
+
+            while (pos < limit)
+            {
+                char c = buffer[pos];
+
+                if (c == '"')
+                {
+                    String result = builder.length() == 0
+                            ? new String(buffer, start, pos - start)
+                            : builder.append(buffer, start, pos - start).toString();
+
+                    pos++;
+
+                    return result;
+                }
+
+                if (c == '\\' || c < 0x20)
+                {
+                    break;
+                }
+
+                pos++;
+            }
+
+            builder.append(buffer, start, pos - start);
+
+            if (pos == limit)
+            {
+                if (!fill())
+                {
+                    throw syntaxError("Unterminated string.");
+                }
+
+                continue;
+            }
+
+            if (buffer[pos++] == '\\')
+            {
+                builder.append(readEscape());
+            } else
+            {
+                throw new JSONSyntaxException(position() - 1, "Control characters must be escaped within strings.");
+            }
+        }
+    }
+
+    private char readEscape()
+    {
+        int c = read();
+
+        switch (c)
+        {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+
+            case 'b':
+                return '\b';
+
+            case 'f':
+                return '\f';
+
+            case 'n':
+                return '\n';
+
+            case 'r':
+                return '\r';
+
+            case 't':
+                return '\t';
+
+            case 'u':
+                int value = 0;
+
+                for (int i = 0; i < 4; i++)
+                {
+                    int digit = Character.digit(read(), 16);
+
+                    if (digit < 0)
+                    {
+                        throw new JSONSyntaxException(position() - 1, "Invalid \\u escape sequence.");
+                    }
+
+                    value = (value << 4) | digit;
+                }
+
+                return (char) value;
+
+            default:
+                throw new JSONSyntaxException(position() - 1, "Invalid escape sequence.");
+        }
+    }
+
+    private int nextNonWhitespace()
+    {
+        while (true)
+        {
+            int c = read();
+
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r')
+            {
+                return c;
+            }
+        }
+    }
+
+    private int read()
+    {
+        if (pos == limit && !fill())
+        {
+            return EOF;
+        }
+
+        return buffer[pos++];
+    }
+
+    private int peekChar()
+    {
+        if (pos == limit && !fill())
+        {
+            return EOF;
+        }
+
+        return buffer[pos];
+    }
+
+    private boolean fill()
+    {
+        offset += limit;
+        pos = limit = 0;
+
+        try
+        {
+            int count;
+
+            do
+            {
+                count = reader.read(buffer, 0, buffer.length);
+            } while (count == 0);
+
+            if (count < 0)
+            {
+                return false;
+            }
+
+            limit = count;
+
+            return true;
+        } catch (IOException ex)
+        {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static boolean isIntegral(String text)
+    {
+        return text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0;
+    }
+
+    private JSONSyntaxException unexpected(int c, String expected)
+    {
+        if (c == EOF)
+        {
+            return syntaxError(String.format("Unexpected end of input; expected %s.", expected));
+        }
+
+        return new JSONSyntaxException(position() - 1, String.format("Unexpected character '%s'; expected %s.",
+                (char) c, expected));
+    }
+
+    private JSONSyntaxException syntaxError(String message)
+    {
+        return new JSONSyntaxException(position(), message);
+    }
+}
@@ -0,0 +1,37 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.json;
+
+/**
+ * A JSON value that writes itself, incrementally, to a {@link JSONWriter}, rather than being assembled as a
+ * {@link JSONObject} or {@link JSONArray} first. This allows large JSON content to be streamed to its destination
+ * (typically, the response to an Ajax request) without ever being held in memory as a whole.
+ *
+ * A JSONStreamable may be passed to {@link JSONWriter#value(Object)}, or returned from an Ajax component event
+ * handler method.
+ *
+ * @since 5.8.0
+ */
+@FunctionalInterface
+public interface JSONStreamable
+{
+    /**
+     * Writes exactly one JSON value (most often, an object or an array) to the writer.
+     *
+     * @param writer
+     *         to which the value is written
+     */
+    void writeTo(JSONWriter writer);
+}
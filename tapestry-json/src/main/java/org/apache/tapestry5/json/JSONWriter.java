@@ -0,0 +1,374 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.json;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.tapestry5.json.JSONStringer.Scope;
+
+/**
+ * Writes JSON content directly to a {@link Writer} or {@link OutputStream}, one value at a time, so that large content never needs to be
+ * assembled as a {@link JSONObject} or {@link JSONArray}. The output is formatted (compact or pretty printed)
+ * exactly as {@link JSONCollection#print(PrintWriter, boolean)} would format the equivalent collection. Example:
+ *
+ * <pre>
+ * JSONWriter writer = new JSONWriter(response.getPrintWriter(contentType), true);
+ *
+ * writer.object().entry("count", rows.size()).key("rows").array();
+ *
+ * for (Row row : rows)
+ * {
+ *     writer.object().entry("id", row.getId()).entry("name", row.getName()).endObject();
+ * }
+ *
+ * writer.endArray().endObject().close();</pre>
+ *
+ * Exactly one top-level value may be written; objects and arrays must be properly nested, and inside an object,
+ * each value must be preceded by a {@linkplain #key(String) key}. Violations result in an
+ * {@link IllegalStateException}.
+ *
+ * When writing to an OutputStream, the content is encoded as UTF-8 directly into a reusable byte buffer; this is
+ * more efficient than wrapping the stream in a Writer.
+ *
+ * As with {@link PrintWriter}, errors writing to the underlying writer or stream are not thrown; use
+ * {@link #checkError()} to detect them.
+ *
+ * Instances of this class are not thread safe.
+ *
+ * @since 5.8.0
+ */
+public final class JSONWriter implements Closeable, Flushable
+{
+    private final PrintWriter writer;
+
+    private final UTF8Session utf8Session;
+
+    private final JSONPrintSession session;
+
+    private final List<Scope> stack = new ArrayList<Scope>();
+
+    private boolean rootWritten;
+
+    /**
+     * Creates a writer that writes compactly, with no extra whitespace.
+     */
+    public JSONWriter(Writer writer)
+    {
+        this(writer, true);
+    }
+
+    /**
+     * @param writer
+     *         the destination of the JSON content; if not a {@link PrintWriter}, it is wrapped in one (without
+     *         additional buffering)
+     * @param compact
+     *         if true, then write compactly, if false, write with pretty printing
+     */
+    public JSONWriter(Writer writer, boolean compact)
+    {
+        assert writer != null;
+
+        this.writer = writer instanceof PrintWriter ? (PrintWriter) writer : new PrintWriter(writer);
+
+        utf8Session = null;
+        session = compact ? new CompactSession(this.writer) : new PrettyPrintSession(this.writer);
+    }
+
+    /**
+     * @param out
+     *         the destination of the JSON content, which is encoded as UTF-8
+     * @param compact
+     *         if true, then write compactly, if false, write with pretty printing
+     */
+    public JSONWriter(OutputStream out, boolean compact)
+    {
+        assert out != null;
+
+        writer = null;
+        session = utf8Session = new UTF8Session(out, compact);
+    }
+
+    /**
+     * Begins an object; each value in the object must be preceded by a {@linkplain #key(String) key}, and the
+     * object must be ended with {@link #endObject()}.
+     *
+     * @return this writer
+     */
+    public JSONWriter object()
+    {
+        return open(Scope.EMPTY_OBJECT, '{');
+    }
+
+    /**
+     * Ends the current object.
+     *
+     * @return this writer
+     */
+    public JSONWriter endObject()
+    {
+        return close(Scope.EMPTY_OBJECT, Scope.NONEMPTY_OBJECT, '}');
+    }
+
+    /**
+     * Begins an array, which must be ended with {@link #endArray()}.
+     *
+     * @return this writer
+     */
+    public JSONWriter array()
+    {
+        return open(Scope.EMPTY_ARRAY, '[');
+    }
+
+    /**
+     * Ends the current array.
+     *
+     * @return this writer
+     */
+    public JSONWriter endArray()
+    {
+        return close(Scope.EMPTY_ARRAY, Scope.NONEMPTY_ARRAY, ']');
+    }
+
+    /**
+     * Writes the key for the next value of the current object.
+     *
+     * @param name
+     *         the key, which may not be null
+     * @return this writer
+     */
+    public JSONWriter key(String name)
+    {
+        if (name == null)
+        {
+            throw new IllegalArgumentException("JSON object keys may not be null.");
+        }
+
+        Scope scope = stack.isEmpty() ? null : top();
+
+        if (scope == Scope.NONEMPTY_OBJECT)
+        {
+            session.printSymbol(',');
+        } else if (scope != Scope.EMPTY_OBJECT)
+        {
+            throw new IllegalStateException(scope == Scope.DANGLING_KEY
+                    ? String.format("Key '%s' may not immediately follow another key.", name)
+                    : String.format("Key '%s' may only be written inside an object.", name));
+        }
+
+        session.newline();
+        session.printQuoted(name);
+        session.printSymbol(':');
+
+        replaceTop(Scope.DANGLING_KEY);
+
+        return this;
+    }
+
+    /**
+     * Writes a value: a {@link JSONObject}, {@link JSONArray}, {@link JSONStreamable}, String, Boolean, Number,
+     * {@link JSONString}, {@link JSONLiteral}, {@link JSONObject#NULL} or null.
+     *
+     * @param value
+     *         the value to write
+     * @return this writer
+     */
+    public JSONWriter value(Object value)
+    {
+        if (value instanceof JSONStreamable)
+        {
+            ((JSONStreamable) value).writeTo(this);
+
+            return this;
+        }
+
+        if (value != null)
+        {
+            JSON.testValidity(value);
+
+            if (value instanceof Number)
+            {
+                JSON.checkDouble(((Number) value).doubleValue());
+            }
+        }
+
+        beforeValue();
+
+        JSONObject.printValue(session, value);
+
+        return this;
+    }
+
+    /**
+     * Writes a key and its value into the current object; equivalent to {@code key(name).value(value)}.
+     *
+     * @return this writer
+     */
+    public JSONWriter entry(String name, Object value)
+    {
+        return key(name).value(value);
+    }
+
+    /**
+     * Flushes the underlying writer or stream.
+     */
+    @Override
+    public void flush()
+    {
+        if (writer != null)
+        {
+            writer.flush();
+
+            return;
+        }
+
+        try
+        {
+            utf8Session.flush();
+        } catch (IOException ex)
+        {
+            // Retained by the session, and reported by checkError().
+        }
+    }
+
+    /**
+     * Returns true if an error occurred writing to, or flushing, the underlying writer or stream.
+     */
+    public boolean checkError()
+    {
+        return writer != null ? writer.checkError() : utf8Session.checkError();
+    }
+
+    /**
+     * Closes the underlying writer or stream.
+     *
+     * @throws IllegalStateException
+     *         if an object or array has not been ended (the writer is closed regardless)
+     */
+    @Override
+    public void close()
+    {
+        if (writer != null)
+        {
+            writer.close();
+        } else
+        {
+            try
+            {
+                utf8Session.close();
+            } catch (IOException ex)
+            {
+                // Retained by the session, and reported by checkError().
+            }
+        }
+
+        if (!stack.isEmpty())
+        {
+            throw new IllegalStateException("JSON content is incomplete: not all objects and arrays have been ended.");
+        }
+    }
+
+    private JSONWriter open(Scope empty, char symbol)
+    {
+        beforeValue();
+
+        session.printSymbol(symbol);
+        session.indent();
+
+        stack.add(empty);
+
+        return this;
+    }
+
+    private JSONWriter close(Scope empty, Scope nonempty, char symbol)
+    {
+        Scope scope = stack.isEmpty() ? null : top();
+
+        if (scope != empty && scope != nonempty)
+        {
+            throw new IllegalStateException(String.format("Unexpected '%s': %s.", symbol,
+                    scope == null ? "there is no open object or array"
+                            : scope == Scope.DANGLING_KEY ? "a key has no value"
+                            : "it does not match the open object or array"));
+        }
+
+        stack.remove(stack.size() - 1);
+
+        session.outdent();
+
+        if (scope == nonempty)
+        {
+            session.newline();
+        }
+
+        session.printSymbol(symbol);
+
+        return this;
+    }
+
+    /**
+     * Writes any separator needed before a value, checking that a value is allowed at this point.
+     */
+    private void beforeValue()
+    {
+        if (stack.isEmpty())
+        {
+            if (rootWritten)
+            {
+                throw new IllegalStateException("Only a single top-level JSON value may be written.");
+            }
+
+            rootWritten = true;
+
+            return;
+        }
+
+        switch (top())
+        {
+            case EMPTY_ARRAY:
+                replaceTop(Scope.NONEMPTY_ARRAY);
+                session.newline();
+                break;
+
+            case NONEMPTY_ARRAY:
+                session.printSymbol(',');
+                session.newline();
+                break;
+
+            case DANGLING_KEY:
+                replaceTop(Scope.NONEMPTY_OBJECT);
+                break;
+
+            default:
+                throw new IllegalStateException("Each value inside a JSON object must be preceded by a key.");
+        }
+    }
+
+    private Scope top()
+    {
+        return stack.get(stack.size() - 1);
+    }
+
+    private void replaceTop(Scope scope)
+    {
+        stack.set(stack.size() - 1, scope);
+    }
+}
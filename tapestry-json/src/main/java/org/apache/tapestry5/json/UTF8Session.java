@@ -0,0 +1,421 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Prints JSON content (compactly, or pretty printed exactly as {@link PrettyPrintSession} would) directly as UTF-8
+ * encoded bytes, rather than as characters to be encoded by a Writer. Strings are escaped exactly as
+ * {@link JSONObject#quote(String)} would escape them, but without creating intermediate Strings; plain ASCII
+ * characters are copied straight to the buffer.
+ *
+ * Content is accumulated in a buffer that is reused by later sessions in the same thread, and written to the stream
+ * whenever the buffer fills, and when the session is {@linkplain #flush() flushed}. The first IOException from the
+ * stream is retained (and further content discarded), and rethrown by {@link #flush()} and {@link #close()}.
+ *
+ * @since 5.8.0
+ */
+class UTF8Session implements JSONPrintSession
+{
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The most bytes a single character can require: a six character \\u escape sequence.
+     */
+    private static final int MAX_CHAR_BYTES = 6;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * A buffer available for reuse by the current thread, or null if the thread's buffer is in use.
+     */
+    private static final ThreadLocal<byte[]> BUFFERS = new ThreadLocal<byte[]>();
+
+    private final OutputStream out;
+
+    private final boolean compact;
+
+    private byte[] buffer;
+
+    private int count;
+
+    private IOException failure;
+
+    private int indentLevel;
+
+    private PrettyPrintSession.Position position = PrettyPrintSession.Position.MARGIN;
+
+    UTF8Session(OutputStream out, boolean compact)
+    {
+        this.out = out;
+        this.compact = compact;
+
+        buffer = BUFFERS.get();
+
+        if (buffer == null)
+        {
+            buffer = new byte[BUFFER_SIZE];
+        } else
+        {
+            BUFFERS.set(null);
+        }
+    }
+
+    @Override
+    public JSONPrintSession indent()
+    {
+        indentLevel++;
+
+        return this;
+    }
+
+    @Override
+    public JSONPrintSession outdent()
+    {
+        indentLevel--;
+
+        return this;
+    }
+
+    @Override
+    public JSONPrintSession newline()
+    {
+        if (!compact && position != PrettyPrintSession.Position.MARGIN)
+        {
+            ensureCapacity(1);
+            buffer[count++] = '\n';
+
+            position = PrettyPrintSession.Position.MARGIN;
+        }
+
+        return this;
+    }
+
+    @Override
+    public JSONPrintSession print(String value)
+    {
+        prepareToPrint();
+
+        writeChars(value, false);
+
+        position = PrettyPrintSession.Position.CONTENT;
+
+        return this;
+    }
+
+    @Override
+    public JSONPrintSession printQuoted(String value)
+    {
+        prepareToPrint();
+
+        ensureCapacity(1);
+        buffer[count++] = '"';
+
+        if (value != null)
+        {
+            writeChars(value, true);
+        }
+
+        ensureCapacity(1);
+        buffer[count++] = '"';
+
+        position = PrettyPrintSession.Position.CONTENT;
+
+        return this;
+    }
+
+    @Override
+    public JSONPrintSession printSymbol(char symbol)
+    {
+        if (!compact)
+        {
+            addIndentation();
+
+            if (symbol != ',')
+            {
+                addSep();
+            }
+        }
+
+        ensureCapacity(1);
+        buffer[count++] = (byte) symbol;
+
+        return this;
+    }
+
+    /**
+     * Writes the buffered content to the stream, and flushes the stream.
+     *
+     * @throws IOException
+     *         if writing to the stream has failed
+     */
+    void flush() throws IOException
+    {
+        flushBuffer();
+
+        if (failure == null)
+        {
+            try
+            {
+                out.flush();
+            } catch (IOException ex)
+            {
+                failure = ex;
+            }
+        }
+
+        if (failure != null)
+        {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes the buffered content to the stream and flushes it, then makes the buffer available for reuse; the
+     * session may not be used afterwards.
+     *
+     * @throws IOException
+     *         if writing to the stream has failed
+     */
+    void finish() throws IOException
+    {
+        if (buffer == null)
+        {
+            return;
+        }
+
+        try
+        {
+            flush();
+        } finally
+        {
+            BUFFERS.set(buffer);
+
+            buffer = null;
+        }
+    }
+
+    /**
+     * {@linkplain #finish() Finishes} the session, then closes the stream.
+     *
+     * @throws IOException
+     *         if writing to, or closing, the stream has failed
+     */
+    void close() throws IOException
+    {
+        try
+        {
+            finish();
+        } finally
+        {
+            out.close();
+        }
+    }
+
+    boolean checkError()
+    {
+        if (failure == null && buffer != null)
+        {
+            try
+            {
+                flush();
+            } catch (IOException ex)
+            {
+                // Retained as the failure.
+            }
+        }
+
+        return failure != null;
+    }
+
+    private void prepareToPrint()
+    {
+        if (!compact)
+        {
+            addIndentation();
+            addSep();
+        }
+    }
+
+    private void addIndentation()
+    {
+        if (position == PrettyPrintSession.Position.MARGIN)
+        {
+            for (int i = 0; i < indentLevel; i++)
+            {
+                ensureCapacity(2);
+                buffer[count++] = ' ';
+                buffer[count++] = ' ';
+            }
+
+            position = PrettyPrintSession.Position.INDENTED;
+        }
+    }
+
+    private void addSep()
+    {
+        if (position == PrettyPrintSession.Position.CONTENT)
+        {
+            ensureCapacity(1);
+            buffer[count++] = ' ';
+        }
+    }
+
+    /**
+     * Encodes the characters as UTF-8, optionally escaping them as with {@link JSONStringer#string(String)}. Unpaired
+     * surrogates are encoded as '?', as with {@link String#getBytes(java.nio.charset.Charset)}.
+     */
+    private void writeChars(String value, boolean escape)
+    {
+        byte[] buffer = this.buffer;
+        int count = this.count;
+        int limit = buffer.length - MAX_CHAR_BYTES;
+
+        char previous = 0;
+
+        for (int i = 0, length = value.length(); i < length; i++)
+        {
+            if (count > limit)
+            {
+                this.count = count;
+                flushBuffer();
+                count = this.count;
+            }
+
+            char c = value.charAt(i);
+
+            if (c < 0x80)
+            {
+                if (!escape || (c >= 0x20 && c != '"' && c != '\\' && (c != '/' || previous != '<')))
+                {
+                    buffer[count++] = (byte) c;
+                } else
+                {
+                    count = escapeASCII(buffer, count, c);
+                }
+            } else if (escape && (c < 0xa0 || (c >= 0x2000 && c < 0x2100)))
+            {
+                count = unicodeEscape(buffer, count, c);
+            } else if (c < 0x800)
+            {
+                buffer[count++] = (byte) (0xc0 | (c >> 6));
+                buffer[count++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isSurrogate(c))
+            {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1)))
+                {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+
+                    buffer[count++] = (byte) (0xf0 | (codePoint >> 18));
+                    buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                    buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                    buffer[count++] = (byte) (0x80 | (codePoint & 0x3f));
+
+                    c = value.charAt(i);
+                } else
+                {
+                    buffer[count++] = '?';
+                }
+            } else
+            {
+                buffer[count++] = (byte) (0xe0 | (c >> 12));
+                buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buffer[count++] = (byte) (0x80 | (c & 0x3f));
+            }
+
+            previous = c;
+        }
+
+        this.count = count;
+    }
+
+    private static int escapeASCII(byte[] buffer, int count, char c)
+    {
+        switch (c)
+        {
+            case '"':
+            case '\\':
+            case '/':
+                buffer[count++] = '\\';
+                buffer[count++] = (byte) c;
+                return count;
+
+            case '\t':
+                return shortEscape(buffer, count, 't');
+
+            case '\b':
+                return shortEscape(buffer, count, 'b');
+
+            case '\n':
+                return shortEscape(buffer, count, 'n');
+
+            case '\r':
+                return shortEscape(buffer, count, 'r');
+
+            case '\f':
+                return shortEscape(buffer, count, 'f');
+
+            default:
+                return unicodeEscape(buffer, count, c);
+        }
+    }
+
+    private static int shortEscape(byte[] buffer, int count, char c)
+    {
+        buffer[count++] = '\\';
+        buffer[count++] = (byte) c;
+
+        return count;
+    }
+
+    private static int unicodeEscape(byte[] buffer, int count, char c)
+    {
+        buffer[count++] = '\\';
+        buffer[count++] = 'u';
+        buffer[count++] = HEX[(c >> 12) & 0xf];
+        buffer[count++] = HEX[(c >> 8) & 0xf];
+        buffer[count++] = HEX[(c >> 4) & 0xf];
+        buffer[count++] = HEX[c & 0xf];
+
+        return count;
+    }
+
+    private void ensureCapacity(int bytes)
+    {
+        if (count + bytes > buffer.length)
+        {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer()
+    {
+        if (count > 0 && failure == null)
+        {
+            try
+            {
+                out.write(buffer, 0, count);
+            } catch (IOException ex)
+            {
+                failure = ex;
+            }
+        }
+
+        count = 0;
+    }
+}
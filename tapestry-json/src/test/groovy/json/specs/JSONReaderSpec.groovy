@@ -0,0 +1,222 @@
+package json.specs
+
+import org.apache.tapestry5.json.JSONArray
+import org.apache.tapestry5.json.JSONObject
+import org.apache.tapestry5.json.JSONReader
+import org.apache.tapestry5.json.JSONReader.Token
+import org.apache.tapestry5.json.exceptions.JSONSyntaxException
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class JSONReaderSpec extends Specification {
+
+    /**
+     * Returns one character per read, to exercise refilling of the reader's buffer.
+     */
+    static class TrickleReader extends Reader {
+        private final String input
+        private int pos
+
+        TrickleReader(String input) {
+            this.input = input
+        }
+
+        int read(char[] cbuf, int off, int len) {
+            if (pos == input.length())
+                return -1
+            cbuf[off] = input.charAt(pos++)
+            return 1
+        }
+
+        void close() {
+        }
+    }
+
+    def tokens(String json) {
+        def reader = new JSONReader(new TrickleReader(json))
+        def result = []
+
+        while (true) {
+            def token = reader.peek()
+
+            result << token
+
+            switch (token) {
+                case Token.START_OBJECT: reader.beginObject(); break
+                case Token.END_OBJECT: reader.endObject(); break
+                case Token.START_ARRAY: reader.beginArray(); break
+                case Token.END_ARRAY: reader.endArray(); break
+                case Token.NAME: result << reader.nextName(); break
+                case Token.STRING: result << reader.nextString(); break
+                case Token.NUMBER: result << reader.nextNumber(); break
+                case Token.BOOLEAN: result << reader.nextBoolean(); break
+                case Token.NULL: reader.nextNull(); break
+                case Token.END_DOCUMENT: return result
+            }
+        }
+    }
+
+    def "reads the tokens of a document"() {
+        expect:
+
+        tokens(/ {"a": [1, -2.5e3, "x\ty"], "b" : {"c": null, "d": true} } /) == [
+            Token.START_OBJECT,
+            Token.NAME, "a", Token.START_ARRAY, Token.NUMBER, 1, Token.NUMBER, -2500d, Token.STRING, "x\ty", Token.END_ARRAY,
+            Token.NAME, "b", Token.START_OBJECT, Token.NAME, "c", Token.NULL, Token.NAME, "d", Token.BOOLEAN, true,
+            Token.END_OBJECT,
+            Token.END_OBJECT, Token.END_DOCUMENT]
+    }
+
+    def "a byte order mark is skipped"() {
+        expect:
+
+        tokens("\uFEFF[]") == [Token.START_ARRAY, Token.END_ARRAY, Token.END_DOCUMENT]
+    }
+
+    @Unroll
+    def "number #input is read as #expected"() {
+        expect:
+
+        new JSONReader(new StringReader(input)).nextNumber() == expected
+
+        where:
+
+        input                    | expected
+        "0"                      | 0
+        "-17"                    | -17
+        "3000000000"             | 3000000000L
+        "99999999999999999999"   | 1e20d
+        "0.5"                    | 0.5d
+        "1E2"                    | 100d
+    }
+
+    def "typed number accessors"() {
+        def reader = new JSONReader(new StringReader("[7, 3000000000, 1e3, 2.5]"))
+
+        when:
+
+        reader.beginArray()
+
+        then:
+
+        reader.nextInt() == 7
+        reader.nextLong() == 3000000000L
+        reader.nextLong() == 1000L
+        reader.nextDouble() == 2.5d
+
+        when:
+
+        reader.endArray()
+
+        then:
+
+        !reader.hasNext()
+        reader.peek() == Token.END_DOCUMENT
+    }
+
+    def "nextInt rejects numbers out of range"() {
+        when:
+
+        new JSONReader(new StringReader("3000000000")).nextInt()
+
+        then:
+
+        JSONSyntaxException e = thrown()
+
+        e.message == "Number 3000000000 is out of range for an int."
+    }
+
+    def "string escapes are decoded"() {
+        expect:
+
+        new JSONReader(new StringReader(/"\"\\\/\b\f\n\r\t\u00e9\u20AC"/)).nextString() == "\"\\/\b\f\n\r\t\u00e9\u20ac"
+    }
+
+    def "long strings are read across buffer boundaries"() {
+        def value = ("abc\\\"" * 1000)
+
+        expect:
+
+        new JSONReader(new StringReader('"' + value + '"')).nextString() == value.replace("\\\"", "\"")
+    }
+
+    def "nextValue materializes collections"() {
+        def json = /{"a": [1, 2, {"b": "c"}], "d": null, "e": 3000000000, "f": [], "g": {}}/
+
+        when:
+
+        def value = new JSONReader(new TrickleReader(json)).nextValue()
+
+        then:
+
+        value == new JSONObject(json)
+        value.get("d") == JSONObject.NULL
+    }
+
+    def "values may be skipped"() {
+        def reader = new JSONReader(new StringReader(/[{"a": [1, {"b": [[]]}]}, "x", 2]/))
+
+        when:
+
+        reader.beginArray()
+        reader.skipValue()
+        reader.skipValue()
+
+        then:
+
+        reader.nextInt() == 2
+        !reader.hasNext()
+    }
+
+    def "reading the wrong kind of token is an error"() {
+        def reader = new JSONReader(new StringReader("[1]"))
+
+        when:
+
+        reader.beginObject()
+
+        then:
+
+        IllegalStateException e = thrown()
+
+        e.message == "Expected START_OBJECT but was START_ARRAY at character position 1."
+    }
+
+    @Unroll
+    def "invalid input #input fails at #position: #message"() {
+        when:
+
+        def reader = new JSONReader(new StringReader(input))
+
+        reader.skipValue()
+        reader.peek()
+
+        then:
+
+        JSONSyntaxException e = thrown()
+
+        e.position == position
+        e.message == message
+
+        where:
+
+        input          | position | message
+        ""             | 0        | "Unexpected end of input; expected a JSON value."
+        "[1,]"         | 3        | "Unexpected character ']'; expected a JSON value."
+        "[1 2]"        | 3        | "Unexpected character '2'; expected ',' or ']'."
+        "{a: 1}"       | 1        | "Unexpected character 'a'; expected a quoted name or '}'."
+        "{\"a\" 1}"    | 5        | "Unexpected character '1'; expected ':'."
+        "{\"a\":1,}"   | 7        | "Unexpected character '}'; expected a quoted name."
+        "'x'"          | 0        | "Unexpected character '''; expected a JSON value."
+        "tru"          | 3        | "Expected 'true'."
+        "01"           | 1        | "Numbers may not have leading zeros."
+        "1."           | 2        | "Unexpected end of input; expected a digit."
+        "-x"           | 1        | "Unexpected character 'x'; expected a digit."
+        "\"abc"        | 4        | "Unterminated string."
+        "\"a\tb\""     | 2        | "Control characters must be escaped within strings."
+        "\"\\x\""      | 2        | "Invalid escape sequence."
+        "\"\\u12g4\""  | 5        | "Invalid \\u escape sequence."
+        "[] []"        | 3        | "Unexpected content after the end of the JSON document."
+    }
+}
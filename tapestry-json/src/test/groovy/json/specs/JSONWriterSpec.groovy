@@ -0,0 +1,151 @@
+package json.specs
+
+import org.apache.tapestry5.json.JSONArray
+import org.apache.tapestry5.json.JSONLiteral
+import org.apache.tapestry5.json.JSONObject
+import org.apache.tapestry5.json.JSONStreamable
+import org.apache.tapestry5.json.JSONWriter
+import org.apache.tapestry5.json.exceptions.JSONInvalidTypeException
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class JSONWriterSpec extends Specification {
+
+    def write(boolean compact, Closure closure) {
+        def sw = new StringWriter()
+        def writer = new JSONWriter(sw, compact)
+
+        closure.call(writer)
+
+        writer.close()
+
+        return sw.toString()
+    }
+
+    def writeCollection(JSONWriter writer, Object value) {
+        if (value instanceof JSONObject) {
+            writer.object()
+            value.keys().each { key ->
+                writer.key(key)
+                writeCollection(writer, value.opt(key))
+            }
+            writer.endObject()
+            return
+        }
+
+        if (value instanceof JSONArray) {
+            writer.array()
+            value.each { writeCollection(writer, it) }
+            writer.endArray()
+            return
+        }
+
+        writer.value(value)
+    }
+
+    @Unroll
+    def "streamed output matches printed collection for #json (compact: #compact)"() {
+        def collection = json.startsWith("[") ? new JSONArray(json) : new JSONObject(json)
+
+        when:
+
+        def output = write(compact) { writeCollection(it, collection) }
+
+        then:
+
+        output == (compact ? collection.toCompactString() : collection.toString())
+
+        where:
+
+        [json, compact] << [
+            ["{}", "[]", "[1, 2.5, 'x']", "{a: 1, b: [true, false, null], c: {}, d: {e: [], f: 'g</h'}}",
+                "[[], [[]], {x: {y: [1, {z: 'w'}]}}]"],
+            [true, false]
+        ].combinations()
+    }
+
+    def "embedded collections are printed in place"() {
+        def object = new JSONObject("a", 1, "b", new JSONArray(2, 3))
+
+        when:
+
+        def output = write(true) { it.array().value(object).value(new JSONLiteral("f()")).value(null).endArray() }
+
+        then:
+
+        output == /[{"a":1,"b":[2,3]},f(),null]/
+    }
+
+    def "streamables may be nested"() {
+        JSONStreamable inner = { JSONWriter w -> w.array().value(1).value(2).endArray() } as JSONStreamable
+
+        when:
+
+        def output = write(true) { it.object().entry("inner", inner).entry("after", "x").endObject() }
+
+        then:
+
+        output == /{"inner":[1,2],"after":"x"}/
+    }
+
+    def "writing to a PrintWriter does not wrap it"() {
+        def sw = new StringWriter()
+        def pw = new PrintWriter(sw)
+
+        when:
+
+        def writer = new JSONWriter(pw)
+        writer.value("fred").flush()
+
+        then:
+
+        sw.toString() == /"fred"/
+        !writer.checkError()
+    }
+
+    @Unroll
+    def "#desc is rejected"() {
+        when:
+
+        write(true, closure)
+
+        then:
+
+        IllegalStateException e = thrown()
+
+        e.message == message
+
+        where:
+
+        desc                        | closure                                                  | message
+        "a second top-level value"  | { it.value(1).value(2) }                                 | "Only a single top-level JSON value may be written."
+        "a value without a key"     | { it.object().value(1) }                                 | "Each value inside a JSON object must be preceded by a key."
+        "a key inside an array"     | { it.array().key("a") }                                  | "Key 'a' may only be written inside an object."
+        "two keys in a row"         | { it.object().key("a").key("b") }                        | "Key 'b' may not immediately follow another key."
+        "a mismatched end"          | { it.array().endObject() }                               | "Unexpected '}': it does not match the open object or array."
+        "an end with no start"      | { it.endArray() }                                        | "Unexpected ']': there is no open object or array."
+        "an end after a key"        | { it.object().key("a").endObject() }                     | "Unexpected '}': a key has no value."
+        "unclosed content"          | { it.object().entry("a", 1) }                            | "JSON content is incomplete: not all objects and arrays have been ended."
+    }
+
+    def "invalid values are rejected"() {
+        when:
+
+        write(true) { it.array().value(new Date()) }
+
+        then:
+
+        thrown(JSONInvalidTypeException)
+    }
+
+    def "non-finite numbers are rejected"() {
+        when:
+
+        write(true) { it.value(Double.NaN) }
+
+        then:
+
+        thrown(IllegalArgumentException)
+    }
+}
@@ -0,0 +1,118 @@
+package json.specs
+
+import java.nio.charset.StandardCharsets
+
+import org.apache.tapestry5.json.JSONArray
+import org.apache.tapestry5.json.JSONLiteral
+import org.apache.tapestry5.json.JSONObject
+import org.apache.tapestry5.json.JSONWriter
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class UTF8EncodingSpec extends Specification {
+
+    static final String TRICKY = "plain \" \\ / </script> \t\b\n\r\f \u0000\u001f \u007f\u0080\u009f\u00a0 \u00e9 \u07ff\u0800 " +
+        "\u1fff\u2000\u2028\u20ac\u20ff\u2100 \ufffe \ud83d\ude00 lone \ud83d and \ude00 <"
+
+    def bytes(collection, boolean compact) {
+        def os = new ByteArrayOutputStream()
+
+        collection.writeTo(os, compact)
+
+        return os.toByteArray()
+    }
+
+    def expected(collection, boolean compact) {
+        return collection.toString(compact).getBytes(StandardCharsets.UTF_8)
+    }
+
+    @Unroll
+    def "UTF-8 output matches printed output (compact: #compact)"() {
+        def object = new JSONObject("tricky", TRICKY, TRICKY, new JSONArray(1, 2.5d, true, JSONObject.NULL, new JSONObject()),
+            "literal", new JSONLiteral("function() { return '\u00e9'; }"), "nested", new JSONObject("a", new JSONArray()))
+
+        expect:
+
+        bytes(object, compact) == expected(object, compact)
+
+        where:
+
+        compact << [true, false]
+    }
+
+    def "random strings are encoded as they would be printed"() {
+        def random = new Random(42)
+        def ranges = [[0, 0x80], [0x80, 0x800], [0x2000, 0x2100], [0xd800, 0xe000], [0x800, 0x10000]]
+        def array = new JSONArray()
+
+        2000.times {
+            def builder = new StringBuilder()
+
+            random.nextInt(20).times {
+                def range = ranges[random.nextInt(ranges.size())]
+                builder.append((char) (range[0] + random.nextInt(range[1] - range[0])))
+            }
+
+            array.put(builder.toString())
+        }
+
+        expect:
+
+        bytes(array, true) == expected(array, true)
+        bytes(array, false) == expected(array, false)
+    }
+
+    def "content larger than the buffer is written in full"() {
+        def array = new JSONArray()
+
+        20000.times { array.put("value \u20ac " + it) }
+
+        expect:
+
+        bytes(array, true) == expected(array, true)
+    }
+
+    def "JSONWriter writes UTF-8 to an OutputStream"() {
+        def os = new ByteArrayOutputStream()
+
+        when:
+
+        def writer = new JSONWriter(os, false)
+
+        writer.object().entry("name", "B\u00e4rney").key("values").array().value(1).value(TRICKY).endArray().endObject()
+        writer.close()
+
+        then:
+
+        !writer.checkError()
+        os.toByteArray() == expected(new JSONObject("name", "B\u00e4rney", "values", new JSONArray(1, TRICKY)), false)
+    }
+
+    def "write failures are reported"() {
+        def failing = new OutputStream() {
+            void write(int b) {
+                throw new IOException("Disk full.")
+            }
+        }
+
+        when:
+
+        new JSONArray("a", "b").writeTo(failing, true)
+
+        then:
+
+        IOException e = thrown()
+
+        e.message == "Disk full."
+
+        when:
+
+        def writer = new JSONWriter(failing, true)
+        writer.value("c")
+
+        then:
+
+        writer.checkError()
+    }
+}
@@ -16,17 +16,25 @@ package org.apache.tapestry5.upload.internal.services;
 
 import org.apache.commons.fileupload.FileItem;
 import org.apache.commons.fileupload.FileItemFactory;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUploadBase;
 import org.apache.commons.fileupload.FileUploadException;
 import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.apache.commons.fileupload.util.Streams;
 import org.apache.tapestry5.commons.util.CollectionFactory;
 import org.apache.tapestry5.http.TapestryHttpSymbolConstants;
 import org.apache.tapestry5.ioc.annotations.Symbol;
+import org.apache.tapestry5.ioc.internal.util.InternalUtils;
 import org.apache.tapestry5.ioc.services.ThreadCleanupListener;
 import org.apache.tapestry5.upload.services.MultipartDecoder;
 import org.apache.tapestry5.upload.services.UploadSymbols;
 import org.apache.tapestry5.upload.services.UploadedFile;
+import org.apache.tapestry5.upload.services.UploadedFileHandler;
 
 import javax.servlet.http.HttpServletRequest;
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.Collections;
 import java.util.List;
@@ -34,10 +42,14 @@ import java.util.Map;
 
 /**
  * Implementation of multipart decoder for servlets. This implementation is perthread scope.
+ *
+ * Normally, the request is parsed completely (using the {@link FileItemFactory}) before it is processed. When
+ * {@linkplain UploadSymbols#STREAMING streaming} is enabled, the request is instead read just once, in order: form
+ * fields are collected, and each uploaded file is passed to the {@link UploadedFileHandler} as it arrives.
  */
 public class MultipartDecoderImpl implements MultipartDecoder, ThreadCleanupListener
 {
-    private final Map<String, UploadedFileItem> uploads = CollectionFactory.newMap();
+    private final Map<String, UploadedFile> uploads = CollectionFactory.newMap();
 
     private final FileItemFactory fileItemFactory;
 
@@ -47,6 +59,10 @@ public class MultipartDecoderImpl implements MultipartDecoder, ThreadCleanupList
 
     private final String requestEncoding;
 
+    private final boolean streaming;
+
+    private final UploadedFileHandler uploadedFileHandler;
+
     private FileUploadException uploadException;
 
     public MultipartDecoderImpl(
@@ -60,12 +76,25 @@ public class MultipartDecoderImpl implements MultipartDecoder, ThreadCleanupList
             long maxFileSize,
 
             @Symbol(TapestryHttpSymbolConstants.CHARSET)
-            String requestEncoding)
+            String requestEncoding,
+
+            @Symbol(UploadSymbols.STREAMING)
+            boolean streaming,
+
+            UploadedFileHandler uploadedFileHandler)
     {
         this.fileItemFactory = fileItemFactory;
         this.maxRequestSize = maxRequestSize;
         this.maxFileSize = maxFileSize;
         this.requestEncoding = requestEncoding;
+        this.streaming = streaming;
+        this.uploadedFileHandler = uploadedFileHandler;
+    }
+
+    public MultipartDecoderImpl(FileItemFactory fileItemFactory, long maxRequestSize, long maxFileSize,
+                                String requestEncoding)
+    {
+        this(fileItemFactory, maxRequestSize, maxFileSize, requestEncoding, false, null);
     }
 
     @Override
@@ -85,6 +114,11 @@ public class MultipartDecoderImpl implements MultipartDecoder, ThreadCleanupList
             throw new RuntimeException(ex);
         }
 
+        if (streaming)
+        {
+            return streamRequest(request);
+        }
+
         List<FileItem> fileItems = parseRequest(request);
 
         return processFileItems(request, fileItems);
@@ -93,10 +127,79 @@ public class MultipartDecoderImpl implements MultipartDecoder, ThreadCleanupList
     @Override
     public void threadDidCleanup()
     {
-        for (UploadedFileItem uploaded : uploads.values())
+        for (UploadedFile uploaded : uploads.values())
+        {
+            if (uploaded instanceof UploadedFileItem)
+            {
+                ((UploadedFileItem) uploaded).cleanup();
+            } else if (uploaded instanceof Closeable)
+            {
+                InternalUtils.close((Closeable) uploaded);
+            }
+        }
+    }
+
+    /**
+     * Reads the request in a single pass, collecting form fields and passing each uploaded file to the
+     * {@link UploadedFileHandler}.
+     *
+     * @since 5.8.0
+     */
+    protected HttpServletRequest streamRequest(HttpServletRequest request)
+    {
+        ParametersServletRequestWrapper wrapper = new ParametersServletRequestWrapper(request);
+
+        for (Map.Entry<String, String[]> e : request.getParameterMap().entrySet())
+        {
+            for (String s : e.getValue())
+                wrapper.addParameter(e.getKey(), s);
+        }
+
+        try
+        {
+            FileItemIterator iterator = createFileUpload().getItemIterator(request);
+
+            while (iterator.hasNext())
+            {
+                FileItemStream item = iterator.next();
+
+                if (item.isFormField())
+                {
+                    wrapper.addParameter(item.getFieldName(), Streams.asString(item.openStream(), requestEncoding));
+
+                    continue;
+                }
+
+                wrapper.addParameter(item.getFieldName(), item.getName());
+
+                // No file was selected; the (empty) content is skipped by the iterator.
+
+                if (InternalUtils.isBlank(item.getName()))
+                {
+                    continue;
+                }
+
+                UploadedFile uploaded = uploadedFileHandler.handle(item);
+
+                if (uploaded != null)
+                {
+                    uploads.put(item.getFieldName(), uploaded);
+                }
+            }
+        } catch (FileUploadException ex)
         {
-            uploaded.cleanup();
+            uploadException = ex;
+        } catch (FileUploadBase.FileUploadIOException ex)
+        {
+            // Thrown when a size limit is exceeded while reading the content of a file.
+
+            uploadException = (FileUploadException) ex.getCause();
+        } catch (IOException ex)
+        {
+            uploadException = new FileUploadException(ex.getMessage(), ex);
         }
+
+        return wrapper;
     }
 
     protected List<FileItem> parseRequest(HttpServletRequest request)
@@ -0,0 +1,157 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.upload.internal.services;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.tapestry5.upload.services.UploadedFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Implementation of {@link org.apache.tapestry5.upload.services.UploadedFile} created by the
+ * {@link SpoolingUploadedFileHandler}; the content is either in memory, or in a temporary file that is moved (rather
+ * than copied) by {@link #write(File)}.
+ *
+ * @since 5.8.0
+ */
+public class SpooledUploadedFile implements UploadedFile, Closeable
+{
+    private final String contentType;
+
+    private final String filePath;
+
+    private final long size;
+
+    private final byte[] content;
+
+    private File file;
+
+    private boolean temporary;
+
+    /**
+     * Creates an uploaded file whose content is in memory.
+     */
+    public SpooledUploadedFile(String contentType, String filePath, byte[] content)
+    {
+        this.contentType = contentType;
+        this.filePath = filePath;
+        this.content = content;
+        this.size = content.length;
+    }
+
+    /**
+     * Creates an uploaded file whose content is in a temporary file, which is deleted by {@link #close()}.
+     */
+    public SpooledUploadedFile(String contentType, String filePath, File file)
+    {
+        this.contentType = contentType;
+        this.filePath = filePath;
+        this.content = null;
+        this.file = file;
+        this.size = file.length();
+        this.temporary = true;
+    }
+
+    @Override
+    public String getContentType()
+    {
+        return contentType;
+    }
+
+    @Override
+    public String getFileName()
+    {
+        return FilenameUtils.getName(getFilePath());
+    }
+
+    @Override
+    public String getFilePath()
+    {
+        return filePath;
+    }
+
+    @Override
+    public long getSize()
+    {
+        return size;
+    }
+
+    @Override
+    public InputStream getStream()
+    {
+        if (content != null)
+            return new ByteArrayInputStream(content);
+
+        try
+        {
+            return new FileInputStream(file);
+        } catch (IOException e)
+        {
+            throw new RuntimeException(UploadMessages.unableToOpenContentFile(this), e);
+        }
+    }
+
+    @Override
+    public boolean isInMemory()
+    {
+        return content != null;
+    }
+
+    @Override
+    public synchronized void write(File target)
+    {
+        try
+        {
+            if (content != null)
+            {
+                Files.write(target.toPath(), content);
+            } else if (temporary)
+            {
+                // The temporary file becomes the target file, so the content isn't copied again.
+
+                Files.move(file.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+                file = target;
+                temporary = false;
+            } else
+            {
+                Files.copy(file.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e)
+        {
+            throw new RuntimeException(UploadMessages.writeFailure(target), e);
+        }
+    }
+
+    /**
+     * Deletes the temporary file (if it has not been moved by {@link #write(File)}).
+     */
+    @Override
+    public synchronized void close()
+    {
+        if (temporary)
+        {
+            file.delete();
+            temporary = false;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.upload.internal.services;
+
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.tapestry5.ioc.annotations.Symbol;
+import org.apache.tapestry5.upload.services.UploadSymbols;
+import org.apache.tapestry5.upload.services.UploadedFile;
+import org.apache.tapestry5.upload.services.UploadedFileHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Default implementation of {@link UploadedFileHandler}: content no larger than the repository threshold is kept in
+ * memory, larger content is copied, as it arrives, to a temporary file in the repository location.
+ *
+ * @since 5.8.0
+ */
+public class SpoolingUploadedFileHandler implements UploadedFileHandler
+{
+    private static final int BUFFER_SIZE = 8192;
+
+    private final int threshold;
+
+    private final File repository;
+
+    public SpoolingUploadedFileHandler(@Symbol(UploadSymbols.REPOSITORY_THRESHOLD)
+                                       int threshold,
+
+                                       @Symbol(UploadSymbols.REPOSITORY_LOCATION)
+                                       String repositoryLocation)
+    {
+        this.threshold = threshold;
+        this.repository = new File(repositoryLocation);
+    }
+
+    @Override
+    public UploadedFile handle(FileItemStream item) throws IOException
+    {
+        InputStream stream = item.openStream();
+
+        try
+        {
+            // Read until the content is known to fit in memory, or not.
+
+            ByteArrayOutputStream memory = new ByteArrayOutputStream();
+
+            byte[] buffer = new byte[BUFFER_SIZE];
+
+            int length;
+
+            while (memory.size() <= threshold && (length = stream.read(buffer)) >= 0)
+            {
+                memory.write(buffer, 0, length);
+            }
+
+            if (memory.size() <= threshold)
+            {
+                return new SpooledUploadedFile(item.getContentType(), item.getName(), memory.toByteArray());
+            }
+
+            File file = createTempFile();
+
+            try
+            {
+                OutputStream output = new FileOutputStream(file);
+
+                try
+                {
+                    memory.writeTo(output);
+
+                    while ((length = stream.read(buffer)) >= 0)
+                    {
+                        output.write(buffer, 0, length);
+                    }
+                } finally
+                {
+                    output.close();
+                }
+            } catch (IOException ex)
+            {
+                file.delete();
+
+                throw ex;
+            }
+
+            return new SpooledUploadedFile(item.getContentType(), item.getName(), file);
+        } finally
+        {
+            stream.close();
+        }
+    }
+
+    private File createTempFile()
+    {
+        try
+        {
+            return File.createTempFile("upload_", ".tmp", repository);
+        } catch (IOException ex)
+        {
+            throw new RuntimeException(UploadMessages.unableToCreateTempFile(), ex);
+        }
+    }
+}
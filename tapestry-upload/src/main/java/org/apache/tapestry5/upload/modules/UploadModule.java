@@ -23,6 +23,7 @@ import org.apache.tapestry5.commons.OrderedConfiguration;
 import org.apache.tapestry5.http.services.HttpServletRequestFilter;
 import org.apache.tapestry5.internal.InternalConstants;
 import org.apache.tapestry5.ioc.ScopeConstants;
+import org.apache.tapestry5.ioc.ServiceBinder;
 import org.apache.tapestry5.ioc.annotations.Autobuild;
 import org.apache.tapestry5.ioc.annotations.Scope;
 import org.apache.tapestry5.ioc.annotations.Symbol;
@@ -32,9 +33,11 @@ import org.apache.tapestry5.services.ComponentEventRequestFilter;
 import org.apache.tapestry5.services.LibraryMapping;
 import org.apache.tapestry5.upload.internal.services.MultipartDecoderImpl;
 import org.apache.tapestry5.upload.internal.services.MultipartServletRequestFilter;
+import org.apache.tapestry5.upload.internal.services.SpoolingUploadedFileHandler;
 import org.apache.tapestry5.upload.internal.services.UploadExceptionFilter;
 import org.apache.tapestry5.upload.services.MultipartDecoder;
 import org.apache.tapestry5.upload.services.UploadSymbols;
+import org.apache.tapestry5.upload.services.UploadedFileHandler;
 
 import java.io.File;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -45,6 +48,11 @@ public class UploadModule
 
     private static final AtomicBoolean needToAddShutdownListener = new AtomicBoolean(true);
 
+    public static void bind(ServiceBinder binder)
+    {
+        binder.bind(UploadedFileHandler.class, SpoolingUploadedFileHandler.class);
+    }
+
     public static void contributeComponentClassResolver(Configuration<LibraryMapping> configuration)
     {
         // Add the component to the "core" library.
@@ -119,5 +127,6 @@ public class UploadModule
         configuration.add(UploadSymbols.REPOSITORY_LOCATION, System.getProperty("java.io.tmpdir"));
         configuration.add(UploadSymbols.REQUESTSIZE_MAX, NO_LIMIT);
         configuration.add(UploadSymbols.FILESIZE_MAX, NO_LIMIT);
+        configuration.add(UploadSymbols.STREAMING, "false");
     }
 }
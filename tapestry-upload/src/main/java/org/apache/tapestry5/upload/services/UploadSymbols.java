@@ -39,6 +39,16 @@ public final class UploadSymbols
      */
     public static final String FILESIZE_MAX = "upload.filesize-max";
 
+    /**
+     * If true, multipart requests are decoded as they are read, rather than being parsed completely before the request
+     * is processed. Form fields are collected in memory, and the content of each uploaded file is passed, in the
+     * order it appears in the request, to the {@link UploadedFileHandler}; by default, this copies the content to a
+     * temporary file just once, and {@link UploadedFile#write(java.io.File)} then moves that file. Defaults to false.
+     *
+     * @since 5.8.0
+     */
+    public static final String STREAMING = "upload.streaming";
+
     private UploadSymbols()
     {
     }
@@ -0,0 +1,49 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.upload.services;
+
+import org.apache.commons.fileupload.FileItemStream;
+
+import java.io.IOException;
+
+/**
+ * Receives the content of each uploaded file when {@linkplain UploadSymbols#STREAMING streaming} decoding of
+ * multipart requests is enabled. The handler is invoked for each file, in the order in which the files appear in the
+ * request, while the request is being read; the content stream may only be read once, and only until the handler
+ * returns.
+ *
+ * The default implementation copies the content to a temporary file in the
+ * {@linkplain UploadSymbols#REPOSITORY_LOCATION repository location} (or keeps it in memory, if no larger than the
+ * {@linkplain UploadSymbols#REPOSITORY_THRESHOLD repository threshold}). Applications that store uploaded content
+ * elsewhere (such as in a database, or a remote object store) may override this service, to send the content
+ * directly to its final destination, without any temporary copy.
+ *
+ * @since 5.8.0
+ */
+public interface UploadedFileHandler
+{
+    /**
+     * Handles an uploaded file.
+     *
+     * @param item
+     *         provides the field name, file name, content type and headers of the file, and its content stream
+     * @return the uploaded file, as provided to the {@link org.apache.tapestry5.upload.components.Upload} component;
+     * if it implements {@link java.io.Closeable}, it is closed at the end of the request
+     * @throws IOException
+     *         if the content can't be read or stored; the exception is reported as an
+     *         {@linkplain UploadEvents#UPLOAD_EXCEPTION upload exception}
+     */
+    UploadedFile handle(FileItemStream item) throws IOException;
+}
@@ -18,11 +18,18 @@ import org.apache.commons.fileupload.FileItem;
 import org.apache.commons.fileupload.FileItemFactory;
 import org.apache.commons.fileupload.disk.DiskFileItemFactory;
 import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.apache.commons.fileupload.FileUploadBase;
 import org.apache.tapestry5.test.TapestryTestCase;
+import org.apache.tapestry5.upload.services.UploadedFile;
 import org.testng.annotations.Test;
 
+import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -196,6 +203,154 @@ public class MultipartDecoderImplTest extends TapestryTestCase
         verify();
     }
 
+    private HttpServletRequest mockMultipartRequest(String body) throws Exception
+    {
+        HttpServletRequest request = mockHttpServletRequest();
+
+        final InputStream content = new ByteArrayInputStream(body.getBytes(CHARSET));
+
+        request.setCharacterEncoding(CHARSET);
+        expect(request.getParameterMap()).andReturn(Collections.EMPTY_MAP);
+        expect(request.getContentType()).andStubReturn("multipart/form-data; boundary=XYZ");
+        expect(request.getCharacterEncoding()).andStubReturn(CHARSET);
+        expect(request.getHeader(FileUploadBase.CONTENT_LENGTH)).andStubReturn(null);
+        expect(request.getContentLength()).andStubReturn(body.getBytes(CHARSET).length);
+        expect(request.getInputStream()).andReturn(new ServletInputStream()
+        {
+            @Override
+            public int read() throws IOException
+            {
+                return content.read();
+            }
+        });
+
+        return request;
+    }
+
+    private static String part(String disposition, String content)
+    {
+        return "--XYZ\r\nContent-Disposition: form-data; " + disposition + "\r\nContent-Type: text/plain\r\n\r\n" + content + "\r\n";
+    }
+
+    private static String repeat(char ch, int count)
+    {
+        char[] chars = new char[count];
+
+        Arrays.fill(chars, ch);
+
+        return new String(chars);
+    }
+
+    @Test
+    public void streaming_passes_files_to_handler_in_order() throws Exception
+    {
+        File repository = Files.createTempDirectory("upload").toFile();
+
+        String body = part("name=\"t:formdata\"", "abc")
+                + part("name=\"big\"; filename=\"C:\\docs\\big.txt\"", repeat('x', 5000))
+                + part("name=\"small\"; filename=\"small.txt\"", "hello")
+                + part("name=\"none\"; filename=\"\"", "")
+                + part("name=\"after\"", "\u00fcmlaut")
+                + "--XYZ--\r\n";
+
+        HttpServletRequest request = mockMultipartRequest(body);
+
+        MultipartDecoderImpl decoder = new MultipartDecoderImpl(fileItemFactory, -1, -1, CHARSET, true,
+                new SpoolingUploadedFileHandler(100, repository.getPath()));
+
+        replay();
+
+        HttpServletRequest decodedRequest = decoder.decode(request);
+
+        verify();
+
+        assertNull(decoder.getUploadException());
+
+        assertEquals(decodedRequest.getParameter("t:formdata"), "abc");
+        assertEquals(decodedRequest.getParameter("after"), "\u00fcmlaut");
+        assertEquals(decodedRequest.getParameter("big"), "C:\\docs\\big.txt");
+        assertEquals(decodedRequest.getParameter("none"), "");
+
+        UploadedFile big = decoder.getFileUpload("big");
+
+        assertEquals(big.getFileName(), "big.txt");
+        assertEquals(big.getContentType(), "text/plain");
+        assertEquals(big.getSize(), 5000);
+        assertFalse(big.isInMemory());
+
+        UploadedFile small = decoder.getFileUpload("small");
+
+        assertEquals(small.getSize(), 5);
+        assertTrue(small.isInMemory());
+        assertNull(decoder.getFileUpload("none"));
+
+        // Only the big file was written to a temporary file, which is moved (rather than copied) when written.
+
+        assertEquals(repository.list().length, 1);
+
+        File smallTarget = new File(repository, "small.txt");
+
+        small.write(smallTarget);
+
+        assertEquals(new String(Files.readAllBytes(smallTarget.toPath()), CHARSET), "hello");
+        assertEquals(repository.list().length, 2);
+
+        File target = new File(repository, "target.txt");
+
+        big.write(target);
+
+        assertEquals(repository.list().length, 2);
+        assertEquals(target.length(), 5000);
+
+        decoder.threadDidCleanup();
+
+        assertTrue(target.exists());
+    }
+
+    @Test
+    public void streaming_temporary_files_cleaned_up() throws Exception
+    {
+        File repository = Files.createTempDirectory("upload").toFile();
+
+        HttpServletRequest request = mockMultipartRequest(part("name=\"big\"; filename=\"big.txt\"", repeat('x', 500)) + "--XYZ--\r\n");
+
+        MultipartDecoderImpl decoder = new MultipartDecoderImpl(fileItemFactory, -1, -1, CHARSET, true,
+                new SpoolingUploadedFileHandler(100, repository.getPath()));
+
+        replay();
+
+        decoder.decode(request);
+
+        verify();
+
+        assertEquals(repository.list().length, 1);
+
+        decoder.threadDidCleanup();
+
+        assertEquals(repository.list().length, 0);
+    }
+
+    @Test
+    public void streaming_file_size_limit() throws Exception
+    {
+        File repository = Files.createTempDirectory("upload").toFile();
+
+        HttpServletRequest request = mockMultipartRequest(part("name=\"big\"; filename=\"big.txt\"", repeat('x', 500)) + "--XYZ--\r\n");
+
+        MultipartDecoderImpl decoder = new MultipartDecoderImpl(fileItemFactory, -1, 200, CHARSET, true,
+                new SpoolingUploadedFileHandler(100, repository.getPath()));
+
+        replay();
+
+        decoder.decode(request);
+
+        verify();
+
+        assertTrue(decoder.getUploadException() instanceof FileUploadBase.FileSizeLimitExceededException);
+        assertNull(decoder.getFileUpload("big"));
+        assertEquals(repository.list().length, 0);
+    }
+
     private FileItem createValueItem(String name, String value)
     {
         StubFileItem item = new StubFileItem();
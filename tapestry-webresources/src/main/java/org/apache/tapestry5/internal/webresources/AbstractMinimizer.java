@@ -16,6 +16,7 @@ import org.apache.tapestry5.internal.TapestryInternalUtils;
 import org.apache.tapestry5.internal.services.assets.BytestreamCache;
 import org.apache.tapestry5.internal.services.assets.StreamableResourceImpl;
 import org.apache.tapestry5.ioc.IOOperation;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.services.assets.AssetChecksumGenerator;
 import org.apache.tapestry5.services.assets.CompressionStatus;
@@ -64,7 +65,7 @@ public abstract class AbstractMinimizer implements ResourceMinimizer
 
         final ByteArrayOutputStream bos = new ByteArrayOutputStream(1000);
 
-        tracker.perform("Minimizing " + input, new IOOperation<Void>()
+        tracker.perform(OperationDescription.format("Minimizing %s", input), new IOOperation<Void>()
         {
             @Override
             public Void perform() throws IOException
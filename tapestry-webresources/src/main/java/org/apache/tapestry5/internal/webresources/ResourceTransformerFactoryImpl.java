@@ -19,6 +19,7 @@ import org.apache.tapestry5.http.TapestryHttpSymbolConstants;
 import org.apache.tapestry5.internal.TapestryInternalUtils;
 import org.apache.tapestry5.internal.services.assets.BytestreamCache;
 import org.apache.tapestry5.ioc.IOOperation;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.ioc.annotations.PostInjection;
 import org.apache.tapestry5.ioc.annotations.Symbol;
@@ -134,7 +135,8 @@ public class ResourceTransformerFactoryImpl implements ResourceTransformerFactor
             @Override
             public InputStream transform(final Resource source, final ResourceDependencies dependencies) throws IOException
             {
-                final String description = String.format("Compiling %s from %s to %s", source, sourceName, targetName);
+                final OperationDescription description = OperationDescription.format("Compiling %s from %s to %s",
+                        source, sourceName, targetName);
 
                 return tracker.perform(description, new IOOperation<InputStream>()
                 {
@@ -17,6 +17,7 @@ package org.apache.tapestry5.internal.webresources;
 import org.apache.tapestry5.commons.Resource;
 import org.apache.tapestry5.commons.util.ExceptionUtils;
 import org.apache.tapestry5.ioc.Invokable;
+import org.apache.tapestry5.ioc.OperationDescription;
 import org.apache.tapestry5.ioc.OperationTracker;
 import org.apache.tapestry5.ioc.internal.util.InternalUtils;
 import org.mozilla.javascript.Context;
@@ -32,6 +33,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
 
 /**
  * Manages a pool of initialized {@link RhinoExecutor} instances.  The instances are initialized for a particular
@@ -85,8 +87,8 @@ public class RhinoExecutorPool
 
     private RhinoExecutor createExecutor()
     {
-        return tracker.invoke(String.format("Creating Rhino executor for source(s) %s.",
-                InternalUtils.join(scripts)),
+        return tracker.invoke(OperationDescription.format("Creating Rhino executor for source(s) %s.",
+                (Supplier<String>) () -> InternalUtils.join(scripts)),
                 new Invokable<RhinoExecutor>()
                 {
                     @Override
@@ -141,7 +143,7 @@ public class RhinoExecutorPool
 
     private void loadScript(final Context context, final ScriptableObject scope, final Resource script)
     {
-        tracker.run(String.format("Loading script %s.", script),
+        tracker.run(OperationDescription.format("Loading script %s.", script),
                 new Runnable()
                 {
                     @Override
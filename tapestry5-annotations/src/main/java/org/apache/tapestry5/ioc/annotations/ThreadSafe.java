@@ -0,0 +1,33 @@
+// Copyright 2026 The Apache Software Foundation
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.apache.tapestry5.ioc.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Marker annotation that can be placed on a class to indicate that its instances may safely be used by several threads
+ * at once. A per-thread value of such a class is included when the per-thread context of a thread is
+ * {@linkplain org.apache.tapestry5.ioc.services.PerthreadManager#copyContext() copied}; other mutable values are not.
+ *
+ * @since 5.8.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@UseWith(AnnotationUseContext.BEAN)
+public @interface ThreadSafe
+{
+}